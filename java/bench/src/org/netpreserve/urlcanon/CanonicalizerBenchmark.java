@@ -0,0 +1,77 @@
+package org.netpreserve.urlcanon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Canonicalizing one URL per op with each of the {@link Canonicalizer}
+ * constants. Canonicalization works in place so each op parses a fresh
+ * copy first; subtract {@link ParserBenchmark#parseString} for the cost of
+ * canonicalization alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CanonicalizerBenchmark {
+    @Param({"WHATWG", "SEMANTIC_PRECISE", "SEMANTIC", "AGGRESSIVE"})
+    public String canonicalizer;
+
+    @Param({"testdata", "synthetic"})
+    public String corpus;
+
+    private Canonicalizer instance;
+    private String[] urls;
+    private String[] canonicalUrls;
+    private int next;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        instance = (Canonicalizer) Canonicalizer.class.getField(canonicalizer).get(null);
+        List<String> list = Corpus.load(corpus);
+        urls = list.toArray(new String[0]);
+        canonicalUrls = new String[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            ParsedUrl url = ParsedUrl.parseUrl(urls[i]);
+            instance.canonicalize(url);
+            canonicalUrls[i] = url.toString();
+        }
+    }
+
+    private int next() {
+        int i = next;
+        next = i + 1 == urls.length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public ParsedUrl canonicalize() {
+        ParsedUrl url = ParsedUrl.parseUrl(urls[next()]);
+        instance.canonicalize(url);
+        return url;
+    }
+
+    /**
+     * Input that is already canonical, as when re-canonicalizing stored keys.
+     */
+    @Benchmark
+    public ParsedUrl canonicalizeCanonical() {
+        ParsedUrl url = ParsedUrl.parseUrl(canonicalUrls[next()]);
+        instance.canonicalize(url);
+        return url;
+    }
+}
@@ -0,0 +1,157 @@
+package org.netpreserve.urlcanon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * URL corpora for the benchmarks.
+ */
+class Corpus {
+    private static final String[] TESTDATA = {"/urltestdata.json", "/supplemental_whatwg.json",
+            "/semantic_precise.json", "/aggressive.json", "/idempotence.json", "/parsing.json", "/surt.json",
+            "/ssurt.json", "/funky_ipv4.json", "/path_dots.json"};
+
+    /**
+     * Loads the named corpus: "testdata" or "synthetic".
+     */
+    static List<String> load(String name) {
+        switch (name) {
+            case "testdata":
+                return testdata();
+            case "synthetic":
+                return synthetic(100_000, 42);
+            default:
+                throw new IllegalArgumentException("unknown corpus: " + name);
+        }
+    }
+
+    /**
+     * Every string in the test data, inputs and expected outputs alike.
+     * Deliberately full of edge cases.
+     */
+    static List<String> testdata() {
+        return JsonCorpus.strings(TESTDATA);
+    }
+
+    private static final String[] TLDS = {"com", "com", "com", "org", "net", "de", "uk", "jp", "fr", "au", "gov.au",
+            "co.uk", "edu", "io", "info", "ru", "br", "nl"};
+    private static final String[] WORDS = {"news", "index", "about", "archive", "search", "blog", "article", "2019",
+            "images", "static", "assets", "en", "products", "category", "item", "user", "page", "wp-content",
+            "uploads", "media", "library", "collections", "events", "contact", "docs", "api", "v2"};
+    private static final String[] EXTENSIONS = {"", "", "", ".html", ".htm", ".php", ".aspx", ".jsp", ".jpg",
+            ".png", ".css", ".js", ".pdf", "/"};
+    private static final String[] PARAMS = {"id", "page", "q", "utm_source", "utm_medium", "ref", "lang", "sort",
+            "PHPSESSID", "sid", "jsessionid", "cat", "s", "offset"};
+    private static final String[] UNICODE_HOSTS = {"bücher", "日本語", "пример", "café", "straße", "ελληνικά"};
+
+    /**
+     * A reproducible corpus resembling the URLs found in web crawls: mostly
+     * ordinary http and https URLs, with a sprinkling of uppercase, default
+     * ports, dot segments, percent-encoding, session ids, IP address and
+     * internationalized hosts.
+     */
+    static List<String> synthetic(int size, long seed) {
+        Random random = new Random(seed);
+        List<String> urls = new ArrayList<>(size);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.setLength(0);
+            int r = random.nextInt(100);
+            sb.append(r < 45 ? "http" : r < 97 ? "https" : r < 98 ? "HTTP" : "ftp").append("://");
+            appendHost(sb, random);
+            r = random.nextInt(100);
+            if (r < 3) {
+                sb.append(":80");
+            } else if (r < 5) {
+                sb.append(':').append(1024 + random.nextInt(8000));
+            }
+            appendPath(sb, random);
+            if (random.nextInt(100) < 35) {
+                appendQuery(sb, random);
+            }
+            if (random.nextInt(100) < 5) {
+                sb.append('#').append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            urls.add(sb.toString());
+        }
+        return urls;
+    }
+
+    private static void appendHost(StringBuilder sb, Random random) {
+        int r = random.nextInt(100);
+        if (r < 2) {
+            sb.append(random.nextInt(224)).append('.').append(random.nextInt(256)).append('.')
+                    .append(random.nextInt(256)).append('.').append(random.nextInt(256));
+            return;
+        } else if (r < 3) {
+            sb.append("[2001:db8::").append(Integer.toHexString(random.nextInt(0x10000))).append(']');
+            return;
+        }
+        r = random.nextInt(100);
+        if (r < 40) {
+            sb.append(r < 2 ? "WWW." : "www.");
+        } else if (r < 55) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append('.');
+        }
+        if (random.nextInt(100) < 2) {
+            sb.append(UNICODE_HOSTS[random.nextInt(UNICODE_HOSTS.length)]);
+        } else {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextBoolean()) {
+                sb.append(random.nextBoolean() ? "-" : "").append(WORDS[random.nextInt(WORDS.length)]);
+            }
+        }
+        sb.append('.').append(TLDS[random.nextInt(TLDS.length)]);
+    }
+
+    private static void appendPath(StringBuilder sb, Random random) {
+        int segments = random.nextInt(6);
+        if (segments == 0) {
+            if (random.nextBoolean()) {
+                sb.append('/');
+            }
+            return;
+        }
+        for (int i = 0; i < segments; i++) {
+            sb.append('/');
+            int r = random.nextInt(100);
+            if (r < 2) {
+                sb.append(r == 0 ? "." : "..");
+            } else if (r < 12) {
+                sb.append(random.nextInt(100000));
+            } else if (r < 15) {
+                sb.append("caf%C3%A9");
+            } else if (r < 17) {
+                sb.append("Some%20Title");
+            } else if (r < 19) {
+                sb.append(Character.toUpperCase(WORDS[random.nextInt(WORDS.length)].charAt(0)))
+                        .append(WORDS[random.nextInt(WORDS.length)]);
+            } else {
+                sb.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+        }
+        sb.append(EXTENSIONS[random.nextInt(EXTENSIONS.length)]);
+    }
+
+    private static void appendQuery(StringBuilder sb, Random random) {
+        sb.append('?');
+        int params = 1 + random.nextInt(4);
+        for (int i = 0; i < params; i++) {
+            if (i > 0) {
+                sb.append('&');
+            }
+            String param = PARAMS[random.nextInt(PARAMS.length)];
+            sb.append(param).append('=');
+            if (param.endsWith("id") || param.endsWith("ID")) {
+                for (int j = 0; j < 26; j++) {
+                    sb.append(Character.forDigit(random.nextInt(36), 36));
+                }
+            } else if (random.nextInt(10) == 0) {
+                sb.append("a+b%2Fc");
+            } else {
+                sb.append(random.nextInt(1000));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.netpreserve.urlcanon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converting hosts to ASCII with each IDN implementation. Most hosts in a
+ * crawl are already ASCII, so those are measured separately from hosts that
+ * actually need punycoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdnBenchmark {
+    @Param({"icu4j", "java"})
+    public String implementation;
+
+    @Param({"ascii", "unicode"})
+    public String hosts;
+
+    private Idn idn;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() {
+        idn = implementation.equals("icu4j") ? new IdnIcu4j() : new IdnJava();
+        List<String> list = new ArrayList<>();
+        for (String url : Corpus.synthetic(20_000, 42)) {
+            String host = ParsedUrl.parseUrl(url).getHost();
+            boolean ascii = host.chars().allMatch(c -> c < 0x80);
+            if (ascii == hosts.equals("ascii") && !host.startsWith("[")) {
+                list.add(host);
+            }
+        }
+        names = list.toArray(new String[0]);
+    }
+
+    private String next() {
+        int i = next;
+        next = i + 1 == names.length ? 0 : i + 1;
+        return names[i];
+    }
+
+    @Benchmark
+    public String toAscii() {
+        try {
+            return idn.toAscii(next());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.netpreserve.urlcanon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IP address parsing and formatting. The hosts include plain dotted quads,
+ * the odd forms browsers accept (hex, octal, fewer parts) and domain names
+ * that have to be rejected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IpAddressesBenchmark {
+    private static final int SIZE = 4096;
+
+    private final String[] ipv4Hosts = new String[SIZE];
+    private final long[] ipv4s = new long[SIZE];
+    private final String[] ipv6Hosts = new String[SIZE];
+    private final short[][] ipv6s = new short[SIZE][];
+    private final long[] ipv6 = new long[2];
+    private final StringBuilder out = new StringBuilder();
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            long ipv4 = random.nextLong() & 0xffffffffL;
+            switch (random.nextInt(8)) {
+                case 0:
+                    ipv4Hosts[i] = "0x" + Long.toHexString(ipv4);
+                    break;
+                case 1:
+                    ipv4Hosts[i] = "0" + Long.toOctalString(ipv4 >> 24) + "." + (ipv4 & 0xffffff);
+                    break;
+                case 2:
+                    ipv4Hosts[i] = "www.example" + i + ".com";
+                    break;
+                default:
+                    ipv4Hosts[i] = IpAddresses.formatIpv4(ipv4);
+            }
+            ipv4s[i] = ipv4;
+
+            short[] ipv6 = new short[8];
+            for (int j = 0; j < ipv6.length; j++) {
+                // runs of zeros are common and exercise compression
+                ipv6[j] = random.nextInt(3) == 0 ? 0 : (short) random.nextInt(0x10000);
+            }
+            ipv6s[i] = ipv6;
+            ipv6Hosts[i] = IpAddresses.formatIpv6(ipv6);
+        }
+    }
+
+    private int next() {
+        int i = next;
+        next = (i + 1) & (SIZE - 1);
+        return i;
+    }
+
+    @Benchmark
+    public long parseIpv4() {
+        return IpAddresses.parseIpv4(ipv4Hosts[next()]);
+    }
+
+    @Benchmark
+    public String formatIpv4() {
+        return IpAddresses.formatIpv4(ipv4s[next()]);
+    }
+
+    @Benchmark
+    public short[] parseIpv6() {
+        return IpAddresses.parseIpv6(ipv6Hosts[next()]);
+    }
+
+    @Benchmark
+    public String formatIpv6() {
+        return IpAddresses.formatIpv6(ipv6s[next()]);
+    }
+
+    @Benchmark
+    public int classify() {
+        String host = ipv4Hosts[next()];
+        return IpAddresses.classify(host, 0, host.length());
+    }
+
+    @Benchmark
+    public StringBuilder formatIpv4Into() {
+        out.setLength(0);
+        IpAddresses.formatIpv4(ipv4s[next()], out);
+        return out;
+    }
+
+    @Benchmark
+    public long[] parseIpv6Into() {
+        String host = ipv6Hosts[next()];
+        IpAddresses.parseIpv6(host, 0, host.length(), ipv6);
+        return ipv6;
+    }
+}
@@ -0,0 +1,69 @@
+package org.netpreserve.urlcanon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Parsing one URL per op, cycling through the corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"testdata", "synthetic"})
+    public String corpus;
+
+    private String[] urls;
+    private byte[][] bytes;
+    private final ParsedUrl target = new ParsedUrl();
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<String> list = Corpus.load(corpus);
+        urls = list.toArray(new String[0]);
+        bytes = new byte[urls.length][];
+        for (int i = 0; i < urls.length; i++) {
+            bytes[i] = urls[i].getBytes(UTF_8);
+        }
+    }
+
+    private int next() {
+        int i = next;
+        next = i + 1 == urls.length ? 0 : i + 1;
+        return i;
+    }
+
+    @Benchmark
+    public ParsedUrl parseString() {
+        return UrlParser.parseUrl(urls[next()]);
+    }
+
+    @Benchmark
+    public ParsedUrl parseBytes() {
+        return ParsedUrl.parseUrl(bytes[next()]);
+    }
+
+    @Benchmark
+    public ParsedUrl parseInto() {
+        ParsedUrl.parseInto(target, urls[next()]);
+        return target;
+    }
+}
@@ -0,0 +1,107 @@
+package org.netpreserve.urlcanon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Formatting already parsed and canonicalized URLs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SsurtBenchmark {
+    @Param({"testdata", "synthetic"})
+    public String corpus;
+
+    private ParsedUrl[] urls;
+    private byte[][] keys;
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<String> list = Corpus.load(corpus);
+        urls = new ParsedUrl[list.size()];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = ParsedUrl.parseUrl(list.get(i));
+            Canonicalizer.WHATWG.canonicalize(urls[i]);
+        }
+        keys = new byte[urls.length][];
+        for (int i = 0; i < urls.length; i++) {
+            keys[i] = SsurtKey.encode(urls[i]);
+        }
+    }
+
+    private ParsedUrl next() {
+        int i = next;
+        next = i + 1 == urls.length ? 0 : i + 1;
+        return urls[i];
+    }
+
+    @Benchmark
+    public String ssurt() {
+        return next().ssurt();
+    }
+
+    @Benchmark
+    public byte[] ssurtUtf8() {
+        return next().ssurt().getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public int ssurtKey() {
+        buffer.clear();
+        SsurtKey.encode(next(), buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public ParsedUrl ssurtKeyDecode() {
+        int i = next;
+        next();
+        return SsurtKey.decode(keys[i]);
+    }
+
+    @Benchmark
+    public String ssurtHost() {
+        return ParsedUrl.ssurtHost(next().getHost());
+    }
+
+    @Benchmark
+    public String toUrlString() {
+        return next().toString();
+    }
+
+    @Benchmark
+    public int toUrlStringHashCode() {
+        return next().toString().hashCode();
+    }
+
+    @Benchmark
+    public long fingerprint64() {
+        return UrlFingerprint.fingerprint64(next());
+    }
+
+    @Benchmark
+    public long ssurtFingerprint64() {
+        return UrlFingerprint.ssurtFingerprint64(next());
+    }
+}
@@ -21,6 +21,8 @@ package org.netpreserve.urlcanon;
 import java.util.Locale;
 import java.util.regex.Pattern;
 
+import static org.netpreserve.urlcanon.WhatwgCanonicalizer.isEmpty;
+
 /**
  * For fuzzyier matching. Similar to the rules Wayback uses.
  *
@@ -35,7 +37,42 @@ import java.util.regex.Pattern;
 public class AggressiveCanonicalizer implements Canonicalizer {
     @Override
     public void canonicalize(ParsedUrl url) {
-        Canonicalizer.SEMANTIC.canonicalize(url);
+        canonicalizeIfNeeded(url);
+    }
+
+    @Override
+    public boolean canonicalizeIfNeeded(ParsedUrl url) {
+        if (isCanonical(url)) {
+            return true;
+        }
+        applySteps(url);
+        return false;
+    }
+
+    @Override
+    public boolean isCanonical(ParsedUrl url) {
+        if (!isEmpty(url, ParsedUrl.HASH_SIGN) || !isEmpty(url, ParsedUrl.FRAGMENT)
+                || (isEmpty(url, ParsedUrl.QUERY) && !isEmpty(url, ParsedUrl.QUESTION_MARK))
+                || !SemanticPreciseCanonicalizer.isCanonical(url, SemanticPreciseCanonicalizer.charsetFor(url), true)
+                || url.getScheme().equals("https")
+                || (url.getHost().startsWith("www") && WWW_RE.matcher(url.getHost()).lookingAt())) {
+            return false;
+        }
+
+        String path = url.getPath();
+        if ((path.length() > 1 && path.charAt(path.length() - 1) == '/')
+                || (path.endsWith(".aspx") && ASPX_PATH_SESSIONID_RE.matcher(path).find())
+                || (path.contains(";jsessionid=") && PATH_SESSIONID_RE.matcher(path).find())) {
+            return false;
+        }
+
+        String query = url.getQuery();
+        return !query.startsWith("&") && !query.contains("&&")
+                && !(query.contains("id") && QUERY_SESSIONID_RE.matcher(query).find());
+    }
+
+    static void applySteps(ParsedUrl url) {
+        SemanticCanonicalizer.applySteps(url);
         httpsToHttp(url);
         stripWww(url);
         lowercasePath(url);
@@ -100,14 +137,14 @@ public class AggressiveCanonicalizer implements Canonicalizer {
         url.setQuery(SemanticPreciseCanonicalizer.removeLeadingTrailingAndDuplicateChars(url.getQuery(), '&'));
     }
 
-    private static void stripTrailingSlashUnlessEmpty(ParsedUrl url) {
+    static void stripTrailingSlashUnlessEmpty(ParsedUrl url) {
         String path = url.getPath();
         if (path.length() > 1 && path.charAt(path.length() - 1) == '/') {
             url.setPath(path.substring(0, path.length() - 1));
         }
     }
 
-    private void omitQuestionMarkIfQueryEmpty(ParsedUrl url) {
+    static void omitQuestionMarkIfQueryEmpty(ParsedUrl url) {
         if (url.getQuery().isEmpty()) {
             url.setQuestionMark("");
         }
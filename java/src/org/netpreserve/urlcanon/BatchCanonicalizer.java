@@ -0,0 +1,237 @@
+package org.netpreserve.urlcanon;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Canonicalizes URLs held in memory in bulk, splitting the work across a
+ * {@link ForkJoinPool}. Built with {@link #builder()}:
+ *
+ * <pre>
+ * BatchCanonicalizer batch = BatchCanonicalizer.builder()
+ *         .canonicalizer(Canonicalizer.WHATWG)
+ *         .build();
+ * String[] results = new String[urls.size()];
+ * BatchCanonicalizer.Stats stats = batch.canonicalize(urls, results);
+ * </pre>
+ *
+ * The input is split into chunks and each chunk is worked through with one
+ * {@link ParsedUrl} parsed into again and again and one StringBuilder for
+ * the output, so per URL only the result string is allocated beyond what
+ * canonicalization itself needs.
+ *
+ * A URL whose canonicalization throws gets a null result and is counted in
+ * the {@link Stats} rather than failing the batch.
+ */
+public class BatchCanonicalizer {
+    private final Canonicalizer canonicalizer;
+    private final boolean ssurt;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    private BatchCanonicalizer(Builder builder) {
+        canonicalizer = builder.canonicalizer;
+        ssurt = builder.ssurt;
+        pool = builder.pool;
+        chunkSize = builder.chunkSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Canonicalizes urls into results, which must be at least as long.
+     */
+    public Stats canonicalize(List<? extends CharSequence> urls, String[] results) {
+        if (results.length < urls.size()) {
+            throw new IllegalArgumentException("results is shorter than urls");
+        }
+        long start = System.nanoTime();
+        long failures = pool.invoke(chunk(urls, results, 0, urls.size()));
+        return new Stats(urls.size(), failures, System.nanoTime() - start);
+    }
+
+    public Stats canonicalize(CharSequence[] urls, String[] results) {
+        return canonicalize(Arrays.asList(urls), results);
+    }
+
+    /**
+     * Canonicalizes one URL with this batch's settings, on the calling
+     * thread.
+     */
+    public String canonicalize(CharSequence url) {
+        String[] result = new String[1];
+        chunk(Arrays.asList(url), result, 0, 1).process();
+        return result[0];
+    }
+
+    private Chunk chunk(List<? extends CharSequence> urls, String[] results, int start, int end) {
+        return new Chunk(canonicalizer, ssurt, chunkSize, urls, results, start, end);
+    }
+
+    /**
+     * Splits its range in half until it is at most a chunk, then works
+     * through it. Returns the number of failures.
+     */
+    private static final class Chunk extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Canonicalizer canonicalizer;
+        private final boolean ssurt;
+        private final int chunkSize;
+        private final List<? extends CharSequence> urls;
+        private final String[] results;
+        private final int start;
+        private final int end;
+
+        Chunk(Canonicalizer canonicalizer, boolean ssurt, int chunkSize, List<? extends CharSequence> urls,
+                String[] results, int start, int end) {
+            this.canonicalizer = canonicalizer;
+            this.ssurt = ssurt;
+            this.chunkSize = chunkSize;
+            this.urls = urls;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Long compute() {
+            if (end - start <= chunkSize) {
+                return process();
+            }
+            int mid = (start + end) >>> 1;
+            Chunk left = split(start, mid);
+            left.fork();
+            long failures = split(mid, end).compute();
+            return failures + left.join();
+        }
+
+        private Chunk split(int start, int end) {
+            return new Chunk(canonicalizer, ssurt, chunkSize, urls, results, start, end);
+        }
+
+        long process() {
+            ParsedUrl url = new ParsedUrl();
+            StringBuilder buf = new StringBuilder(128);
+            long failures = 0;
+            for (int i = start; i < end; i++) {
+                try {
+                    ParsedUrl.parseInto(url, urls.get(i));
+                    if (canonicalizer != null) {
+                        canonicalizer.canonicalizeIfNeeded(url);
+                    }
+                    buf.setLength(0);
+                    if (ssurt) {
+                        url.appendSsurt(buf);
+                    } else {
+                        url.appendTo(buf);
+                    }
+                    results[i] = buf.toString();
+                } catch (RuntimeException e) {
+                    results[i] = null;
+                    failures++;
+                    // the failure may have left the parsed URL half updated
+                    url = new ParsedUrl();
+                }
+            }
+            return failures;
+        }
+    }
+
+    /**
+     * Counts and timing for one call to {@link #canonicalize}.
+     */
+    public static final class Stats {
+        private final long count;
+        private final long failures;
+        private final long elapsedNanos;
+
+        Stats(long count, long failures, long elapsedNanos) {
+            this.count = count;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Number of URLs, including failures.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Number of URLs whose canonicalization threw, which have null
+         * results.
+         */
+        public long failures() {
+            return failures;
+        }
+
+        /**
+         * Wall clock time taken.
+         */
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return count + " urls, " + failures + " failures in " + elapsedNanos / 1000000 + " ms";
+        }
+    }
+
+    public static class Builder {
+        private Canonicalizer canonicalizer = Canonicalizer.WHATWG;
+        private boolean ssurt;
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private int chunkSize = 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * The canonicalizer to apply, or null to only parse and reformat.
+         * Defaults to {@link Canonicalizer#WHATWG}.
+         */
+        public Builder canonicalizer(Canonicalizer canonicalizer) {
+            this.canonicalizer = canonicalizer;
+            return this;
+        }
+
+        /**
+         * Produces each URL's SSURT rather than the URL itself.
+         */
+        public Builder ssurt(boolean ssurt) {
+            this.ssurt = ssurt;
+            return this;
+        }
+
+        /**
+         * The pool to run on. Defaults to {@link ForkJoinPool#commonPool()}.
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Number of URLs below which work is no longer split. Defaults to
+         * 1024.
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunk size must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public BatchCanonicalizer build() {
+            return new BatchCanonicalizer(this);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.netpreserve.urlcanon;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * A range of bytes viewed as chars using the ISO-8859-1 identity mapping, so
+ * byte 0xNN is char U+00NN. This lets the parser find component boundaries
+ * directly on raw bytes the same way the Python port does, without decoding
+ * them first.
+ *
+ * The bytes are not copied so must not be modified while in use.
+ */
+final class ByteString implements CharSequence {
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    ByteString(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + " length " + length);
+        }
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Views the remaining bytes of the buffer. The buffer's position is not
+     * changed. Heap buffers are wrapped without copying.
+     */
+    static ByteString of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new ByteString(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new ByteString(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        return (char) (bytes[offset + index] & 0xff);
+    }
+
+    @Override
+    public String subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + " end " + end);
+        }
+        return new String(bytes, offset + start, end - start, ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, ISO_8859_1);
+    }
+}
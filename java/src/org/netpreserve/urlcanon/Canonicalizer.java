@@ -28,4 +28,28 @@ public interface Canonicalizer {
 
     void canonicalize(ParsedUrl url);
 
+    /**
+     * Returns true if the URL is already canonical, that is canonicalize would
+     * leave it unchanged. This is a quick scan rather than a full run of the
+     * canonicalization steps so it may return false for some unusual URLs that
+     * are in fact canonical, but it never returns true for one that isn't.
+     */
+    default boolean isCanonical(ParsedUrl url) {
+        return false;
+    }
+
+    /**
+     * Canonicalizes the URL, leaving it untouched if it is already canonical.
+     * The result is the same as {@link #canonicalize(ParsedUrl)}.
+     *
+     * @return true if the URL was already canonical and the steps were skipped
+     */
+    default boolean canonicalizeIfNeeded(ParsedUrl url) {
+        if (isCanonical(url)) {
+            return true;
+        }
+        canonicalize(url);
+        return false;
+    }
+
 }
@@ -42,6 +42,61 @@ class CharSequences {
         return parseUnsignedLongNoThrow(s, 0, s.length(), 10);
     }
 
+    /**
+     * Decodes raw bytes, stored one per char as produced by parsing bytes, as
+     * UTF-8. Returns null if they are not well-formed UTF-8.
+     */
+    static String decodeUtf8(CharSequence bytes) {
+        int len = bytes.length();
+        int i = 0;
+        while (i < len && bytes.charAt(i) < 0x80) i++;
+        if (i == len) {
+            return bytes.toString();
+        }
+        StringBuilder sb = new StringBuilder(len);
+        sb.append(bytes, 0, i);
+        while (i < len) {
+            int b = bytes.charAt(i++);
+            if (b < 0x80) {
+                sb.append((char) b);
+                continue;
+            }
+            int trailing;
+            int codepoint;
+            int min;
+            if (b >= 0xc2 && b <= 0xdf) {
+                trailing = 1;
+                codepoint = b & 0x1f;
+                min = 0x80;
+            } else if (b >= 0xe0 && b <= 0xef) {
+                trailing = 2;
+                codepoint = b & 0x0f;
+                min = 0x800;
+            } else if (b >= 0xf0 && b <= 0xf4) {
+                trailing = 3;
+                codepoint = b & 0x07;
+                min = 0x10000;
+            } else {
+                return null;
+            }
+            if (i + trailing > len) {
+                return null;
+            }
+            for (int j = 0; j < trailing; j++) {
+                int c = bytes.charAt(i++);
+                if (c > 0xff || (c & 0xc0) != 0x80) {
+                    return null;
+                }
+                codepoint = codepoint << 6 | (c & 0x3f);
+            }
+            if (codepoint < min || codepoint > 0x10ffff || (codepoint >= 0xd800 && codepoint <= 0xdfff)) {
+                return null;
+            }
+            sb.appendCodePoint(codepoint);
+        }
+        return sb.toString();
+    }
+
     static String group(Matcher matcher, int group) {
         String g = matcher.group(group);
         return g == null ? "" : g;
@@ -0,0 +1,131 @@
+package org.netpreserve.urlcanon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the arguments of the command line tools: options starting with
+ * "--", some of which take a value, mixed with file names, where "-" means
+ * standard input or output.
+ *
+ * <pre>
+ * CommandLine args = new CommandLine(argv);
+ * for (String option; (option = args.nextOption()) != null; ) {
+ *     switch (option) {
+ *         case "--canonicalizer":
+ *             builder.canonicalizer(args.canonicalizer());
+ *             break;
+ *         default:
+ *             throw args.unknownOption();
+ *     }
+ * }
+ * </pre>
+ */
+final class CommandLine {
+    private final String[] args;
+    private final List<String> files = new ArrayList<>();
+    private int index;
+    private String option;
+
+    CommandLine(String[] args) {
+        this.args = args;
+    }
+
+    /**
+     * Returns the next option, collecting the file names before it, or null
+     * once all arguments are used.
+     */
+    String nextOption() {
+        while (index < args.length) {
+            String arg = args[index++];
+            if (arg.startsWith("--")) {
+                option = arg;
+                return arg;
+            }
+            files.add(arg);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the option just returned by {@link #nextOption()}.
+     */
+    String value() {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[index++];
+    }
+
+    int intValue() {
+        return Integer.parseInt(value());
+    }
+
+    /**
+     * Returns the canonicalizer named by the option's value: whatwg,
+     * semantic, semantic-precise or aggressive.
+     */
+    Canonicalizer canonicalizer() {
+        String name = value();
+        switch (name) {
+            case "whatwg":
+                return Canonicalizer.WHATWG;
+            case "semantic":
+                return Canonicalizer.SEMANTIC;
+            case "semantic-precise":
+                return Canonicalizer.SEMANTIC_PRECISE;
+            case "aggressive":
+                return Canonicalizer.AGGRESSIVE;
+            default:
+                throw new IllegalArgumentException("unknown canonicalizer " + name);
+        }
+    }
+
+    /**
+     * Returns the option's value as a number of bytes, with an optional k, m
+     * or g suffix.
+     */
+    long sizeValue() {
+        String s = value();
+        if (s.isEmpty()) {
+            throw new IllegalArgumentException(option + " needs a size");
+        }
+        long unit = 1;
+        switch (Character.toLowerCase(s.charAt(s.length() - 1))) {
+            case 'k':
+                unit = 1L << 10;
+                break;
+            case 'm':
+                unit = 1L << 20;
+                break;
+            case 'g':
+                unit = 1L << 30;
+                break;
+        }
+        return Long.parseLong(unit == 1 ? s : s.substring(0, s.length() - 1)) * unit;
+    }
+
+    IllegalArgumentException unknownOption() {
+        return new IllegalArgumentException("unknown option " + option);
+    }
+
+    /**
+     * The file names, once {@link #nextOption()} has returned null.
+     */
+    List<String> files() {
+        return files;
+    }
+
+    static InputStream openInput(String file) throws IOException {
+        return file.equals("-") ? System.in : Files.newInputStream(Paths.get(file));
+    }
+
+    static OutputStream openOutput(String file) throws IOException {
+        return file.equals("-") ? System.out : Files.newOutputStream(Paths.get(file));
+    }
+}
@@ -0,0 +1,307 @@
+package org.netpreserve.urlcanon;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable set of domains, for finding which of them cover a host in the
+ * sense of {@link MatchRule#hostMatchesDomain}: the host is the domain or a
+ * subdomain of it, or for IP addresses the very same address. Each domain is
+ * identified by its index in the list the set was built from.
+ *
+ * The domains are stored as a trie over their labels, last label first, the
+ * order {@link ParsedUrl#reverseHost} puts them in. Labels are interned into
+ * a dictionary of ids and the trie is laid out in int arrays by
+ * {@link TrieLayout}, so millions of domains take a few tens of bytes each
+ * and a lookup is a single walk over the host's labels that allocates
+ * nothing for domain names.
+ *
+ * No normalization is done, hosts and domains should both be canonical.
+ */
+public class DomainSet {
+    private final String[] domains;
+
+    // label dictionary: label i is labelChars[labelStart[i]] to labelChars[labelStart[i + 1] - 1],
+    // found through an open addressing hash table of label ids plus one
+    private final char[] labelChars;
+    private final int[] labelStart;
+    private final int[] labelTable;
+
+    // node n's edges are edgeLabels[edgeStart[n]] to edgeLabels[edgeStart[n + 1] - 1], sorted by label id.
+    // Its domains are values[valueStart[n]] to values[valueStart[n + 1] - 1], those that also cover
+    // subdomains before the IP addresses, which start at exactStart[n].
+    private final int[] edgeStart;
+    private final int[] edgeLabels;
+    private final int[] edgeTargets;
+    private final int[] valueStart;
+    private final int[] exactStart;
+    private final int[] values;
+
+    public DomainSet(List<String> domains) {
+        this.domains = domains.toArray(new String[0]);
+        int n = this.domains.length;
+
+        // intern labels, turning each domain into [label count, labels last first..., domain id]
+        LabelsBuilder labels = new LabelsBuilder(n);
+        int[][] entries = new int[n][];
+        for (int id = 0; id < n; id++) {
+            String domain = this.domains[id];
+            int count = 1;
+            for (int i = 0; i < domain.length(); i++) {
+                if (domain.charAt(i) == '.') count++;
+            }
+            int[] entry = new int[count + 2];
+            entry[0] = count;
+            int k = 1;
+            int end = domain.length();
+            for (int i = end - 1; i >= -1; i--) {
+                if (i == -1 || domain.charAt(i) == '.') {
+                    entry[k++] = labels.intern(domain, i + 1, end);
+                    end = i;
+                }
+            }
+            entry[k] = id;
+            entries[id] = entry;
+        }
+        Arrays.sort(entries, DomainSet::compareLabels);
+        labelChars = labels.chars();
+        labelStart = labels.starts();
+        labelTable = labels.table();
+
+        IntList valueStart = new IntList();
+        IntList exactStart = new IntList();
+        IntList values = new IntList();
+        TrieLayout layout = new TrieLayout(n, new TrieLayout.Keys() {
+            @Override
+            public int length(int key) {
+                return entries[key][0];
+            }
+
+            @Override
+            public int symbol(int key, int index) {
+                return entries[key][index + 1];
+            }
+        }, (node, lo, hi) -> {
+            valueStart.add(values.size());
+            for (int i = lo; i < hi; i++) {
+                int id = entries[i][entries[i][0] + 1];
+                if (!MatchRule.isIpAddress(this.domains[id])) {
+                    values.add(id);
+                }
+            }
+            exactStart.add(values.size());
+            for (int i = lo; i < hi; i++) {
+                int id = entries[i][entries[i][0] + 1];
+                if (MatchRule.isIpAddress(this.domains[id])) {
+                    values.add(id);
+                }
+            }
+        });
+        valueStart.add(values.size());
+
+        this.edgeStart = layout.edgeStart;
+        this.edgeLabels = layout.labels;
+        this.edgeTargets = layout.targets;
+        this.valueStart = valueStart.toArray();
+        this.exactStart = exactStart.toArray();
+        this.values = values.toArray();
+    }
+
+    private static int compareLabels(int[] a, int[] b) {
+        int n = Math.min(a[0], b[0]);
+        for (int i = 1; i <= n; i++) {
+            if (a[i] != b[i]) {
+                return Integer.compare(a[i], b[i]);
+            }
+        }
+        return Integer.compare(a[0], b[0]);
+    }
+
+    public int size() {
+        return domains.length;
+    }
+
+    public String get(int id) {
+        return domains[id];
+    }
+
+    public List<String> domains() {
+        return Collections.unmodifiableList(Arrays.asList(domains));
+    }
+
+    /**
+     * Returns true if any domain covers the host.
+     */
+    public boolean covers(String host) {
+        return walk(host, null);
+    }
+
+    /**
+     * Returns the ids of the domains that cover the host, the shortest
+     * (least specific) first.
+     */
+    public int[] matches(String host) {
+        IntList out = new IntList(4);
+        walk(host, out);
+        return out.toArray();
+    }
+
+    /**
+     * Walks the host's labels last first, adding covering domains to out, or
+     * if out is null stopping at the first.
+     */
+    private boolean walk(String host, IntList out) {
+        boolean ip = MatchRule.isIpAddress(host);
+        boolean found = false;
+        int node = 0;
+        int end = host.length();
+        for (int i = end - 1; i >= -1; i--) {
+            if (i != -1 && host.charAt(i) != '.') {
+                continue;
+            }
+            int label = findLabel(host, i + 1, end);
+            node = label == -1 ? -1 : child(node, label);
+            if (node == -1) {
+                return found;
+            }
+            // an ip address only matches itself, so only once all its labels are walked
+            if (!ip || i == -1) {
+                int valuesEnd = ip ? valueStart[node + 1] : exactStart[node];
+                for (int j = valueStart[node]; j < valuesEnd; j++) {
+                    if (out == null) {
+                        return true;
+                    }
+                    out.add(values[j]);
+                    found = true;
+                }
+            }
+            end = i;
+        }
+        return found;
+    }
+
+    private int child(int node, int label) {
+        int lo = edgeStart[node];
+        int hi = edgeStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midLabel = edgeLabels[mid];
+            if (midLabel < label) {
+                lo = mid + 1;
+            } else if (midLabel > label) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private int findLabel(CharSequence s, int start, int end) {
+        int mask = labelTable.length - 1;
+        for (int slot = hash(s, start, end) & mask; ; slot = (slot + 1) & mask) {
+            int label = labelTable[slot] - 1;
+            if (label == -1) {
+                return -1;
+            }
+            if (labelEquals(labelChars, labelStart[label], labelStart[label + 1], s, start, end)) {
+                return label;
+            }
+        }
+    }
+
+    private static boolean labelEquals(char[] chars, int aStart, int aEnd, CharSequence s, int start, int end) {
+        if (aEnd - aStart != end - start) {
+            return false;
+        }
+        for (int i = 0; i < end - start; i++) {
+            if (chars[aStart + i] != s.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence s, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + s.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Interns labels while the set is being built.
+     */
+    private static class LabelsBuilder {
+        private final StringBuilder chars = new StringBuilder();
+        private final IntList starts = new IntList();
+        private int[] table;
+        private int count;
+
+        LabelsBuilder(int expectedDomains) {
+            table = new int[Math.max(16, Integer.highestOneBit(Math.max(1, expectedDomains)) * 4)];
+            starts.add(0);
+        }
+
+        int intern(String s, int start, int end) {
+            int mask = table.length - 1;
+            int slot = hash(s, start, end) & mask;
+            for (; table[slot] != 0; slot = (slot + 1) & mask) {
+                int label = table[slot] - 1;
+                if (labelEquals(chars, starts.get(label), starts.get(label + 1), s, start, end)) {
+                    return label;
+                }
+            }
+            int label = count++;
+            chars.append(s, start, end);
+            starts.add(chars.length());
+            table[slot] = label + 1;
+            if (count * 2 > table.length) {
+                rehash();
+            }
+            return label;
+        }
+
+        private static boolean labelEquals(StringBuilder chars, int aStart, int aEnd, String s, int start,
+                                           int end) {
+            if (aEnd - aStart != end - start) {
+                return false;
+            }
+            for (int i = 0; i < end - start; i++) {
+                if (chars.charAt(aStart + i) != s.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void rehash() {
+            int[] newTable = new int[table.length * 2];
+            int mask = newTable.length - 1;
+            for (int label = 0; label < count; label++) {
+                int slot = hash(chars, starts.get(label), starts.get(label + 1)) & mask;
+                while (newTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newTable[slot] = label + 1;
+            }
+            table = newTable;
+        }
+
+        char[] chars() {
+            char[] array = new char[chars.length()];
+            chars.getChars(0, chars.length(), array, 0);
+            return array;
+        }
+
+        int[] starts() {
+            return starts.toArray();
+        }
+
+        int[] table() {
+            return table;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.netpreserve.urlcanon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads keys written by {@link FrontCodedWriter}, with lookups by position or
+ * by key that decode at most one block. The file is accessed through a
+ * {@link ByteBuffer}, typically memory mapped with {@link #open(Path)}, so
+ * only the pages touched are read.
+ *
+ * Readers are immutable and safe to share between threads; iterators are
+ * not.
+ */
+public class FrontCodedReader implements Iterable<byte[]> {
+    private static final int FOOTER = 4 + 8 + 4 + 4;
+
+    private final ByteBuffer buffer;
+    private final int restartsStart;
+    private final int restarts;
+    private final long count;
+    private final int interval;
+
+    /**
+     * Reads a front coded file from the remaining bytes of the buffer. The
+     * buffer is not copied and its position is not changed.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a front
+     *                                  coded file
+     */
+    public FrontCodedReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+        int limit = this.buffer.limit();
+        if (limit < FOOTER || this.buffer.getInt(limit - 4) != FrontCodedWriter.MAGIC) {
+            throw new IllegalArgumentException("not a front coded file");
+        }
+        restarts = this.buffer.getInt(limit - FOOTER);
+        count = this.buffer.getLong(limit - FOOTER + 4);
+        interval = this.buffer.getInt(limit - FOOTER + 12);
+        restartsStart = limit - FOOTER - restarts * 4;
+        if (restarts < 0 || interval < 1 || restartsStart < 0 || (count + interval - 1) / interval != restarts) {
+            throw new IllegalArgumentException("corrupt front coded file");
+        }
+    }
+
+    /**
+     * Memory maps a front coded file.
+     */
+    public static FrontCodedReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new FrontCodedReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Number of keys.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Returns the key at the index.
+     */
+    public byte[] get(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("index " + index);
+        }
+        Cursor cursor = new Cursor(index - index % interval);
+        while (cursor.index < index) {
+            cursor.advance();
+        }
+        return cursor.copy();
+    }
+
+    /**
+     * Returns the index of the first key greater than or equal to the given
+     * key, or {@link #size()} if there is none.
+     */
+    public long ceilingIndex(byte[] key) {
+        // the last block whose restart point is < key, as duplicates of key may run over from an earlier block
+        int lo = 0;
+        int hi = restarts - 1;
+        int block = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            // restart points are stored whole, so the shared length is 0
+            int position = skipVarint(restart(mid));
+            int length = readVarint(position);
+            position = skipVarint(position);
+            if (compare(position, length, key) < 0) {
+                block = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (block == -1) {
+            return 0;
+        }
+        Cursor cursor = new Cursor((long) block * interval);
+        long blockEnd = Math.min(count, cursor.index + interval);
+        while (true) {
+            if (SsurtKey.compare(cursor.key, 0, cursor.length, key, 0, key.length) >= 0) {
+                return cursor.index;
+            }
+            if (cursor.index + 1 == blockEnd) {
+                return blockEnd;
+            }
+            cursor.advance();
+        }
+    }
+
+    public long ceilingIndex(String key) {
+        return ceilingIndex(key.getBytes(UTF_8));
+    }
+
+    public boolean contains(byte[] key) {
+        long index = ceilingIndex(key);
+        return index < count && Arrays.equals(get(index), key);
+    }
+
+    public boolean contains(String key) {
+        return contains(key.getBytes(UTF_8));
+    }
+
+    @Override
+    public Iterator<byte[]> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Iterates over the keys from the index on.
+     */
+    public Iterator<byte[]> iterator(long fromIndex) {
+        if (fromIndex < 0 || fromIndex > count) {
+            throw new IndexOutOfBoundsException("index " + fromIndex);
+        }
+        return new Iterator<byte[]>() {
+            private Cursor cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor == null ? fromIndex < count : cursor.index + 1 < count;
+            }
+
+            @Override
+            public byte[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (cursor == null) {
+                    cursor = new Cursor(fromIndex - fromIndex % interval);
+                    while (cursor.index < fromIndex) {
+                        cursor.advance();
+                    }
+                } else {
+                    cursor.advance();
+                }
+                return cursor.copy();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the keys greater than or equal to the given key.
+     */
+    public Iterator<byte[]> tailIterator(byte[] fromKey) {
+        return iterator(ceilingIndex(fromKey));
+    }
+
+    private int restart(int block) {
+        return buffer.getInt(restartsStart + block * 4);
+    }
+
+    private int readVarint(int position) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get(position++);
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private int skipVarint(int position) {
+        while (buffer.get(position++) < 0) {
+        }
+        return position;
+    }
+
+    private int compare(int position, int length, byte[] key) {
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int x = buffer.get(position + i) & 0xff;
+            int y = key[i] & 0xff;
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return length - key.length;
+    }
+
+    /**
+     * Decodes keys one after another from a restart point, rebuilding each
+     * from the previous one.
+     */
+    private final class Cursor {
+        long index;
+        byte[] key = new byte[64];
+        int length;
+        private int position;
+
+        Cursor(long restartIndex) {
+            position = restart((int) (restartIndex / interval));
+            index = restartIndex - 1;
+            advance();
+        }
+
+        void advance() {
+            int shared = readVarint(position);
+            position = skipVarint(position);
+            int suffix = readVarint(position);
+            position = skipVarint(position);
+            if (key.length < shared + suffix) {
+                key = Arrays.copyOf(key, Math.max(shared + suffix, key.length * 2));
+            }
+            for (int i = 0; i < suffix; i++) {
+                key[shared + i] = buffer.get(position + i);
+            }
+            position += suffix;
+            length = shared + suffix;
+            index++;
+        }
+
+        byte[] copy() {
+            return Arrays.copyOf(key, length);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.netpreserve.urlcanon;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes a sorted list of keys, such as SSURTs or {@link SsurtKey}s, front
+ * coded: each key is stored as the length of the prefix it shares with the
+ * previous key plus the rest of its bytes. Sorted SSURTs share most of their
+ * host and scheme, so this typically takes a fraction of the space.
+ *
+ * Keys are grouped into blocks. The first key of a block, its restart point,
+ * is stored whole, so a {@link FrontCodedReader} can binary search the
+ * restart points and then only decode a single block. Keys must be added in
+ * unsigned byte order; duplicates are allowed.
+ *
+ * The format is, with varints as unsigned LEB128 and ints big-endian:
+ *
+ * <pre>
+ * entry*            varint shared, varint suffix length, suffix bytes
+ * int restart*      offset of the first entry of each block
+ * int restarts
+ * long count
+ * int interval      keys per block
+ * int magic         "FCS1"
+ * </pre>
+ *
+ * Offsets are ints, so a file holds up to 2 GiB of entries.
+ */
+public class FrontCodedWriter implements Closeable {
+    static final int MAGIC = 0x46435331;
+    static final int DEFAULT_INTERVAL = 16;
+
+    private final DataOutputStream out;
+    private final int interval;
+    private final IntList restarts = new IntList();
+    private byte[] previous = new byte[64];
+    private int previousLength = -1;
+    private long count;
+    private long position;
+
+    public FrontCodedWriter(OutputStream out) {
+        this(out, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * @param interval keys per block; larger blocks compress better but make
+     *                 lookups decode more keys
+     */
+    public FrontCodedWriter(OutputStream out, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be at least 1");
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.interval = interval;
+    }
+
+    public void add(String key) throws IOException {
+        add(key.getBytes(UTF_8));
+    }
+
+    public void add(byte[] key) throws IOException {
+        add(key, 0, key.length);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the key sorts before the previous
+     *                                  one
+     */
+    public void add(byte[] key, int offset, int length) throws IOException {
+        int shared = 0;
+        if (previousLength != -1) {
+            int n = Math.min(length, previousLength);
+            while (shared < n && previous[shared] == key[offset + shared]) {
+                shared++;
+            }
+            if (shared < n ? (previous[shared] & 0xff) > (key[offset + shared] & 0xff) : length < previousLength) {
+                throw new IllegalArgumentException("keys out of order");
+            }
+        }
+        if (count % interval == 0) {
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("front coded file too large");
+            }
+            restarts.add((int) position);
+            shared = 0;
+        }
+        writeVarint(shared);
+        writeVarint(length - shared);
+        out.write(key, offset + shared, length - shared);
+        position += length - shared;
+        count++;
+
+        if (previous.length < length) {
+            previous = new byte[Math.max(length, previous.length * 2)];
+        }
+        System.arraycopy(key, offset, previous, 0, length);
+        previousLength = length;
+    }
+
+    private void writeVarint(int value) throws IOException {
+        while (value >= 0x80) {
+            out.write(value & 0x7f | 0x80);
+            value >>>= 7;
+            position++;
+        }
+        out.write(value);
+        position++;
+    }
+
+    /**
+     * Number of keys added so far.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Writes the restart index and footer and closes the stream.
+     */
+    @Override
+    public void close() throws IOException {
+        for (int i = 0; i < restarts.size(); i++) {
+            out.writeInt(restarts.get(i));
+        }
+        out.writeInt(restarts.size());
+        out.writeLong(count);
+        out.writeInt(interval);
+        out.writeInt(MAGIC);
+        out.close();
+    }
+}
@@ -0,0 +1,326 @@
+package org.netpreserve.urlcanon;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.netpreserve.urlcanon.ParsedUrl.*;
+import static org.netpreserve.urlcanon.WhatwgCanonicalizer.*;
+
+/**
+ * Single pass implementation of the WHATWG canonicalization steps.
+ *
+ * Rather than running each step over the whole URL in turn, each component
+ * is read once, left to right, with tab and newline removal, lowercasing,
+ * backslash fixing, percent-encoding and path dot resolution all applied as
+ * it is copied into a single output buffer. The canonicalized components
+ * are then stored as ranges of that buffer.
+ *
+ * {@link WhatwgCanonicalizer#canonicalizeStepwise} is the reference
+ * implementation this must match.
+ */
+class FusedWhatwgCanonicalizer {
+
+    static void canonicalize(ParsedUrl url, Charset charset) {
+        if (url.hasByteSource()) {
+            charset = ISO_8859_1;
+        }
+        Range r = new Range();
+        StringBuilder out = new StringBuilder(url.end(TRAILING_JUNK) - url.start(LEADING_JUNK) + 16);
+        int[] bounds = new int[COMPONENTS * 2];
+
+        // scheme
+        r.load(url, SCHEME);
+        String scheme = lowercase(r);
+        boolean special = SPECIAL_SCHEMES.containsKey(scheme);
+        begin(bounds, SCHEME, out);
+        out.append(scheme);
+        end(bounds, SCHEME, out);
+        copy(url, COLON_AFTER_SCHEME, r, out, bounds);
+
+        // slashes
+        r.load(url, SLASHES);
+        begin(bounds, SLASHES, out);
+        if (r.start < r.end || special) {
+            out.append("//");
+        }
+        end(bounds, SLASHES, out);
+
+        // userinfo
+        Range password = new Range();
+        password.load(url, PASSWORD);
+        r.load(url, USERNAME);
+        boolean noUserinfo = r.start == r.end && password.start == password.end;
+        begin(bounds, USERNAME, out);
+        appendPctEncoded(out, r.s, r.start, r.end, USERINFO_ENCODE, charset);
+        end(bounds, USERNAME, out);
+        if (password.start == password.end) {
+            empty(bounds, COLON_BEFORE_PASSWORD, out);
+        } else {
+            copy(url, COLON_BEFORE_PASSWORD, r, out, bounds);
+        }
+        begin(bounds, PASSWORD, out);
+        appendPctEncoded(out, password.s, password.start, password.end, USERINFO_ENCODE, charset);
+        end(bounds, PASSWORD, out);
+        if (noUserinfo) {
+            empty(bounds, AT_SIGN, out);
+        } else {
+            copy(url, AT_SIGN, r, out, bounds);
+        }
+
+        // host
+        begin(bounds, HOST, out);
+        out.append(canonicalizeHost(url, special, charset));
+        end(bounds, HOST, out);
+
+        // port
+        r.load(url, PORT);
+        Integer defaultPort = SPECIAL_SCHEMES.get(scheme);
+        int port = (int) CharSequences.parseUnsignedLongNoThrow(r.s, r.start, r.end, 10);
+        if (defaultPort != null && port == defaultPort) {
+            empty(bounds, COLON_BEFORE_PORT, out);
+            empty(bounds, PORT, out);
+        } else {
+            copy(url, COLON_BEFORE_PORT, r, out, bounds);
+            copy(url, PORT, r, out, bounds);
+        }
+
+        // path
+        r.load(url, PATH);
+        begin(bounds, PATH, out);
+        appendPath(out, r.s, r.start, r.end, special, charset);
+        end(bounds, PATH, out);
+
+        // query
+        copy(url, QUESTION_MARK, r, out, bounds);
+        r.load(url, QUERY);
+        begin(bounds, QUERY, out);
+        appendPctEncoded(out, r.s, r.start, r.end, QUERY_ENCODE, charset);
+        end(bounds, QUERY, out);
+
+        // fragment
+        copy(url, HASH_SIGN, r, out, bounds);
+        r.load(url, FRAGMENT);
+        begin(bounds, FRAGMENT, out);
+        appendPctEncoded(out, r.s, r.start, r.end, C0_ENCODE, charset);
+        end(bounds, FRAGMENT, out);
+
+        empty(bounds, LEADING_JUNK, out);
+        empty(bounds, TRAILING_JUNK, out);
+
+        String result = out.toString();
+        url.setSource(result);
+        for (int i = 0; i < COMPONENTS; i++) {
+            url.setRange(i, result, bounds[i * 2], bounds[i * 2 + 1]);
+        }
+    }
+
+    /**
+     * A component's chars with tabs and newlines removed. Only copies the
+     * component if it actually contains any.
+     */
+    private static class Range {
+        CharSequence s;
+        int start;
+        int end;
+
+        void load(ParsedUrl url, int component) {
+            s = url.chars(component);
+            start = url.start(component);
+            end = url.end(component);
+            for (int i = start; i < end; i++) {
+                char c = s.charAt(i);
+                if (c == '\t' || c == '\r' || c == '\n') {
+                    s = removeTabsAndNewlines(s.subSequence(start, end).toString());
+                    start = 0;
+                    end = s.length();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void begin(int[] bounds, int component, StringBuilder out) {
+        bounds[component * 2] = out.length();
+    }
+
+    private static void end(int[] bounds, int component, StringBuilder out) {
+        bounds[component * 2 + 1] = out.length();
+    }
+
+    private static void empty(int[] bounds, int component, StringBuilder out) {
+        bounds[component * 2] = bounds[component * 2 + 1] = out.length();
+    }
+
+    /**
+     * Copies a component with only tabs and newlines removed.
+     */
+    private static void copy(ParsedUrl url, int component, Range r, StringBuilder out, int[] bounds) {
+        r.load(url, component);
+        begin(bounds, component, out);
+        out.append(r.s, r.start, r.end);
+        end(bounds, component, out);
+    }
+
+    private static String lowercase(Range r) {
+        for (int i = r.start; i < r.end; i++) {
+            char c = r.s.charAt(i);
+            if (c >= 0x80) {
+                return r.s.subSequence(r.start, r.end).toString().toLowerCase(Locale.US);
+            }
+        }
+        char[] chars = new char[r.end - r.start];
+        for (int i = r.start; i < r.end; i++) {
+            char c = r.s.charAt(i);
+            chars[i - r.start] = c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+        }
+        return new String(chars);
+    }
+
+    private static String canonicalizeHost(ParsedUrl url, boolean special, Charset charset) {
+        return HostCache.shared().canonicalize(url.getHost(), HostCache.WHATWG, special, charset,
+                FusedWhatwgCanonicalizer::canonicalizeHost);
+    }
+
+    static String canonicalizeHost(String host, boolean special, Charset charset) {
+        host = removeTabsAndNewlines(host);
+        if (special) {
+            host = pctDecode(host, charset);
+        }
+        host = normalizeIpAddress(host);
+        if (special) {
+            host = punycodeHost(host, charset);
+        }
+        return pctEncode(host, HOST_ENCODE, charset);
+    }
+
+    /**
+     * Appends a path, applying fixBackslashes, pctEncodePath, leadingSlash
+     * and normalizePathDots as it goes.
+     */
+    private static void appendPath(StringBuilder out, CharSequence s, int start, int end, boolean special, Charset charset) {
+        boolean leadingSeparator = start < end && (s.charAt(start) == '/' || (special && s.charAt(start) == '\\'));
+        boolean[] encodeSet = special || (start < end && s.charAt(start) == '/') ? PATH_ENCODE : C0_ENCODE;
+        if (!special && !leadingSeparator) {
+            // nothing to resolve
+            appendPctEncoded(out, s, start, end, encodeSet, charset);
+            return;
+        }
+
+        int base = out.length();
+        int i = start;
+        out.append('/');
+        if (leadingSeparator) {
+            i++;
+        }
+
+        int[] segmentOffsets = null;
+        int depth = 0;
+        while (true) {
+            int segmentStart = out.length();
+            int j = i;
+            while (j < end && !isSeparator(s.charAt(j), special)) j++;
+            appendPctEncoded(out, s, i, j, encodeSet, charset);
+            int dots = countDots(out, segmentStart, out.length());
+            if (dots == 2) {
+                // "../" => pop last segment
+                out.setLength(depth == 0 ? base + 1 : segmentOffsets[--depth]);
+            } else if (dots == 1) {
+                // "./" => drop it
+                out.setLength(segmentStart);
+            } else {
+                if (segmentOffsets == null) {
+                    segmentOffsets = new int[8];
+                } else if (depth == segmentOffsets.length) {
+                    segmentOffsets = Arrays.copyOf(segmentOffsets, depth * 2);
+                }
+                segmentOffsets[depth++] = segmentStart;
+                if (j < end) {
+                    // backslashes have been fixed if the path started with a separator
+                    out.append(leadingSeparator ? '/' : s.charAt(j));
+                }
+            }
+            if (j >= end) {
+                break;
+            }
+            i = j + 1;
+        }
+    }
+
+    private static boolean isSeparator(char c, boolean special) {
+        return c == '/' || (special && c == '\\');
+    }
+
+    /**
+     * Returns 1 if the segment is "." or "%2e", 2 if it is ".." or any
+     * equivalent using "%2e", otherwise 0.
+     */
+    static int countDots(CharSequence s, int start, int end) {
+        int dots = 0;
+        int i = start;
+        while (i < end && dots < 3) {
+            if (s.charAt(i) == '.') {
+                i++;
+            } else if (i + 3 <= end && s.charAt(i) == '%' && s.charAt(i + 1) == '2'
+                    && (s.charAt(i + 2) == 'e' || s.charAt(i + 2) == 'E')) {
+                i += 3;
+            } else {
+                return 0;
+            }
+            dots++;
+        }
+        return i == end && dots <= 2 ? dots : 0;
+    }
+
+    /**
+     * Same as {@link WhatwgCanonicalizer#pctEncode} but reads a range and
+     * appends to a buffer.
+     */
+    static void appendPctEncoded(StringBuilder out, CharSequence s, int start, int end, boolean[] encodeSet, Charset charset) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c <= 0xff && !encodeSet[c]) {
+                out.append(c);
+            } else if (c <= 0xff && charset == ISO_8859_1) {
+                appendPctEncodedByte(out, c);
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                appendPctEncodedCodepoint(out, Character.toCodePoint(c, s.charAt(i + 1)), charset);
+                i++;
+            } else {
+                appendPctEncodedCodepoint(out, c, charset);
+            }
+        }
+    }
+
+    private static void appendPctEncodedCodepoint(StringBuilder out, int codepoint, Charset charset) {
+        if (charset != UTF_8) {
+            for (byte b : new String(Character.toChars(codepoint)).getBytes(charset)) {
+                appendPctEncodedByte(out, b & 0xff);
+            }
+        } else if (codepoint < 0x80) {
+            appendPctEncodedByte(out, codepoint);
+        } else if (codepoint < 0x800) {
+            appendPctEncodedByte(out, 0xc0 | codepoint >> 6);
+            appendPctEncodedByte(out, 0x80 | codepoint & 0x3f);
+        } else if (codepoint >= Character.MIN_SURROGATE && codepoint <= Character.MAX_SURROGATE) {
+            appendPctEncodedByte(out, '?'); // unpaired surrogate, as String.getBytes does
+        } else if (codepoint < 0x10000) {
+            appendPctEncodedByte(out, 0xe0 | codepoint >> 12);
+            appendPctEncodedByte(out, 0x80 | codepoint >> 6 & 0x3f);
+            appendPctEncodedByte(out, 0x80 | codepoint & 0x3f);
+        } else {
+            appendPctEncodedByte(out, 0xf0 | codepoint >> 18);
+            appendPctEncodedByte(out, 0x80 | codepoint >> 12 & 0x3f);
+            appendPctEncodedByte(out, 0x80 | codepoint >> 6 & 0x3f);
+            appendPctEncodedByte(out, 0x80 | codepoint & 0x3f);
+        }
+    }
+
+    private static void appendPctEncodedByte(StringBuilder out, int b) {
+        out.append('%');
+        out.append(HEX_DIGITS[b >> 4]);
+        out.append(HEX_DIGITS[b & 0xf]);
+    }
+}
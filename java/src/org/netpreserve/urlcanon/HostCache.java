@@ -0,0 +1,416 @@
+package org.netpreserve.urlcanon;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A bounded cache of canonicalized hosts, shared by the built-in
+ * canonicalizers. Percent-decoding, IP address normalization and punycoding
+ * make the host the most expensive part of a URL to canonicalize, yet a crawl
+ * sees the same few hosts over and over.
+ *
+ * The cache is split into segments, each a set-associative table: a host can
+ * only live in one of {@value #WAYS} slots of its set. Lookups read the table
+ * without locking; inserts lock only their segment. Admission follows
+ * TinyLFU: each segment keeps a small count-min sketch of how often hosts are
+ * looked up, and a new host only replaces the least frequent host in its set
+ * if it has been seen more often. One-off hosts therefore cannot flush out the
+ * popular ones. The sketch counters are halved periodically so that
+ * popularity ages.
+ *
+ * So that hits on popular hosts don't have every thread writing the same
+ * sketch, each thread collects its hits in a buffer of its own and only
+ * counts them once it holds {@value #READ_BUFFER_SIZE}, grouped by segment,
+ * each group under one acquisition of its segment's lock. Misses are counted
+ * under the lock they take to insert. The sketch is only touched under its
+ * segment's lock.
+ *
+ * The shared cache holds 65536 hosts unless the system property
+ * {@value #CAPACITY_PROPERTY} says otherwise.
+ */
+public final class HostCache {
+    /**
+     * Pipelines that share the cache, kept apart in the key.
+     */
+    static final int WHATWG = 0;
+    static final int SEMANTIC_PRECISE = 1;
+
+    private static final int WAYS = 4;
+    private static final int MAX_HOST_LENGTH = 256;
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final String CAPACITY_PROPERTY = "org.netpreserve.urlcanon.hostCacheCapacity";
+
+    private static final HostCache SHARED = new HostCache(Integer.getInteger(CAPACITY_PROPERTY, 1 << 16));
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ThreadLocal<ReadBuffer> readBuffers = ThreadLocal.withInitial(ReadBuffer::new);
+
+    HostCache(int capacity) {
+        if (capacity < WAYS) {
+            throw new IllegalArgumentException("capacity must be at least " + WAYS);
+        }
+        int segmentCount = Math.min(nextPowerOfTwo(Runtime.getRuntime().availableProcessors() * 4),
+                Integer.highestOneBit(capacity / WAYS));
+        int sets = Math.max(1, nextPowerOfTwo(capacity / WAYS / segmentCount));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(sets);
+        }
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.capacity = segmentCount * sets * WAYS;
+    }
+
+    /**
+     * The cache used by the built-in canonicalizers, sized by the system
+     * property {@value #CAPACITY_PROPERTY}.
+     */
+    public static HostCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical host, computing it with the given pipeline on a
+     * miss. Hosts are cached per pipeline, scheme specialness and charset;
+     * charsets other than UTF-8 and ISO-8859-1 bypass the cache.
+     */
+    String canonicalize(String host, int pipeline, boolean special, Charset charset, HostFunction function) {
+        int flags;
+        if (charset == UTF_8) {
+            flags = 0;
+        } else if (charset == ISO_8859_1) {
+            flags = 1;
+        } else {
+            return function.apply(host, special, charset);
+        }
+        if (host.length() > MAX_HOST_LENGTH) {
+            return function.apply(host, special, charset);
+        }
+        flags |= (special ? 2 : 0) | pipeline << 2;
+
+        int hash = spread(host.hashCode() * 31 + flags);
+        Segment segment = segmentFor(hash);
+        String value = segment.get(host, flags, hash);
+        if (value != null) {
+            hits.increment();
+            recordHit(hash);
+            return value;
+        }
+        misses.increment();
+        value = function.apply(host, special, charset);
+        if (segment.put(new Entry(host, flags, hash, value))) {
+            evictions.increment();
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    interface HostFunction {
+        String apply(String host, boolean special, Charset charset);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of hosts removed to make room for more frequently seen ones.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Maximum number of hosts held.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Current number of hosts held.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes every host and resets the counters.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "HostCache{size=" + size() + ", capacity=" + capacity + ", hits=" + hits() + ", misses=" + misses()
+                + ", evictions=" + evictions() + "}";
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[segmentShift == 32 ? 0 : hash >>> segmentShift];
+    }
+
+    private void recordHit(int hash) {
+        ReadBuffer buffer = readBuffers.get();
+        buffer.hashes[buffer.size++] = hash;
+        if (buffer.size == READ_BUFFER_SIZE) {
+            drain(buffer.hashes);
+            buffer.size = 0;
+        }
+    }
+
+    /**
+     * Counts a full buffer of hits. The segment is chosen by the top bits of
+     * the hash, so sorting the hashes as unsigned ints groups them by
+     * segment.
+     */
+    private void drain(int[] hashes) {
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] ^= Integer.MIN_VALUE;
+        }
+        Arrays.sort(hashes);
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] ^= Integer.MIN_VALUE;
+        }
+        int start = 0;
+        while (start < hashes.length) {
+            Segment segment = segmentFor(hashes[start]);
+            int end = start + 1;
+            while (end < hashes.length && segmentFor(hashes[end]) == segment) {
+                end++;
+            }
+            segment.recordHits(hashes, start, end);
+            start = end;
+        }
+    }
+
+    private static int nextPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        final String host;
+        final int flags;
+        final int hash;
+        final String value;
+
+        Entry(String host, int flags, int hash, String value) {
+            this.host = host;
+            this.flags = flags;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        boolean matches(String host, int flags, int hash) {
+            return this.hash == hash && this.flags == flags && this.host.equals(host);
+        }
+    }
+
+    private static final class Segment {
+        private final AtomicReferenceArray<Entry> table;
+        private final int setMask;
+        private final FrequencySketch sketch;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Segment(int sets) {
+            table = new AtomicReferenceArray<>(sets * WAYS);
+            setMask = sets - 1;
+            sketch = new FrequencySketch(sets * WAYS);
+        }
+
+        String get(String host, int flags, int hash) {
+            int base = (hash & setMask) * WAYS;
+            for (int i = base; i < base + WAYS; i++) {
+                Entry entry = table.get(i);
+                if (entry != null && entry.matches(host, flags, hash)) {
+                    return entry.value;
+                }
+            }
+            return null;
+        }
+
+        void recordHits(int[] hashes, int start, int end) {
+            lock.lock();
+            try {
+                for (int i = start; i < end; i++) {
+                    sketch.increment(hashes[i]);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Counts the miss, then inserts the entry if there is room in its
+         * set or it is more frequent than the least frequent entry there.
+         *
+         * @return true if an entry was evicted
+         */
+        boolean put(Entry entry) {
+            lock.lock();
+            try {
+                sketch.increment(entry.hash);
+                return admit(entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean admit(Entry entry) {
+            int base = (entry.hash & setMask) * WAYS;
+            int victim = -1;
+            int victimFrequency = Integer.MAX_VALUE;
+            for (int i = base; i < base + WAYS; i++) {
+                Entry existing = table.get(i);
+                if (existing == null) {
+                    table.set(i, entry);
+                    return false;
+                }
+                if (existing.matches(entry.host, entry.flags, entry.hash)) {
+                    return false; // another thread got there first
+                }
+                int frequency = sketch.frequency(existing.hash);
+                if (frequency < victimFrequency) {
+                    victim = i;
+                    victimFrequency = frequency;
+                }
+            }
+            if (sketch.frequency(entry.hash) <= victimFrequency) {
+                return false;
+            }
+            table.set(victim, entry);
+            return true;
+        }
+
+        int size() {
+            int size = 0;
+            for (int i = 0; i < table.length(); i++) {
+                if (table.get(i) != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                for (int i = 0; i < table.length(); i++) {
+                    table.set(i, null);
+                }
+                sketch.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Hits a thread has seen but not yet counted.
+     */
+    private static final class ReadBuffer {
+        final int[] hashes = new int[READ_BUFFER_SIZE];
+        int size;
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, four per host, packed sixteen to a
+     * long. Not thread safe; used under its segment's lock.
+     */
+    private static final class FrequencySketch {
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int entries) {
+            int length = Math.max(1, nextPowerOfTwo(entries) / 4);
+            table = new long[length];
+            tableMask = length - 1;
+            sampleSize = 10 * Math.max(entries, 16);
+        }
+
+        int frequency(int hash) {
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int h = rehash(hash, i);
+                int shift = (h >>> 28) << 2;
+                int count = (int) (table[h & tableMask] >>> shift) & 0xf;
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int h = rehash(hash, i);
+                int index = h & tableMask;
+                int shift = (h >>> 28) << 2;
+                long word = table[index];
+                if (((word >>> shift) & 0xf) != 0xf) {
+                    table[index] = word + (1L << shift);
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                age();
+            }
+        }
+
+        /**
+         * Halves every counter so that past popularity fades.
+         */
+        private void age() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions = 0;
+        }
+
+        void clear() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = 0;
+            }
+            additions = 0;
+        }
+
+        private static int rehash(int hash, int i) {
+            int h = (hash + i) * 0x9e3779b9;
+            return h ^ (h >>> 15);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.netpreserve.urlcanon;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assigns URLs to partitions by host, so that every service sharing the same
+ * configuration agrees which partition, and so which node, owns a URL.
+ *
+ * The partition key is the host as {@link ParsedUrl#ssurtHost} formats it,
+ * "com,example,www," for www.example.com, optionally truncated to the
+ * registrable domain ("com,example,") so that all subdomains of a site land
+ * together. URLs should be canonicalized first so that equivalent hosts have
+ * the same key.
+ *
+ * Keys are assigned either by consistent hashing into a number of partitions,
+ * using the 64-bit MurmurHash3 of the key (as {@link UrlFingerprint} computes
+ * it) and jump consistent hashing (Lamping and Veach, "A Fast, Minimal
+ * Memory, Consistent Hash Algorithm", 2014), so growing from n to n + 1
+ * partitions only moves keys into the new one; or by ranges of keys between
+ * boundaries, so each partition holds a contiguous run of a SSURT-sorted
+ * index. Hashing feeds the host to the hash in place, so costs one small
+ * hash state object per call; ranges build the key string to search the
+ * boundaries with.
+ */
+public class HostPartitioner {
+    private final int partitions;
+    private final String[] boundaries;
+    private final PublicSuffixes publicSuffixes;
+
+    private HostPartitioner(Builder builder) {
+        if ((builder.partitions == 0) == (builder.boundaries == null)) {
+            throw new IllegalStateException("exactly one of partitions and boundaries must be set");
+        }
+        publicSuffixes = builder.publicSuffixes;
+        if (builder.boundaries != null) {
+            boundaries = builder.boundaries.toArray(new String[0]);
+            for (int i = 1; i < boundaries.length; i++) {
+                if (boundaries[i - 1].compareTo(boundaries[i]) >= 0) {
+                    throw new IllegalArgumentException("boundaries must be sorted and distinct");
+                }
+            }
+            partitions = boundaries.length + 1;
+        } else {
+            boundaries = null;
+            partitions = builder.partitions;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    /**
+     * Returns the partition of the URL, from 0 to {@link #partitions()} - 1.
+     */
+    public int partition(ParsedUrl url) {
+        return partition(url.chars(ParsedUrl.HOST), url.start(ParsedUrl.HOST), url.end(ParsedUrl.HOST));
+    }
+
+    /**
+     * Returns the partition of a canonical host.
+     */
+    public int partition(String host) {
+        return partition(host, 0, host.length());
+    }
+
+    /**
+     * Returns the key the URL is partitioned on.
+     */
+    public String partitionKey(ParsedUrl url) {
+        return partitionKey(url.getHost());
+    }
+
+    public String partitionKey(String host) {
+        return ParsedUrl.ssurtHost(host.substring(keyStart(host, 0, host.length())));
+    }
+
+    private int partition(CharSequence host, int start, int end) {
+        if (boundaries != null) {
+            String key = partitionKey(host.subSequence(start, end).toString());
+            int i = Arrays.binarySearch(boundaries, key);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+        UrlFingerprint.Murmur3 hash = new UrlFingerprint.Murmur3();
+        int keyStart = keyStart(host, start, end);
+        if (keyStart < end && IpAddresses.classify(host, keyStart, end) == IpAddresses.DOMAIN) {
+            SsurtKey.writeReversedHost(host, keyStart, end, false, hash);
+        } else {
+            SsurtKey.writeChars(host, keyStart, end, false, false, hash);
+        }
+        return jumpConsistentHash(hash.finish64(), partitions);
+    }
+
+    /**
+     * Returns where the part of the host the key is made from starts: the
+     * registrable domain if public suffixes are set and the host is a
+     * domain name, otherwise the whole host.
+     */
+    private int keyStart(CharSequence host, int start, int end) {
+        if (publicSuffixes == null) {
+            return start;
+        }
+        int registrableDomainStart = publicSuffixes.registrableDomainStart(host, start, end);
+        return registrableDomainStart == -1 ? start : registrableDomainStart;
+    }
+
+    static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    public static class Builder {
+        private int partitions;
+        private List<String> boundaries;
+        private PublicSuffixes publicSuffixes;
+
+        private Builder() {
+        }
+
+        /**
+         * Assigns keys to this many partitions by consistent hashing.
+         */
+        public Builder partitions(int partitions) {
+            if (partitions <= 0) {
+                throw new IllegalArgumentException("partitions must be positive");
+            }
+            this.partitions = partitions;
+            return this;
+        }
+
+        /**
+         * Assigns keys to partitions by range: partition 0 holds the keys
+         * before the first boundary and partition i the keys from boundary
+         * i - 1 up to but not including boundary i. Boundaries are partition
+         * keys or prefixes of them, such as "com,f".
+         */
+        public Builder boundaries(List<String> boundaries) {
+            this.boundaries = boundaries;
+            return this;
+        }
+
+        /**
+         * Truncates hosts to their registrable domain under these public
+         * suffixes, usually {@link PublicSuffixes#getDefault()}. Hosts that
+         * are public suffixes themselves are kept whole.
+         */
+        public Builder publicSuffixes(PublicSuffixes publicSuffixes) {
+            this.publicSuffixes = publicSuffixes;
+            return this;
+        }
+
+        public HostPartitioner build() {
+            return new HostPartitioner(this);
+        }
+    }
+}
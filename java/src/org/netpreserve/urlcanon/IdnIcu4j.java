@@ -3,9 +3,26 @@ package org.netpreserve.urlcanon;
 import com.ibm.icu.text.IDNA;
 
 class IdnIcu4j implements Idn {
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+
     private final IDNA idna = IDNA.getUTS46Instance(IDNA.NONTRANSITIONAL_TO_ASCII);
 
+    /**
+     * Per-thread output buffer and error info, both reset by ICU on every call.
+     */
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
     public String toAscii(String name) {
-        return idna.nameToASCII(name, new StringBuilder(), new IDNA.Info()).toString();
+        Scratch scratch = this.scratch.get();
+        String ascii = idna.nameToASCII(name, scratch.dest, scratch.info).toString();
+        if (scratch.dest.capacity() > MAX_RETAINED_CAPACITY) {
+            scratch.dest = new StringBuilder(); // don't hold on to the buffer of a freak host
+        }
+        return ascii;
+    }
+
+    private static class Scratch {
+        StringBuilder dest = new StringBuilder();
+        final IDNA.Info info = new IDNA.Info();
     }
 }
@@ -0,0 +1,61 @@
+package org.netpreserve.urlcanon;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of ints, to avoid boxing.
+ */
+class IntList {
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this(8);
+    }
+
+    IntList(int capacity) {
+        values = new int[Math.max(capacity, 1)];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    void set(int index, int value) {
+        values[index] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void removeLast() {
+        size--;
+    }
+
+    /**
+     * Drops every value from the index on.
+     */
+    void truncate(int size) {
+        this.size = Math.min(this.size, size);
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
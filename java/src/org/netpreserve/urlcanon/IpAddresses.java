@@ -18,94 +18,209 @@
 
 package org.netpreserve.urlcanon;
 
+/**
+ * IP address parsing and formatting. Parsing works over ranges of a
+ * CharSequence and formatting appends to a caller's StringBuilder so neither
+ * needs to allocate. IPv4 addresses are held in the low 32 bits of a long,
+ * with -1 meaning not an address, and IPv6 addresses in two longs, the high
+ * and low 64 bits.
+ */
 class IpAddresses {
+    static final int DOMAIN = 0;
+    static final int IPV4 = 1;
+    static final int IPV6 = 2;
+
+    /**
+     * Classifies a host as a domain name, IPv4 address or IPv6 address.
+     * Anything in square brackets counts as IPv6, which is all a bracketed
+     * host can be once canonicalized. Domain names are usually rejected at
+     * their first char.
+     */
+    static int classify(CharSequence s, int start, int end) {
+        if (start < end && s.charAt(start) == '[') {
+            return IPV6;
+        }
+        return parseIpv4(s, start, end) != -1 ? IPV4 : DOMAIN;
+    }
 
     static String formatIpv4(long ipv4) {
+        StringBuilder sb = new StringBuilder(15);
+        formatIpv4(ipv4, sb);
+        return sb.toString();
+    }
+
+    static void formatIpv4(long ipv4, StringBuilder out) {
         if (ipv4 < 0) {
             throw new IllegalArgumentException("value " + ipv4);
         }
-        return String.format("%d.%d.%d.%d", ipv4 >> 24, (ipv4 >> 16) & 0xff,
-                (ipv4 >> 8) & 0xff, ipv4 & 0xff);
+        out.append(ipv4 >> 24).append('.')
+                .append((ipv4 >> 16) & 0xff).append('.')
+                .append((ipv4 >> 8) & 0xff).append('.')
+                .append(ipv4 & 0xff);
     }
 
     static short[] parseIpv6(String host) {
-        short[] addr = new short[8];
-        String[] groups = host.split(":", 10);
-        if (groups.length < 3 || groups.length > 9) {
+        long[] ipv6 = new long[2];
+        if (!parseIpv6(host, 0, host.length(), ipv6)) {
             return null;
         }
+        short[] addr = new short[8];
+        for (int i = 0; i < addr.length; i++) {
+            addr[i] = (short) group(ipv6[0], ipv6[1], i);
+        }
+        return addr;
+    }
 
-        boolean hasIp4 = groups[groups.length - 1].indexOf('.') != -1;
+    /**
+     * Parses an IPv6 address (without the brackets) into result[0], the high
+     * 64 bits, and result[1], the low 64 bits.
+     *
+     * @return false if the range is not an IPv6 address
+     */
+    static boolean parseIpv6(CharSequence s, int start, int end, long[] result) {
+        int groups = 1;
+        int lastGroupStart = start;
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == ':') {
+                groups++;
+                lastGroupStart = i + 1;
+            }
+        }
+        if (groups < 3 || groups > 9) {
+            return false;
+        }
+        boolean hasIp4 = false;
+        for (int i = lastGroupStart; i < end; i++) {
+            if (s.charAt(i) == '.') {
+                hasIp4 = true;
+                break;
+            }
+        }
+
+        long high = 0;
+        long low = 0;
         boolean seenDoubleColon = false;
         int j = 0;
-        for (int i = 0; i < groups.length; i++) {
-            String group = groups[i];
+        int groupStart = start;
+        for (int i = 0; i < groups; i++, groupStart = nextGroup(s, groupStart, end)) {
+            int groupEnd = groupEnd(s, groupStart, end);
 
             // expand ::
-            if (group.isEmpty()) {
+            if (groupStart == groupEnd) {
                 if (seenDoubleColon) {
-                    return null; // allowed only once
+                    return false; // allowed only once
                 }
                 seenDoubleColon = true;
 
                 // leading
                 if (i == 0) {
-                    if (groups[1].isEmpty()) { // leading ::
+                    if (isNextGroupEmpty(s, groupEnd, end)) { // leading ::
                         i++;
+                        groupStart = nextGroup(s, groupStart, end);
+                        groupEnd = groupStart;
                     } else { // leading :
-                        return null; // not allowed
+                        return false; // not allowed
                     }
                 }
 
                 // trailing
-                if (i == groups.length - 2 && groups[i + 1].isEmpty()) {
+                if (i == groups - 2 && isNextGroupEmpty(s, groupEnd, end)) {
                     i++;
+                    groupStart = nextGroup(s, groupStart, end);
                 }
 
-                j = addr.length - (groups.length - i) + 1;
+                j = 8 - (groups - i) + 1;
                 if (hasIp4) j--;
                 continue;
             }
 
             // handle ip4 in last group
-            if (i == groups.length - 1 && hasIp4) {
+            if (i == groups - 1 && hasIp4) {
                 if (j != 6) { // must be the 7th & 8th short
-                    return null;
+                    return false;
                 }
 
-                long ip4 = parseIpv4(group);
+                long ip4 = parseIpv4(s, groupStart, groupEnd);
                 if (ip4 == -1) {
-                    return null;
+                    return false;
                 }
-                addr[6] = (short)(ip4 >>> 16);
-                addr[7] = (short)ip4;
-                return addr;
+                result[0] = high;
+                result[1] = low & 0xffffffff00000000L | ip4;
+                return true;
             }
 
-            long value = CharSequences.parseUnsignedLongNoThrow(group, 0, group.length(), 16);
+            long value = CharSequences.parseUnsignedLongNoThrow(s, groupStart, groupEnd, 16);
             if (value == -1) {
-                return null; // not a number
+                return false; // not a number
             }
-            if (j >= addr.length) {
-                return null;
+            if (j >= 8) {
+                return false;
             }
-            addr[j++] = (short)value;
+            if (j < 4) {
+                high = withGroup(high, j, value);
+            } else {
+                low = withGroup(low, j - 4, value);
+            }
+            j++;
         }
-        if (!seenDoubleColon && groups.length != 8) {
-            return null;
+        if (!seenDoubleColon && groups != 8) {
+            return false;
         }
-        return addr;
+        result[0] = high;
+        result[1] = low;
+        return true;
+    }
+
+    private static int groupEnd(CharSequence s, int groupStart, int end) {
+        int i = groupStart;
+        while (i < end && s.charAt(i) != ':') i++;
+        return i;
+    }
+
+    private static int nextGroup(CharSequence s, int groupStart, int end) {
+        return groupEnd(s, groupStart, end) + 1;
+    }
+
+    private static boolean isNextGroupEmpty(CharSequence s, int groupEnd, int end) {
+        return groupEnd + 1 >= end || s.charAt(groupEnd + 1) == ':';
+    }
+
+    /**
+     * Sets the 16-bit group k (0 to 3, most significant first) of a word.
+     */
+    private static long withGroup(long word, int k, long value) {
+        int shift = (3 - k) * 16;
+        return word & ~(0xffffL << shift) | (value & 0xffff) << shift;
+    }
+
+    /**
+     * Returns 16-bit group k (0 to 7) of an IPv6 address.
+     */
+    private static int group(long high, long low, int k) {
+        return (int) ((k < 4 ? high >>> (3 - k) * 16 : low >>> (7 - k) * 16) & 0xffff);
     }
 
     static String formatIpv6(short[] addr) {
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 4; i++) {
+            high = withGroup(high, i, addr[i]);
+            low = withGroup(low, i, addr[i + 4]);
+        }
+        StringBuilder sb = new StringBuilder(39);
+        formatIpv6(high, low, sb);
+        return sb.toString();
+    }
+
+    static void formatIpv6(long high, long low, StringBuilder out) {
         // find longest sequence of zeroes
-        int zeroesStart = addr.length;
+        int zeroesStart = 8;
         int zeroesLen = 0;
         {
             int curStart = 0;
             int curLen = 0;
-            for (int i = 0; i < addr.length; i++) {
-                if (addr[i] == 0) {
+            for (int i = 0; i < 8; i++) {
+                if (group(high, low, i) == 0) {
                     if (curLen == 0) {
                         curStart = i;
                     }
@@ -125,32 +240,52 @@ class IpAddresses {
         }
 
         // print
-        StringBuilder sb = new StringBuilder();
         for (int i = 0; i < zeroesStart; i++) {
-            sb.append(Integer.toHexString(addr[i] & 0xffff));
-            if (i < addr.length - 1) sb.append(':');
+            appendHex(out, group(high, low, i));
+            if (i < 7) out.append(':');
         }
-        if (zeroesStart == 0) sb.append(':');
-        for (int i = zeroesStart + zeroesLen; i < addr.length; i++) {
-            sb.append(':').append(Integer.toHexString(addr[i] & 0xffff));
+        if (zeroesStart == 0) out.append(':');
+        for (int i = zeroesStart + zeroesLen; i < 8; i++) {
+            out.append(':');
+            appendHex(out, group(high, low, i));
+        }
+        if (zeroesLen > 0 && zeroesStart + zeroesLen == 8) out.append(':');
+    }
+
+    private static void appendHex(StringBuilder out, int value) {
+        int shift = 12;
+        while (shift > 0 && (value >>> shift) == 0) {
+            shift -= 4;
+        }
+        for (; shift >= 0; shift -= 4) {
+            out.append(Character.forDigit((value >>> shift) & 0xf, 16));
         }
-        if (zeroesLen > 0 && zeroesStart + zeroesLen == addr.length) sb.append(':');
-        return sb.toString();
     }
 
     static long parseIpv4(String host) {
+        return parseIpv4(host, 0, host.length());
+    }
+
+    static long parseIpv4(CharSequence s, int start, int end) {
         long ipv4 = 0;
-        int startOfPart = 0;
+        int startOfPart = start;
 
-        if (host.isEmpty()) {
+        if (start == end) {
             return -1;
         }
 
         for (int i = 0;; i++) {
-            // find the end of this part
-            int endOfPart = host.indexOf(".", startOfPart);
-            if (endOfPart == -1) {
-                endOfPart = host.length();
+            // find the end of this part, failing early on parts that cannot be a number
+            int endOfPart = startOfPart;
+            while (endOfPart < end) {
+                char c = s.charAt(endOfPart);
+                if (c == '.') {
+                    break;
+                }
+                if (endOfPart == startOfPart && Character.digit(c, 10) == -1) {
+                    return -1; // numbers, even hex ones, start with a digit
+                }
+                endOfPart++;
             }
 
             // if there's more than 4 return failure
@@ -162,12 +297,12 @@ class IpAddresses {
             if (startOfPart == endOfPart) { // treat empty parts as zero
                 part = 0;
             } else {
-                part = parseIpv4Num(host, startOfPart, endOfPart);
+                part = parseIpv4Num(s, startOfPart, endOfPart);
                 if (part == -1) return -1; // not a number
             }
 
             // if this is the last part (or second-last part and last part is empty)
-            if (endOfPart >= host.length() - 1) {
+            if (endOfPart >= end - 1) {
                 if (part >= (1L << (8 * (4 - i)))) {
                     return -1; // too big
                 }
@@ -187,7 +322,7 @@ class IpAddresses {
         }
     }
 
-    private static long parseIpv4Num(String host, int start, int end) {
+    private static long parseIpv4Num(CharSequence host, int start, int end) {
         int radix = 10;
         if (end - start >= 2 && host.charAt(start) == '0') {
             char c = host.charAt(start + 1);
@@ -0,0 +1,83 @@
+package org.netpreserve.urlcanon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads lines of raw bytes, for the tools that stream URL lists. The input
+ * is read a block at a time into a buffer that is scanned for line breaks,
+ * rather than a byte at a time, so a single reading thread can keep up with
+ * many threads processing the lines.
+ *
+ * Lines are returned without the line break or a trailing CR. The last line
+ * need not end with a line break. Not thread safe.
+ */
+final class LineReader {
+    private final InputStream in;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+
+    LineReader(InputStream in) {
+        this(in, 1 << 16);
+    }
+
+    LineReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Returns the next line, which may be empty, or null at the end of the
+     * input.
+     */
+    byte[] readLine() throws IOException {
+        int scanned = 0;
+        while (true) {
+            for (int i = position + scanned; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    return take(i, i + 1);
+                }
+            }
+            scanned = limit - position;
+            if (!fill()) {
+                return position == limit ? null : take(limit, limit);
+            }
+        }
+    }
+
+    /**
+     * Returns the line from the position to end, dropping a trailing CR, and
+     * moves the position to next.
+     */
+    private byte[] take(int end, int next) {
+        if (end > position && buffer[end - 1] == '\r') {
+            end--;
+        }
+        byte[] line = Arrays.copyOfRange(buffer, position, end);
+        position = next;
+        return line;
+    }
+
+    /**
+     * Reads more input after the unread bytes, first moving them to the start
+     * of the buffer or growing it if they fill it. Returns false at the end
+     * of the input.
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int n = in.read(buffer, limit, buffer.length - limit);
+        if (n == -1) {
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+}
@@ -0,0 +1,286 @@
+package org.netpreserve.urlcanon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A URL matching rule, with one or more conditions. Java port of the Python
+ * package's {@code urlcanon.MatchRule}.
+ *
+ * All conditions must match for a URL to be considered a match. The
+ * supported conditions are surt, ssurt, regex, domain, substring and
+ * parentUrlRegex. The exact modifier makes the domain, surt and ssurt
+ * conditions match only exactly rather than as prefixes (or parent domains);
+ * regex and substring are not affected by it.
+ *
+ * No canonicalization is performed on the conditions or the URLs being
+ * tested, that is left to the caller. Values are compared as strings.
+ *
+ * <pre>
+ * MatchRule rule = MatchRule.builder()
+ *         .domain("twitter.com")
+ *         .regex("^.*lang=(?!en).*$")
+ *         .build();
+ * </pre>
+ *
+ * To test a URL against many rules at once use {@link MatchRuleSet}.
+ */
+public class MatchRule {
+    private final String surt;
+    private final String ssurt;
+    private final Pattern regex;
+    private final String domain;
+    private final String substring;
+    private final Pattern parentUrlRegex;
+    private final boolean exact;
+
+    private MatchRule(Builder builder) {
+        surt = builder.surt;
+        ssurt = builder.ssurt;
+        regex = builder.regex == null ? null : Pattern.compile(builder.regex);
+        domain = builder.domain;
+        substring = builder.substring;
+        parentUrlRegex = builder.parentUrlRegex == null ? null : Pattern.compile(builder.parentUrlRegex);
+        exact = builder.exact;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean applies(String url) {
+        return applies(ParsedUrl.parseUrl(url), null);
+    }
+
+    public boolean applies(String url, String parentUrl) {
+        return applies(ParsedUrl.parseUrl(url), parentUrl);
+    }
+
+    public boolean applies(ParsedUrl url) {
+        return applies(url, null);
+    }
+
+    /**
+     * Returns true if the URL matches all the conditions of this rule. Both
+     * URLs should normally have been canonicalized first.
+     *
+     * @param parentUrl the parent URL, needed if the rule has a parentUrlRegex
+     */
+    public boolean applies(ParsedUrl url, String parentUrl) {
+        return applies(new RuleTarget(url, parentUrl));
+    }
+
+    boolean applies(RuleTarget target) {
+        if (!appliesToHostAndSurts(target)) {
+            return false;
+        }
+        if (substring != null && !target.href().contains(substring)) {
+            return false;
+        }
+        if (regex != null && !regex.matcher(target.href()).matches()) {
+            return false;
+        }
+        if (parentUrlRegex != null) {
+            if (target.parentUrl == null || target.parentUrl.isEmpty()) {
+                return false;
+            }
+            if (!parentUrlRegex.matcher(target.parentUrl).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks the domain, surt and ssurt conditions only, for
+     * {@link MatchRuleSet}, which matches the substring and regex conditions
+     * of all its rules at once.
+     */
+    boolean appliesToHostAndSurts(RuleTarget target) {
+        if (domain != null) {
+            if (exact ? !hostMatchesDomainExactly(target.host(), domain)
+                    : !hostMatchesDomain(target.host(), domain)) {
+                return false;
+            }
+        }
+        if (surt != null && !matches(target.surt(), surt)) {
+            return false;
+        }
+        if (ssurt != null && !matches(target.ssurt(), ssurt)) {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean matches(String value, String condition) {
+        return exact ? value.equals(condition) : value.startsWith(condition);
+    }
+
+    /**
+     * Returns true if the domain is an IP address and the host is the same
+     * address, or the domain is a domain name and the host is the same domain
+     * or a subdomain of it.
+     *
+     * No normalization is done, so both should already be canonical.
+     */
+    public static boolean hostMatchesDomain(String host, String domain) {
+        if (domain.equals(host)) {
+            return true;
+        }
+        if (isIpAddress(domain) || isIpAddress(host)) {
+            // if either is an ip address and they're not identical, not a match
+            return false;
+        }
+        return ParsedUrl.reverseHost(host).startsWith(ParsedUrl.reverseHost(domain));
+    }
+
+    /**
+     * Returns true if the host and domain are the same.
+     */
+    public static boolean hostMatchesDomainExactly(String host, String domain) {
+        return domain.equals(host);
+    }
+
+    static boolean isIpAddress(String host) {
+        if (host.length() >= 2 && host.charAt(0) == '[' && host.charAt(host.length() - 1) == ']') {
+            return IpAddresses.parseIpv6(host, 1, host.length() - 1, new long[2]);
+        }
+        return IpAddresses.parseIpv4(host) != -1;
+    }
+
+    public String getSurt() {
+        return surt;
+    }
+
+    public String getSsurt() {
+        return ssurt;
+    }
+
+    public String getRegex() {
+        return regex == null ? null : regex.pattern();
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getSubstring() {
+        return substring;
+    }
+
+    public String getParentUrlRegex() {
+        return parentUrlRegex == null ? null : parentUrlRegex.pattern();
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    @Override
+    public String toString() {
+        List<String> conditions = new ArrayList<>();
+        if (surt != null) conditions.add("surt=" + surt);
+        if (ssurt != null) conditions.add("ssurt=" + ssurt);
+        if (regex != null) conditions.add("regex=" + regex);
+        if (domain != null) conditions.add("domain=" + domain);
+        if (substring != null) conditions.add("substring=" + substring);
+        if (parentUrlRegex != null) conditions.add("parentUrlRegex=" + parentUrlRegex);
+        conditions.add("exact=" + exact);
+        return "MatchRule(" + String.join(",", conditions) + ")";
+    }
+
+    /**
+     * Empty values are treated as no condition, as in the Python version.
+     */
+    public static class Builder {
+        private String surt;
+        private String ssurt;
+        private String regex;
+        private String domain;
+        private String substring;
+        private String parentUrlRegex;
+        private boolean exact;
+
+        private Builder() {
+        }
+
+        public Builder surt(String surt) {
+            this.surt = emptyToNull(surt);
+            return this;
+        }
+
+        public Builder ssurt(String ssurt) {
+            this.ssurt = emptyToNull(ssurt);
+            return this;
+        }
+
+        /**
+         * A regular expression the whole URL must match.
+         */
+        public Builder regex(String regex) {
+            this.regex = emptyToNull(regex);
+            return this;
+        }
+
+        public Builder domain(String domain) {
+            this.domain = emptyToNull(domain);
+            return this;
+        }
+
+        public Builder substring(String substring) {
+            this.substring = emptyToNull(substring);
+            return this;
+        }
+
+        /**
+         * A regular expression the whole parent URL must match. URLs without
+         * a parent never match.
+         */
+        public Builder parentUrlRegex(String parentUrlRegex) {
+            this.parentUrlRegex = emptyToNull(parentUrlRegex);
+            return this;
+        }
+
+        public Builder exact(boolean exact) {
+            this.exact = exact;
+            return this;
+        }
+
+        /**
+         * The deprecated Heritrix-style form of the surt, regex and substring
+         * conditions.
+         *
+         * @param urlMatch one of REGEX_MATCH, SURT_MATCH or STRING_MATCH
+         */
+        public Builder urlMatch(String urlMatch, String value) {
+            switch (urlMatch) {
+                case "REGEX_MATCH":
+                    checkUnset(regex, urlMatch);
+                    return regex(value);
+                case "SURT_MATCH":
+                    checkUnset(surt, urlMatch);
+                    return surt(value);
+                case "STRING_MATCH":
+                    checkUnset(substring, urlMatch);
+                    return substring(value);
+                default:
+                    throw new IllegalArgumentException("invalid scope rule with url_match " + urlMatch);
+            }
+        }
+
+        private static void checkUnset(String condition, String urlMatch) {
+            if (condition != null) {
+                throw new IllegalStateException(urlMatch + " conflicts with a condition already set");
+            }
+        }
+
+        private static String emptyToNull(String s) {
+            return s == null || s.isEmpty() ? null : s;
+        }
+
+        public MatchRule build() {
+            return new MatchRule(this);
+        }
+    }
+}
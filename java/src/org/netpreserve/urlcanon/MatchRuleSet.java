@@ -0,0 +1,203 @@
+package org.netpreserve.urlcanon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled set of {@link MatchRule}s, for testing URLs against many rules
+ * at once. Each rule is identified by its index in the list it was compiled
+ * from.
+ *
+ * Rules with an ssurt or surt condition are indexed in a trie keyed on that
+ * condition, so only rules whose prefix actually occurs at the start of the
+ * URL's {@link ParsedUrl#ssurt()} or {@link ParsedUrl#surt()} are looked at,
+ * in time proportional to the length of the URL rather than the number of
+ * rules. Rules with neither but a domain condition are likewise indexed in a
+ * {@link DomainSet}. The substring conditions of all rules are compiled into
+ * a {@link SubstringSet}, and the regex and parentUrlRegex conditions into two
+ * {@link RegexSet}s, each matched in one pass over the URL or parent URL; rules
+ * with no other indexed condition are found through them. The candidates'
+ * other conditions are then checked as usual. Rules without conditions, which
+ * match everything, are the only ones checked one by one.
+ */
+public class MatchRuleSet {
+    private static final int[] NONE = new int[0];
+
+    private final MatchRule[] rules;
+    private final PrefixTrie ssurtTrie;
+    private final PrefixTrie surtTrie;
+    private final DomainSet domainSet;
+    private final int[] domainRules;
+    private final SubstringSet substringSet;
+    private final RegexSet regexSet;
+    private final RegexSet parentUrlRegexSet;
+    // rule id to the id of its condition in the substring and regex sets or -1, and back to the rule id for the
+    // rules indexed by them
+    private final int[] ruleSubstring;
+    private final int[] ruleRegex;
+    private final int[] ruleParentUrlRegex;
+    private final int[] substringIndexedRules;
+    private final int[] regexIndexedRules;
+    private final int[] parentUrlRegexIndexedRules;
+    private final int[] unindexed;
+
+    public MatchRuleSet(List<MatchRule> rules) {
+        this.rules = rules.toArray(new MatchRule[0]);
+        PrefixTrie.Builder ssurtTrie = new PrefixTrie.Builder();
+        PrefixTrie.Builder surtTrie = new PrefixTrie.Builder();
+        List<String> domains = new ArrayList<>();
+        IntList domainRules = new IntList();
+        List<String> substrings = new ArrayList<>();
+        List<String> regexes = new ArrayList<>();
+        List<String> parentUrlRegexes = new ArrayList<>();
+        ruleSubstring = new int[this.rules.length];
+        ruleRegex = new int[this.rules.length];
+        ruleParentUrlRegex = new int[this.rules.length];
+        substringIndexedRules = new int[this.rules.length];
+        regexIndexedRules = new int[this.rules.length];
+        parentUrlRegexIndexedRules = new int[this.rules.length];
+        IntList unindexed = new IntList();
+        for (int id = 0; id < this.rules.length; id++) {
+            MatchRule rule = this.rules[id];
+            ruleSubstring[id] = rule.getSubstring() == null ? -1 : substrings.size();
+            if (rule.getSubstring() != null) {
+                substringIndexedRules[substrings.size()] = -1;
+                substrings.add(rule.getSubstring());
+            }
+            ruleRegex[id] = rule.getRegex() == null ? -1 : regexes.size();
+            if (rule.getRegex() != null) {
+                regexIndexedRules[regexes.size()] = -1;
+                regexes.add(rule.getRegex());
+            }
+            ruleParentUrlRegex[id] = rule.getParentUrlRegex() == null ? -1 : parentUrlRegexes.size();
+            if (rule.getParentUrlRegex() != null) {
+                parentUrlRegexIndexedRules[parentUrlRegexes.size()] = -1;
+                parentUrlRegexes.add(rule.getParentUrlRegex());
+            }
+
+            if (rule.getSsurt() != null) {
+                ssurtTrie.add(rule.getSsurt(), id, rule.isExact());
+            } else if (rule.getSurt() != null) {
+                surtTrie.add(rule.getSurt(), id, rule.isExact());
+            } else if (rule.getDomain() != null) {
+                // exact rules are a subset of what the domain covers and are checked afterwards
+                domains.add(rule.getDomain());
+                domainRules.add(id);
+            } else if (rule.getSubstring() != null) {
+                substringIndexedRules[ruleSubstring[id]] = id;
+            } else if (rule.getRegex() != null) {
+                regexIndexedRules[ruleRegex[id]] = id;
+            } else if (rule.getParentUrlRegex() != null) {
+                parentUrlRegexIndexedRules[ruleParentUrlRegex[id]] = id;
+            } else {
+                unindexed.add(id);
+            }
+        }
+        this.substringSet = new SubstringSet(substrings);
+        this.regexSet = new RegexSet(regexes);
+        this.parentUrlRegexSet = new RegexSet(parentUrlRegexes);
+        this.ssurtTrie = ssurtTrie.build();
+        this.surtTrie = surtTrie.build();
+        this.domainSet = new DomainSet(domains);
+        this.domainRules = domainRules.toArray();
+        this.unindexed = unindexed.toArray();
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    public MatchRule get(int id) {
+        return rules[id];
+    }
+
+    public List<MatchRule> rules() {
+        return Collections.unmodifiableList(Arrays.asList(rules));
+    }
+
+    public int[] matches(ParsedUrl url) {
+        return matches(url, null);
+    }
+
+    /**
+     * Returns the ids of every rule that applies to the URL, in ascending
+     * order. Both URLs should normally have been canonicalized first.
+     *
+     * @param parentUrl the parent URL, needed by rules with a parentUrlRegex
+     */
+    public int[] matches(ParsedUrl url, String parentUrl) {
+        RuleTarget target = new RuleTarget(url, parentUrl);
+        BitSet substringHits = substringSet.size() == 0 ? new BitSet() : substringSet.matches(target.href());
+        int[] regexHits = regexSet.size() == 0 ? NONE : regexSet.matches(target.href());
+        int[] parentUrlRegexHits = parentUrlRegexSet.size() == 0 || parentUrl == null || parentUrl.isEmpty()
+                ? NONE : parentUrlRegexSet.matches(parentUrl);
+
+        IntList candidates = new IntList();
+        if (!ssurtTrie.isEmpty()) {
+            ssurtTrie.collect(target.ssurt(), candidates);
+        }
+        if (!surtTrie.isEmpty()) {
+            surtTrie.collect(target.surt(), candidates);
+        }
+        if (domainSet.size() > 0) {
+            for (int domainId : domainSet.matches(target.host())) {
+                candidates.add(domainRules[domainId]);
+            }
+        }
+        for (int substringId = substringHits.nextSetBit(0); substringId >= 0;
+                substringId = substringHits.nextSetBit(substringId + 1)) {
+            if (substringIndexedRules[substringId] != -1) {
+                candidates.add(substringIndexedRules[substringId]);
+            }
+        }
+        for (int regexId : regexHits) {
+            if (regexIndexedRules[regexId] != -1) {
+                candidates.add(regexIndexedRules[regexId]);
+            }
+        }
+        for (int regexId : parentUrlRegexHits) {
+            if (parentUrlRegexIndexedRules[regexId] != -1) {
+                candidates.add(parentUrlRegexIndexedRules[regexId]);
+            }
+        }
+
+        IntList matched = new IntList();
+        for (int i = 0; i < candidates.size(); i++) {
+            int id = candidates.get(i);
+            if (applies(id, target, substringHits, regexHits, parentUrlRegexHits)) {
+                matched.add(id);
+            }
+        }
+        for (int id : unindexed) {
+            if (applies(id, target, substringHits, regexHits, parentUrlRegexHits)) {
+                matched.add(id);
+            }
+        }
+        int[] result = matched.toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    private boolean applies(int id, RuleTarget target, BitSet substringHits, int[] regexHits,
+                            int[] parentUrlRegexHits) {
+        return rules[id].appliesToHostAndSurts(target)
+                && (ruleSubstring[id] == -1 || substringHits.get(ruleSubstring[id]))
+                && (ruleRegex[id] == -1 || Arrays.binarySearch(regexHits, ruleRegex[id]) >= 0)
+                && (ruleParentUrlRegex[id] == -1 || Arrays.binarySearch(parentUrlRegexHits, ruleParentUrlRegex[id]) >= 0);
+    }
+
+    /**
+     * The rules that apply to the URL, in order.
+     */
+    public List<MatchRule> matchingRules(ParsedUrl url, String parentUrl) {
+        int[] ids = matches(url, parentUrl);
+        List<MatchRule> list = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            list.add(rules[id]);
+        }
+        return list;
+    }
+}
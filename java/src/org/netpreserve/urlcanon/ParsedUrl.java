@@ -20,6 +20,8 @@
 
 package org.netpreserve.urlcanon;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -39,108 +41,111 @@ public class ParsedUrl {
         return map;
     }
 
-    private String leadingJunk;
-    private String trailingJunk;
-    private String scheme;
-    private String colonAfterScheme;
-    private String questionMark;
-    private String query;
-    private String hashSign;
-    private String fragment;
-    private String slashes;
-    private String path;
-    private String username;
-    private String colonBeforePassword;
-    private String password;
-    private String atSign;
-    private String host;
-    private String colonBeforePort;
-    private String port;
+    /*
+     * Component indexes, in the order the components appear in the
+     * formatted URL.
+     */
+    static final int LEADING_JUNK = 0;
+    static final int SCHEME = 1;
+    static final int COLON_AFTER_SCHEME = 2;
+    static final int SLASHES = 3;
+    static final int USERNAME = 4;
+    static final int COLON_BEFORE_PASSWORD = 5;
+    static final int PASSWORD = 6;
+    static final int AT_SIGN = 7;
+    static final int HOST = 8;
+    static final int COLON_BEFORE_PORT = 9;
+    static final int PORT = 10;
+    static final int PATH = 11;
+    static final int QUESTION_MARK = 12;
+    static final int QUERY = 13;
+    static final int HASH_SIGN = 14;
+    static final int FRAGMENT = 15;
+    static final int TRAILING_JUNK = 16;
+    static final int COMPONENTS = 17;
+
+    /**
+     * The input the URL was parsed from. Components which haven't been
+     * modified are stored as [start, end) offsets into this rather than as
+     * separate strings.
+     */
+    private CharSequence source = "";
+
+    /**
+     * Start and end offset into source of each component, indexed by
+     * component * 2.
+     */
+    private final int[] offsets = new int[COMPONENTS * 2];
+
+    /**
+     * Component strings which have been set explicitly or materialised by a
+     * getter. A null entry means the component's value is its range of
+     * source.
+     */
+    private final String[] values = new String[COMPONENTS];
 
     //-------------------------------------------------------------------------
     //region URL Parsing
     //-------------------------------------------------------------------------
 
-    ParsedUrl() {
+    /**
+     * Creates an empty URL. Use with {@link #parseInto} to reuse one instance
+     * for many URLs.
+     */
+    public ParsedUrl() {
     }
 
     /**
-     * Copy constructor.
+     * Copy constructor. The copy is independent of the original's input even
+     * if that was a mutable CharSequence passed to {@link #parseInto}.
      */
     public ParsedUrl(ParsedUrl parsedUrl) {
-        this.leadingJunk = parsedUrl.getLeadingJunk();
-        this.trailingJunk = parsedUrl.getTrailingJunk();
-        this.scheme = parsedUrl.getScheme();
-        this.colonAfterScheme = parsedUrl.getColonAfterScheme();
-        this.questionMark = parsedUrl.getQuestionMark();
-        this.query = parsedUrl.getQuery();
-        this.hashSign = parsedUrl.getHashSign();
-        this.fragment = parsedUrl.getFragment();
-        this.slashes = parsedUrl.getSlashes();
-        this.path = parsedUrl.getPath();
-        this.username = parsedUrl.getUsername();
-        this.colonBeforePassword = parsedUrl.getColonBeforePassword();
-        this.password = parsedUrl.getPassword();
-        this.atSign = parsedUrl.getAtSign();
-        this.host = parsedUrl.getHost();
-        this.colonBeforePort = parsedUrl.getColonBeforePort();
-        this.port = parsedUrl.getPort();
+        CharSequence source = parsedUrl.source;
+        // String and ByteString sources can be shared; anything else may be a buffer the caller reuses
+        this.source = source instanceof String || source instanceof ByteString ? source : source.toString();
+        System.arraycopy(parsedUrl.offsets, 0, offsets, 0, offsets.length);
+        System.arraycopy(parsedUrl.values, 0, values, 0, values.length);
     }
 
     private ParsedUrl(ParsedUrl base, ParsedUrl relative) {
-        leadingJunk = relative.leadingJunk;
-        trailingJunk = relative.trailingJunk;
-        scheme = relative.scheme;
-        colonAfterScheme = relative.colonAfterScheme;
-        questionMark = relative.questionMark;
-        query = relative.query;
-        hashSign = relative.hashSign;
-        fragment = relative.fragment;
-        slashes = relative.slashes;
-        path = relative.path;
-        username = relative.username;
-        colonBeforePassword = relative.colonBeforePassword;
-        password = relative.password;
-        atSign = relative.atSign;
-        host = relative.host;
-        colonBeforePort = relative.colonBeforePort;
-        port = relative.port;
-
-        if (!slashes.isEmpty()) {
-            if (scheme.isEmpty()) {
-                scheme = base.scheme;
+        this(relative);
+
+        if (!getSlashes().isEmpty()) {
+            if (getScheme().isEmpty()) {
+                setScheme(base.getScheme());
             }
             return;
         }
 
-        if (!scheme.isEmpty() && !scheme.equalsIgnoreCase(base.scheme)) {
+        if (!getScheme().isEmpty() && !getScheme().equalsIgnoreCase(base.getScheme())) {
             return;
         }
 
-        if (scheme.isEmpty() || scheme.equalsIgnoreCase(base.scheme)) {
-            scheme = base.scheme;
-            colonAfterScheme = base.colonAfterScheme;
-            username = base.username;
-            colonBeforePassword = base.colonBeforePassword;
-            password = base.password;
-            atSign = base.atSign;
-            host = base.host;
-            colonBeforePort = base.colonBeforePort;
-            port = base.port;
+        if (getScheme().isEmpty() || getScheme().equalsIgnoreCase(base.getScheme())) {
+            setScheme(base.getScheme());
+            setColonAfterScheme(base.getColonAfterScheme());
+            setUsername(base.getUsername());
+            setColonBeforePassword(base.getColonBeforePassword());
+            setPassword(base.getPassword());
+            setAtSign(base.getAtSign());
+            setHost(base.getHost());
+            setColonBeforePort(base.getColonBeforePort());
+            setPort(base.getPort());
         }
 
-        if (path.isEmpty() && !relative.host.isEmpty()) {
-            path = relative.host;
+        if (getPath().isEmpty() && !relative.getHost().isEmpty()) {
+            setPath(relative.getHost());
         }
 
-        if (path.isEmpty() || path.charAt(0) == '/') {
+        if (getPath().isEmpty() || getPath().charAt(0) == '/') {
             return;
         }
 
-        path = base.dirname() + path;
+        setPath(base.dirname() + getPath());
     }
 
     private String dirname() {
+        String path = getPath();
         for (int i = path.length() - 1; i >= 0; i--) {
             if (path.charAt(i) == '/') {
                 return path.substring(0, i + 1);
@@ -149,14 +154,44 @@ public class ParsedUrl {
         return "";
     }
 
+    /**
+     * Parse a URL from raw bytes. No charset decoding is done: each byte
+     * becomes the char with the same value (ISO-8859-1), like the Python port
+     * treats bytes. Canonicalizers percent-encode such URLs byte for byte, so
+     * {@code toString().getBytes(ISO_8859_1)} gives back the URL's bytes.
+     *
+     * The array is not copied and must not be modified while the URL is in use.
+     */
     public static ParsedUrl parseUrl(byte[] bytes) {
-        return parseUrl(new String(bytes));
+        return UrlParser.parseUrl(new ByteString(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Parse a URL from the remaining bytes of a buffer without changing its
+     * position. See {@link #parseUrl(byte[])}.
+     */
+    public static ParsedUrl parseUrl(ByteBuffer buffer) {
+        return UrlParser.parseUrl(ByteString.of(buffer));
     }
 
     public static ParsedUrl parseUrl(String input) {
         return UrlParser.parseUrl(input);
     }
 
+    /**
+     * Parse a URL into an existing ParsedUrl, replacing all of its components.
+     * This allows a single instance to be reused for a stream of URLs rather
+     * than allocating a new one for each. A char[] slice can be parsed by
+     * wrapping it with {@link java.nio.CharBuffer#wrap(char[], int, int)}.
+     *
+     * Components which haven't been read or modified still refer to the input,
+     * so if it is mutable (e.g. a reused StringBuilder) it must not be changed
+     * until the caller has finished with the URL.
+     */
+    public static void parseInto(ParsedUrl url, CharSequence input) {
+        UrlParser.parseInto(url, input);
+    }
+
     //-------------------------------------------------------------------------
     //endregion
     //-------------------------------------------------------------------------
@@ -167,23 +202,23 @@ public class ParsedUrl {
 
 
     public String toString() {
-        return leadingJunk
-                + scheme
-                + colonAfterScheme
-                + slashes
-                + username
-                + colonBeforePassword
-                + password
-                + atSign
-                + host
-                + colonBeforePort
-                + port
-                + path
-                + questionMark
-                + query
-                + hashSign
-                + fragment
-                + trailingJunk;
+        int length = 0;
+        for (int i = 0; i < COMPONENTS; i++) {
+            length += length(i);
+        }
+        StringBuilder buf = new StringBuilder(length);
+        appendTo(buf);
+        return buf.toString();
+    }
+
+    /**
+     * Appends the URL as {@link #toString()} formats it, for callers reusing
+     * a buffer.
+     */
+    void appendTo(StringBuilder buf) {
+        for (int i = 0; i < COMPONENTS; i++) {
+            appendTo(buf, i);
+        }
     }
 
     //-------------------------------------------------------------------------
@@ -198,23 +233,69 @@ public class ParsedUrl {
      * Format this URL with a field order suitable for sorting.
      */
     public String ssurt() {
-        return leadingJunk +
-                ssurtHost(host) +
-                slashes +
-                port +
-                colonBeforePort +
-                scheme +
-                atSign +
-                username +
-                colonBeforePassword +
-                password +
-                colonAfterScheme +
-                path +
-                questionMark +
-                query +
-                hashSign +
-                fragment +
-                trailingJunk;
+        String ssurtHost = ssurtHost(getHost());
+        int length = ssurtHost.length() - length(HOST);
+        for (int i = 0; i < COMPONENTS; i++) {
+            length += length(i);
+        }
+        StringBuilder buf = new StringBuilder(length);
+        appendSsurt(buf, ssurtHost);
+        return buf.toString();
+    }
+
+    /**
+     * Appends the URL as {@link #ssurt()} formats it, for callers reusing a
+     * buffer.
+     */
+    void appendSsurt(StringBuilder buf) {
+        appendSsurt(buf, ssurtHost(getHost()));
+    }
+
+    private void appendSsurt(StringBuilder buf, String ssurtHost) {
+        appendTo(buf, LEADING_JUNK);
+        buf.append(ssurtHost);
+        appendTo(buf, SLASHES);
+        appendTo(buf, PORT);
+        appendTo(buf, COLON_BEFORE_PORT);
+        appendTo(buf, SCHEME);
+        appendTo(buf, AT_SIGN);
+        appendTo(buf, USERNAME);
+        appendTo(buf, COLON_BEFORE_PASSWORD);
+        appendTo(buf, PASSWORD);
+        appendTo(buf, COLON_AFTER_SCHEME);
+        appendTo(buf, PATH);
+        appendTo(buf, QUESTION_MARK);
+        appendTo(buf, QUERY);
+        appendTo(buf, HASH_SIGN);
+        appendTo(buf, FRAGMENT);
+        appendTo(buf, TRAILING_JUNK);
+    }
+
+    /**
+     * Format this URL as a Heritrix-style SURT, for example
+     * "http://(com,example,www,)/foo". Userinfo is left out.
+     */
+    public String surt() {
+        StringBuilder buf = new StringBuilder(length(LEADING_JUNK) + length(SCHEME) + length(HOST) + length(PATH)
+                + length(QUERY) + length(FRAGMENT) + 16);
+        appendTo(buf, LEADING_JUNK);
+        appendTo(buf, SCHEME);
+        appendTo(buf, COLON_AFTER_SCHEME);
+        appendTo(buf, SLASHES);
+        if (length(HOST) > 0) {
+            buf.append('(');
+            buf.append(ssurtHost(getHost()));
+            appendTo(buf, COLON_BEFORE_PORT);
+            appendTo(buf, PORT);
+            buf.append(')');
+        }
+        appendTo(buf, PATH);
+        appendTo(buf, QUESTION_MARK);
+        appendTo(buf, QUERY);
+        appendTo(buf, HASH_SIGN);
+        appendTo(buf, FRAGMENT);
+        appendTo(buf, TRAILING_JUNK);
+        return buf.toString();
     }
 
     /**
@@ -223,9 +304,7 @@ public class ParsedUrl {
     static String ssurtHost(String host) {
         if (host.isEmpty()) {
             return host;
-        } else if (host.charAt(0) == '[') {
-            return host;
-        } else if (IpAddresses.parseIpv4(host) != -1) {
+        } else if (IpAddresses.classify(host, 0, host.length()) != IpAddresses.DOMAIN) {
             return host;
         } else {
             return reverseHost(host);
@@ -262,7 +341,105 @@ public class ParsedUrl {
     //-------------------------------------------------------------------------
 
     String hostPort() {
-        return host + colonBeforePort + port;
+        return getHost() + getColonBeforePort() + getPort();
+    }
+
+    //-------------------------------------------------------------------------
+    //endregion
+    //-------------------------------------------------------------------------
+
+    //-------------------------------------------------------------------------
+    //region Component Storage
+    //-------------------------------------------------------------------------
+
+    /**
+     * Resets every component to the empty string and releases the reference to
+     * the input this URL was parsed from.
+     */
+    public void reset() {
+        source = "";
+        Arrays.fill(offsets, 0);
+        Arrays.fill(values, null);
+    }
+
+    /**
+     * Replaces the source of this URL. Any component which has not been set
+     * explicitly must be set again with {@link #setRange} afterwards.
+     */
+    void setSource(CharSequence source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Sets a component to the range [start, end) of s. When s is the source of
+     * this URL only the offsets are recorded and no string is created.
+     */
+    void setRange(int component, CharSequence s, int start, int end) {
+        if (s == source) {
+            offsets[component * 2] = start;
+            offsets[component * 2 + 1] = end;
+            values[component] = null;
+        } else {
+            values[component] = s.subSequence(start, end).toString();
+        }
+    }
+
+    /**
+     * True if this URL was parsed from raw bytes, in which case each char of
+     * each component holds one byte.
+     */
+    boolean hasByteSource() {
+        return source instanceof ByteString;
+    }
+
+    /**
+     * The chars holding a component's value, between {@link #start} and
+     * {@link #end}. Lets a component be read without creating a string.
+     */
+    CharSequence chars(int component) {
+        String value = values[component];
+        return value != null ? value : source;
+    }
+
+    int start(int component) {
+        return values[component] != null ? 0 : offsets[component * 2];
+    }
+
+    int end(int component) {
+        String value = values[component];
+        return value != null ? value.length() : offsets[component * 2 + 1];
+    }
+
+    String get(int component) {
+        String value = values[component];
+        if (value == null) {
+            int start = offsets[component * 2];
+            int end = offsets[component * 2 + 1];
+            value = start == end ? "" : source.subSequence(start, end).toString();
+            values[component] = value;
+        }
+        return value;
+    }
+
+    private void set(int component, String value) {
+        values[component] = Objects.requireNonNull(value);
+    }
+
+    private int length(int component) {
+        String value = values[component];
+        if (value != null) {
+            return value.length();
+        }
+        return offsets[component * 2 + 1] - offsets[component * 2];
+    }
+
+    private void appendTo(StringBuilder buf, int component) {
+        String value = values[component];
+        if (value != null) {
+            buf.append(value);
+        } else {
+            buf.append(source, offsets[component * 2], offsets[component * 2 + 1]);
+        }
     }
 
     //-------------------------------------------------------------------------
@@ -274,139 +451,139 @@ public class ParsedUrl {
     //-------------------------------------------------------------------------
 
     public String getLeadingJunk() {
-        return leadingJunk;
+        return get(LEADING_JUNK);
     }
 
     public void setLeadingJunk(String leadingJunk) {
-        this.leadingJunk = Objects.requireNonNull(leadingJunk);
+        set(LEADING_JUNK, leadingJunk);
     }
 
     public String getTrailingJunk() {
-        return trailingJunk;
+        return get(TRAILING_JUNK);
     }
 
     public void setTrailingJunk(String trailingJunk) {
-        this.trailingJunk = Objects.requireNonNull(trailingJunk);
+        set(TRAILING_JUNK, trailingJunk);
     }
 
     public String getScheme() {
-        return scheme;
+        return get(SCHEME);
     }
 
     public void setScheme(String scheme) {
-        this.scheme = Objects.requireNonNull(scheme);
+        set(SCHEME, scheme);
     }
 
     public String getColonAfterScheme() {
-        return colonAfterScheme;
+        return get(COLON_AFTER_SCHEME);
     }
 
     public void setColonAfterScheme(String colonAfterScheme) {
-        this.colonAfterScheme = Objects.requireNonNull(colonAfterScheme);
+        set(COLON_AFTER_SCHEME, colonAfterScheme);
     }
 
     public String getQuestionMark() {
-        return questionMark;
+        return get(QUESTION_MARK);
     }
 
     public void setQuestionMark(String questionMark) {
-        this.questionMark = Objects.requireNonNull(questionMark);
+        set(QUESTION_MARK, questionMark);
     }
 
     public String getQuery() {
-        return query;
+        return get(QUERY);
     }
 
     public void setQuery(String query) {
-        this.query = Objects.requireNonNull(query);
+        set(QUERY, query);
     }
 
     public String getHashSign() {
-        return hashSign;
+        return get(HASH_SIGN);
     }
 
     public void setHashSign(String hashSign) {
-        this.hashSign = Objects.requireNonNull(hashSign);
+        set(HASH_SIGN, hashSign);
     }
 
     public String getFragment() {
-        return fragment;
+        return get(FRAGMENT);
     }
 
     public void setFragment(String fragment) {
-        this.fragment = Objects.requireNonNull(fragment);
+        set(FRAGMENT, fragment);
     }
 
     public String getSlashes() {
-        return slashes;
+        return get(SLASHES);
     }
 
     public void setSlashes(String slashes) {
-        this.slashes = Objects.requireNonNull(slashes);
+        set(SLASHES, slashes);
     }
 
     public String getPath() {
-        return path;
+        return get(PATH);
     }
 
     public void setPath(String path) {
-        this.path = Objects.requireNonNull(path);
+        set(PATH, path);
     }
 
     public String getUsername() {
-        return username;
+        return get(USERNAME);
     }
 
     public void setUsername(String username) {
-        this.username = Objects.requireNonNull(username);
+        set(USERNAME, username);
     }
 
     public String getColonBeforePassword() {
-        return colonBeforePassword;
+        return get(COLON_BEFORE_PASSWORD);
     }
 
     public void setColonBeforePassword(String colonBeforePassword) {
-        this.colonBeforePassword = Objects.requireNonNull(colonBeforePassword);
+        set(COLON_BEFORE_PASSWORD, colonBeforePassword);
     }
 
     public String getPassword() {
-        return password;
+        return get(PASSWORD);
     }
 
     public void setPassword(String password) {
-        this.password = Objects.requireNonNull(password);
+        set(PASSWORD, password);
     }
 
     public String getAtSign() {
-        return atSign;
+        return get(AT_SIGN);
     }
 
     public void setAtSign(String atSign) {
-        this.atSign = Objects.requireNonNull(atSign);
+        set(AT_SIGN, atSign);
     }
 
     public String getHost() {
-        return host;
+        return get(HOST);
     }
 
     public void setHost(String host) {
-        this.host = Objects.requireNonNull(host);
+        set(HOST, host);
     }
 
     public String getColonBeforePort() {
-        return colonBeforePort;
+        return get(COLON_BEFORE_PORT);
     }
 
     public void setColonBeforePort(String colonBeforePort) {
-        this.colonBeforePort = Objects.requireNonNull(colonBeforePort);
+        set(COLON_BEFORE_PORT, colonBeforePort);
     }
 
     public String getPort() {
-        return port;
+        return get(PORT);
     }
 
     public void setPort(String port) {
-        this.port = Objects.requireNonNull(port);
+        set(PORT, port);
     }
 
     public ParsedUrl resolve(ParsedUrl relative) {
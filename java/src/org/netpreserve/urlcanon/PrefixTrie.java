@@ -0,0 +1,132 @@
+package org.netpreserve.urlcanon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A char trie mapping string keys to int values, compiled into flat arrays.
+ * Each value is either a prefix value, reported for every string the key is
+ * a prefix of, or an exact value, reported only for the key itself. Looking
+ * up a string walks it once, so costs time proportional to its length
+ * however many keys there are.
+ *
+ * Node n's edges are labels[edgeStart[n]] to labels[edgeStart[n + 1] - 1],
+ * sorted for binary search, leading to targets[...]. Its values are laid
+ * out the same way in values, prefix values first.
+ */
+class PrefixTrie {
+    private final int[] edgeStart;
+    private final char[] labels;
+    private final int[] targets;
+    private final int[] valueStart;
+    private final int[] exactStart;
+    private final int[] values;
+
+    private PrefixTrie(int[] edgeStart, char[] labels, int[] targets, int[] valueStart, int[] exactStart,
+                       int[] values) {
+        this.edgeStart = edgeStart;
+        this.labels = labels;
+        this.targets = targets;
+        this.valueStart = valueStart;
+        this.exactStart = exactStart;
+        this.values = values;
+    }
+
+    /**
+     * Adds the values of every key that is a prefix of s (or equal to s, for
+     * exact values) to out.
+     */
+    void collect(CharSequence s, IntList out) {
+        int node = 0;
+        for (int i = 0; ; i++) {
+            for (int j = valueStart[node]; j < exactStart[node]; j++) {
+                out.add(values[j]);
+            }
+            if (i == s.length()) {
+                for (int j = exactStart[node]; j < valueStart[node + 1]; j++) {
+                    out.add(values[j]);
+                }
+                return;
+            }
+            node = child(node, s.charAt(i));
+            if (node == -1) {
+                return;
+            }
+        }
+    }
+
+    private int child(int node, char c) {
+        int lo = edgeStart[node];
+        int hi = edgeStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                lo = mid + 1;
+            } else if (label > c) {
+                hi = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return -1;
+    }
+
+    boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    int nodeCount() {
+        return edgeStart.length - 1;
+    }
+
+    static class Builder {
+        private final Map<String, Values> entries = new TreeMap<>();
+
+        void add(String key, int value, boolean exact) {
+            Values v = entries.computeIfAbsent(key, k -> new Values());
+            (exact ? v.exact : v.prefix).add(value);
+        }
+
+        /**
+         * Compiles the keys breadth first from their sorted order, see
+         * {@link TrieLayout}.
+         */
+        PrefixTrie build() {
+            int n = entries.size();
+            String[] keys = entries.keySet().toArray(new String[n]);
+            Values[] keyValues = entries.values().toArray(new Values[n]);
+
+            IntList valueStart = new IntList();
+            IntList exactStart = new IntList();
+            IntList values = new IntList();
+            TrieLayout layout = TrieLayout.ofStrings(keys, (node, lo, hi) -> {
+                valueStart.add(values.size());
+                for (int i = lo; i < hi; i++) {
+                    addAll(values, keyValues[i].prefix);
+                }
+                exactStart.add(values.size());
+                for (int i = lo; i < hi; i++) {
+                    addAll(values, keyValues[i].exact);
+                }
+            });
+            valueStart.add(values.size());
+
+            return new PrefixTrie(layout.edgeStart, layout.charLabels(), layout.targets, valueStart.toArray(),
+                    exactStart.toArray(), values.toArray());
+        }
+
+        private static void addAll(IntList list, List<Integer> values) {
+            for (int value : values) {
+                list.add(value);
+            }
+        }
+
+        private static class Values {
+            final List<Integer> prefix = new ArrayList<>(1);
+            final List<Integer> exact = new ArrayList<>(1);
+        }
+    }
+}
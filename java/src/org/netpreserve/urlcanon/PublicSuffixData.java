@@ -0,0 +1,1501 @@
+package org.netpreserve.urlcanon;
+
+/**
+ * The Public Suffix List (https://publicsuffix.org/) compiled into the arrays
+ * of {@link PublicSuffixes}. Generated by {@link PublicSuffixes#main}, do not
+ * edit. The list is subject to the Mozilla Public License, v. 2.0, a copy of
+ * which can be obtained at https://mozilla.org/MPL/2.0/.
+ */
+class PublicSuffixData {
+    static final String[] LABELS = {
+            "aaa.aarp.abarth.abb.abbott.abbvie.abc.able.abogado.abudhabi.ac.academy.accenture.accountant.accounta"
+            + "nts.aco.actor.ad.ads.adult.ae.aeg.aero.aetna.af.afl.africa.ag.agakhan.agency.ai.aig.airbus.airforce."
+            + "airtel.akdn.al.alfaromeo.alibaba.alipay.allfinanz.allstate.ally.alsace.alstom.am.amazon.americanexpr"
+            + "ess.americanfamily.amex.amfam.amica.amsterdam.analytics.android.anquan.anz.ao.aol.apartments.app.app"
+            + "le.aq.aquarelle.ar.arab.aramco.archi.army.arpa.art.arte.as.asda.asia.associates.at.athleta.attorney."
+            + "au.auction.audi.audible.audio.auspost.author.auto.autos.avianca.aw.aws.ax.axa.az.azure.ba.baby.baidu"
+            + ".banamex.bananarepublic.band.bank.bar.barcelona.barclaycard.barclays.barefoot.bargains.baseball.bask"
+            + "etball.bauhaus.bayern.bb.bbc.bbt.bbva.bcg.bcn.bd.be.beats.beauty.beer.bentley.berlin.best.bestbuy.be"
+            + "t.bf.bg.bh.bharti.bi.bible.bid.bike.bing.bingo.bio.biz.bj.black.blackfriday.blockbuster.blog.bloombe"
+            + "rg.blue.bm.bms.bmw.bn.bnpparibas.bo.boats.boehringer.bofa.bom.bond.boo.book.booking.bosch.bostik.bos"
+            + "ton.bot.boutique.box.br.bradesco.bridgestone.broadway.broker.brother.brussels.bs.bt.build.builders.b"
+            + "usiness.buy.buzz.bv.bw.by.bz.bzh.ca.cab.cafe.cal.call.calvinklein.cam.camera.camp.canon.capetown.cap"
+            + "ital.capitalone.car.caravan.cards.care.career.careers.cars.casa.case.cash.casino.cat.catering.cathol"
+            + "ic.cba.cbn.cbre.cbs.cc.cd.center.ceo.cern.cf.cfa.cfd.cg.ch.chanel.channel.charity.chase.chat.cheap.c"
+            + "hintai.christmas.chrome.church.ci.cipriani.circle.cisco.citadel.citi.citic.city.cityeats.ck.cl.claim"
+            + "s.cleaning.click.clinic.clinique.clothing.cloud.club.clubmed.cm.cn.co.coach.codes.coffee.college.col"
+            + "ogne.com.comcast.commbank.community.company.compare.computer.comsec.condos.construction.consulting.c"
+            + "ontact.contractors.cooking.cookingchannel.cool.coop.corsica.country.coupon.coupons.courses.cpa.cr.cr"
+            + "edit.creditcard.creditunion.cricket.crown.crs.cruise.cruises.cu.cuisinella.cv.cw.cx.cy.cymru.cyou.cz"
+            + ".dabur.dad.dance.data.date.dating.datsun.day.dclk.dds.de.deal.dealer.deals.degree.delivery.dell.delo"
+            + "itte.delta.democrat.dental.dentist.desi.design.dev.dhl.diamonds.diet.digital.direct.directory.discou"
+            + "nt.discover.dish.diy.dj.dk.dm.dnp.do.docs.doctor.dog.domains.dot.download.drive.dtv.dubai.dunlop.dup"
+            + "ont.durban.dvag.dvr.dz.earth.eat.ec.eco.edeka.edu.education.ee.eg.email.emerck.energy.engineer.engin"
+            + "eering.enterprises.epson.equipment.er.ericsson.erni.es.esq.estate.et.etisalat.eu.eurovision.eus.even"
+            + "ts.exchange.expert.exposed.express.extraspace.fage.fail.fairwinds.faith.family.fan.fans.farm.farmers"
+            + ".fashion.fast.fedex.feedback.ferrari.ferrero.fi.fiat.fidelity.fido.film.final.finance.financial.fire"
+            + ".firestone.firmdale.fish.fishing.fit.fitness.fj.fk.flickr.flights.flir.florist.flowers.fly.fm.fo.foo"
+            + ".food.foodnetwork.football.ford.forex.forsale.forum.foundation.fox.fr.free.fresenius.frl.frogans.fro"
+            + "ntdoor.frontier.ftr.fujitsu.fun.fund.furniture.futbol.fyi.ga.gal.gallery.gallo.gallup.game.games.gap"
+            + ".garden.gay.gb.gbiz.gd.gdn.ge.gea.gent.genting.george.gf.gg.ggee.gh.gi.gift.gifts.gives.giving.gl.gl"
+            + "ass.gle.global.globo.gm.gmail.gmbh.gmo.gmx.gn.godaddy.gold.goldpoint.golf.goo.goodyear.goog.google.g"
+            + "op.got.gov.gp.gq.gr.grainger.graphics.gratis.green.gripe.grocery.group.gs.gt.gu.guardian.gucci.guge."
+            + "guide.guitars.guru.gw.gy.hair.hamburg.hangout.haus.hbo.hdfc.hdfcbank.health.healthcare.help.helsinki"
+            + ".here.hermes.hgtv.hiphop.hisamitsu.hitachi.hiv.hk.hkt.hm.hn.hockey.holdings.holiday.homedepot.homego"
+            + "ods.homes.homesense.honda.horse.hospital.host.hosting.hot.hoteles.hotels.hotmail.house.how.hr.hsbc.h"
+            + "t.hu.hughes.hyatt.hyundai.ibm.icbc.ice.icu.id.ie.ieee.ifm.ikano.il.im.imamat.imdb.immo.immobilien.in"
+            + ".inc.industries.infiniti.info.ing.ink.institute.insurance.insure.int.international.intuit.investment"
+            + "s.io.ipiranga.iq.ir.irish.is.ismaili.ist.istanbul.it.itau.itv.jaguar.java.jcb.je.jeep.jetzt.jewelry."
+            + "jio.jll.jm.jmp.jnj.jo.jobs.joburg.jot.joy.jp.jpmorgan.jprs.juegos.juniper.kaufen.kddi.ke.kerryhotels"
+            + ".kerrylogistics.kerryproperties.kfh.kg.kh.ki.kia.kids.kim.kinder.kindle.kitchen.kiwi.km.kn.koeln.kom"
+            + "atsu.kosher.kp.kpmg.kpn.kr.krd.kred.kuokgroup.kw.ky.kyoto.kz.la.lacaixa.lamborghini.lamer.lancaster."
+            + "lancia.land.landrover.lanxess.lasalle.lat.latino.latrobe.law.lawyer.lb.lc.lds.lease.leclerc.lefrak.l"
+            + "egal.lego.lexus.lgbt.li.lidl.life.lifeinsurance.lifestyle.lighting.like.lilly.limited.limo.lincoln.l"
+            + "inde.link.lipsy.live.living.lk.llc.llp.loan.loans.locker.locus.lol.london.lotte.lotto.love.lpl.lplfi"
+            + "nancial.lr.ls.lt.ltd.ltda.lu.lundbeck.luxe.luxury.lv.ly.ma.macys.madrid.maif.maison.makeup.man.manag"
+            + "ement.mango.map.market.marketing.markets.marriott.marshalls.maserati.mattel.mba.mc.mckinsey.md.me.me"
+            + "d.media.meet.melbourne.meme.memorial.men.menu.merckmsd.mg.mh.miami.microsoft.mil.mini.mint.mit.mitsu"
+            + "bishi.mk.ml.mlb.mls.mm.mma.mn.mo.mobi.mobile.moda.moe.moi.mom.monash.money.monster.mormon.mortgage.m"
+            + "oscow.moto.motorcycles.mov.movie.mp.mq.mr.ms.msd.mt.mtn.mtr.mu.museum.music.mutual.mv.mw.mx.my.mz.na"
+            + ".nab.nagoya.name.natura.navy.nba.nc.ne.nec.net.netbank.netflix.network.neustar.new.news.next.nextdir"
+            + "ect.nexus.nf.nfl.ng.ngo.nhk.ni.nico.nike.nikon.ninja.nissan.nissay.nl.no.nokia.northwesternmutual.no"
+            + "rton.now.nowruz.nowtv.np.nr.nra.nrw.ntt.nu.nyc.nz.obi.observer.office.okinawa.olayan.olayangroup.old"
+            + "navy.ollo.om.omega.one.ong.onion.onl.online.ooo.open.oracle.orange.org.organic.origins.osaka.otsuka."
+            + "ott.ovh.pa.page.panasonic.paris.pars.partners.parts.party.passagens.pay.pccw.pe.pet.pf.pfizer.pg.ph."
+            + "pharmacy.phd.philips.phone.photo.photography.photos.physio.pics.pictet.pictures.pid.pin.ping.pink.pi"
+            + "oneer.pizza.pk.pl.place.play.playstation.plumbing.plus.pm.pn.pnc.pohl.poker.politie.porn.post.pr.pra"
+            + "merica.praxi.press.prime.pro.prod.productions.prof.progressive.promo.properties.property.protection."
+            + "pru.prudential.ps.pt.pub.pw.pwc.py.qa.qpon.quebec.quest.racing.radio.re.read.realestate.realtor.real"
+            + "ty.recipes.red.redstone.redumbrella.rehab.reise.reisen.reit.reliance.ren.rent.rentals.repair.report."
+            + "republican.rest.restaurant.review.reviews.rexroth.rich.richardli.ricoh.ril.rio.rip.ro.rocher.rocks.r"
+            + "odeo.rogers.room.rs.rsvp.ru.rugby.ruhr.run.rw.rwe.ryukyu.sa.saarland.safe.safety.sakura.sale.salon.s"
+            + "amsclub.samsung.sandvik.sandvikcoromant.sanofi.sap.sarl.sas.save.saxo.sb.sbi.sbs.sc.sca.scb.schaeffl"
+            + "er.schmidt.scholarships.school.schule.schwarz.science.scot.sd.se.search.seat.secure.security.seek.se"
+            + "lect.sener.services.seven.sew.sex.sexy.sfr.sg.sh.shangrila.sharp.shaw.shell.shia.shiksha.shoes.shop."
+            + "shopping.shouji.show.showtime.si.silk.sina.singles.site.sj.sk.ski.skin.sky.skype.sl.sling.sm.smart.s"
+            + "mile.sn.sncf.so.soccer.social.softbank.software.sohu.solar.solutions.song.sony.soy.spa.space.sport.s"
+            + "pot.sr.srl.ss.st.stada.staples.star.statebank.statefarm.stc.stcgroup.stockholm.storage.store.stream."
+            + "studio.study.style.su.sucks.supplies.supply.support.surf.surgery.suzuki.sv.swatch.swiss.sx.sy.sydney"
+            + ".systems.sz.tab.taipei.talk.taobao.target.tatamotors.tatar.tattoo.tax.taxi.tc.tci.td.tdk.team.tech.t"
+            + "echnology.tel.temasek.tennis.teva.tf.tg.th.thd.theater.theatre.tiaa.tickets.tienda.tiffany.tips.tire"
+            + "s.tirol.tj.tjmaxx.tjx.tk.tkmaxx.tl.tm.tmall.tn.to.today.tokyo.tools.top.toray.toshiba.total.tours.to"
+            + "wn.toyota.toys.tr.trade.trading.training.travel.travelchannel.travelers.travelersinsurance.trust.trv"
+            + ".tt.tube.tui.tunes.tushu.tv.tvs.tw.tz.ua.ubank.ubs.ug.uk.unicom.university.uno.uol.ups.us.uy.uz.va.v"
+            + "acations.vana.vanguard.vc.ve.vegas.ventures.verisign.versicherung.vet.vg.vi.viajes.video.vig.viking."
+            + "villas.vin.vip.virgin.visa.vision.viva.vivo.vlaanderen.vn.vodka.volkswagen.volvo.vote.voting.voto.vo"
+            + "yage.vu.vuelos.wales.walmart.walter.wang.wanggou.watch.watches.weather.weatherchannel.webcam.weber.w"
+            + "ebsite.wedding.weibo.weir.wf.whoswho.wien.wiki.williamhill.win.windows.wine.winners.wme.wolterskluwe"
+            + "r.woodside.work.works.world.wow.ws.wtc.wtf.xbox.xerox.xfinity.xihuan.xin.xn--11b4c3d.xn--1ck2e1b.xn-"
+            + "-1qqw23a.xn--2scrj9c.xn--30rr7y.xn--3bst00m.xn--3ds443g.xn--3e0b707e.xn--3hcrj9c.xn--3pxu8k.xn--42c2"
+            + "d9a.xn--45br5cyl.xn--45brj9c.xn--45q11c.xn--4dbrk0ce.xn--4gbrim.xn--54b7fta0cc.xn--55qw42g.xn--55qx5"
+            + "d.xn--5su34j936bgsg.xn--5tzm5g.xn--6frz82g.xn--6qq986b3xl.xn--80adxhks.xn--80ao21a.xn--80aqecdr1a.xn"
+            + "--80asehdb.xn--80aswg.xn--8y0a063a.xn--90a3ac.xn--90ae.xn--90ais.xn--9dbq2a.xn--9et52u.xn--9krt00a.x"
+            + "n--b4w605ferd.xn--bck1b9a5dre4c.xn--c1avg.xn--c2br7g.xn--cck2b3b.xn--cckwcxetd.xn--cg4bki.xn--clchc0"
+            + "ea0b2g2a9gcd.xn--czr694b.xn--czrs0t.xn--czru2d.xn--d1acj3b.xn--d1alf.xn--e1a4c.xn--eckvdtc9d.xn--efv"
+            + "y88h.xn--fct429k.xn--fhbei.xn--fiq228c5hs.xn--fiq64b.xn--fiqs8s.xn--fiqz9s.xn--fjq720a.xn--flw351e.x"
+            + "n--fpcrj9c3d.xn--fzc2c9e2c.xn--fzys8d69uvgm.xn--g2xx48c.xn--gckr3f0f.xn--gecrj9c.xn--gk3at1e.xn--h2b"
+            + "reg3eve.xn--h2brj9c.xn--h2brj9c8c.xn--hxt814e.xn--i1b6b1a6a2e.xn--imr513n.xn--io0a7i.xn--j1aef.xn--j"
+            + "1amh.xn--j6w193g.xn--jlq480n2rg.xn--jvr189m.xn--kcrx77d1x4a.xn--kprw13d.xn--kpry57d.xn--kput3i.xn--l"
+            + "1acc.xn--lgbbat1ad8j.xn--mgb2ddes.xn--mgb9awbf.xn--mgba3a3ejt.xn--mgba3a4f16a.xn--mgba3a4fra.xn--mgb"
+            + "a7c0bbn0a.xn--mgbaakc7dvf.xn--mgbaam7a8h.xn--mgbab2bd.xn--mgbah1a3hjkrd.xn--mgbai9a5eva00b.xn--mgbai"
+            + "9azgqp6j.xn--mgbayh7gpa.xn--mgbbh1a.xn--mgbbh1a71e.xn--mgbc0a9azcg.xn--mgbca7dzdo.xn--mgbcpq6gpa1a.x"
+            + "n--mgberp4a5d4a87g.xn--mgberp4a5d4ar.xn--mgbgu82a.xn--mgbi4ecexp.xn--mgbpl2fh.xn--mgbqly7c0a67fbc.xn"
+            + "--mgbqly7cvafr.xn--mgbt3dhd.xn--mgbtf8fl.xn--mgbtx2b.xn--mgbx4cd0ab.xn--mix082f.xn--mix891f.xn--mk1b"
+            + "u44c.xn--mxtq1m.xn--ngbc5azd.xn--ngbe9e0a.xn--ngbrx.xn--nnx388a.xn--node.xn--nqv7f.xn--nqv7fs00ema.x"
+            + "n--nyqy26a.xn--o3cw4h.xn--ogbpf8fl.xn--otu796d.xn--p1acf.xn--p1ai.xn--pgbs0dh.xn--pssy2u.xn--q7ce6a."
+            + "xn--q9jyb4c.xn--qcka1pmc.xn--qxa6a.xn--qxam.xn--rhqv96g.xn--rovu88b.xn--rvc1e0am3e.xn--s9brj9c.xn--s"
+            + "es554g.xn--t60b56a.xn--tckwe.xn--tiq49xqyj.xn--unup4y.xn--vermgensberater-ctb.xn--vermgensberatung-p"
+            + "wb.xn--vhquv.xn--vuq861b.xn--w4r85el8fhu5dnra.xn--w4rs40l.xn--wgbh1c.xn--wgbl6a.xn--xhq521b.xn--xkc2"
+            + "al3hye2a.xn--xkc2dl3a5ee0h.xn--y9a3aq.xn--yfro4i67o.xn--ygbi2ammx.xn--zfr164b.xxx.xyz.yachts.yahoo.y"
+            + "amaxun.yandex.ye.yodobashi.yoga.yokohama.you.youtube.yt.yun.za.zappos.zara.zero.zip.zm.zone.zuerich.",
+            "zw.com.drr.edu.gov.mil.net.org.official.nom.ac.blogspot.co.gov.mil.net.org.sch.accident-investigatio"
+            + "n.accident-prevention.aerobatic.aeroclub.aerodrome.agents.air-surveillance.air-traffic-control.aircr"
+            + "aft.airline.airport.airtraffic.ambulance.amusement.association.author.ballooning.broker.caa.cargo.ca"
+            + "tering.certification.championship.charter.civilaviation.club.conference.consultant.consulting.contro"
+            + "l.council.crew.design.dgca.educator.emergency.engine.engineer.entertainment.equipment.exchange.expre"
+            + "ss.federation.flight.fuel.gliding.government.groundhandling.group.hanggliding.homebuilt.insurance.jo"
+            + "urnal.journalist.leasing.logistics.magazine.maintenance.media.microlight.modelling.navigation.parach"
+            + "uting.paragliding.passenger-association.pilot.press.production.recreation.repbody.res.research.rotor"
+            + "craft.safety.scientist.services.show.skydiving.software.student.trader.trading.trainer.union.working"
+            + "group.works.com.edu.gov.net.org.co.com.net.nom.org.com.net.off.org.uwu.blogspot.com.edu.gov.mil.net."
+            + "org.blogspot.co.com.commune.neko.net.nyaa.org.radio.co.ed.gv.it.og.pb.beget.bookonline.clerk.clerkst"
+            + "age.deta.developer.easypanel.edgecompute.encr.fireweb.framer.hasura.loginline.messerli.netlify.noop."
+            + "northflank.ondigitalocean.onflashdrive.platform0.run.snowflake.streamlit.telebit.typedream.vercel.we"
+            + "b.wnext.bet.com.coop.edu.gob.gov.int.mil.musica.mutual.net.org.senasa.tur.e164.in-addr.ip6.iris.uri."
+            + "urn.gov.cloudns.123webseite.12hp.2ix.4lima.ac.biz.co.funkfeuer.futurecms.futurehosting.futuremailing"
+            + ".gv.info.lima-city.myspreadshop.or.ortsinfo.priv.act.asn.com.conf.edu.gov.id.info.net.nsw.nt.org.oz."
+            + "qld.sa.tas.vic.wa.com.be.cat.es.eu.gg.mc.us.xy.biz.com.edu.gov.info.int.mil.name.net.org.pp.pro.blog"
+            + "spot.com.edu.gov.mil.net.org.rs.aus.nz.biz.co.com.edu.gov.info.net.org.store.tv.123website.ac.blogsp"
+            + "ot.interhostsolutions.kuleuven.myspreadshop.transurl.webhosting.gov.0.1.2.3.4.5.6.7.8.9.a.b.barsy.bl"
+            + "ogspot.c.d.e.f.g.h.i.j.k.l.m.n.o.p.q.r.s.t.u.v.w.x.y.z.com.edu.gov.net.org.co.com.edu.or.org.activet"
+            + "rail.cloudns.dscloud.dyndns.for-better.for-more.for-some.for-the.jozi.mmafan.myftp.no-ip.orx.selfip."
+            + "webhop.africa.agro.architectes.assur.avocats.blogspot.co.com.eco.econo.edu.info.loisirs.money.net.or"
+            + "g.ote.restaurant.resto.tourism.univ.com.edu.gov.net.org.co.com.edu.gov.net.org.academia.agro.arte.bl"
+            + "og.bolivia.ciencia.com.cooperativa.democracia.deporte.ecologia.economia.edu.empresa.gob.indigena.ind"
+            + "ustria.info.int.medicina.mil.movimiento.musica.natural.net.nombre.noticias.org.patria.plurinacional."
+            + "politica.profesional.pueblo.revista.salud.tecnologia.tksat.transporte.tv.web.wiki.9guacu.abc.adm.adv"
+            + ".agr.aju.am.anani.aparecida.app.arq.art.ato.b.barueri.belem.bhz.bib.bio.blog.bmd.boavista.bsb.campin"
+            + "agrande.campinas.caxias.cim.cng.cnt.com.contagem.coop.coz.cri.cuiaba.curitiba.def.des.det.dev.ecn.ec"
+            + "o.edu.emp.enf.eng.esp.etc.eti.far.feira.flog.floripa.fm.fnd.fortal.fot.foz.fst.g12.geo.ggf.goiania.g"
+            + "ov.gru.imb.ind.inf.jab.jampa.jdf.joinville.jor.jus.leg.lel.log.londrina.macapa.maceio.manaus.maringa"
+            + ".mat.med.mil.morena.mp.mus.natal.net.niteroi.nom.not.ntr.odo.ong.org.osasco.palmas.poa.ppg.pro.psc.p"
+            + "si.pvh.qsl.radio.rec.recife.rep.ribeirao.rio.riobranco.riopreto.salvador.sampa.santamaria.santoandre"
+            + ".saobernardo.saogonca.seg.sjc.slg.slz.sorocaba.srv.taxi.tc.tec.teo.the.tmp.trd.tur.tv.udi.vet.vix.vl"
+            + "og.wiki.zlg.com.edu.gov.net.org.we.com.edu.gov.net.org.cloudsite.co.co.org.com.gov.mediatech.mil.myc"
+            + "loud.of.com.edu.gov.gsj.net.org.za.ab.awdev.barsy.bc.blogspot.co.gc.mb.myspreadshop.nb.nf.nl.no-ip.n"
+            + "s.nt.nu.on.pe.qc.sk.yk.nabu.cloudns.csx.fantasyleague.ftpaccess.game-server.myphotos.scrapping.spawn"
+            + ".twmail.gov.blogspot.123website.12hp.2ix.4lima.blogspot.dnsking.firenet.flow.gotdns.lima-city.linkya"
+            + "rd-cloud.myspreadshop.square7.ac.asso.co.com.ed.edu.fin.go.gouv.int.md.net.nl.or.org.presse.xn--arop"
+            + "ort-bya.www.blogspot.co.gob.gov.mil.axarnet.banzai.diadem.elementor.encoway.jelastic.jele.jenv-aruba"
+            + ".jotelulu.keliweb.kuleuven.linkyard.magentosite.on-rancher.oxa.perspecta.primetel.ravendb.reclaim.sc"
+            + "w.sensiosite.statics.trafficplex.trendhosting.urown.vapor.voorloper.barsy.cloudns.jele.co.com.gov.ne"
+            + "t.ac.ah.bj.canva-apps.com.cq.edu.fj.gd.gov.gs.gx.gz.ha.hb.he.hi.hk.hl.hn.instantcloud.jl.js.jx.ln.mi"
+            + "l.mo.net.nm.nx.org.qh.quickconnect.sc.sd.sh.sn.sx.tj.tw.xj.xn--55qx5d.xn--io0a7i.xn--od0alg.xz.yn.zj"
+            + ".arts.carrd.com.crd.edu.firewalledreplit.firm.gov.info.int.leadpages.lpages.mil.mypi.n4t.net.nom.org"
+            + ".otap.rec.repl.supabase.web.owo.001www.0emm.1kapp.3utilities.4u.adobeaemcloud.africa.airkitapps.airk"
+            + "itapps-au.aivencloud.alpha-myqnapcloud.amazonaws.amscompute.appchizi.applinzi.appspacehosted.appspac"
+            + "eusercontent.appspot.ar.authgear-staging.authgearapps.awsglobalaccelerator.awsmppl.balena-devices.ba"
+            + "rsycenter.barsyonline.betainabox.blogdns.blogspot.blogsyte.bloxcms.bounty-full.boutir.bplaced.br.bui"
+            + "ltwithdark.cafjs.canva-apps.cechire.cf-ipfs.ciscofreak.clicketcloud.cloudcontrolapp.cloudcontrolled."
+            + "cloudflare-ipfs.cn.co.code.codespot.customer-oci.damnserver.datadetect.dattolocal.dattorelay.dattowe"
+            + "b.ddns5.ddnsfree.ddnsgeek.ddnsking.ddnslive.de.dev-myqnapcloud.devcdnaccesso.digitaloceanspaces.disc"
+            + "ordsays.discordsez.ditchyourip.dnsalias.dnsdojo.dnsiskinky.doesntexist.dontexist.doomdns.dopaas.dray"
+            + "ddns.dreamhosters.dsmynas.dyn-o-saur.dynalias.dyndns-at-home.dyndns-at-work.dyndns-blog.dyndns-free."
+            + "dyndns-home.dyndns-ip.dyndns-mail.dyndns-office.dyndns-pics.dyndns-remote.dyndns-server.dyndns-web.d"
+            + "yndns-wiki.dyndns-work.dynns.elasticbeanstalk.encoreapi.est-a-la-maison.est-a-la-masion.est-le-patro"
+            + "n.est-mon-blogueur.eu.evennode.familyds.fastly-edge.fastly-terrarium.fastvps-server.fbsbx.firebaseap"
+            + "p.firewall-gateway.fldrv.forgeblocks.framercanvas.freebox-os.freeboxos.freemyip.from-ak.from-al.from"
+            + "-ar.from-ca.from-ct.from-dc.from-de.from-fl.from-ga.from-hi.from-ia.from-id.from-il.from-in.from-ks."
+            + "from-ky.from-ma.from-md.from-mi.from-mn.from-mo.from-ms.from-mt.from-nc.from-nd.from-ne.from-nh.from"
+            + "-nj.from-nm.from-nv.from-oh.from-ok.from-or.from-pa.from-pr.from-ri.from-sc.from-sd.from-tn.from-tx."
+            + "from-ut.from-va.from-vt.from-wa.from-wi.from-wv.from-wy.geekgalaxy.gentapps.gentlentapis.getmyip.gii"
+            + "ze.githubusercontent.gleeze.googleapis.googlecode.gotdns.gotpantheon.gr.health-carereform.herokuapp."
+            + "herokussl.hidora.hk.hobby-site.homelinux.homesecuritymac.homesecuritypc.homeunix.hosted-by-previder."
+            + "hostedpi.hosteur.hotelwithflight.hu.iamallama.ik-server.impertrix.impertrixcdn.is-a-anarchist.is-a-b"
+            + "logger.is-a-bookkeeper.is-a-bulls-fan.is-a-caterer.is-a-chef.is-a-conservative.is-a-cpa.is-a-cubicle"
+            + "-slave.is-a-democrat.is-a-designer.is-a-doctor.is-a-financialadvisor.is-a-geek.is-a-green.is-a-guru."
+            + "is-a-hard-worker.is-a-hunter.is-a-landscaper.is-a-lawyer.is-a-liberal.is-a-libertarian.is-a-llama.is"
+            + "-a-musician.is-a-nascarfan.is-a-nurse.is-a-painter.is-a-personaltrainer.is-a-photographer.is-a-playe"
+            + "r.is-a-republican.is-a-rockstar.is-a-socialist.is-a-student.is-a-teacher.is-a-techie.is-a-therapist."
+            + "is-an-accountant.is-an-actor.is-an-actress.is-an-anarchist.is-an-artist.is-an-engineer.is-an-enterta"
+            + "iner.is-certified.is-gone.is-into-anime.is-into-cars.is-into-cartoons.is-into-games.is-leet.is-not-c"
+            + "ertified.is-slick.is-uberleet.is-with-theband.isa-geek.isa-hockeynut.issmarterthanyou.it.jdevcloud.j"
+            + "elastic.joyent.jpn.kasserver.kilatiron.kozow.kr.ktistory.likes-pie.likescandy.linode.linodeobjects.l"
+            + "inodeusercontent.lmpm.logoip.loseyourip.lpusercontent.massivegrid.mazeplay.messwithdns.meteorapp.mex"
+            + ".miniserver.myactivedirectory.myasustor.mydatto.mydobiss.mydrobo.myiphost.myqnapcloud.mysecuritycame"
+            + "ra.myshopblocks.myshopify.myspreadshop.mytabit.mythic-beasts.mytuleap.myvnc.neat-url.net-freaks.nfsh"
+            + "ost.no.nospamproxy.observableusercontent.on-aptible.onfabrica.onrender.onthewifi.ooguy.operaunite.or"
+            + "sites.outsystemscloud.ownprovider.pagefrontapp.pagespeedmobilizer.pagexl.paywhirl.pgfog.pixolino.pla"
+            + "tter-app.playstation-cloud.pleskns.point2this.postman-echo.prgmr.publishproxy.pythonanywhere.qa2.qbu"
+            + "ser.qc.qualifioapp.quicksytes.quipelements.rackmaze.remotewd.render.reservd.reserve-online.rhcloud.r"
+            + "u.sa.saves-the-whales.scrysec.securitytactics.selfip.sells-for-less.sells-for-u.servebbs.servebeer.s"
+            + "ervecounterstrike.serveexchange.serveftp.servegame.servehalflife.servehttp.servehumour.serveirc.serv"
+            + "emp3.servep2p.servepics.servequake.servesarcasm.shopitsite.siiites.simple-url.simplesite.sinaapp.sky"
+            + "gearapp.smushcdn.space-to-rent.stackhero-network.stdlib.streamlitapp.stufftoread.tb-hosting.teaches-"
+            + "yoga.temp-dns.theworkpc.thingdustdata.townnews-staging.try-snowplow.trycloudflare.tuleap-partners.ty"
+            + "peform.uk.unusualperson.us.uy.vipsinaapp.vultrobjects.wafaicloud.wafflecell.wiardweb.withgoogle.with"
+            + "youtube.wixsite.woltlab-demo.workisboring.wpdevcloud.wpenginepowered.wphostedmail.wpmucdn.writesthis"
+            + "blog.xnbay.yolasite.za.myforum.nog.ravendb.de.elementor.ac.co.ed.fi.go.or.sa.com.edu.gov.inf.net.org"
+            + ".blogspot.com.edu.int.nome.org.com.edu.net.org.ath.gov.info.ac.biz.com.ekloges.gov.ltd.mil.net.org.p"
+            + "ress.pro.tm.blogspot.co.e4.metacentrum.muni.realm.123webseite.12hp.2ix.4lima.barsy.blogspot.bplaced."
+            + "com.community-pro.cosidns.dd-dns.ddnss.diskussionsbereich.dnshome.dnsupdater.dray-dns.draydns.dyn-be"
+            + "rlin.dyn-ip24.dyn-vpn.dynamisches-dns.dyndns1.dynvpn.firewall-gateway.frusky.fuettertdasnetz.git-rep"
+            + "os.goip.home-webserver.hs-heilbronn.in-berlin.in-brb.in-butter.in-dsl.in-vpn.internet-dns.iservschul"
+            + "e.isteingeek.istmein.keymachine.l-o-g-i-n.lcube-server.lebtimnetz.leitungsen.lima-city.logoip.mein-i"
+            + "serv.mein-vigor.my-gateway.my-router.my-vigor.my-wan.myhome-server.myspreadshop.schulplattform.schul"
+            + "server.spdns.speedpartner.square7.svn-repos.syno-ds.synology-diskstation.synology-ds.taifun-dns.test"
+            + "-iserv.traeumtgerade.uberspace.virtual-user.virtualuser.xn--gnstigbestellen-zvb.xn--gnstigliefern-wo"
+            + "b.bss.autocode.curv.deno.deno-staging.deta.fly.gateway.githubpreview.iserv.lcl.lclstage.localcert.lo"
+            + "ginline.mediatech.pages.platter-app.r2.shiftcrypto.stg.stgstage.vercel.webhare.workers.cloudapps.123"
+            + "hjemmeside.biz.blogspot.co.firm.myspreadshop.reg.store.com.edu.gov.net.org.art.com.edu.gob.gov.mil.n",
+            "et.org.sld.web.art.asso.com.edu.gov.net.org.pol.soc.tm.dapps.base.com.edu.fin.gob.gov.info.k12.med.m"
+            + "il.net.official.org.pro.rit.co.aip.com.edu.fie.gov.lib.med.org.pri.riik.com.edu.eun.gov.mil.name.net"
+            + ".org.sci.123miweb.com.edu.gob.myspreadshop.nom.org.compute.biz.com.edu.gov.info.name.net.org.airkita"
+            + "pps.barsy.cloudns.diskstation.dogado.mycd.spdns.transurl.wellbeingzone.party.co.koobin.ybo.storj.123"
+            + "kotisivu.aland.blogspot.cloudplatform.datacenter.dy.iki.kapsi.myspreadshop.xn--hkkinen-5wa.co.ac.biz"
+            + ".com.gov.info.mil.name.net.org.pro.com.edu.net.org.radio.user.123siteweb.aeroport.asso.avocat.avoues"
+            + ".blogspot.cci.chambagri.chirurgiens-dentistes.chirurgiens-dentistes-en-france.com.dedibox.en-root.ex"
+            + "perts-comptables.fbx-os.fbxos.freebox-os.freeboxos.geometre-expert.goupile.gouv.greta.huissier-justi"
+            + "ce.medecin.myspreadshop.nom.notaires.on-web.pharmacien.port.prd.tm.veterinaire.ynh.edu.gov.cnpy.com."
+            + "edu.gov.mil.net.org.pvt.co.cya.kaas.net.org.panel.com.edu.gov.mil.org.com.edu.gov.ltd.mod.org.biz.co"
+            + ".com.edu.net.org.xx.ac.com.edu.gov.net.org.cloud.translate.usercontent.app.asso.com.edu.mobi.net.org"
+            + ".blogspot.com.edu.gov.net.org.simplesite.discourse.blog.com.de.edu.gob.ind.mil.net.org.to.com.edu.go"
+            + "v.guam.info.net.org.web.be.co.com.edu.gov.net.org.hra.blogspot.com.edu.gov.idv.inc.ltd.net.org.secaa"
+            + "s.xn--55qx5d.xn--ciqpn.xn--gmq050i.xn--gmqw5a.xn--io0a7i.xn--lcvr32d.xn--mk0axi.xn--mxtq1m.xn--od0al"
+            + "g.xn--od0aq3b.xn--tn0ag.xn--uc0atv.xn--uc0ay4a.xn--wcvs22d.xn--zf0avx.cc.com.edu.gob.mil.net.org.clo"
+            + "udaccess.easypanel.fastvps.freesite.half.jele.mircloud.myfast.pcloud.tempurl.wpmudev.opencraft.blogs"
+            + "pot.com.free.from.iz.name.adult.art.asso.com.coop.edu.firm.gouv.info.med.net.org.perso.pol.pro.rel.s"
+            + "hop.2000.agrar.blogspot.bolt.casino.city.co.erotica.erotika.film.forum.games.hotel.info.ingatlan.jog"
+            + "asz.konyvelo.lakas.media.news.org.priv.reklam.sex.shop.sport.suli.szex.tm.tozsde.utazas.video.ac.biz"
+            + ".co.desa.flap.forte.go.mil.my.net.or.ponpes.sch.web.blogspot.gov.myspreadshop.ac.co.gov.idf.k12.muni"
+            + ".net.org.ac.co.com.net.org.ro.tt.tv.5g.6g.ac.ai.am.barsy.bihar.biz.blogspot.business.ca.cloudns.cn.c"
+            + "o.com.coop.cs.delhi.dr.edu.er.firm.gen.gov.gujarat.ind.info.int.internet.io.me.mil.net.nic.org.pg.po"
+            + "st.pro.res.supabase.travel.tv.uk.up.us.web.barrel-of-knowledge.barrell-of-knowledge.barsy.cloudns.dn"
+            + "supdate.dvrcam.dynamic-dns.dyndns.for-our.forumz.groks-the.groks-this.here-for-more.ilovecollege.kno"
+            + "wsitall.mayfirst.no-ip.nsupdate.selfip.v-info.webhop.eu.2038.apigee.azurecontainer.b-data.backplanea"
+            + "pp.banzaicloud.barsy.basicserver.beagleboard.beebyte.beebyteapp.bigv.bitbucket.bluebite.boxfuse.brow"
+            + "sersafetymark.cleverapps.com.dappnode.dedyn.definima.drud.dyn53.editorx.edugit.fh-muenster.forgerock"
+            + ".ghost.github.gitlab.hasura-app.hostyhosting.hzc.jele.lair.loginline.lolipop.mo-siemens.moonscale.mu"
+            + "sician.ngrok.nid.nodeart.on-acorn.on-k3s.on-rio.pantheonsite.protonet.pstmn.qcx.qoto.readthedocs.res"
+            + "indevice.resinstaging.s5y.sandcats.shiftcrypto.shiftedit.shw.spacekit.stolos.telebit.thingdust.ticke"
+            + "ts.unispace.upli.utwente.vaporcloud.vbrplsbx.virtualserver.webthings.wedeploy.com.edu.gov.mil.net.or"
+            + "g.ac.co.gov.id.net.org.sch.xn--mgba3a4f16a.xn--mgba3a4fra.blogspot.com.cupcake.edu.gov.int.net.org.1"
+            + "23homepage.16-b.32-b.64-b.abr.abruzzo.ag.agrigento.al.alessandria.alto-adige.altoadige.an.ancona.and"
+            + "ria-barletta-trani.andria-trani-barletta.andriabarlettatrani.andriatranibarletta.ao.aosta.aosta-vall"
+            + "ey.aostavalley.aoste.ap.aq.aquila.ar.arezzo.ascoli-piceno.ascolipiceno.asti.at.av.avellino.ba.balsan"
+            + ".balsan-sudtirol.balsan-suedtirol.bari.barletta-trani-andria.barlettatraniandria.bas.basilicata.bell"
+            + "uno.benevento.bergamo.bg.bi.biella.bl.blogspot.bn.bo.bologna.bolzano.bolzano-altoadige.bozen.bozen-s"
+            + "udtirol.bozen-suedtirol.br.brescia.brindisi.bs.bt.bulsan.bulsan-sudtirol.bulsan-suedtirol.bz.ca.cagl"
+            + "iari.cal.calabria.caltanissetta.cam.campania.campidano-medio.campidanomedio.campobasso.carbonia-igle"
+            + "sias.carboniaiglesias.carrara-massa.carraramassa.caserta.catania.catanzaro.cb.ce.cesena-forli.cesena"
+            + "forli.ch.chieti.ci.cl.cn.co.como.cosenza.cr.cremona.crotone.cs.ct.cuneo.cz.dell-ogliastra.delloglias"
+            + "tra.edu.emilia-romagna.emiliaromagna.emr.en.enna.fc.fe.fermo.ferrara.fg.fi.firenze.florence.fm.foggi"
+            + "a.forli-cesena.forlicesena.fr.friuli-v-giulia.friuli-ve-giulia.friuli-vegiulia.friuli-venezia-giulia"
+            + ".friuli-veneziagiulia.friuli-vgiulia.friuliv-giulia.friulive-giulia.friulivegiulia.friulivenezia-giu"
+            + "lia.friuliveneziagiulia.friulivgiulia.frosinone.fvg.ge.genoa.genova.go.gorizia.gov.gr.grosseto.ibxos"
+            + ".iglesias-carbonia.iglesiascarbonia.iliadboxos.im.imperia.is.isernia.kr.la-spezia.laquila.laspezia.l"
+            + "atina.laz.lazio.lc.le.lecce.lecco.li.lig.liguria.livorno.lo.lodi.lom.lombardia.lombardy.lt.lu.lucani"
+            + "a.lucca.macerata.mantova.mar.marche.massa-carrara.massacarrara.matera.mb.mc.me.medio-campidano.medio"
+            + "campidano.messina.mi.milan.milano.mn.mo.modena.mol.molise.monza.monza-brianza.monza-e-della-brianza."
+            + "monzabrianza.monzaebrianza.monzaedellabrianza.ms.mt.myspreadshop.na.naples.napoli.neen.no.novara.nu."
+            + "nuoro.og.ogliastra.olbia-tempio.olbiatempio.or.oristano.ot.pa.padova.padua.palermo.parma.pavia.pc.pd"
+            + ".pe.perugia.pesaro-urbino.pesarourbino.pescara.pg.pi.piacenza.piedmont.piemonte.pisa.pistoia.pmn.pn."
+            + "po.pordenone.potenza.pr.prato.pt.pu.pug.puglia.pv.pz.ra.ragusa.ravenna.rc.re.reggio-calabria.reggio-"
+            + "emilia.reggiocalabria.reggioemilia.rg.ri.rieti.rimini.rm.rn.ro.roma.rome.rovigo.sa.salerno.sar.sarde"
+            + "gna.sardinia.sassari.savona.si.sic.sicilia.sicily.siena.siracusa.so.sondrio.sp.sr.ss.suedtirol.sv.sy"
+            + "ncloud.ta.taa.taranto.te.tempio-olbia.tempioolbia.teramo.terni.tim.tn.to.torino.tos.toscana.tp.tr.tr"
+            + "ani-andria-barletta.trani-barletta-andria.traniandriabarletta.tranibarlettaandria.trapani.trentin-su"
+            + "d-tirol.trentin-sudtirol.trentin-sued-tirol.trentin-suedtirol.trentino.trentino-a-adige.trentino-aad"
+            + "ige.trentino-alto-adige.trentino-altoadige.trentino-s-tirol.trentino-stirol.trentino-sud-tirol.trent"
+            + "ino-sudtirol.trentino-sued-tirol.trentino-suedtirol.trentinoa-adige.trentinoaadige.trentinoalto-adig"
+            + "e.trentinoaltoadige.trentinos-tirol.trentinostirol.trentinosud-tirol.trentinosudtirol.trentinosued-t"
+            + "irol.trentinosuedtirol.trentinsud-tirol.trentinsudtirol.trentinsued-tirol.trentinsuedtirol.trento.tr"
+            + "eviso.trieste.ts.turin.tuscany.tv.ud.udine.umb.umbria.urbino-pesaro.urbinopesaro.va.val-d-aosta.val-"
+            + "daosta.vald-aosta.valdaosta.valle-aosta.valle-d-aosta.valle-daosta.valleaosta.valled-aosta.valledaos"
+            + "ta.vallee-aoste.vallee-d-aoste.valleeaoste.valleedaoste.vao.varese.vb.vc.vda.ve.ven.veneto.venezia.v"
+            + "enice.verbania.vercelli.verona.vi.vibo-valentia.vibovalentia.vicenza.viterbo.vr.vs.vt.vv.xn--balsan-"
+            + "sdtirol-nsb.xn--bozen-sdtirol-2ob.xn--bulsan-sdtirol-nsb.xn--cesena-forl-mcb.xn--cesenaforl-i8a.xn--"
+            + "forl-cesena-fcb.xn--forlcesena-c8a.xn--sdtirol-n2a.xn--trentin-sd-tirol-rzb.xn--trentin-sdtirol-7vb."
+            + "xn--trentino-sd-tirol-c3b.xn--trentino-sdtirol-szb.xn--trentinosd-tirol-rzb.xn--trentinosdtirol-7vb."
+            + "xn--trentinsd-tirol-6vb.xn--trentinsdtirol-nsb.xn--valle-aoste-ebb.xn--valle-d-aoste-ehb.xn--valleao"
+            + "ste-e7a.xn--valledaoste-ebb.co.net.of.org.com.edu.gov.mil.name.net.org.sch.ac.ad.aichi.akita.angry.a"
+            + "omori.babyblue.babymilk.backdrop.bambina.bitter.blogspot.blush.boo.boy.boyfriend.but.buyshop.candypo"
+            + "p.capoo.catfood.cheap.chiba.chicappa.chillout.chips.chowder.chu.ciao.co.cocotte.coolblog.cranky.cute"
+            + "girl.daa.deca.deci.digick.ed.egoism.ehime.fakefur.fashionstore.fem.flier.floppy.fool.frenchkiss.fuku"
+            + "i.fukuoka.fukushima.gifu.girlfriend.girly.gloomy.go.gonna.gr.greater.gunma.hacca.handcrafted.heavy.h"
+            + "er.hiho.hippy.hiroshima.hokkaido.holy.hungry.hyogo.ibaraki.icurus.ishikawa.itigo.iwate.jellybean.kag"
+            + "awa.kagoshima.kanagawa.kawaiishop.kawasaki.kikirara.kill.kilo.kitakyushu.kobe.kochi.kumamoto.kuron.k"
+            + "yoto.lg.littlestar.lolipopmc.lolitapunk.lomo.lovepop.lovesick.main.mie.miyagi.miyazaki.mods.mond.mon"
+            + "golian.moo.nagano.nagasaki.nagoya.namaste.nara.ne.niigata.nikita.nobushi.noor.oita.okayama.okinawa.o"
+            + "ops.or.osaka.parallel.parasite.pecori.peewee.penne.pepper.perma.pigboat.pinoko.punyu.pupu.pussycat.p"
+            + "ya.raindrop.readymade.sadist.saga.saitama.sapporo.schoolbus.secret.sendai.shiga.shimane.shizuoka.sta"
+            + "ba.stripper.sub.sunnyday.supersale.theshop.thick.tochigi.tokushima.tokyo.tonkotsu.tottori.toyama.und"
+            + "er.upper.usercontent.velvet.verse.versus.vivian.wakayama.watson.weblike.whitesnow.xn--0trq7p7nn.xn--"
+            + "1ctwo.xn--1lqs03n.xn--1lqs71d.xn--2m4a15e.xn--32vp30h.xn--4it168d.xn--4it797k.xn--4pvxs.xn--5js045d."
+            + "xn--5rtp49c.xn--5rtq34k.xn--6btw5a.xn--6orx2r.xn--7t0a264c.xn--8ltr62k.xn--8pvr4u.xn--c3s14m.xn--d5q"
+            + "v7z876c.xn--djrs72d6uy.xn--djty4k.xn--efvn9s.xn--ehqz56n.xn--elqq16h.xn--f6qx53a.xn--k7yn95e.xn--kbr"
+            + "q7o.xn--klt787d.xn--kltp7d.xn--kltx9a.xn--klty5x.xn--mkru45i.xn--nit225k.xn--ntso0iqx3a.xn--ntsq17g."
+            + "xn--pssu33l.xn--qqqt11m.xn--rht27z.xn--rht3d.xn--rht61e.xn--rny31h.xn--tor131o.xn--uist22h.xn--uisz3"
+            + "g.xn--uuwu58a.xn--vgu402c.xn--zbx025d.yamagata.yamaguchi.yamanashi.yokohama.zombie.ac.co.go.info.me."
+            + "mobi.ne.or.sc.blog.com.edu.gov.io.jp.mil.net.org.tv.uk.us.biz.com.edu.gov.info.net.org.ass.asso.com."
+            + "coop.edu.gouv.gov.medecin.mil.nom.notaires.org.pharmaciens.prd.presse.tm.veterinaire.edu.gov.net.org"
+            + ".com.edu.gov.org.rep.tra.ac.blogspot.busan.chungbuk.chungnam.co.daegu.daejeon.es.gangwon.go.gwangju."
+            + "gyeongbuk.gyeonggi.gyeongnam.hs.incheon.jeju.jeonbuk.jeonnam.kg.mil.ms.ne.or.pe.re.sc.seoul.ulsan.co"
+            + ".edu.com.edu.emb.gov.ind.net.org.com.edu.net.org.com.edu.gov.jcloud.kazteleport.mil.net.org.bnr.c.co"
+            + "m.edu.gov.info.int.net.org.per.static.com.edu.gov.net.org.co.com.edu.gov.net.org.oy.blogspot.caa.cyo"
+            + "n.dweb.mypep.hlx.ac.assn.com.edu.gov.grp.hotel.int.ltd.net.ngo.org.sch.soc.web.omg.com.edu.gov.net.o"
+            + "rg.ac.biz.co.de.edu.gov.info.net.org.sc.blogspot.gov.123website.blogspot.asn.com.conf.edu.gov.id.mil"
+            + ".net.org.com.edu.gov.id.med.net.org.plc.sch.ac.co.gov.net.org.press.router.asso.tm.at.blogspot.de.jp"
+            + ".to.ac.barsy.brasilia.c66.co.daplie.ddns.diskstation.dnsfor.dscloud.edgestack.edu.filegear.filegear-"
+            + "au.filegear-de.filegear-gb.filegear-ie.filegear-jp.filegear-sg.glitch.gov.hopto.i234.its.loginto.loh",
+            "mus.mcdir.mcpe.myds.net.nohost.noip.org.priv.ravendb.soundcast.synology.tcp4.transip.vp4.webhop.wede"
+            + "ploy.yombo.framer.barsy.co.com.edu.gov.mil.nom.org.prd.tm.blogspot.com.edu.gov.inf.name.net.org.com."
+            + "edu.gouv.gov.net.org.presse.edu.gov.nyc.org.com.edu.gov.net.org.barsy.dscloud.ju.blogspot.gov.com.ed"
+            + "u.gov.lab.minisite.net.org.com.edu.net.org.ac.co.com.gov.net.or.org.academy.agriculture.air.airguard"
+            + ".alabama.alaska.amber.ambulance.american.americana.americanantiques.americanart.amsterdam.and.annefr"
+            + "ank.anthro.anthropology.antiques.aquarium.arboretum.archaeological.archaeology.architecture.art.arta"
+            + "nddesign.artcenter.artdeco.arteducation.artgallery.arts.artsandcrafts.asmatart.assassination.assisi."
+            + "association.astronomy.atlanta.austin.australia.automotive.aviation.axis.badajoz.baghdad.bahn.bale.ba"
+            + "ltimore.barcelona.baseball.basel.baths.bauern.beauxarts.beeldengeluid.bellevue.bergbau.berkeley.berl"
+            + "in.bern.bible.bilbao.bill.birdart.birthplace.bonn.boston.botanical.botanicalgarden.botanicgarden.bot"
+            + "any.brandywinevalley.brasil.bristol.british.britishcolumbia.broadcast.brunel.brussel.brussels.bruxel"
+            + "les.building.burghof.bus.bushey.cadaques.california.cambridge.can.canada.capebreton.carrier.cartoona"
+            + "rt.casadelamoneda.castle.castres.celtic.center.chattanooga.cheltenham.chesapeakebay.chicago.children"
+            + ".childrens.childrensgarden.chiropractic.chocolate.christiansburg.cincinnati.cinema.circus.civilisati"
+            + "on.civilization.civilwar.clinton.clock.coal.coastaldefence.cody.coldwar.collection.colonialwilliamsb"
+            + "urg.coloradoplateau.columbia.columbus.communication.communications.community.computer.computerhistor"
+            + "y.contemporary.contemporaryart.convent.copenhagen.corporation.corvette.costume.countryestate.county."
+            + "crafts.cranbrook.creation.cultural.culturalcenter.culture.cyber.cymru.dali.dallas.database.ddr.decor"
+            + "ativearts.delaware.delmenhorst.denmark.depot.design.detroit.dinosaur.discovery.dolls.donostia.durham"
+            + ".eastafrica.eastcoast.education.educational.egyptian.eisenbahn.elburg.elvendrell.embroidery.encyclop"
+            + "edic.england.entomology.environment.environmentalconservation.epilepsy.essex.estate.ethnology.exeter"
+            + ".exhibition.family.farm.farmequipment.farmers.farmstead.field.figueres.filatelia.film.fineart.finear"
+            + "ts.finland.flanders.florida.force.fortmissoula.fortworth.foundation.francaise.frankfurt.franziskaner"
+            + ".freemasonry.freiburg.fribourg.frog.fundacio.furniture.gallery.garden.gateway.geelvinck.gemological."
+            + "geology.georgia.giessen.glas.glass.gorge.grandrapids.graz.guernsey.halloffame.hamburg.handson.harves"
+            + "tcelebration.hawaii.health.heimatunduhren.hellas.helsinki.hembygdsforbund.heritage.histoire.historic"
+            + "al.historicalsociety.historichouses.historisch.historisches.history.historyofscience.horology.house."
+            + "humanities.illustration.imageandsound.indian.indiana.indianapolis.indianmarket.intelligence.interact"
+            + "ive.iraq.iron.isleofman.jamison.jefferson.jerusalem.jewelry.jewish.jewishart.jfk.journalism.judaica."
+            + "judygarland.juedisches.juif.karate.karikatur.kids.koebenhavn.koeln.kunst.kunstsammlung.kunstunddesig"
+            + "n.labor.labour.lajolla.lancashire.landes.lans.larsson.lewismiller.lincoln.linz.living.livinghistory."
+            + "localhistory.london.losangeles.louvre.loyalist.lucerne.luxembourg.luzern.mad.madrid.mallorca.manches"
+            + "ter.mansion.mansions.manx.marburg.maritime.maritimo.maryland.marylhurst.media.medical.medizinhistori"
+            + "sches.meeres.memorial.mesaverde.michigan.midatlantic.military.mill.miners.mining.minnesota.missile.m"
+            + "issoula.modern.moma.money.monmouth.monticello.montreal.moscow.motorcycle.muenchen.muenster.mulhouse."
+            + "muncie.museet.museumcenter.museumvereniging.music.national.nationalfirearms.nationalheritage.nativea"
+            + "merican.naturalhistory.naturalhistorymuseum.naturalsciences.nature.naturhistorisches.natuurwetenscha"
+            + "ppen.naumburg.naval.nebraska.neues.newhampshire.newjersey.newmexico.newport.newspaper.newyork.niepce"
+            + ".norfolk.north.nrw.nyc.nyny.oceanographic.oceanographique.omaha.online.ontario.openair.oregon.oregon"
+            + "trail.otago.oxford.pacific.paderborn.palace.paleo.palmsprings.panama.paris.pasadena.pharmacy.philade"
+            + "lphia.philadelphiaarea.philately.phoenix.photography.pilots.pittsburgh.planetarium.plantation.plants"
+            + ".plaza.portal.portland.portlligat.posts-and-telecommunications.preservation.presidio.press.project.p"
+            + "ublic.pubol.quebec.railroad.railway.research.resistance.riodejaneiro.rochester.rockart.roma.russia.s"
+            + "aintlouis.salem.salvadordali.salzburg.sandiego.sanfrancisco.santabarbara.santacruz.santafe.saskatche"
+            + "wan.satx.savannahga.schlesisches.schoenbrunn.schokoladen.school.schweiz.science.science-fiction.scie"
+            + "nceandhistory.scienceandindustry.sciencecenter.sciencecenters.sciencehistory.sciences.sciencesnature"
+            + "lles.scotland.seaport.settlement.settlers.shell.sherbrooke.sibenik.silk.ski.skole.society.sologne.so"
+            + "undandvision.southcarolina.southwest.space.spy.square.stadt.stalbans.starnberg.state.stateofdelaware"
+            + ".station.steam.steiermark.stjohn.stockholm.stpetersburg.stuttgart.suisse.surgeonshall.surrey.svizzer"
+            + "a.sweden.sydney.tank.tcm.technology.telekommunikation.television.texas.textile.theater.time.timekeep"
+            + "ing.topology.torino.touch.town.transport.tree.trolley.trust.trustee.uhren.ulm.undersea.university.us"
+            + "a.usantiques.usarts.uscountryestate.usculture.usdecorativearts.usgarden.ushistory.ushuaia.uslivinghi"
+            + "story.utah.uvic.valley.vantaa.versailles.viking.village.virginia.virtual.virtuel.vlaanderen.volkenku"
+            + "nde.wales.wallonie.war.washingtondc.watch-and-clock.watchandclock.western.westfalen.whaling.wildlife"
+            + ".williamsburg.windmill.workshop.xn--9dbhblg6di.xn--comunicaes-v6a2o.xn--correios-e-telecomunicaes-gh"
+            + "c29a.xn--h1aegh.xn--lns-qla.york.yorkshire.yosemite.youth.zoological.zoology.aero.biz.com.coop.edu.g"
+            + "ov.info.int.mil.museum.name.net.org.pro.ac.biz.co.com.coop.edu.gov.int.museum.net.org.blogspot.com.e"
+            + "du.gob.net.org.biz.blogspot.com.edu.gov.mil.name.net.org.ac.adv.co.edu.gov.mil.net.org.ca.cc.co.com."
+            + "dr.in.info.mobi.mx.name.or.org.pro.school.tv.us.ws.her.his.asso.nom.adobeaemcloud.adobeio-static.ado"
+            + "beioruntime.akadns.akamai.akamai-staging.akamaiedge.akamaiedge-staging.akamaihd.akamaihd-staging.aka"
+            + "maiorigin.akamaiorigin-staging.akamaized.akamaized-staging.alwaysdata.appudo.at-band-camp.atlassian-"
+            + "dev.azure-mobile.azurestaticapps.azurewebsites.bar0.bar1.bar2.barsy.bitbridge.blackbaudcdn.blogdns.b"
+            + "oomla.bounceme.bplaced.broke-it.buyshouses.casacam.cdn-edges.cdn77.cdn77-ssl.channelsdvr.clickrising"
+            + ".cloudaccess.cloudapp.cloudfront.cloudfunctions.cloudjiffy.cloudycluster.community-pro.cryptonomic.d"
+            + "attolocal.ddns.debian.definima.dnsalias.dnsdojo.dnsup.does-it.dontexist.dsmynas.dynalias.dynathome.d"
+            + "ynu.dynv6.eating-organic.edgeapp.edgekey.edgekey-staging.edgesuite.edgesuite-staging.elastx.endofint"
+            + "ernet.familyds.fastly.fastlylb.faststacks.feste-ip.firewall-gateway.flynnhosting.from-az.from-co.fro"
+            + "m-la.from-ny.gb.gets-it.ham-radio-op.heteml.hicam.homeftp.homeip.homelinux.homeunix.hu.in.in-dsl.in-"
+            + "the-band.in-vpn.iobb.ipifony.is-a-chef.is-a-geek.isa-geek.jp.kicks-ass.kinghost.knx-server.krellian."
+            + "massivegrid.meinforum.memset.moonscale.myamaze.mydatto.mydissent.myeffect.myfritz.mymediapc.mypsx.my"
+            + "securitycamera.myspreadshop.nhlfan.no-ip.now-dns.office-on-the.onavstack.ovh.ownip.pgafan.podzone.pr"
+            + "ivatizehealthinsurance.rackmaze.redirectme.reserve-online.ru.saveincloud.scaleforce.schokokeks.scrap"
+            + "per-site.se.seidat.selfip.sells-it.senseering.servebbs.serveblog.serveftp.serveminecraft.shopselect."
+            + "siteleaf.square7.srcf.static-access.supabase.sytes.t3l3p0rt.tailscale.thruhere.torproject.ts.tsukaer"
+            + "u.twmail.uk.uni5.vpndns.vps-host.webhop.yandexcloud.za.alces.arvo.azimuth.co.tlon.noticeable.arts.co"
+            + "m.firm.info.net.other.per.rec.store.web.col.com.edu.firm.gen.gov.i.ltd.mil.mobi.name.net.ngo.org.sch"
+            + ".ac.biz.co.com.edu.gob.in.info.int.mil.net.nom.org.web.123website.blogspot.cistron.co.demon.gov.host"
+            + "ing-cluster.khplay.myspreadshop.transurl.123hjemmeside.aa.aarborte.aejrie.afjord.agdenes.ah.akershus"
+            + ".aknoluokta.akrehamn.al.alaheadju.alesund.algard.alstahaug.alta.alvdal.amli.amot.andasuolo.andebu.an"
+            + "doy.ardal.aremark.arendal.arna.aseral.asker.askim.askoy.askvoll.asnes.audnedaln.aukra.aure.aurland.a"
+            + "urskog-holand.austevoll.austrheim.averoy.badaddja.bahcavuotna.bahccavuotna.baidar.bajddar.balat.bale"
+            + "strand.ballangen.balsfjord.bamble.bardu.barum.batsfjord.bearalvahki.beardu.beiarn.berg.bergen.berlev"
+            + "ag.bievat.bindal.birkenes.bjarkoy.bjerkreim.bjugn.blogspot.bodo.bokn.bomlo.bremanger.bronnoy.bronnoy"
+            + "sund.brumunddal.bryne.bu.budejju.buskerud.bygland.bykle.cahcesuolo.co.davvenjarga.davvesiida.deatnu."
+            + "dep.dielddanuorri.divtasvuodna.divttasvuotna.donna.dovre.drammen.drangedal.drobak.dyroy.egersund.eid"
+            + ".eidfjord.eidsberg.eidskog.eidsvoll.eigersund.elverum.enebakk.engerdal.etne.etnedal.evenassi.evenes."
+            + "evje-og-hornnes.farsund.fauske.fedje.fet.fetsund.fhs.finnoy.fitjar.fjaler.fjell.fla.flakstad.flatang"
+            + "er.flekkefjord.flesberg.flora.floro.fm.folkebibl.folldal.forde.forsand.fosnes.frana.fredrikstad.frei"
+            + ".frogn.froland.frosta.froya.fuoisku.fuossko.fusa.fylkesbibl.fyresdal.gaivuotna.galsa.gamvik.gangavii"
+            + "ka.gaular.gausdal.giehtavuoatna.gildeskal.giske.gjemnes.gjerdrum.gjerstad.gjesdal.gjovik.gloppen.gol"
+            + ".gran.grane.granvin.gratangen.grimstad.grong.grue.gulen.guovdageaidnu.ha.habmer.hadsel.hagebostad.ha"
+            + "lden.halsa.hamar.hamaroy.hammarfeasta.hammerfest.hapmir.haram.hareid.harstad.hasvik.hattfjelldal.hau"
+            + "gesund.hedmark.hemne.hemnes.hemsedal.herad.hitra.hjartdal.hjelmeland.hl.hm.hobol.hof.hokksund.hol.ho"
+            + "le.holmestrand.holtalen.honefoss.hordaland.hornindal.horten.hoyanger.hoylandet.hurdal.hurum.hvaler.h"
+            + "yllestad.ibestad.idrett.inderoy.iveland.ivgu.jan-mayen.jessheim.jevnaker.jolster.jondal.jorpeland.ka"
+            + "fjord.karasjohka.karasjok.karlsoy.karmoy.kautokeino.kirkenes.klabu.klepp.kommune.kongsberg.kongsving"
+            + "er.kopervik.kraanghke.kragero.kristiansand.kristiansund.krodsherad.krokstadelva.kvafjord.kvalsund.kv"
+            + "am.kvanangen.kvinesdal.kvinnherad.kviteseid.kvitsoy.laakesvuemie.lahppi.langevag.lardal.larvik.lavag"
+            + "is.lavangen.leangaviika.lebesby.leikanger.leirfjord.leirvik.leka.leksvik.lenvik.lerdal.lesja.levange"
+            + "r.lier.lierne.lillehammer.lillesand.lindas.lindesnes.loabat.lodingen.lom.loppa.lorenskog.loten.lund.",
+            "lunner.luroy.luster.lyngdal.lyngen.malatvuopmi.malselv.malvik.mandal.marker.marnardal.masfjorden.mas"
+            + "oy.matta-varjjat.meland.meldal.melhus.meloy.meraker.midsund.midtre-gauldal.mil.mjondalen.mo-i-rana.m"
+            + "oareke.modalen.modum.molde.more-og-romsdal.mosjoen.moskenes.moss.mosvik.mr.muosat.museum.myspreadsho"
+            + "p.naamesjevuemie.namdalseid.namsos.namsskogan.nannestad.naroy.narviika.narvik.naustdal.navuotna.nedr"
+            + "e-eiker.nesna.nesodden.nesoddtangen.nesseby.nesset.nissedal.nittedal.nl.nord-aurdal.nord-fron.nord-o"
+            + "dal.norddal.nordkapp.nordland.nordre-land.nordreisa.nore-og-uvdal.notodden.notteroy.nt.odda.of.oksne"
+            + "s.ol.omasvuotna.oppdal.oppegard.orkanger.orkdal.orland.orskog.orsta.osen.oslo.osoyro.osteroy.ostfold"
+            + ".ostre-toten.overhalla.ovre-eiker.oyer.oygarden.oystre-slidre.porsanger.porsangu.porsgrunn.priv.rade"
+            + ".radoy.rahkkeravju.raholt.raisa.rakkestad.ralingen.rana.randaberg.rauma.rendalen.rennebu.rennesoy.ri"
+            + "ndal.ringebu.ringerike.ringsaker.risor.rissa.rl.roan.rodoy.rollag.romsa.romskog.roros.rost.royken.ro"
+            + "yrvik.ruovat.rygge.salangen.salat.saltdal.samnanger.sandefjord.sandnes.sandnessjoen.sandoy.sarpsborg"
+            + ".sauda.sauherad.sel.selbu.selje.seljord.sf.siellak.sigdal.siljan.sirdal.skanit.skanland.skaun.skedsm"
+            + "o.skedsmokorset.ski.skien.skierva.skiptvet.skjak.skjervoy.skodje.slattum.smola.snaase.snasa.snillfjo"
+            + "rd.snoasa.sogndal.sogne.sokndal.sola.solund.somna.sondre-land.songdalen.sor-aurdal.sor-fron.sor-odal"
+            + ".sor-varanger.sorfold.sorreisa.sortland.sorum.spjelkavik.spydeberg.st.stange.stat.stathelle.stavange"
+            + "r.stavern.steigen.steinkjer.stjordal.stjordalshalsen.stokke.stor-elvdal.stord.stordal.storfjord.stra"
+            + "nd.stranda.stryn.sula.suldal.sund.sunndal.surnadal.svalbard.sveio.svelvik.sykkylven.tana.tananger.te"
+            + "lemark.time.tingvoll.tinn.tjeldsund.tjome.tm.tokke.tolga.tonsberg.torsken.tr.trana.tranby.tranoy.tro"
+            + "andin.trogstad.tromsa.tromso.trondheim.trysil.tvedestrand.tydal.tynset.tysfjord.tysnes.tysvar.ullens"
+            + "aker.ullensvang.ulvik.unjarga.utsira.va.vaapste.vadso.vaga.vagan.vagsoy.vaksdal.valle.vang.vanylven."
+            + "vardo.varggat.varoy.vefsn.vega.vegarshei.vennesla.verdal.verran.vestby.vestfold.vestnes.vestre-slidr"
+            + "e.vestre-toten.vestvagoy.vevelstad.vf.vgs.vik.vikna.vindafjord.voagat.volda.voss.vossevangen.xn--and"
+            + "y-ira.xn--asky-ira.xn--aurskog-hland-jnb.xn--avery-yua.xn--bdddj-mrabd.xn--bearalvhki-y4a.xn--berlev"
+            + "g-jxa.xn--bhcavuotna-s4a.xn--bhccavuotna-k7a.xn--bidr-5nac.xn--bievt-0qa.xn--bjarky-fya.xn--bjddar-p"
+            + "ta.xn--blt-elab.xn--bmlo-gra.xn--bod-2na.xn--brnny-wuac.xn--brnnysund-m8ac.xn--brum-voa.xn--btsfjord"
+            + "-9za.xn--davvenjrga-y4a.xn--dnna-gra.xn--drbak-wua.xn--dyry-ira.xn--eveni-0qa01ga.xn--finny-yua.xn--"
+            + "fjord-lra.xn--fl-zia.xn--flor-jra.xn--frde-gra.xn--frna-woa.xn--frya-hra.xn--ggaviika-8ya47h.xn--gil"
+            + "deskl-g0a.xn--givuotna-8ya.xn--gjvik-wua.xn--gls-elac.xn--h-2fa.xn--hbmer-xqa.xn--hcesuolo-7ya35b.xn"
+            + "--hgebostad-g3a.xn--hmmrfeasta-s4ac.xn--hnefoss-q1a.xn--hobl-ira.xn--holtlen-hxa.xn--hpmir-xqa.xn--h"
+            + "yanger-q1a.xn--hylandet-54a.xn--indery-fya.xn--jlster-bya.xn--jrpeland-54a.xn--karmy-yua.xn--kfjord-"
+            + "iua.xn--klbu-woa.xn--koluokta-7ya57h.xn--krager-gya.xn--kranghke-b0a.xn--krdsherad-m8a.xn--krehamn-d"
+            + "xa.xn--krjohka-hwab49j.xn--ksnes-uua.xn--kvfjord-nxa.xn--kvitsy-fya.xn--kvnangen-k0a.xn--l-1fa.xn--l"
+            + "aheadju-7ya.xn--langevg-jxa.xn--ldingen-q1a.xn--leagaviika-52b.xn--lesund-hua.xn--lgrd-poac.xn--lhpp"
+            + "i-xqa.xn--linds-pra.xn--loabt-0qa.xn--lrdal-sra.xn--lrenskog-54a.xn--lt-liac.xn--lten-gra.xn--lury-i"
+            + "ra.xn--mely-ira.xn--merker-kua.xn--mjndalen-64a.xn--mlatvuopmi-s4a.xn--mli-tla.xn--mlselv-iua.xn--mo"
+            + "reke-jua.xn--mosjen-eya.xn--mot-tla.xn--mre-og-romsdal-qqb.xn--msy-ula0h.xn--mtta-vrjjat-k7af.xn--mu"
+            + "ost-0qa.xn--nmesjevuemie-tcba.xn--nry-yla5g.xn--nttery-byae.xn--nvuotna-hwa.xn--oppegrd-ixa.xn--oste"
+            + "ry-fya.xn--osyro-wua.xn--porsgu-sta26f.xn--rady-ira.xn--rdal-poa.xn--rde-ula.xn--rdy-0nab.xn--rennes"
+            + "y-v1a.xn--rhkkervju-01af.xn--rholt-mra.xn--risa-5na.xn--risr-ira.xn--rland-uua.xn--rlingen-mxa.xn--r"
+            + "mskog-bya.xn--rros-gra.xn--rskog-uua.xn--rst-0na.xn--rsta-fra.xn--ryken-vua.xn--ryrvik-bya.xn--s-1fa"
+            + ".xn--sandnessjen-ogb.xn--sandy-yua.xn--seral-lra.xn--sgne-gra.xn--skierv-uta.xn--skjervy-v1a.xn--skj"
+            + "k-soa.xn--sknit-yqa.xn--sknland-fxa.xn--slat-5na.xn--slt-elab.xn--smla-hra.xn--smna-gra.xn--snase-nr"
+            + "a.xn--sndre-land-0cb.xn--snes-poa.xn--snsa-roa.xn--sr-aurdal-l8a.xn--sr-fron-q1a.xn--sr-odal-q1a.xn-"
+            + "-sr-varanger-ggb.xn--srfold-bya.xn--srreisa-q1a.xn--srum-gra.xn--stfold-9xa.xn--stjrdal-s1a.xn--stjr"
+            + "dalshalsen-sqb.xn--stre-toten-zcb.xn--tjme-hra.xn--tnsberg-q1a.xn--trany-yua.xn--trgstad-r1a.xn--trn"
+            + "a-woa.xn--troms-zua.xn--tysvr-vra.xn--unjrga-rta.xn--vads-jra.xn--vard-jra.xn--vegrshei-c0a.xn--vest"
+            + "vgy-ixa6o.xn--vg-yiab.xn--vgan-qoa.xn--vgsy-qoa0j.xn--vre-eiker-k8a.xn--vrggt-xqad.xn--vry-yla5g.xn-"
+            + "-yer-zna.xn--ygarden-p1a.xn--ystre-slidre-ujb.biz.com.edu.gov.info.net.org.enterprisecloud.merseine."
+            + "mine.shacknet.ac.co.cri.geek.gen.govt.health.iwi.kiwi.maori.mil.net.org.parliament.school.xn--mori-q"
+            + "sa.co.com.edu.gov.med.museum.net.org.pro.homelink.onred.service.barsy.eero.eero-stage.tech.accesscam"
+            + ".ae.altervista.amune.barsy.blogdns.blogsite.bmoattachments.boldlygoingnowhere.cable-modem.camdvr.cdn"
+            + "77.cdn77-secure.certmgr.cloudns.collegefan.couchpotatofries.ddnss.diskstation.dnsalias.dnsdojo.doesn"
+            + "texist.dontexist.doomdns.dsmynas.duckdns.dvrdns.dynalias.dyndns.dynserv.endofinternet.endoftheintern"
+            + "et.eu.familyds.fedorainfracloud.fedorapeople.fedoraproject.freeddns.freedesktop.from-me.game-host.go"
+            + "tdns.hepforge.hk.hobby-site.homedns.homeftp.homelinux.homeunix.hopto.httpbin.in-dsl.in-vpn.is-a-brui"
+            + "nsfan.is-a-candidate.is-a-celticsfan.is-a-chef.is-a-geek.is-a-knight.is-a-linux-user.is-a-patsfan.is"
+            + "-a-soxfan.is-found.is-lost.is-saved.is-very-bad.is-very-evil.is-very-good.is-very-nice.is-very-sweet"
+            + ".isa-geek.js.kicks-ass.mayfirst.misconfused.mlbfan.mozilla-iot.my-firewall.myfirewall.myftp.mysecuri"
+            + "tycamera.mywire.nflfan.no-ip.now-dns.pimienta.podzone.poivron.potager.pubtls.read-books.readmyblog.s"
+            + "elfip.sellsyourhome.servebbs.serveftp.servegame.small-web.spdns.stuff-4-sale.sweetpepper.teckids.too"
+            + "lforge.tunk.tuxfamily.twmail.ufcfan.us.webhop.webredirect.wmcloud.wmflabs.za.zapto.nerdpol.abo.ac.co"
+            + "m.edu.gob.ing.med.net.nom.org.sld.codeberg.hlx.hlx3.magnet.pdns.plesk.prvcy.rocky.translated.ybo.blo"
+            + "gspot.com.edu.gob.mil.net.nom.org.com.edu.org.com.edu.gov.i.mil.net.ngo.org.framer.1337.biz.com.edu."
+            + "fam.gob.gok.gon.gop.gos.gov.info.net.org.web.agro.aid.art.atm.augustow.auto.babia-gora.bedzin.beep.b"
+            + "eskidy.bialowieza.bialystok.bielawa.bieszczady.biz.boleslawiec.bydgoszcz.bytom.cieszyn.co.com.czelad"
+            + "z.czest.dlugoleka.ecommerce-shop.edu.elblag.elk.gda.gdansk.gdynia.gliwice.glogow.gmina.gniezno.gorli"
+            + "ce.gov.grajewo.gsm.homesklep.ilawa.info.jaworzno.jelenia-gora.jgora.kalisz.karpacz.kartuzy.kaszuby.k"
+            + "atowice.kazimierz-dolny.kepno.ketrzyn.klodzko.kobierzyce.kolobrzeg.konin.konskowola.krakow.krasnik.k"
+            + "utno.lapy.lebork.leczna.legnica.lezajsk.limanowa.lomza.lowicz.lubartow.lubin.lublin.lukow.mail.malbo"
+            + "rk.malopolska.mazowsze.mazury.med.media.miasta.mielec.mielno.mil.mragowo.myspreadshop.naklo.net.nier"
+            + "uchomosci.nom.nowaruda.nysa.olawa.olecko.olkusz.olsztyn.opoczno.opole.org.ostroda.ostroleka.ostrowie"
+            + "c.ostrowwlkp.pc.pila.pisz.podhale.podlasie.polkowice.pomorskie.pomorze.poniatowa.powiat.poznan.priv."
+            + "prochowice.pruszkow.przeworsk.pulawy.radom.rawa-maz.realestate.rel.rybnik.rzeszow.sanok.sdscloud.sej"
+            + "ny.sex.shop.shoparena.simplesite.sklep.skoczow.slask.slupsk.sopot.sos.sosnowiec.stalowa-wola.starach"
+            + "owice.stargard.suwalki.swidnica.swidnik.swiebodzin.swinoujscie.szczecin.szczytno.szkola.targi.tarnob"
+            + "rzeg.tgory.tm.tourism.travel.turek.turystyka.tychy.unicloud.ustka.walbrzych.warmia.warszawa.waw.wegr"
+            + "ow.wielun.wlocl.wloclawek.wodzislaw.wolomin.wroc.wroclaw.zachpomor.zagan.zakopane.zarow.zgora.zgorze"
+            + "lec.co.name.own.co.edu.gov.net.org.indie.ac.biz.com.edu.est.gov.info.isla.name.net.org.pro.prof.aaa."
+            + "aca.acct.avocat.bar.barsy.cloudns.cpa.dnstrace.eng.jur.law.med.recht.com.edu.gov.net.org.plo.sec.123"
+            + "paginaweb.blogspot.com.edu.gov.int.net.nome.org.publ.barsy.belau.cloudns.co.ed.go.ne.or.x443.com.coo"
+            + "p.edu.gov.mil.net.org.blogspot.com.edu.gov.mil.name.net.org.sch.asso.blogspot.com.nom.ybo.clan.arts."
+            + "barsy.blogspot.co.com.firm.info.nom.nt.org.rec.shop.store.tm.www.lima-city.myddns.webspace.ac.blogsp"
+            + "ot.brendly.co.edu.gov.in.org.ox.ua.123sait.ac.adygeya.bashkiria.bir.blogspot.cbg.cldmail.com.dagesta"
+            + "n.edu.eurodir.gov.grozny.int.kalmykia.kustanai.lk3.marine.mcdir.mcpre.mil.mircloud.mordovia.msk.myji"
+            + "no.mytis.na4u.nalchik.net.nov.org.pp.pyatigorsk.ras.regruhosting.spb.test.vladikavkaz.vladimir.build"
+            + ".code.database.development.hs.migration.onporter.ravendb.repl.servers.ac.co.coop.gov.mil.net.org.com"
+            + ".edu.gov.med.net.org.pub.sch.com.edu.gov.net.org.com.edu.gov.net.org.ybo.edu.gov.com.edu.gov.info.me"
+            + "d.net.org.tv.123minsida.a.ac.b.bd.blogspot.brand.c.com.conf.d.e.f.fh.fhsk.fhv.g.h.i.iopsys.itcouldbe"
+            + "wor.k.komforb.kommunalforbund.komvux.l.lanbib.m.myspreadshop.n.naturbruksgymn.o.org.p.paba.parti.pp."
+            + "press.r.s.t.tm.u.w.x.y.z.loginline.blogspot.com.edu.enscaled.gov.net.org.per.bip.com.gov.hashbang.mi"
+            + "l.net.now.org.platform.vxl.wedeploy.barsy.base.hoplix.blogspot.gitapp.gitpage.barsy.byen.cloudera.cy"
+            + "on.fastvps.fnwk.folionetwork.jele.lelux.loginline.mintere.novecore.omniwe.opensocial.platformsh.srht"
+            + ".tst.blogspot.com.edu.gov.net.org.art.blogspot.com.edu.gouv.org.perso.univ.com.edu.gov.me.net.org.sc"
+            + "h.diher.myfast.uber.xs4all.biz.com.edu.gov.me.net.org.sch.co.com.consulado.edu.embaixada.mil.net.noh"
+            + "o.org.principe.saotome.store.sellfy.shopware.storebase.abkhazia.adygeya.aktyubinsk.arkhangelsk.armen"
+            + "ia.ashgabad.azerbaijan.balashov.bashkiria.bryansk.bukhara.chimkent.dagestan.east-kazakhstan.exnet.ge"
+            + "orgia.grozny.ivanovo.jambyl.kalmykia.kaluga.karacol.karaganda.karelia.khakassia.krasnodar.kurgan.kus"
+            + "tanai.lenug.mangyshlak.mordovia.msk.murmansk.nalchik.navoi.north-kazakhstan.nov.obninsk.penza.pokrov"
+            + "sk.sochi.spb.tashkent.termez.togliatti.troitsk.tselinograd.tula.tuva.vladikavkaz.vladimir.vologda.ba"
+            + "rsy.com.edu.gob.org.red.gov.com.edu.gov.mil.net.org.knightpoint.ac.co.org.ch.me.we.blogspot.discours",
+            "e.jelastic.co.sch.ac.co.go.in.mi.net.online.or.shop.ac.biz.co.com.edu.go.gov.int.mil.name.net.nic.or"
+            + "g.test.web.gov.co.com.edu.gov.mil.net.nom.org.com.ens.fin.gov.ind.info.intl.mincom.nat.net.orangeclo"
+            + "ud.org.perso.tourism.611.com.edu.gov.mil.net.nyan.org.oya.quickconnect.rdv.vpnplus.prequalifyme.now-"
+            + "dns.ntdll.av.bbs.bel.biz.com.dr.edu.gen.gov.info.k12.kep.mil.name.nc.net.org.pol.tel.tsk.tv.web.ybo."
+            + "aero.biz.co.com.coop.edu.gov.info.int.jobs.mobi.museum.name.net.org.pro.travel.better-than.dyndns.on"
+            + "-the-web.worse-than.blogspot.club.com.ebiz.edu.game.gov.idv.mil.net.org.url.xn--czrw28b.xn--uc0atv.x"
+            + "n--zf0ao64a.ac.co.go.hotel.info.me.mil.mobi.ne.or.sc.tv.biz.cc.cherkassy.cherkasy.chernigov.chernihi"
+            + "v.chernivtsi.chernovtsy.ck.cn.co.com.cr.crimea.cv.cx.dn.dnepropetrovsk.dnipropetrovsk.donetsk.dp.edu"
+            + ".gov.if.in.inf.ivano-frankivsk.kh.kharkiv.kharkov.kherson.khmelnitskiy.khmelnytskyi.kiev.kirovograd."
+            + "km.kr.krym.ks.kv.kyiv.lg.lt.ltd.lugansk.lutsk.lv.lviv.mk.mykolaiv.net.nikolaev.od.odesa.odessa.org.p"
+            + "l.poltava.pp.rivne.rovno.rv.sb.sebastopol.sevastopol.sm.sumy.te.ternopil.uz.uzhgorod.v.vinnica.vinny"
+            + "tsia.vn.volyn.yalta.zaporizhzhe.zaporizhzhia.zhitomir.zhytomyr.zp.zt.ac.blogspot.co.com.go.ne.or.org"
+            + ".sc.ac.barsy.co.conn.copro.gov.hosp.independent-commission.independent-inquest.independent-inquiry.i"
+            + "ndependent-panel.independent-review.ltd.me.net.nhs.org.plc.police.public-inquiry.pymnt.royal-commiss"
+            + "ion.sch.ak.al.ar.as.az.ca.cloudns.co.ct.dc.de.dni.drud.enscaled.fed.fl.freeddns.ga.golffan.graphox.g"
+            + "u.hi.ia.id.il.in.is-by.isa.kids.ks.ky.la.land-4-sale.ma.md.me.mi.mircloud.mn.mo.ms.mt.nc.nd.ne.nh.nj"
+            + ".nm.noip.nsn.nv.ny.oh.ok.or.pa.platterp.pointto.pr.ri.sc.sd.stuff-4-sale.tn.tx.ut.va.vi.vt.wa.wi.wv."
+            + "wy.com.edu.gub.mil.net.org.co.com.net.org.0e.com.edu.gov.gv.mil.net.org.arts.bib.co.com.e12.edu.firm"
+            + ".gob.gov.info.int.mil.net.nom.org.rar.rec.store.tec.web.at.co.com.k12.net.org.ac.biz.blogspot.com.ed"
+            + "u.gov.health.info.int.name.net.org.pro.blog.cn.com.dev.edu.me.net.org.framer.biz.sch.framer.advisor."
+            + "cloud66.com.dyndns.edu.gov.mypets.net.org.xn--4dbgdty6c.xn--5dbhl8d.xn--8dbq2a.xn--hebda8b.xn--80au."
+            + "xn--90azh.xn--c1avg.xn--d1at.xn--o1ac.xn--o1ach.xn--55qx5d.xn--gmqw5a.xn--mxtq1m.xn--od0alg.xn--uc0a"
+            + "tv.xn--wcvs22d.xn--12c1fe0br.xn--12cfi8ixb8l.xn--12co0c3b4eva.xn--h3cuzk1di.xn--m3ch0j3a.xn--o3cyx2a"
+            + ".xn--41a.xn--80aaa0cvac.xn--90a1af.xn--90amc.xn--c1avg.xn--h1ahn.xn--h1aliz.xn--j1adp.xn--j1aef.xn--"
+            + "j1ael8b.blogsite.crafting.localzone.telebit.zapto.com.edu.gov.mil.net.org.org.ac.agric.alt.co.edu.go"
+            + "v.grondar.law.mil.net.ngo.nic.nis.nom.org.school.tm.web.ac.biz.co.com.edu.gov.info.mil.net.org.sch.c"
+            + "loud66.hs.lima.triton.ac.co.gov.mil.org.a.privatelink.blogspot.sth.blogspot.wien.ex.in.ex.kunden.blo"
+            + "gspot.cloudlets.myspreadshop.act.catholic.nsw.nt.qld.sa.tas.vic.wa.qld.sa.tas.vic.wa.cloud.ezproxy.b"
+            + "logspot.simplesite.virtualcloud.ac.al.am.ap.ba.ce.df.es.go.ma.mg.ms.mt.pa.pb.pe.pi.pr.rj.rn.ro.rr.rs"
+            + ".sc.se.sp.to.ac.al.am.ap.ba.ce.df.es.go.ma.mg.ms.mt.pa.pb.pe.pi.pr.rj.rn.ro.rr.rs.sc.se.sp.to.blogsp"
+            + "ot.ui.instances.svc.ae.appengine.es-1.eu.vip.aruba.it1.cs.tn.uk.uk.ca.uk.us.baremetal.fr-par.instanc"
+            + "es.k8s.nl-ams.pl-waw.scalebook.smartlabeling.ch.de.amazonaws.direct.blogspot.id.id.dev.af-south-1.ap"
+            + "-east-1.ap-northeast-1.ap-northeast-2.ap-northeast-3.ap-south-1.ap-southeast-1.ap-southeast-2.ca-cen"
+            + "tral-1.compute.compute-1.elb.eu-central-1.eu-north-1.eu-south-1.eu-west-1.eu-west-2.eu-west-3.me-sou"
+            + "th-1.s3.s3-ap-northeast-1.s3-ap-northeast-2.s3-ap-south-1.s3-ap-southeast-1.s3-ap-southeast-2.s3-ca-"
+            + "central-1.s3-eu-central-1.s3-eu-west-1.s3-eu-west-2.s3-eu-west-3.s3-external-1.s3-fips-us-gov-west-1"
+            + ".s3-sa-east-1.s3-us-east-2.s3-us-gov-west-1.s3-us-west-1.s3-us-west-2.s3-website-ap-northeast-1.s3-w"
+            + "ebsite-ap-southeast-1.s3-website-ap-southeast-2.s3-website-eu-west-1.s3-website-sa-east-1.s3-website"
+            + "-us-east-1.s3-website-us-west-1.s3-website-us-west-2.sa-east-1.us-east-1.us-east-2.us-west-1.us-west"
+            + "-2.r.alpha.beta.builder.dev-builder.stg-builder.oci.ocp.ocs.demo.instance.ap-northeast-1.ap-northeas"
+            + "t-2.ap-northeast-3.ap-south-1.ap-southeast-1.ap-southeast-2.ca-central-1.eu-central-1.eu-west-1.eu-w"
+            + "est-2.eu-west-3.sa-east-1.us-east-1.us-east-2.us-gov-west-1.us-west-1.us-west-2.eu-1.eu-2.eu-3.eu-4."
+            + "us-1.us-2.us-3.us-4.apps.paas.rag-cloud.rag-cloud-ch.jcloud.jcloud-ver-jpc.demo.cns.members.nodebala"
+            + "ncer.ip.app.paas.eu.caracal.customer.fentiger.lynx.ocelot.oncilla.onza.sphinx.vs.x.yali.cloud.static"
+            + ".xen.eu.app.api.site.pro.jed.lon.ryd.pages.js.u2.u2-local.blogspot.scaleforce.cloud.custom.cloud.dyn"
+            + ".dyn.dyndns.dyn.it.customer.user.london.bzz.git-pages.blogspot.blogspot.blogspot.jelastic.user.fi.de"
+            + "mo.paas.daemon.blogspot.rss.blogspot.mytabit.ravpage.tabitorder.ltd.plc.app.backyards.paas.sekd1.uk0"
+            + ".dyndns.id.apps.stage.mock.sys.devices.dev.disrec.prod.testing.cloud-fr1.g.jc.open.aisai.ama.anjo.as"
+            + "uke.chiryu.chita.fuso.gamagori.handa.hazu.hekinan.higashiura.ichinomiya.inazawa.inuyama.isshiki.iwak"
+            + "ura.kanie.kariya.kasugai.kira.kiyosu.komaki.konan.kota.mihama.miyoshi.nishio.nisshin.obu.oguchi.ohar"
+            + "u.okazaki.owariasahi.seto.shikatsu.shinshiro.shitara.tahara.takahama.tobishima.toei.togo.tokai.tokon"
+            + "ame.toyoake.toyohashi.toyokawa.toyone.toyota.tsushima.yatomi.akita.daisen.fujisato.gojome.hachirogat"
+            + "a.happou.higashinaruse.honjo.honjyo.ikawa.kamikoani.kamioka.katagami.kazuno.kitaakita.kosaka.kyowa.m"
+            + "isato.mitane.moriyoshi.nikaho.noshiro.odate.oga.ogata.semboku.yokote.yurihonjo.aomori.gonohe.hachino"
+            + "he.hashikami.hiranai.hirosaki.itayanagi.kuroishi.misawa.mutsu.nakadomari.noheji.oirase.owani.rokunoh"
+            + "e.sannohe.shichinohe.shingo.takko.towada.tsugaru.tsuruta.abiko.asahi.chonan.chosei.choshi.chuo.funab"
+            + "ashi.futtsu.hanamigawa.ichihara.ichikawa.ichinomiya.inzai.isumi.kamagaya.kamogawa.kashiwa.katori.kat"
+            + "suura.kimitsu.kisarazu.kozaki.kujukuri.kyonan.matsudo.midori.mihama.minamiboso.mobara.mutsuzawa.naga"
+            + "ra.nagareyama.narashino.narita.noda.oamishirasato.omigawa.onjuku.otaki.sakae.sakura.shimofusa.shirak"
+            + "o.shiroi.shisui.sodegaura.sosa.tako.tateyama.togane.tohnosho.tomisato.urayasu.yachimata.yachiyo.yoka"
+            + "ichiba.yokoshibahikari.yotsukaido.ainan.honai.ikata.imabari.iyo.kamijima.kihoku.kumakogen.masaki.mat"
+            + "suno.matsuyama.namikata.niihama.ozu.saijo.seiyo.shikokuchuo.tobe.toon.uchiko.uwajima.yawatahama.echi"
+            + "zen.eiheiji.fukui.ikeda.katsuyama.mihama.minamiechizen.obama.ohi.ono.sabae.sakai.takahama.tsuruga.wa"
+            + "kasa.ashiya.buzen.chikugo.chikuho.chikujo.chikushino.chikuzen.chuo.dazaifu.fukuchi.hakata.higashi.hi"
+            + "rokawa.hisayama.iizuka.inatsuki.kaho.kasuga.kasuya.kawara.keisen.koga.kurate.kurogi.kurume.minami.mi"
+            + "yako.miyama.miyawaka.mizumaki.munakata.nakagawa.nakama.nishi.nogata.ogori.okagaki.okawa.oki.omuta.on"
+            + "ga.onojo.oto.saigawa.sasaguri.shingu.shinyoshitomi.shonai.soeda.sue.tachiarai.tagawa.takata.toho.toy"
+            + "otsu.tsuiki.ukiha.umi.usui.yamada.yame.yanagawa.yukuhashi.aizubange.aizumisato.aizuwakamatsu.asakawa"
+            + ".bandai.date.fukushima.furudono.futaba.hanawa.higashi.hirata.hirono.iitate.inawashiro.ishikawa.iwaki"
+            + ".izumizaki.kagamiishi.kaneyama.kawamata.kitakata.kitashiobara.koori.koriyama.kunimi.miharu.mishima.n"
+            + "amie.nango.nishiaizu.nishigo.okuma.omotego.ono.otama.samegawa.shimogo.shirakawa.showa.soma.sukagawa."
+            + "taishin.tamakawa.tanagura.tenei.yabuki.yamato.yamatsuri.yanaizu.yugawa.anpachi.ena.gifu.ginan.godo.g"
+            + "ujo.hashima.hichiso.hida.higashishirakawa.ibigawa.ikeda.kakamigahara.kani.kasahara.kasamatsu.kawaue."
+            + "kitagata.mino.minokamo.mitake.mizunami.motosu.nakatsugawa.ogaki.sakahogi.seki.sekigahara.shirakawa.t"
+            + "ajimi.takayama.tarui.toki.tomika.wanouchi.yamagata.yaotsu.yoro.annaka.chiyoda.fujioka.higashiagatsum"
+            + "a.isesaki.itakura.kanna.kanra.katashina.kawaba.kiryu.kusatsu.maebashi.meiwa.midori.minakami.naganoha"
+            + "ra.nakanojo.nanmoku.numata.oizumi.ora.ota.shibukawa.shimonita.shinto.showa.takasaki.takayama.tamamur"
+            + "a.tatebayashi.tomioka.tsukiyono.tsumagoi.ueno.yoshioka.asaminami.daiwa.etajima.fuchu.fukuyama.hatsuk"
+            + "aichi.higashihiroshima.hongo.jinsekikogen.kaita.kui.kumano.kure.mihara.miyoshi.naka.onomichi.osakika"
+            + "mijima.otake.saka.sera.seranishi.shinichi.shobara.takehara.abashiri.abira.aibetsu.akabira.akkeshi.as"
+            + "ahikawa.ashibetsu.ashoro.assabu.atsuma.bibai.biei.bifuka.bihoro.biratori.chippubetsu.chitose.date.eb"
+            + "etsu.embetsu.eniwa.erimo.esan.esashi.fukagawa.fukushima.furano.furubira.haboro.hakodate.hamatonbetsu"
+            + ".hidaka.higashikagura.higashikawa.hiroo.hokuryu.hokuto.honbetsu.horokanai.horonobe.ikeda.imakane.ish"
+            + "ikari.iwamizawa.iwanai.kamifurano.kamikawa.kamishihoro.kamisunagawa.kamoenai.kayabe.kembuchi.kikonai"
+            + ".kimobetsu.kitahiroshima.kitami.kiyosato.koshimizu.kunneppu.kuriyama.kuromatsunai.kushiro.kutchan.ky"
+            + "owa.mashike.matsumae.mikasa.minamifurano.mombetsu.moseushi.mukawa.muroran.naie.nakagawa.nakasatsunai"
+            + ".nakatombetsu.nanae.nanporo.nayoro.nemuro.niikappu.niki.nishiokoppe.noboribetsu.numata.obihiro.obira"
+            + ".oketo.okoppe.otaru.otobe.otofuke.otoineppu.oumu.ozora.pippu.rankoshi.rebun.rikubetsu.rishiri.rishir"
+            + "ifuji.saroma.sarufutsu.shakotan.shari.shibecha.shibetsu.shikabe.shikaoi.shimamaki.shimizu.shimokawa."
+            + "shinshinotsu.shintoku.shiranuka.shiraoi.shiriuchi.sobetsu.sunagawa.taiki.takasu.takikawa.takinoue.te"
+            + "shikaga.tobetsu.tohma.tomakomai.tomari.toya.toyako.toyotomi.toyoura.tsubetsu.tsukigata.urakawa.uraus"
+            + "u.uryu.utashinai.wakkanai.wassamu.yakumo.yoichi.aioi.akashi.ako.amagasaki.aogaki.asago.ashiya.awaji."
+            + "fukusaki.goshiki.harima.himeji.ichikawa.inagawa.itami.kakogawa.kamigori.kamikawa.kasai.kasuga.kawani"
+            + "shi.miki.minamiawaji.nishinomiya.nishiwaki.ono.sanda.sannan.sasayama.sayo.shingu.shinonsen.shiso.sum"
+            + "oto.taishi.taka.takarazuka.takasago.takino.tamba.tatsuno.toyooka.yabu.yashiro.yoka.yokawa.ami.asahi."
+            + "bando.chikusei.daigo.fujishiro.hitachi.hitachinaka.hitachiomiya.hitachiota.ibaraki.ina.inashiki.itak"
+            + "o.iwama.joso.kamisu.kasama.kashima.kasumigaura.koga.miho.mito.moriya.naka.namegata.oarai.ogawa.omita"
+            + "ma.ryugasaki.sakai.sakuragawa.shimodate.shimotsuma.shirosato.sowa.suifu.takahagi.tamatsukuri.tokai.t"
+            + "omobe.tone.toride.tsuchiura.tsukuba.uchihara.ushiku.yachiyo.yamagata.yawara.yuki.anamizu.hakui.hakus"
+            + "an.kaga.kahoku.kanazawa.kawakita.komatsu.nakanoto.nanao.nomi.nonoichi.noto.shika.suzu.tsubata.tsurug",
+            "i.uchinada.wajima.fudai.fujisawa.hanamaki.hiraizumi.hirono.ichinohe.ichinoseki.iwaizumi.iwate.joboji"
+            + ".kamaishi.kanegasaki.karumai.kawai.kitakami.kuji.kunohe.kuzumaki.miyako.mizusawa.morioka.ninohe.noda"
+            + ".ofunato.oshu.otsuchi.rikuzentakata.shiwa.shizukuishi.sumita.tanohata.tono.yahaba.yamada.ayagawa.hig"
+            + "ashikagawa.kanonji.kotohira.manno.marugame.mitoyo.naoshima.sanuki.tadotsu.takamatsu.tonosho.uchinomi"
+            + ".utazu.zentsuji.akune.amami.hioki.isa.isen.izumi.kagoshima.kanoya.kawanabe.kinko.kouyama.makurazaki."
+            + "matsumoto.minamitane.nakatane.nishinoomote.satsumasendai.soo.tarumizu.yusui.aikawa.atsugi.ayase.chig"
+            + "asaki.ebina.fujisawa.hadano.hakone.hiratsuka.isehara.kaisei.kamakura.kiyokawa.matsuda.minamiashigara"
+            + ".miura.nakai.ninomiya.odawara.oi.oiso.sagamihara.samukawa.tsukui.yamakita.yamato.yokosuka.yugawara.z"
+            + "ama.zushi.city.city.city.aki.geisei.hidaka.higashitsuno.ino.kagami.kami.kitagawa.kochi.mihara.motoya"
+            + "ma.muroto.nahari.nakamura.nankoku.nishitosa.niyodogawa.ochi.okawa.otoyo.otsuki.sakawa.sukumo.susaki."
+            + "tosa.tosashimizu.toyo.tsuno.umaji.yasuda.yusuhara.amakusa.arao.aso.choyo.gyokuto.kamiamakusa.kikuchi"
+            + ".kumamoto.mashiki.mifune.minamata.minamioguni.nagasu.nishihara.oguni.ozu.sumoto.takamori.uki.uto.yam"
+            + "aga.yamato.yatsushiro.ayabe.fukuchiyama.higashiyama.ide.ine.joyo.kameoka.kamo.kita.kizu.kumiyama.kyo"
+            + "tamba.kyotanabe.kyotango.maizuru.minami.minamiyamashiro.miyazu.muko.nagaokakyo.nakagyo.nantan.oyamaz"
+            + "aki.sakyo.seika.tanabe.uji.ujitawara.wazuka.yamashina.yawata.asahi.inabe.ise.kameyama.kawagoe.kiho.k"
+            + "isosaki.kiwa.komono.kumano.kuwana.matsusaka.meiwa.mihama.minamiise.misugi.miyama.nabari.shima.suzuka"
+            + ".tado.taiki.taki.tamaki.toba.tsu.udono.ureshino.watarai.yokkaichi.furukawa.higashimatsushima.ishinom"
+            + "aki.iwanuma.kakuda.kami.kawasaki.marumori.matsushima.minamisanriku.misato.murata.natori.ogawara.ohir"
+            + "a.onagawa.osaki.rifu.semine.shibata.shichikashuku.shikama.shiogama.shiroishi.tagajo.taiwa.tome.tomiy"
+            + "a.wakuya.watari.yamamoto.zao.aya.ebino.gokase.hyuga.kadogawa.kawaminami.kijo.kitagawa.kitakata.kitau"
+            + "ra.kobayashi.kunitomi.kushima.mimata.miyakonojo.miyazaki.morotsuka.nichinan.nishimera.nobeoka.saito."
+            + "shiiba.shintomi.takaharu.takanabe.takazaki.tsuno.achi.agematsu.anan.aoki.asahi.azumino.chikuhoku.chi"
+            + "kuma.chino.fujimi.hakuba.hara.hiraya.iida.iijima.iiyama.iizuna.ikeda.ikusaka.ina.karuizawa.kawakami."
+            + "kiso.kisofukushima.kitaaiki.komagane.komoro.matsukawa.matsumoto.miasa.minamiaiki.minamimaki.minamimi"
+            + "nowa.minowa.miyada.miyota.mochizuki.nagano.nagawa.nagiso.nakagawa.nakano.nozawaonsen.obuse.ogawa.oka"
+            + "ya.omachi.omi.ookuwa.ooshika.otaki.otari.sakae.sakaki.saku.sakuho.shimosuwa.shinanomachi.shiojiri.su"
+            + "wa.suzaka.takagi.takamori.takayama.tateshina.tatsuno.togakushi.togura.tomi.ueda.wada.yamagata.yamano"
+            + "uchi.yasaka.yasuoka.chijiwa.futsu.goto.hasami.hirado.iki.isahaya.kawatana.kuchinotsu.matsuura.nagasa"
+            + "ki.obama.omura.oseto.saikai.sasebo.seihi.shimabara.shinkamigoto.togitsu.tsushima.unzen.city.ando.gos"
+            + "e.heguri.higashiyoshino.ikaruga.ikoma.kamikitayama.kanmaki.kashiba.kashihara.katsuragi.kawai.kawakam"
+            + "i.kawanishi.koryo.kurotaki.mitsue.miyake.nara.nosegawa.oji.ouda.oyodo.sakurai.sango.shimoichi.shimok"
+            + "itayama.shinjo.soni.takatori.tawaramoto.tenkawa.tenri.uda.yamatokoriyama.yamatotakada.yamazoe.yoshin"
+            + "o.aseinet.gehirn.aga.agano.gosen.itoigawa.izumozaki.joetsu.kamo.kariwa.kashiwazaki.minamiuonuma.mits"
+            + "uke.muika.murakami.myoko.nagaoka.niigata.ojiya.omi.sado.sanjo.seiro.seirou.sekikawa.shibata.tagami.t"
+            + "ainai.tochio.tokamachi.tsubame.tsunan.uonuma.yahiko.yoita.yuzawa.beppu.bungoono.bungotakada.hasama.h"
+            + "iji.himeshima.hita.kamitsue.kokonoe.kuju.kunisaki.kusu.oita.saiki.taketa.tsukumi.usa.usuki.yufu.akai"
+            + "wa.asakuchi.bizen.hayashima.ibara.kagamino.kasaoka.kibichuo.kumenan.kurashiki.maniwa.misaki.nagi.nii"
+            + "mi.nishiawakura.okayama.satosho.setouchi.shinjo.shoo.soja.takahashi.tamano.tsuyama.wake.yakage.aguni"
+            + ".ginowan.ginoza.gushikami.haebaru.higashi.hirara.iheya.ishigaki.ishikawa.itoman.izena.kadena.kin.kit"
+            + "adaito.kitanakagusuku.kumejima.kunigami.minamidaito.motobu.nago.naha.nakagusuku.nakijin.nanjo.nishih"
+            + "ara.ogimi.okinawa.onna.shimoji.taketomi.tarama.tokashiki.tomigusuku.tonaki.urasoe.uruma.yaese.yomita"
+            + "n.yonabaru.yonaguni.zamami.abeno.chihayaakasaka.chuo.daito.fujiidera.habikino.hannan.higashiosaka.hi"
+            + "gashisumiyoshi.higashiyodogawa.hirakata.ibaraki.ikeda.izumi.izumiotsu.izumisano.kadoma.kaizuka.kanan"
+            + ".kashiwara.katano.kawachinagano.kishiwada.kita.kumatori.matsubara.minato.minoh.misaki.moriguchi.neya"
+            + "gawa.nishi.nose.osakasayama.sakai.sayama.sennan.settsu.shijonawate.shimamoto.suita.tadaoka.taishi.ta"
+            + "jiri.takaishi.takatsuki.tondabayashi.toyonaka.toyono.yao.ariake.arita.fukudomi.genkai.hamatama.hizen"
+            + ".imari.kamimine.kanzaki.karatsu.kashima.kitagata.kitahata.kiyama.kouhoku.kyuragi.nishiarita.ogi.omac"
+            + "hi.ouchi.saga.shiroishi.taku.tara.tosu.yoshinogari.arakawa.asaka.chichibu.fujimi.fujimino.fukaya.han"
+            + "no.hanyu.hasuda.hatogaya.hatoyama.hidaka.higashichichibu.higashimatsuyama.honjo.ina.iruma.iwatsuki.k"
+            + "amiizumi.kamikawa.kamisato.kasukabe.kawagoe.kawaguchi.kawajima.kazo.kitamoto.koshigaya.kounosu.kuki."
+            + "kumagaya.matsubushi.minano.misato.miyashiro.miyoshi.moroyama.nagatoro.namegawa.niiza.ogano.ogawa.ogo"
+            + "se.okegawa.omiya.otaki.ranzan.ryokami.saitama.sakado.satte.sayama.shiki.shiraoka.soka.sugito.toda.to"
+            + "kigawa.tokorozawa.tsurugashima.urawa.warabi.yashio.yokoze.yono.yorii.yoshida.yoshikawa.yoshimi.city."
+            + "city.aisho.gamo.higashiomi.hikone.koka.konan.kosei.koto.kusatsu.maibara.moriyama.nagahama.nishiazai."
+            + "notogawa.omihachiman.otsu.ritto.ryuoh.takashima.takatsuki.torahime.toyosato.yasu.akagi.ama.gotsu.ham"
+            + "ada.higashiizumo.hikawa.hikimi.izumo.kakinoki.masuda.matsue.misato.nishinoshima.ohda.okinoshima.okui"
+            + "zumo.shimane.tamayu.tsuwano.unnan.yakumo.yasugi.yatsuka.arai.atami.fuji.fujieda.fujikawa.fujinomiya."
+            + "fukuroi.gotemba.haibara.hamamatsu.higashiizu.ito.iwata.izu.izunokuni.kakegawa.kannami.kawanehon.kawa"
+            + "zu.kikugawa.kosai.makinohara.matsuzaki.minamiizu.mishima.morimachi.nishiizu.numazu.omaezaki.shimada."
+            + "shimizu.shimoda.shizuoka.susono.yaizu.yoshida.ashikaga.bato.haga.ichikai.iwafune.kaminokawa.kanuma.k"
+            + "arasuyama.kuroiso.mashiko.mibu.moka.motegi.nasu.nasushiobara.nikko.nishikata.nogi.ohira.ohtawara.oya"
+            + "ma.sakura.sano.shimotsuke.shioya.takanezawa.tochigi.tsuga.ujiie.utsunomiya.yaita.aizumi.anan.ichiba."
+            + "itano.kainan.komatsushima.matsushige.mima.minami.miyoshi.mugi.nakagawa.naruto.sanagochi.shishikui.to"
+            + "kushima.wajiki.adachi.akiruno.akishima.aogashima.arakawa.bunkyo.chiyoda.chofu.chuo.edogawa.fuchu.fus"
+            + "sa.hachijo.hachioji.hamura.higashikurume.higashimurayama.higashiyamato.hino.hinode.hinohara.inagi.it"
+            + "abashi.katsushika.kita.kiyose.kodaira.koganei.kokubunji.komae.koto.kouzushima.kunitachi.machida.megu"
+            + "ro.minato.mitaka.mizuho.musashimurayama.musashino.nakano.nerima.ogasawara.okutama.ome.oshima.ota.set"
+            + "agaya.shibuya.shinagawa.shinjuku.suginami.sumida.tachikawa.taito.tama.toshima.chizu.hino.kawahara.ko"
+            + "ge.kotoura.misasa.nanbu.nichinan.sakaiminato.tottori.wakasa.yazu.yonago.asahi.fuchu.fukumitsu.funaha"
+            + "shi.himi.imizu.inami.johana.kamiichi.kurobe.nakaniikawa.namerikawa.nanto.nyuzen.oyabe.taira.takaoka."
+            + "tateyama.toga.tonami.toyama.unazuki.uozu.yamada.arida.aridagawa.gobo.hashimoto.hidaka.hirogawa.inami"
+            + ".iwade.kainan.kamitonda.katsuragi.kimino.kinokawa.kitayama.koya.koza.kozagawa.kudoyama.kushimoto.mih"
+            + "ama.misato.nachikatsuura.shingu.shirahama.taiji.tanabe.wakayama.yuasa.yura.asahi.funagata.higashine."
+            + "iide.kahoku.kaminoyama.kaneyama.kawanishi.mamurogawa.mikawa.murayama.nagai.nakayama.nanyo.nishikawa."
+            + "obanazawa.oe.oguni.ohkura.oishida.sagae.sakata.sakegawa.shinjo.shirataka.shonai.takahata.tendo.tozaw"
+            + "a.tsuruoka.yamagata.yamanobe.yonezawa.yuza.abu.hagi.hikari.hofu.iwakuni.kudamatsu.mitou.nagato.oshim"
+            + "a.shimonoseki.shunan.tabuse.tokuyama.toyota.ube.yuu.chuo.doshi.fuefuki.fujikawa.fujikawaguchiko.fuji"
+            + "yoshida.hayakawa.hokuto.ichikawamisato.kai.kofu.koshu.kosuge.minami-alps.minobu.nakamichi.nanbu.naru"
+            + "sawa.nirasaki.nishikatsura.oshino.otsuki.showa.tabayama.tsuru.uenohara.yamanakako.yamanashi.city.blo"
+            + "gspot.upaas.dev.sites.localhost.site.blogspot.forgot.forgot.prod.1.2.centralus.eastasia.eastus2.west"
+            + "europe.westus2.r.u.fra1-de.west1-us.jls-sto1.jls-sto2.jls-sto3.freetls.map.prod.ssl.map.paas.hosting"
+            + ".webpaas.jelastic.nordeste-idc.j.soc.user.beta.pages.jelastic.jelastic.storage.website.blogspot.gs.g"
+            + "s.nes.gs.nes.gs.os.valer.xn--vler-qoa.gs.gs.os.gs.heroy.sande.gs.gs.bo.heroy.xn--b-5ga.xn--hery-ira."
+            + "gs.gs.gs.gs.valer.gs.gs.gs.gs.bo.xn--b-5ga.gs.gs.gs.sande.gs.sande.xn--hery-ira.xn--vler-qoa.blogspo"
+            + "t.staging.tele.c.rsc.origin.go.home.al.asso.at.au.be.bg.ca.cd.ch.cn.cy.cz.de.dk.edu.ee.es.fi.fr.gr.h"
+            + "r.hu.ie.il.in.int.is.it.jp.kr.lt.lu.lv.mc.me.mk.mt.my.net.ng.nl.no.nz.paris.pl.pt.q-a.ro.ru.se.si.sk"
+            + ".tr.uk.us.cloud.os.stg.s3.ap.griw.ic.is.kmpsp.konsulat.kppsp.kwp.kwpsp.mup.mw.oirm.oum.pa.pinb.piw.p"
+            + "o.psp.psse.pup.rzgw.sa.sdn.sko.so.sr.starostwo.ug.ugim.um.umig.upow.uppo.us.uw.uzs.wif.wiih.winb.wio"
+            + "s.witd.wiw.wsa.wskr.wuoz.wzmiuw.zp.bci.shop.hb.vps.hosting.landing.spectrum.vps.jelastic.service.su."
+            + "bc.ent.eu.us.direct.blogspot.gov.mymailer.adimo.barsy.barsyonline.blogspot.bytemark.layershift.myspr"
+            + "eadshop.nh-serv.no-ip.retrosnub.wellbeingzone.api.campaign.homeoffice.service.affinitylottery.glug.l"
+            + "ug.lugs.raffleentry.weeklylottery.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib."
+            + "cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.phx.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.lib.cc.k12.lib.c"
+            + "c.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.an"
+            + "n-arbor.cc.cog.dst.eaton.gen.k12.lib.mus.tec.washtenaw.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.c"
+            + "c.k12.lib.cc.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12"
+            + ".lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.lib.cc.k12.lib.cc.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k"
+            + "12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.k12.lib.cc.cc.k12.lib.blogspot.d.blogspot.mel.schools.sca"
+            + "le.alp1.eur.fr-par-1.fr-par-2.nl-ams-1.fnc.k8s.s3.s3-website.whm.priv.pub.k8s.s3.s3-website.whm.k8s."
+            + "s3.s3-website.cn-north-1.compute.eb.elb.cloud9.cloud9.cloud9.dualstack.cloud9.dualstack.s3.s3-websit",
+            "e.cloud9.cloud9.dualstack.s3.s3-website.cloud9.dualstack.cloud9.dualstack.cloud9.dualstack.s3.s3-web"
+            + "site.cloud9.dualstack.s3.s3-website.cloud9.cloud9.cloud9.dualstack.cloud9.dualstack.s3.s3-website.cl"
+            + "oud9.dualstack.s3.s3-website.cloud9.cloud9.dualstack.cloud9.dualstack.cloud9.dualstack.s3.s3-website"
+            + ".cloud9.cloud9.j.flt.usr.pages.cust.reservd.cust.reservd.cust.cust.reservd.jelastic.user.cdn.a.globa"
+            + "l.a.b.global.fr-1.lon-1.lon-2.ny-1.ny-2.sg-1.atl.njs.ric.ssl.app.os.dh.vm.j.cust.chtr.paroch.pvt.use"
+            + "rs.it1.functions.nodes.nodes.nodes.s3.cn-north-1.cn-northwest-1.vfs.webview-assets.vfs.webview-asset"
+            + "s.vfs.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.vfs.webview-assets.s3.vfs.webview-a"
+            + "ssets.s3.vfs.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.vfs.we"
+            + "bview-assets.vfs.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.vf"
+            + "s.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.s3.vfs.webview-assets.vfs.webview-asset"
+            + "s.cloud.app.",
+    };
+
+    static final String[] NODES = {
+            "\u05d2\000\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\007\001\001"
+            + "\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\010\001\000\001V\001\000\001\005"
+            + "\001\000\001\000\001\005\001\000\001\000\001\005\001\000\001\000\001\000\001\000\001\000\001\007\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\011\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\006\001\000\001\000\001\034\001\000\001"
+            + "\000\001\000\001\016\001\000\001\000\001\000\001\000\001\006\001\000\001\000\001\001\001\000\001\001"
+            + "\001\000\001\022\001\000\001\000\001\022\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\001\001\000\001\010\001\000\001\014\001\000\001\010\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\002\001\000\001\000\001"
+            + "\012\001\000\001\000\001\000\001\000\001\000\001\000\002\010\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\001\001&\001\005\001\000\001\005\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\017\001\025\001\000\001\000\001\000\001\000\001\000\001\000\001\005\001\000\001\000\001"
+            + "\006\001\000\001)\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\215\001\000\001\000\001\000\001\000\001\000\001\000\001\006\001\005"
+            + "\001\000\001\001\001\001\001\000\001\000\001\000\001\002\001\006\001\007\001\000\001\025\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\011\001\001\001\000\001\000\001\000\001\001\001\000\001\000\001\000"
+            + "\001\015\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\021\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\002\005\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\033\001\003\001\000\001\004\001/\001\027\001\000\001\001\001\000\001\000"
+            + "\001\000\001\u018f\001\000\001\000\001\003\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\002\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\007"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\006\001\000\001\006\001\004\001"
+            + "\003\001\014\001\000\001\000\001\006\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001G\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\001\001\027\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\010\001\005\001\000\001\012\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\012\001\001\001\000\001\016\001"
+            + "\000\001\000\001\001\001\001\001\012\001\011\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\002\000\001\000\001\007\001\000\001\001\001\010\001\000\001\011\001\000\001\001\001"
+            + "\002\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000"
+            + "\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\012\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\012\001\000"
+            + "\002\000\001\000\001\000\001\000\001\000\001\000\001\006\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\042\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\002\001\001\001\007\001\000\001\000\001\000"
+            + "\001\000\001\000\001\006\001\000\001\005\001\006\001\000\001\000\001\000\001\000\001\007\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\006\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\003\001\000\001\000\001\000\001\000\001\007\001\000\001\007\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\001\001\000\001\012\001\010\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\007\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\031\001\000\001\000\001\007"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\013\001\001\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\006\001\000\001\021\001 \001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\016\001\003\001\000\001\000\001\000\001\010\001\010\001\000\001\000"
+            + "\001\000\001\000\001.\001\000\001\000\001\000\001\025\001\000\001\000\001\000\001\000\001\000\001\001"
+            + "\001\000\001\000\001\000\001H\001\000\001\006\001\011\001\000\001\010\001\000\001\000\001\000\001\u01a1"
+            + "\001\000\001\000\001\000\001\000\001\000\001\004\001\000\001\000\001\000\001\000\001\000\001\000\002"
+            + "\000\001\000\001\010\001\000\001\000\001\000\001\000\001\337\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\011\001\000\001\000\001\000\001\000\001\014\001\000\002\007\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\021\001\004\001\000\001\000\001\000\001\006\001\000\001\000\001\036"
+            + "\001\002\001\000\001\000\001\007\001\004\001\000\001\010\001\012\001\000\001\000\001\000\001\000\001"
+            + "\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\005\001\007\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\002\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\003\001\000\001\001\001\000\001\017\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\005\001\012\001\002\001\000\001\000\001\002\001\000\001\000\001\000\001\011\001\011\001\006\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\002\001\000\001\005\001+\001\000\001\001\001\000\001\000\001\000\001"
+            + "\000\001\000\001\001\001\000\001\011\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\010\001\007\001\000\001\000\001\000\002\000\001\004\001\005\001\002\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001"
+            + "\001\000\001\002\001\007\001\000\001\004\001\000\001\000\001\007\001\u0222\001\000\001\000\001\016\001"
+            + "\013\001\006\001\011\001\010\001\021\001\000\001\000\001\002\001\000\001\000\001\000\001\002\001\000"
+            + "\001\000\001\245\001\000\001\000\001\005\001\000\001\000\001\001\001\000\001\000\001\000\001\012\001"
+            + "\000\001\017\001\000\001\000\001\016\001\000\001\000\001\000\001\000\001\000\001\000\001\012\001\u02d8"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\002\007\001\000\001\000\001\000\001\004\001"
+            + "\000\001\020\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\011\001\000\001\003"
+            + "\001\000\001\000\001\000\001\003\001\000\001\000\001\000\001\001\001r\001\000\001\000\001\000\001\000"
+            + "\001\000\001\001\001\013\001\011\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001"
+            + "\000\001\010\001\000\001\003\001\000\001\000\002\010\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\001\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\016\001"
+            + "\263\001\001\001\000\001\000\001\000\001\000\001\002\001\005\001\000\001\000\001\000\001\000\001\001"
+            + "\001\000\001\015\001\000\001\000\001\000\001\000\001\016\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\007\001\012\001\001\001\010\001\000\001\007\001\011\001\000"
+            + "\001\000\001\000\001\000\001\000\001\004\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\017\001\000\001"
+            + "\003\001\000\001\000\001\000\001\012\001\000\001(\001\000\001\000\001\012\001\007\001\000\001\000\001"
+            + "\010\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\005\001\000\001\000\001\005\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\001\001\002\001\010\001/\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\010\001\013\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\003\001\000\001\000\001\000\001\000\001\003\001\000\001\000\001"
+            + "\000\001\021\001\000\001\001\001\000\001\000\001\000\001\000\001\005\001\000\001\000\001\000\001\000"
+            + "\001\010\001\000\001\007\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001"
+            + "\000\001\000\001\003\001\000\001\000\001\000\001\000\001\010\001\014\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\003\001\000\001\000\001\000\001\000\0014\001\000\001\000"
+            + "\001\000\001\001\001\000\001\000\001\000\001\005\001\000\001\000\001\001\001\006\001\000\001\001\001"
+            + "\003\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\003\001\000"
+            + "\001\001\001\000\001\002\001\000\001\001\001\000\001\000\001\000\001\000\001\001\001\000\001\011\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\017\001\000\001\000"
+            + "\001\000\001\000\001\001\001\010\001\000\001\016\001\014\001\001\001\000\001\000\001\002\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\026\001\001\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\021\001\000\001\000\001\000\001\000\001\004\001\000\001\017\001\014\001"
+            + "S\001\000\001\000\001\011\001\027\001\000\001\000\001\000\001\000\001\000\001I\001\006\001\004\001\000"
+            + "\001\000\001\000\001\000\001\010\001\024\001\000\001\000\001\000\001\000\001\000\001\001\001\005\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\015\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\010\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000"
+            + "\001\002\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\011\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\004\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\006\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\006"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\006"
+            + "\001\000\001\000\001\012\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\005\001"
+            + "\000\001\000\001\000\001\000\001\006\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\022"
+            + "\000\000\001\000\001\000\001\000\001\013\001\004\001\000\001\005\001\000\001\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\010\000\001\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\020\000"
+            + "\010\000\010\000\010\000\010\000\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\020\000\010\000\010\000\010\001\010\001\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000"
+            + "\010\000\010\000\010\001\001\000\010\001\001\001\000\002\020\000\010\000\010\000\001\000\010\000\010"
+            + "\000\010\000\001\002\000\000\010\000\001\000\001\003\001\000\001\011\001\005\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\010\000\001\000\010\001\000\001\000\000\010\000\020\000\010\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\001\000\001\000"
+            + "\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\003"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\033\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\033\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\002"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000"
+            + "\001\000\001\001\001\000\001\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\010\000\001"
+            + "\000\001\000\010\000\001\000\020\000\010\000\001\000\010\000\010\000\001\000\001\000\010\000\001\000"
+            + "\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\000\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000\001\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\001\020\002\000\000\010\000\010\000\010\000\010\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000"
+            + "\001\000\001\000\001\000\004\000\010\000\001\000\001\000\001\000\001\001\000\000\020\000\010\000\010"
+            + "\001\000\001\000\000\010\002\000\000\010\001\010\000\010\000\010\000\020\000\020\002\010\000\010\001"
+            + "\010\000\010\003\000\010\000\000\020\000\020\000\010\002\000\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\001\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001"
+            + "\000\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\001\001\000\010\000\001\001\010\000\001\000\001\000\001\000\001\000"
+            + "\010\000\010\000\001\000\010\000\010\000\001\000\001\000\001\000\020\000\001\001\010\000\010\000\001"
+            + "\000\020\000\010\000\020\000\010\000\010\000\010\001\010\000\010\000\010\000\010\000\010\000\0102\000"
+            + "\000\010\000\010\000\010\000\010\000\010\001\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\002\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\003\000\000\010\003"
+            + "\020\000\010\002\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\020\000\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\021\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\010\000\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\002\000"
+            + "\000\010\000\010\000\010\002\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\001\000\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\002\000\000\020\001\000\001\000\000\010\000\010\000\010\001\000\000\010\000\010\001\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\013\000\000\010\000\010\000\010\000\010\000\010\000\010\001\000\001\000\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\001\000\000\010\001\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\020\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\001\000\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\020\003\000\000\010\001\000\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\001\010\000\010\000\010\000\010\002\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\010\000\001\000\010\000\001\000\001\002\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\002\000\001\000\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\002\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020\000\010\000"
+            + "\010\000\010\001\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\020\000\010\000\010\000\020\000\020\001\000\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\020\000\020\000\010\000\020\000\010\001\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\001\020\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\010\000\001\000\001\001\000\000\010\000\001\001\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\010\001\001\000\001\000\001\000\010\000\001\000\001\000\020\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\020"
+            + "\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\001\000\010\001\000\002\000\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\020\000\010\000\001\000\001\000\001\000"
+            + "\001\000\010\000\001\000\001\000\001\000\010\000\001\000\010\000\010\000\001\000\010\000\010\000\010"
+            + "\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\000\010\000\001\000\001\001\010\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\020\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\010\000\010"
+            + "\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\010\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\001\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\001\001\000\001\000\010\000\010\000\001\000\001\001\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\010\000\001\000\010\000\001\004\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\002\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\010\000\001\000\001\000\010\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\001\000\010\000\010\000\020\000\010\000\010\002\000\000\010\000\010\000\010\001\000\001\000\001"
+            + "\000\000\010\000\010\000\010\000\010\000\010\000\001\001\000\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000"
+            + "\010\000\010\000\020\000\010\000\010\000\010\001\000\000\020\000\020\000\020\000\010\000\010\001\010"
+            + "\001\010\000\010\000\010\000\010\001\000\000\020\000\010\000\010\000\010\000\010\000\010\000\020\000"
+            + "\010\004\000\000\010\001\000\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\001\000\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\001\000\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\0014\001\034\001\000\010\026\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010:\001\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\001\000\010\026\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\017\001?\0013\001&\001\000"
+            + "\010\000\010\000\010\000\001\000\010\000\001\000\010$\001\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\031\001\216\001\000\010\000\010.\0013\001\000\010\023\001\000\010\042\001\000\010\017\001\024\001"
+            + "\036\001\000\010\001\002\000\010\000\010\000\010\001\002\001\002\037\001\027\001\000\010\037\001\000"
+            + "\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\036\001 \001\033\001\000\010\000\010\000"
+            + "\010\000\010K\001\026\001\001\002\000\010&\001\002\001\042\001\000\010\000\010\000\010\023\001\032\001"
+            + "*\001\000\010\000\0012\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\032\001E\001\001\002\000\010\000\010\001\002\027"
+            + "\001\027\001$\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\037\001\021\0019\001\000\010"
+            + "\015\001\030\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\035\001\000\010\000\010\000"
+            + "\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\042\001\020\001\034"
+            + "\001\001\002\000\010\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010"
+            + "\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000\010\000\010\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\010\001\000\000\001\000\001\000\001\000\010\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\002\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\020\000\010\000\010"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\010\000\010\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000"
+            + "\010\000\010\000\010\000\010\000\010\000\001\000\010\000\010\000\010\000\001\001\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\001\000\010\000\010\000\001\000\010\000\010\000\010\000\010\000\010\000\001\000\010\000\010\000\001"
+            + "\000\001\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\001"
+            + "\000\001\000\001\000\001\000\010\000\010\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\001\000\001\000\000\001\000\001\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\001\000\000\010\007\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\001\010\000\010\000\010\000\010\000\010"
+            + "\000\010\002\010\000\010\000\010\000\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\003\000\000\010\000\010\004\000\001\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010",
+            "\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\002\000\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\002\000\001\000\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\002\000\000\010\000\010\000\010"
+            + "\000\010\001\000\000\010\001\010\000\010\001\000\000\010\000\010\000\010\000\010\001\010\000\010\002"
+            + "\010\000\010\000\020\000\010\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\010\001\001\000\001\000\010\000\010\000\001\000\001\000"
+            + "\010\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\020\000\010\001\001\000\001\000\001\000\001\000\001"
+            + "\001\001\001\000\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\001\000\000\001\000\001\000\001\000\010"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\003\000\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\001\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\000\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\002\000\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000"
+            + "\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\004"
+            + "\000\000\001\000\001\000\001\000\001\000\001\001\001\000\001\001\001\000\001\001\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\001\000\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\002"
+            + "\000\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\001\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\001\000\000\001\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\002\000\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\000\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\001\001\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\001\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\002\000\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\002\010\000\010\000\010\000\0107\010\000\010\000\010\000"
+            + "\010\003\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\010\000\001\000\001"
+            + "\000\001\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\001/\001\000\001\000\001\000\010"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000\010\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\010\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000"
+            + "\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\010\000\001\000"
+            + "\001\000\001\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\010\000\010\000\001\001\000\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\010\000\001\000\010"
+            + "\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000"
+            + "\001\000\010\000\010\000\010\000\001\000\010\001\000\000\001\000\001\000\001\000\001\000\001\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\010\000\010\000\010\000\010\000\010"
+            + "\000\010\004\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000"
+            + "\010\000\010\000\010\000\010\000\020\000\020\000\020\000\010\000\010\000\020\000\010\000\010\000\010"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\010\000\010\001\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\010\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\010\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\001\000\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000"
+            + "\001\000\010\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\010\000\001\000\001\000\010"
+            + "\000\001\004\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020"
+            + "\000\010\000\020\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\020\000\010"
+            + "\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\010\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\010"
+            + "\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\010\001\000\000\010\000\010\000\010\000"
+            + "\010\000\010\000\001\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\001\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\010\000\001\001\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\010\013\001\000\010\000\010\004\001\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\001\000\001\000\001\000\001\006\001\000\001\000\001\000\010\000\010\000\010\000\002"
+            + "\003\001\003\001\003\001\003\001\003\001\003\001\000\010\003\001\003\001\003\001\003\001\000\001\000"
+            + "\010\001\000\000\001\003\001\000\010\003\001\000\010\000\010\003\001\002\001\003\001\003\001\003\001"
+            + "\003\001\000\010\000\001\000\001\003\001\003\001\003\001\000\010\003\001\003\001\003\001\013\001\000"
+            + "\010\003\001\003\001\003\001\003\001\003\001\002\001\003\001\003\001\003\001\003\001\000\010\000\001"
+            + "\003\001\003\001\003\001\003\001\003\001\003\001\000\010\000\010\003\001\002\001\003\001\002\001\000"
+            + "\010\003\001\003\001\003\001\003\001\003\001\003\001\003\001\003\001\001\001\003\001\001\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\001"
+            + "\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\010\000\001\000\010\000\001\000"
+            + "\001\000\010\000\010\000\010\000\010\000\020\000\010\000\001\000\010\000\001\000\001\000\010\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020\000"
+            + "\010\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\001\000\001\000\001\001\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010"
+            + "\000\010\000\010\000\020\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\001\000"
+            + "\010\000\010\000\020\000\020\000\020\000\020\000\010\001\000\000\010\000\001\000\001\001\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000"
+            + "\010\000\010\001\000\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020\001\000\000\010"
+            + "\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\003"
+            + "\000\005\000\002\000\000\010\004\000\003\000\000\010\000\010\000\010\000\010\004\000\000\010\000\010"
+            + "\000\010\000\010\000\020\001\000\001\000\002\000\004\000\001\000\004\000\002\000\002\000\004\000\000"
+            + "\020\000\020\000\020\004\000\001\000\001\000\002\000\004\000\004\000\001\000\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\002\000\002\010"
+            + "\004\000\001\000\001\000\000\020\000\010\000\010\000\020\000\020\000\020\000\020\000\020\000\020\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020\000\010\000\020\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\001\000\000\020\000\010\002\000\000\010\000\010\000\010\000"
+            + "\010\001\000\000\010\000\020\000\010\000\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\020\000\010\000\010\000\010\000\010\000\001\000\001\000\010\000"
+            + "\020\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\020\000\010\002\000\002\000"
+            + "\001\000\002\000\000\010\000\010\000\010\001\000\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\004\000\004"
+            + "\000\004\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\004\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\001\000\000"
+            + "\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\004\000\004\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\004\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\002\000\003\000\000\010\006\000\000\020\000\020\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\003\000\000\010\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010"
+            + "\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\001"
+            + "\000\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000"
+            + "\010\000\010\000\010\000\020\000\020\000\020\000\020\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\001\000\010\000\010\000\010\000\010\000\010\002\000\001\000\000\010\000"
+            + "\010\000\010\001\000\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\003\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001"
+            + "\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000\001\000"
+            + "\001\000\001\000\001\000\001\000\001\000\001\000\001\000\010\000\010\000\010\000\010\000\001\001\000"
+            + "\000\010\001\000\000\010\000\010\000\010\001\010\001\010\000\010\000\010\000\010\000\010\000\010\001"
+            + "\010\000\010\000\010\000\010\001\010\000\010\000\010\001\000\000\020\002\000\000\020\002\000\002\000"
+            + "\002\000\001\000\002\000\001\000\000\010\000\010\002\000\002\000\001\000\000\010\000\010\002\000\001"
+            + "\000\002\000\001\000\002\000\001\000\000\010\000\010\002\000\001\000\000\010\000\010\002\000\002\000"
+            + "\002\000\001\000\002\000\001\000\000\010\000\010\002\000\001\000\000\010\000\010\002\000\002\000\001"
+            + "\000\002\000\001\000\002\000\001\000\000\010\000\010\002\000\002\000\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\001\000\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\001\000\000\010\000\010\000\010\000\010\000\001\000\001\000\001\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010"
+            + "\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000"
+            + "\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010\000\010",
+    };
+}
@@ -0,0 +1,418 @@
+package org.netpreserve.urlcanon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Public suffixes ("com", "co.uk", "blogspot.com") and registrable domains
+ * ("example.co.uk"), from the Public Suffix List (https://publicsuffix.org/).
+ *
+ * The rules are stored as a trie over their labels, last label first, the
+ * order {@link ParsedUrl#reverseHost} puts them in. The trie is laid out
+ * breadth first by {@link TrieLayout}, so that edge e leads to node e + 1,
+ * and the edges' labels are kept as one run of chars. For the built-in list
+ * ({@link #getDefault()}) the arrays are precompiled into
+ * {@link PublicSuffixData}, which {@link #main} regenerates from a copy of
+ * public_suffix_list.dat.
+ *
+ * Finding the public suffix is a single walk over the host's labels that
+ * allocates nothing. Hosts should be canonical: lowercase, with
+ * internationalized labels in punycode, as the canonicalizers leave them;
+ * the list's own internationalized rules are converted to punycode when it
+ * is compiled.
+ */
+public class PublicSuffixes {
+    // node flags, for the rules of the ICANN section and, shifted by PRIVATE_SHIFT, the private section
+    static final int RULE = 1; // the node's domain is a public suffix
+    static final int WILDCARD = 2; // its subdomains are
+    static final int EXCEPTION = 4; // it is not, though its parent has a wildcard
+    static final int PRIVATE_SHIFT = 3;
+
+    private static final String PRIVATE_SECTION = "===BEGIN PRIVATE DOMAINS===";
+
+    // node n's edges are edgeStart[n] to edgeStart[n + 1] - 1, sorted by label, and edge e leads to node e + 1.
+    // Edge e's label starts at labels[labelStart[e]] and runs up to a dot, the char before labelStart[e + 1].
+    private final char[] labels;
+    private final int[] labelStart;
+    private final int[] edgeStart;
+    private final byte[] flags;
+    private final boolean includePrivate;
+
+    private PublicSuffixes(char[] labels, int[] labelStart, int[] edgeStart, byte[] flags, boolean includePrivate) {
+        this.labels = labels;
+        this.labelStart = labelStart;
+        this.edgeStart = edgeStart;
+        this.flags = flags;
+        this.includePrivate = includePrivate;
+    }
+
+    /**
+     * Returns the built-in list, including the private domains section.
+     */
+    public static PublicSuffixes getDefault() {
+        return DefaultHolder.ALL;
+    }
+
+    private static class DefaultHolder {
+        static final PublicSuffixes ALL = decode(String.join("", PublicSuffixData.LABELS),
+                String.join("", PublicSuffixData.NODES));
+    }
+
+    /**
+     * Returns the same list without the rules from its private domains
+     * section, such as "blogspot.com", leaving only those of the ICANN
+     * registries.
+     */
+    public PublicSuffixes withoutPrivateDomains() {
+        return new PublicSuffixes(labels, labelStart, edgeStart, flags, false);
+    }
+
+    /**
+     * Reads a list in the format of public_suffix_list.dat.
+     */
+    public static PublicSuffixes parse(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        // rules keyed by their labels last first, joined by NUL so that the keys sort as label sequences
+        Map<String, Integer> rules = new TreeMap<>();
+        Idn idn = Idn.load();
+        boolean inPrivate = false;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            line = line.trim();
+            if (line.startsWith("//")) {
+                inPrivate |= line.contains(PRIVATE_SECTION);
+                continue;
+            }
+            if (line.isEmpty()) {
+                continue;
+            }
+            String rule = line.split("\\s", 2)[0];
+            int flag = RULE;
+            if (rule.startsWith("!")) {
+                flag = EXCEPTION;
+                rule = rule.substring(1);
+            } else if (rule.startsWith("*.")) {
+                flag = WILDCARD;
+                rule = rule.substring(2);
+            }
+            String[] ruleLabels = rule.split("\\.");
+            StringBuilder key = new StringBuilder();
+            for (int i = ruleLabels.length - 1; i >= 0; i--) {
+                String label = ruleLabels[i];
+                if (!label.chars().allMatch(c -> c < 0x80)) {
+                    label = idn.toAscii(label);
+                }
+                key.append(label.toLowerCase(Locale.ROOT));
+                if (i > 0) {
+                    key.append('\0');
+                }
+            }
+            rules.merge(key.toString(), inPrivate ? flag << PRIVATE_SHIFT : flag, (a, b) -> a | b);
+        }
+
+        // number the labels in sorted order, so that edges sorted by label id are sorted by label
+        String[][] keys = new String[rules.size()][];
+        int[] keyFlags = new int[keys.length];
+        Map<String, Integer> labelIds = new TreeMap<>();
+        int k = 0;
+        for (Map.Entry<String, Integer> rule : rules.entrySet()) {
+            String[] ruleLabels = rule.getKey().split("\0");
+            keys[k] = ruleLabels;
+            keyFlags[k] = rule.getValue();
+            k++;
+            for (String label : ruleLabels) {
+                labelIds.put(label, 0);
+            }
+        }
+        String[] labelNames = labelIds.keySet().toArray(new String[0]);
+        for (int id = 0; id < labelNames.length; id++) {
+            labelIds.put(labelNames[id], id);
+        }
+        int[][] keyLabels = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            keyLabels[i] = new int[keys[i].length];
+            for (int j = 0; j < keys[i].length; j++) {
+                keyLabels[i][j] = labelIds.get(keys[i][j]);
+            }
+        }
+
+        IntList flags = new IntList();
+        TrieLayout layout = new TrieLayout(keys.length, new TrieLayout.Keys() {
+            @Override
+            public int length(int key) {
+                return keyLabels[key].length;
+            }
+
+            @Override
+            public int symbol(int key, int index) {
+                return keyLabels[key][index];
+            }
+        }, (node, lo, hi) -> flags.add(lo < hi ? keyFlags[lo] : 0));
+
+        // edges are numbered in the order their target nodes are, so edge e leads to node e + 1
+        StringBuilder labels = new StringBuilder();
+        IntList labelStart = new IntList();
+        for (int label : layout.labels) {
+            labelStart.add(labels.length());
+            labels.append(labelNames[label]).append('.');
+        }
+        labelStart.add(labels.length());
+        byte[] flagArray = new byte[flags.size()];
+        for (int i = 0; i < flagArray.length; i++) {
+            flagArray[i] = (byte) flags.get(i);
+        }
+        char[] chars = new char[labels.length()];
+        labels.getChars(0, chars.length, chars, 0);
+        return new PublicSuffixes(chars, labelStart.toArray(), layout.edgeStart, flagArray, true);
+    }
+
+    /**
+     * Returns the public suffix of the host, or null if it is not a domain
+     * name.
+     */
+    public String publicSuffix(String host) {
+        int start = publicSuffixStart(host, 0, host.length());
+        return start == -1 ? null : host.substring(start);
+    }
+
+    /**
+     * Returns the registrable domain of the host, the public suffix plus one
+     * label, or null if the host is a public suffix itself or not a domain
+     * name.
+     */
+    public String registrableDomain(String host) {
+        int start = registrableDomainStart(host, 0, host.length());
+        return start == -1 ? null : host.substring(start);
+    }
+
+    public boolean isPublicSuffix(String host) {
+        return publicSuffixStart(host, 0, host.length()) == 0;
+    }
+
+    /**
+     * Returns where the public suffix of the host from start to end begins,
+     * or -1 if the host is not a domain name.
+     */
+    public int publicSuffixStart(CharSequence host, int start, int end) {
+        int labels = publicSuffixLabels(host, start, end);
+        return labels == 0 ? -1 : labelsStart(host, start, end, labels);
+    }
+
+    /**
+     * Returns where the registrable domain of the host from start to end
+     * begins, or -1 if the host is a public suffix itself or not a domain
+     * name.
+     */
+    public int registrableDomainStart(CharSequence host, int start, int end) {
+        int labels = publicSuffixLabels(host, start, end);
+        return labels == 0 ? -1 : labelsStart(host, start, end, labels + 1);
+    }
+
+    /**
+     * Returns the number of labels in the public suffix of the host, or 0 if
+     * the host is not a domain name. Hosts that no rule matches have a
+     * single label suffix, as if every top-level domain were listed.
+     */
+    int publicSuffixLabels(CharSequence host, int start, int end) {
+        if (end > start && host.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (start == end || IpAddresses.classify(host, start, end) != IpAddresses.DOMAIN) {
+            return 0;
+        }
+        int suffixLabels = 1;
+        int node = 0;
+        int depth = 0;
+        int labelEnd = end;
+        for (int i = end - 1; i >= start - 1; i--) {
+            if (i != start - 1 && host.charAt(i) != '.') {
+                continue;
+            }
+            int edge = child(node, host, i + 1, labelEnd);
+            if (edge == -1) {
+                break;
+            }
+            node = edge + 1;
+            depth++;
+            int f = flags[node];
+            if (includePrivate) {
+                f |= f >>> PRIVATE_SHIFT;
+            }
+            if ((f & EXCEPTION) != 0) {
+                return depth - 1;
+            }
+            if ((f & RULE) != 0) {
+                suffixLabels = Math.max(suffixLabels, depth);
+            }
+            if ((f & WILDCARD) != 0 && i > start - 1) {
+                suffixLabels = Math.max(suffixLabels, depth + 1);
+            }
+            labelEnd = i;
+        }
+        return suffixLabels;
+    }
+
+    /**
+     * Returns where the last n labels of the host begin, or -1 if it has
+     * fewer. A trailing dot is not counted as a label.
+     */
+    private static int labelsStart(CharSequence host, int start, int end, int n) {
+        int i = end - 1;
+        if (i >= start && host.charAt(i) == '.') {
+            i--;
+        }
+        for (; i >= start; i--) {
+            if (host.charAt(i) == '.' && --n == 0) {
+                return i + 1;
+            }
+        }
+        return n == 1 ? start : -1;
+    }
+
+    /**
+     * Returns the edge from the node labelled with the host's chars from
+     * start to end, or -1 if there is none.
+     */
+    private int child(int node, CharSequence host, int start, int end) {
+        int lo = edgeStart[node];
+        int hi = edgeStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compareLabel(mid, host, start, end);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareLabel(int edge, CharSequence host, int start, int end) {
+        int labelStart = this.labelStart[edge];
+        int labelLength = this.labelStart[edge + 1] - 1 - labelStart;
+        int n = Math.min(labelLength, end - start);
+        for (int i = 0; i < n; i++) {
+            char a = labels[labelStart + i];
+            char b = host.charAt(start + i);
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return labelLength - (end - start);
+    }
+
+    /**
+     * Rebuilds the arrays from {@link PublicSuffixData}: the labels in edge
+     * order each followed by a dot, and two chars per node in breadth first
+     * order holding its number of edges and its flags.
+     */
+    static PublicSuffixes decode(String labelText, String nodeText) {
+        char[] labels = labelText.toCharArray();
+        IntList labelStart = new IntList();
+        int start = 0;
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] == '.') {
+                labelStart.add(start);
+                start = i + 1;
+            }
+        }
+        labelStart.add(labels.length);
+        int nodes = nodeText.length() / 2;
+        int[] edgeStart = new int[nodes + 1];
+        byte[] flags = new byte[nodes];
+        for (int node = 0; node < nodes; node++) {
+            edgeStart[node + 1] = edgeStart[node] + nodeText.charAt(node * 2);
+            flags[node] = (byte) nodeText.charAt(node * 2 + 1);
+        }
+        return new PublicSuffixes(labels, labelStart.toArray(), edgeStart, flags, true);
+    }
+
+    private String encodeNodes() {
+        StringBuilder nodes = new StringBuilder(flags.length * 2);
+        for (int node = 0; node < flags.length; node++) {
+            int edges = edgeStart[node + 1] - edgeStart[node];
+            if (edges > Character.MAX_VALUE) {
+                throw new IllegalStateException("too many edges to encode");
+            }
+            nodes.append((char) edges).append((char) flags[node]);
+        }
+        return nodes.toString();
+    }
+
+    /**
+     * Compiles a public_suffix_list.dat into the source of
+     * {@link PublicSuffixData}.
+     *
+     * Usage: PublicSuffixes public_suffix_list.dat > PublicSuffixData.java
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: PublicSuffixes public_suffix_list.dat > PublicSuffixData.java");
+            System.exit(1);
+        }
+        PublicSuffixes list;
+        try (Reader reader = Files.newBufferedReader(Paths.get(args[0]), UTF_8)) {
+            list = parse(reader);
+        }
+        PrintStream out = new PrintStream(System.out, false, "UTF-8");
+        out.println("package org.netpreserve.urlcanon;");
+        out.println();
+        out.println("/**");
+        out.println(" * The Public Suffix List (https://publicsuffix.org/) compiled into the arrays");
+        out.println(" * of {@link PublicSuffixes}. Generated by {@link PublicSuffixes#main}, do not");
+        out.println(" * edit. The list is subject to the Mozilla Public License, v. 2.0, a copy of");
+        out.println(" * which can be obtained at https://mozilla.org/MPL/2.0/.");
+        out.println(" */");
+        out.println("class PublicSuffixData {");
+        writeChunks(out, "LABELS", new String(list.labels));
+        out.println();
+        writeChunks(out, "NODES", list.encodeNodes());
+        out.println("}");
+        out.flush();
+    }
+
+    /**
+     * Writes the text as an array of string literals, each short enough for
+     * the class file's limit of 65535 bytes per constant.
+     */
+    private static void writeChunks(PrintStream out, String name, String text) {
+        out.println("    static final String[] " + name + " = {");
+        for (int i = 0; i < text.length(); i += 10000) {
+            out.println("            \"" + escape(text, i, Math.min(text.length(), i + 10000)) + "\",");
+        }
+        out.println("    };");
+    }
+
+    private static String escape(String text, int start, int end) {
+        StringBuilder buf = new StringBuilder();
+        int lineStart = 0;
+        for (int i = start; i < end; i++) {
+            // wrap long lines, as concatenated literals that still make one constant
+            if (buf.length() - lineStart >= 100) {
+                buf.append("\"\n            + \"");
+                lineStart = buf.length();
+            }
+            char c = text.charAt(i);
+            if (c >= 0x20 && c < 0x7f && c != '"' && c != '\\') {
+                buf.append(c);
+            } else if (c < 0x100) {
+                // not a unicode escape, which javac would turn into a line break or quote before parsing
+                buf.append(String.format("\\%03o", (int) c));
+            } else {
+                buf.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        return buf.toString();
+    }
+}
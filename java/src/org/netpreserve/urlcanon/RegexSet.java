@@ -0,0 +1,854 @@
+package org.netpreserve.urlcanon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable set of regular expressions, for finding which of them match a
+ * whole input (as {@link java.util.regex.Matcher#matches()} would) in a
+ * single pass over it. Each regex is identified by its index in the list the
+ * set was built from.
+ *
+ * Regexes in the supported subset (literals, escapes, character classes,
+ * {@code .}, groups, alternation, greedy and reluctant quantifiers, and
+ * {@code ^} and {@code $} anchors) are compiled together into one NFA, which
+ * is turned into a DFA lazily as inputs are scanned: each DFA state is
+ * computed the first time it is reached and cached, so the cost of a match
+ * no longer grows with the number of regexes. Anything else, such as
+ * backreferences, lookaround, flags or possessive quantifiers, falls back to
+ * matching with {@link Pattern} one regex at a time, as do inputs containing
+ * surrogate pairs, since {@code java.util.regex} matches by code point.
+ *
+ * Sets are safe to share between threads.
+ */
+public class RegexSet {
+    private static final int MAX_PATTERN_STATES = 10000;
+    private static final int MAX_REPEAT = 1000;
+    private static final int MAX_DFA_STATES = 10000;
+
+    // nfa state kinds
+    private static final int CHARS = 0;
+    private static final int SPLIT = 1;
+    private static final int MATCH = 2;
+    private static final int BOL = 3;
+    private static final int EOL = 4;
+
+    private final Pattern[] patterns;
+    private final int[] fallback;
+
+    // nfa: state s has kind[s]; CHARS states consume a char of class set arg[s] and go to out[s], SPLIT
+    // states go to both out[s] and arg[s], MATCH states match regex arg[s], BOL and EOL go to out[s]
+    private final int[] kind;
+    private final int[] arg;
+    private final int[] out;
+    private final int[] starts;
+
+    // chars are mapped to classes that no char set distinguishes between; char class i starts at
+    // classStart[i] and set j contains the classes whose bits are set in setClasses[j]
+    private final char[] classStart;
+    private final int[] asciiClasses;
+    private final long[][] setClasses;
+
+    private final Map<StateKey, DfaState> cache = new HashMap<>();
+    private volatile DfaState initial;
+
+    public RegexSet(List<String> regexes) {
+        patterns = new Pattern[regexes.size()];
+        Compiler compiler = new Compiler();
+        IntList starts = new IntList();
+        IntList fallback = new IntList();
+        for (int id = 0; id < patterns.length; id++) {
+            String regex = regexes.get(id);
+            patterns[id] = Pattern.compile(regex);
+            int start = compiler.compile(regex, id);
+            if (start == -1) {
+                fallback.add(id);
+            } else {
+                starts.add(start);
+            }
+        }
+        this.fallback = fallback.toArray();
+        this.starts = starts.toArray();
+        kind = compiler.kind.toArray();
+        arg = compiler.arg.toArray();
+        out = compiler.out.toArray();
+
+        // split the chars into classes at every boundary of every set
+        int total = 1;
+        for (int[] ranges : compiler.sets) {
+            total += ranges.length;
+        }
+        char[] boundaries = new char[total];
+        int count = 0;
+        boundaries[count++] = 0;
+        for (int[] ranges : compiler.sets) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                boundaries[count++] = (char) ranges[i];
+                if (ranges[i + 1] < Character.MAX_VALUE) {
+                    boundaries[count++] = (char) (ranges[i + 1] + 1);
+                }
+            }
+        }
+        Arrays.sort(boundaries, 0, count);
+        int classes = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || boundaries[i] != boundaries[i - 1]) {
+                boundaries[classes++] = boundaries[i];
+            }
+        }
+        classStart = Arrays.copyOf(boundaries, classes);
+        asciiClasses = new int[128];
+        for (char c = 0; c < 128; c++) {
+            asciiClasses[c] = classOf(c);
+        }
+        setClasses = new long[compiler.sets.size()][];
+        for (int j = 0; j < setClasses.length; j++) {
+            int[] ranges = compiler.sets.get(j);
+            long[] bits = new long[(classes + 63) / 64];
+            for (int i = 0; i < classes; i++) {
+                if (contains(ranges, classStart[i])) {
+                    bits[i >> 6] |= 1L << i;
+                }
+            }
+            setClasses[j] = bits;
+        }
+        initial = newInitial();
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    public String get(int id) {
+        return patterns[id].pattern();
+    }
+
+    public List<String> regexes() {
+        List<String> list = new ArrayList<>(patterns.length);
+        for (Pattern pattern : patterns) {
+            list.add(pattern.pattern());
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns true if the regex is matched with the automaton rather than
+     * falling back to {@link Pattern}.
+     */
+    boolean isCompiled(int id) {
+        return Arrays.binarySearch(fallback, id) < 0;
+    }
+
+    /**
+     * Returns the ids of the regexes that match the whole input, in ascending
+     * order.
+     */
+    public int[] matches(CharSequence input) {
+        DfaState state = initial;
+        for (int i = 0; i < input.length() && !state.dead; i++) {
+            char c = input.charAt(i);
+            if (Character.isSurrogate(c)) {
+                return matchEach(input);
+            }
+            int cls = c < 128 ? asciiClasses[c] : classOf(c);
+            DfaState next = state.next[cls];
+            state = next != null ? next : step(state, cls);
+        }
+        if (fallback.length == 0) {
+            return state.matches.clone();
+        }
+        IntList result = new IntList(state.matches.length + fallback.length);
+        int i = 0;
+        for (int id : fallback) {
+            if (patterns[id].matcher(input).matches()) {
+                while (i < state.matches.length && state.matches[i] < id) {
+                    result.add(state.matches[i++]);
+                }
+                result.add(id);
+            }
+        }
+        while (i < state.matches.length) {
+            result.add(state.matches[i++]);
+        }
+        return result.toArray();
+    }
+
+    private int[] matchEach(CharSequence input) {
+        IntList result = new IntList();
+        for (int id = 0; id < patterns.length; id++) {
+            if (patterns[id].matcher(input).matches()) {
+                result.add(id);
+            }
+        }
+        return result.toArray();
+    }
+
+    private int classOf(char c) {
+        int lo = 0;
+        int hi = classStart.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (classStart[mid] <= c) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    private static boolean contains(int[] ranges, char c) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] <= c && c <= ranges[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DfaState newInitial() {
+        IntList seeds = new IntList(starts.length);
+        for (int start : starts) {
+            seeds.add(start);
+        }
+        int[] states = closure(seeds, true, false);
+        return new DfaState(states, endMatches(states, true), classStart.length);
+    }
+
+    /**
+     * Computes and caches the transition from state on a char of class cls.
+     * Reads of the transition tables are unsynchronized, which is safe
+     * because a DfaState's fields are final.
+     */
+    private synchronized DfaState step(DfaState state, int cls) {
+        DfaState next = state.next[cls];
+        if (next != null) {
+            return next;
+        }
+        IntList targets = new IntList();
+        for (int s : state.states) {
+            if (kind[s] == CHARS && (setClasses[arg[s]][cls >> 6] & 1L << cls) != 0) {
+                targets.add(out[s]);
+            }
+        }
+        int[] states = closure(targets, false, false);
+        StateKey key = new StateKey(states);
+        next = cache.get(key);
+        if (next == null) {
+            if (cache.size() >= MAX_DFA_STATES) {
+                // start over rather than grow without bound, scans in progress keep their old states
+                cache.clear();
+                initial = newInitial();
+            }
+            next = new DfaState(states, endMatches(states, false), classStart.length);
+            cache.put(key, next);
+        }
+        state.next[cls] = next;
+        return next;
+    }
+
+    /**
+     * Follows the epsilon transitions from the seeds, returning the sorted
+     * states reached that consume a char, match, or (unless eol) wait for
+     * the end of the input.
+     */
+    private int[] closure(IntList seeds, boolean bol, boolean eol) {
+        long[] visited = new long[(kind.length + 63) / 64];
+        IntList stack = new IntList();
+        IntList result = new IntList();
+        for (int i = 0; i < seeds.size(); i++) {
+            stack.add(seeds.get(i));
+        }
+        while (!stack.isEmpty()) {
+            int s = stack.get(stack.size() - 1);
+            stack.removeLast();
+            if ((visited[s >> 6] & 1L << s) != 0) {
+                continue;
+            }
+            visited[s >> 6] |= 1L << s;
+            switch (kind[s]) {
+                case SPLIT:
+                    stack.add(arg[s]);
+                    stack.add(out[s]);
+                    break;
+                case BOL:
+                    if (bol) {
+                        stack.add(out[s]);
+                    }
+                    break;
+                case EOL:
+                    if (eol) {
+                        stack.add(out[s]);
+                    } else {
+                        result.add(s);
+                    }
+                    break;
+                default:
+                    result.add(s);
+            }
+        }
+        int[] states = result.toArray();
+        Arrays.sort(states);
+        return states;
+    }
+
+    /**
+     * The regexes that match if the input ends in a DFA state made of these
+     * NFA states.
+     */
+    private int[] endMatches(int[] states, boolean initial) {
+        IntList seeds = new IntList(states.length);
+        for (int s : states) {
+            if (kind[s] != CHARS) {
+                seeds.add(s);
+            }
+        }
+        IntList matches = new IntList();
+        for (int s : closure(seeds, initial, true)) {
+            if (kind[s] == MATCH) {
+                matches.add(arg[s]);
+            }
+        }
+        int[] ids = matches.toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static final class DfaState {
+        final int[] states;
+        final int[] matches;
+        final DfaState[] next;
+        final boolean dead;
+
+        DfaState(int[] states, int[] matches, int classes) {
+            this.states = states;
+            this.matches = matches;
+            this.next = new DfaState[classes];
+            this.dead = states.length == 0;
+        }
+    }
+
+    private static final class StateKey {
+        private final int[] states;
+        private final int hash;
+
+        StateKey(int[] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey && Arrays.equals(states, ((StateKey) o).states);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Thrown for constructs outside the supported subset.
+     */
+    private static final class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+
+    // syntax tree node types
+    private static final int NODE_CHARS = 0;
+    private static final int NODE_EMPTY = 1;
+    private static final int NODE_BOL = 2;
+    private static final int NODE_EOL = 3;
+    private static final int NODE_CONCAT = 4;
+    private static final int NODE_ALT = 5;
+    private static final int NODE_REPEAT = 6;
+
+    private static final class Node {
+        final int type;
+        final int[] ranges;
+        final List<Node> children;
+        final int min;
+        final int max;
+
+        Node(int type, int[] ranges, List<Node> children, int min, int max) {
+            this.type = type;
+            this.ranges = ranges;
+            this.children = children;
+            this.min = min;
+            this.max = max;
+        }
+
+        static Node of(int type) {
+            return new Node(type, null, null, 0, 0);
+        }
+
+        static Node chars(int[] ranges) {
+            return new Node(NODE_CHARS, ranges, null, 0, 0);
+        }
+
+        boolean nullable() {
+            switch (type) {
+                case NODE_CHARS:
+                    return false;
+                case NODE_CONCAT:
+                    for (Node child : children) {
+                        if (!child.nullable()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                case NODE_ALT:
+                    for (Node child : children) {
+                        if (child.nullable()) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case NODE_REPEAT:
+                    return min == 0 || children.get(0).nullable();
+                default:
+                    return true;
+            }
+        }
+
+        boolean canConsume() {
+            switch (type) {
+                case NODE_CHARS:
+                    return true;
+                case NODE_CONCAT:
+                case NODE_ALT:
+                    for (Node child : children) {
+                        if (child.canConsume()) {
+                            return true;
+                        }
+                    }
+                    return false;
+                case NODE_REPEAT:
+                    return max != 0 && children.get(0).canConsume();
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Parses regexes and emits their NFAs.
+     */
+    private static final class Compiler {
+        final IntList kind = new IntList();
+        final IntList arg = new IntList();
+        final IntList out = new IntList();
+        final List<int[]> sets = new ArrayList<>();
+        private final Map<String, Integer> setIds = new HashMap<>();
+        private int limit;
+
+        /**
+         * Returns the start state of the regex's NFA, or -1 if it is not in
+         * the supported subset.
+         */
+        int compile(String regex, int id) {
+            int mark = kind.size();
+            limit = mark + MAX_PATTERN_STATES;
+            try {
+                Node node = new Parser(regex).parse();
+                return emit(node, state(MATCH, id, -1), true);
+            } catch (Unsupported e) {
+                kind.truncate(mark);
+                arg.truncate(mark);
+                out.truncate(mark);
+                return -1;
+            }
+        }
+
+        private int state(int kind, int arg, int out) {
+            if (this.kind.size() >= limit) {
+                throw UNSUPPORTED;
+            }
+            this.kind.add(kind);
+            this.arg.add(arg);
+            this.out.add(out);
+            return this.kind.size() - 1;
+        }
+
+        /**
+         * Emits the node's states, leading to next. Tail is true if nothing
+         * after the node can consume input, which is where $ has to be.
+         */
+        private int emit(Node node, int next, boolean tail) {
+            switch (node.type) {
+                case NODE_CHARS:
+                    return state(CHARS, setId(node.ranges), next);
+                case NODE_EMPTY:
+                    return next;
+                case NODE_BOL:
+                    return state(BOL, 0, next);
+                case NODE_EOL:
+                    // $ also matches before a final line terminator, which only matters if it can be consumed
+                    if (!tail) {
+                        throw UNSUPPORTED;
+                    }
+                    return state(EOL, 0, next);
+                case NODE_CONCAT: {
+                    boolean consumes = false;
+                    for (int i = node.children.size() - 1; i >= 0; i--) {
+                        Node child = node.children.get(i);
+                        next = emit(child, next, tail && !consumes);
+                        consumes |= child.canConsume();
+                    }
+                    return next;
+                }
+                case NODE_ALT: {
+                    int last = node.children.size() - 1;
+                    int start = emit(node.children.get(last), next, tail);
+                    for (int i = last - 1; i >= 0; i--) {
+                        start = state(SPLIT, start, emit(node.children.get(i), next, tail));
+                    }
+                    return start;
+                }
+                case NODE_REPEAT: {
+                    Node child = node.children.get(0);
+                    if (child.nullable() && node.max != 1) {
+                        // java.util.regex stops looping on an empty iteration, matching less than an automaton
+                        throw UNSUPPORTED;
+                    }
+                    boolean childTail = tail && node.max == 1;
+                    if (node.max == -1) {
+                        int loop = state(SPLIT, next, -1);
+                        out.set(loop, emit(child, loop, false));
+                        next = loop;
+                    } else {
+                        for (int i = node.min; i < node.max; i++) {
+                            next = state(SPLIT, next, emit(child, next, childTail));
+                        }
+                    }
+                    for (int i = 0; i < node.min; i++) {
+                        next = emit(child, next, childTail);
+                    }
+                    return next;
+                }
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+
+        private int setId(int[] ranges) {
+            String key = Arrays.toString(ranges);
+            Integer id = setIds.get(key);
+            if (id == null) {
+                id = sets.size();
+                sets.add(ranges);
+                setIds.put(key, id);
+            }
+            return id;
+        }
+    }
+
+    private static final int[] DIGIT = {'0', '9'};
+    private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+    private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+    private static final int[] LINE_TERMINATORS = {'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029};
+
+    /**
+     * Recursive descent parser for the supported subset of the
+     * {@link Pattern} syntax. Anything it is unsure of is unsupported, so the
+     * regex is left to {@link Pattern}, which has already accepted it.
+     */
+    private static final class Parser {
+        private final String regex;
+        private int pos;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() {
+            Node node = alternation();
+            if (pos != regex.length()) {
+                throw UNSUPPORTED;
+            }
+            return node;
+        }
+
+        private boolean more() {
+            return pos < regex.length();
+        }
+
+        private char peek() {
+            return regex.charAt(pos);
+        }
+
+        private Node alternation() {
+            List<Node> branches = new ArrayList<>();
+            branches.add(concatenation());
+            while (more() && peek() == '|') {
+                pos++;
+                branches.add(concatenation());
+            }
+            return branches.size() == 1 ? branches.get(0) : new Node(NODE_ALT, null, branches, 0, 0);
+        }
+
+        private Node concatenation() {
+            List<Node> items = new ArrayList<>();
+            while (more() && peek() != '|' && peek() != ')') {
+                items.add(repetition());
+            }
+            if (items.isEmpty()) {
+                return Node.of(NODE_EMPTY);
+            }
+            return items.size() == 1 ? items.get(0) : new Node(NODE_CONCAT, null, items, 0, 0);
+        }
+
+        private Node repetition() {
+            Node atom = atom();
+            if (!more()) {
+                return atom;
+            }
+            int min;
+            int max;
+            switch (peek()) {
+                case '*':
+                    min = 0;
+                    max = -1;
+                    break;
+                case '+':
+                    min = 1;
+                    max = -1;
+                    break;
+                case '?':
+                    min = 0;
+                    max = 1;
+                    break;
+                case '{':
+                    pos++;
+                    min = number();
+                    if (peek() == '}') {
+                        max = min;
+                    } else if (peek() == ',') {
+                        pos++;
+                        max = more() && peek() == '}' ? -1 : number();
+                    } else {
+                        throw UNSUPPORTED;
+                    }
+                    if (peek() != '}' || max != -1 && max < min || Math.max(min, max) > MAX_REPEAT) {
+                        throw UNSUPPORTED;
+                    }
+                    break;
+                default:
+                    return atom;
+            }
+            pos++;
+            if (more() && peek() == '?') {
+                pos++; // reluctant, which matches the same inputs
+            }
+            if (more() && "*+?{".indexOf(peek()) >= 0) {
+                throw UNSUPPORTED; // possessive or stacked
+            }
+            return new Node(NODE_REPEAT, null, Collections.singletonList(atom), min, max);
+        }
+
+        private int number() {
+            int start = pos;
+            while (more() && peek() >= '0' && peek() <= '9' && pos - start < 4) {
+                pos++;
+            }
+            if (pos == start || !more()) {
+                throw UNSUPPORTED;
+            }
+            return Integer.parseInt(regex.substring(start, pos));
+        }
+
+        private Node atom() {
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    if (regex.startsWith("?:", pos)) {
+                        pos += 2;
+                    } else if (more() && peek() == '?') {
+                        throw UNSUPPORTED; // lookaround, flags or named groups
+                    }
+                    Node node = alternation();
+                    if (!more() || peek() != ')') {
+                        throw UNSUPPORTED;
+                    }
+                    pos++;
+                    return node;
+                case '[':
+                    return Node.chars(charClass());
+                case '.':
+                    return Node.chars(complement(LINE_TERMINATORS));
+                case '^':
+                    return Node.of(NODE_BOL);
+                case '$':
+                    return Node.of(NODE_EOL);
+                case '\\':
+                    return Node.chars(escape());
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw UNSUPPORTED;
+                default:
+                    return Node.chars(single(c));
+            }
+        }
+
+        private int[] charClass() {
+            boolean negate = false;
+            if (more() && peek() == '^') {
+                negate = true;
+                pos++;
+            }
+            if (more() && peek() == ']') {
+                throw UNSUPPORTED;
+            }
+            List<int[]> items = new ArrayList<>();
+            while (true) {
+                if (!more()) {
+                    throw UNSUPPORTED;
+                }
+                char c = regex.charAt(pos++);
+                if (c == ']') {
+                    break;
+                }
+                if (c == '[' || c == '&' && more() && peek() == '&') {
+                    throw UNSUPPORTED; // unions and intersections
+                }
+                int[] item = c == '\\' ? escape() : single(c);
+                boolean isRange = more() && peek() == '-' && pos + 1 < regex.length()
+                        && regex.charAt(pos + 1) != ']';
+                if (isRange) {
+                    if (item.length != 2 || item[0] != item[1]) {
+                        throw UNSUPPORTED;
+                    }
+                    pos++;
+                    char d = regex.charAt(pos++);
+                    if (d == '[') {
+                        throw UNSUPPORTED;
+                    }
+                    int[] end = d == '\\' ? escape() : single(d);
+                    if (end.length != 2 || end[0] != end[1] || end[0] < item[0]) {
+                        throw UNSUPPORTED;
+                    }
+                    item = new int[]{item[0], end[0]};
+                }
+                items.add(item);
+            }
+            int[] ranges = union(items);
+            return negate ? complement(ranges) : ranges;
+        }
+
+        private int[] escape() {
+            if (!more()) {
+                throw UNSUPPORTED;
+            }
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case 'd':
+                    return DIGIT;
+                case 'D':
+                    return complement(DIGIT);
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return complement(WORD);
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return complement(SPACE);
+                case 't':
+                    return single('\t');
+                case 'n':
+                    return single('\n');
+                case 'r':
+                    return single('\r');
+                case 'f':
+                    return single('\f');
+                case 'a':
+                    return single('\u0007');
+                case 'e':
+                    return single('\u001b');
+                case 'x':
+                    return single(hex(2));
+                case 'u':
+                    return single(hex(4));
+                default:
+                    if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9') {
+                        throw UNSUPPORTED; // backreferences, boundaries, properties, quoting...
+                    }
+                    return single(c);
+            }
+        }
+
+        private char hex(int digits) {
+            if (pos + digits > regex.length()) {
+                throw UNSUPPORTED;
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = Character.digit(regex.charAt(pos++), 16);
+                if (digit == -1) {
+                    throw UNSUPPORTED;
+                }
+                value = value * 16 + digit;
+            }
+            return (char) value;
+        }
+
+        private static int[] single(char c) {
+            if (Character.isSurrogate(c)) {
+                throw UNSUPPORTED;
+            }
+            return new int[]{c, c};
+        }
+    }
+
+    private static int[] union(List<int[]> items) {
+        List<int[]> ranges = new ArrayList<>();
+        for (int[] item : items) {
+            for (int i = 0; i < item.length; i += 2) {
+                ranges.add(new int[]{item[i], item[i + 1]});
+            }
+        }
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        IntList merged = new IntList();
+        for (int[] range : ranges) {
+            int n = merged.size();
+            if (n > 0 && range[0] <= merged.get(n - 1) + 1) {
+                merged.set(n - 1, Math.max(merged.get(n - 1), range[1]));
+            } else {
+                merged.add(range[0]);
+                merged.add(range[1]);
+            }
+        }
+        return merged.toArray();
+    }
+
+    private static int[] complement(int[] ranges) {
+        IntList result = new IntList();
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result.add(next);
+                result.add(ranges[i] - 1);
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= Character.MAX_VALUE) {
+            result.add(next);
+            result.add(Character.MAX_VALUE);
+        }
+        return result.toArray();
+    }
+}
@@ -0,0 +1,47 @@
+package org.netpreserve.urlcanon;
+
+/**
+ * A URL being tested against rules, with the forms the conditions compare
+ * against computed at most once.
+ */
+class RuleTarget {
+    final ParsedUrl url;
+    final String parentUrl;
+    private String host;
+    private String href;
+    private String surt;
+    private String ssurt;
+
+    RuleTarget(ParsedUrl url, String parentUrl) {
+        this.url = url;
+        this.parentUrl = parentUrl;
+    }
+
+    String host() {
+        if (host == null) {
+            host = url.getHost();
+        }
+        return host;
+    }
+
+    String href() {
+        if (href == null) {
+            href = url.toString();
+        }
+        return href;
+    }
+
+    String surt() {
+        if (surt == null) {
+            surt = url.surt();
+        }
+        return surt;
+    }
+
+    String ssurt() {
+        if (ssurt == null) {
+            ssurt = url.ssurt();
+        }
+        return ssurt;
+    }
+}
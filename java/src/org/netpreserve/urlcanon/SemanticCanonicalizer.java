@@ -19,6 +19,8 @@
 
 package org.netpreserve.urlcanon;
 
+import static org.netpreserve.urlcanon.WhatwgCanonicalizer.isEmpty;
+
 /**
  * Like semantic_precise but removes the fragment from
  * the url, thus considers urls which differ only in the fragment to be
@@ -27,7 +29,26 @@ package org.netpreserve.urlcanon;
 public class SemanticCanonicalizer implements Canonicalizer {
     @Override
     public void canonicalize(ParsedUrl url) {
-        Canonicalizer.SEMANTIC_PRECISE.canonicalize(url);
+        canonicalizeIfNeeded(url);
+    }
+
+    @Override
+    public boolean canonicalizeIfNeeded(ParsedUrl url) {
+        if (isCanonical(url)) {
+            return true;
+        }
+        applySteps(url);
+        return false;
+    }
+
+    @Override
+    public boolean isCanonical(ParsedUrl url) {
+        return isEmpty(url, ParsedUrl.HASH_SIGN) && isEmpty(url, ParsedUrl.FRAGMENT)
+                && SemanticPreciseCanonicalizer.isCanonical(url, SemanticPreciseCanonicalizer.charsetFor(url), false);
+    }
+
+    static void applySteps(ParsedUrl url) {
+        SemanticPreciseCanonicalizer.applySteps(url, SemanticPreciseCanonicalizer.charsetFor(url));
         removeFrament(url);
     }
 
@@ -25,8 +25,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.netpreserve.urlcanon.WhatwgCanonicalizer.buildEncodeSet;
+import static org.netpreserve.urlcanon.WhatwgCanonicalizer.isEmpty;
+import static org.netpreserve.urlcanon.WhatwgCanonicalizer.isEmptyOr;
 
 /**
  * Precise semantic canonicalizer, semantic in the sense that the intention is
@@ -50,7 +53,44 @@ public class SemanticPreciseCanonicalizer implements Canonicalizer {
         canonicalize(url, UTF_8);
     }
 
+    /**
+     * Canonicalize a URL, percent-encoding characters using the given charset.
+     * URLs parsed from bytes are always handled byte for byte.
+     */
     public void canonicalize(ParsedUrl url, Charset charset) {
+        canonicalizeIfNeeded(url, charset);
+    }
+
+    @Override
+    public boolean canonicalizeIfNeeded(ParsedUrl url) {
+        return canonicalizeIfNeeded(url, UTF_8);
+    }
+
+    boolean canonicalizeIfNeeded(ParsedUrl url, Charset charset) {
+        if (url.hasByteSource()) {
+            charset = ISO_8859_1;
+        }
+        if (isCanonical(url, charset, false)) {
+            return true;
+        }
+        applySteps(url, charset);
+        return false;
+    }
+
+    @Override
+    public boolean isCanonical(ParsedUrl url) {
+        return isCanonical(url, charsetFor(url), false);
+    }
+
+    /**
+     * The charset used when none is given: UTF-8, except for URLs parsed from
+     * bytes which are handled byte for byte.
+     */
+    static Charset charsetFor(ParsedUrl url) {
+        return url.hasByteSource() ? ISO_8859_1 : UTF_8;
+    }
+
+    static void applySteps(ParsedUrl url, Charset charset) {
         WhatwgCanonicalizer.removeLeadingTrailingJunk(url);
         defaultSchemeHttp(url);
         WhatwgCanonicalizer.removeTabsAndNewlines(url);
@@ -58,13 +98,15 @@ public class SemanticPreciseCanonicalizer implements Canonicalizer {
         WhatwgCanonicalizer.elideDefaultPort(url);
         WhatwgCanonicalizer.cleanUpUserinfo(url);
         WhatwgCanonicalizer.twoSlashes(url);
+        // the host steps only depend on the host itself, so are done separately where they can be cached
+        String host = url.getHost();
+        url.setHost("");
         pctDecodeRepeatedlyExceptQuery(url, charset);
-        // TODO: reparse_host,
-        WhatwgCanonicalizer.normalizeIpAddress(url);
-        fixHostDots(url);
-        WhatwgCanonicalizer.punycodeSpecialHost(url, charset);
         removeUserinfo(url);
         lessDumbPctEncode(url, charset);
+        url.setHost(HostCache.shared().canonicalize(host, HostCache.SEMANTIC_PRECISE,
+                ParsedUrl.SPECIAL_SCHEMES.containsKey(url.getScheme()), charset,
+                SemanticPreciseCanonicalizer::canonicalizeHost));
         lessDumbPctRecodeQuery(url, charset);
         WhatwgCanonicalizer.fixBackslashes(url);
         WhatwgCanonicalizer.leadingSlash(url);
@@ -75,6 +117,232 @@ public class SemanticPreciseCanonicalizer implements Canonicalizer {
 
     }
 
+    /**
+     * The host part of {@link #applySteps}: pctDecodeRepeatedlyExceptQuery,
+     * normalizeIpAddress, fixHostDots, punycodeSpecialHost and
+     * lessDumbPctEncode applied to just the host.
+     */
+    static String canonicalizeHost(String host, boolean special, Charset charset) {
+        host = pctDecodeTokenRepeatedly(host, charset);
+        // TODO: reparse_host,
+        host = WhatwgCanonicalizer.normalizeIpAddress(host);
+        host = removeLeadingTrailingAndDuplicateChars(host, '.');
+        if (special) {
+            host = WhatwgCanonicalizer.punycodeHost(host, charset);
+        }
+        return WhatwgCanonicalizer.pctEncode(host, GOOGLE_PCT_ENCODE, charset);
+    }
+
+    /**
+     * Scans a URL for anything {@link #applySteps} would change. Hosts are
+     * limited to the plain ones {@link WhatwgCanonicalizer#isPlainHost}
+     * accepts, and only UTF-8 and ISO-8859-1 are understood.
+     *
+     * @param lowercase expect lowercase percent-encoding and no uppercase
+     *                  letters in the path and query, as left by the
+     *                  aggressive canonicalizer
+     */
+    static boolean isCanonical(ParsedUrl url, Charset charset, boolean lowercase) {
+        if (charset != UTF_8 && charset != ISO_8859_1) {
+            return false;
+        }
+        if (!isEmpty(url, ParsedUrl.LEADING_JUNK) || !isEmpty(url, ParsedUrl.TRAILING_JUNK)
+                || isEmpty(url, ParsedUrl.SCHEME) || !WhatwgCanonicalizer.isLowercaseScheme(url)
+                || !isEmptyOr(url, ParsedUrl.COLON_AFTER_SCHEME, ':')) {
+            return false;
+        }
+        String scheme = url.getScheme();
+        boolean special = ParsedUrl.SPECIAL_SCHEMES.containsKey(scheme);
+
+        String slashes = url.getSlashes();
+        if (!slashes.equals("//") && (special || !slashes.isEmpty())) {
+            return false;
+        }
+
+        if (!isEmpty(url, ParsedUrl.USERNAME) || !isEmpty(url, ParsedUrl.COLON_BEFORE_PASSWORD)
+                || !isEmpty(url, ParsedUrl.PASSWORD) || !isEmpty(url, ParsedUrl.AT_SIGN)) {
+            return false;
+        }
+
+        if (!WhatwgCanonicalizer.isPlainHost(url) || !WhatwgCanonicalizer.isCanonicalPort(url, scheme)) {
+            return false;
+        }
+
+        CharSequence path = url.chars(ParsedUrl.PATH);
+        int pathStart = url.start(ParsedUrl.PATH);
+        int pathEnd = url.end(ParsedUrl.PATH);
+        boolean leadingSlash = pathStart < pathEnd && path.charAt(pathStart) == '/';
+        if (special && (!leadingSlash || hasConsecutiveSlashes(path, pathStart, pathEnd))) {
+            return false;
+        }
+        if ((leadingSlash && !WhatwgCanonicalizer.isResolvedPath(path, pathStart, pathEnd, special))
+                || !isPctRecoded(path, pathStart, pathEnd, LESS_DUMB_PATH_ENCODE, charset, lowercase)) {
+            return false;
+        }
+
+        return isEmptyOr(url, ParsedUrl.QUESTION_MARK, '?')
+                && isCanonicalQuery(url, charset, lowercase)
+                && isEmptyOr(url, ParsedUrl.HASH_SIGN, '#')
+                && isPctRecoded(url.chars(ParsedUrl.FRAGMENT), url.start(ParsedUrl.FRAGMENT),
+                        url.end(ParsedUrl.FRAGMENT), GOOGLE_PCT_ENCODE, charset, false);
+    }
+
+    private static boolean hasConsecutiveSlashes(CharSequence s, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (s.charAt(i) == '/' && s.charAt(i - 1) == '/') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * True if the query params are in order and each key and value is
+     * unchanged by {@link #lessDumbPctRecodeQuery}.
+     */
+    static boolean isCanonicalQuery(ParsedUrl url, Charset charset, boolean lowercase) {
+        CharSequence s = url.chars(ParsedUrl.QUERY);
+        int start = url.start(ParsedUrl.QUERY);
+        int end = url.end(ParsedUrl.QUERY);
+        if (start == end) {
+            return true;
+        }
+        if (s.charAt(end - 1) == '&') {
+            return false; // alphaReorderQuery drops trailing empty params
+        }
+        int prevStart = -1;
+        int prevEnd = -1;
+        for (int i = start; i <= end; ) {
+            int amp = i;
+            while (amp < end && s.charAt(amp) != '&') amp++;
+            int eq = i;
+            while (eq < amp && s.charAt(eq) != '=') eq++;
+            if (!isPctRecoded(s, i, eq, LESS_DUMB_QUERY_ENCODE, charset, lowercase)
+                    || (eq < amp && !isPctRecoded(s, eq + 1, amp, LESS_DUMB_QUERY_ENCODE, charset, lowercase))) {
+                return false;
+            }
+            if (prevStart != -1 && compare(s, prevStart, prevEnd, i, amp) > 0) {
+                return false;
+            }
+            prevStart = i;
+            prevEnd = amp;
+            i = amp + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Compares two ranges of s the same way as {@link String#compareTo}.
+     */
+    private static int compare(CharSequence s, int aStart, int aEnd, int bStart, int bEnd) {
+        int n = Math.min(aEnd - aStart, bEnd - bStart);
+        for (int k = 0; k < n; k++) {
+            int diff = s.charAt(aStart + k) - s.charAt(bStart + k);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (aEnd - aStart) - (bEnd - bStart);
+    }
+
+    /**
+     * True if decoding the range repeatedly with {@link #pctDecodeTokenRepeatedly}
+     * and encoding it again with the given encode set gives back the same
+     * chars. Every percent sign must start an escape of a byte in the encode
+     * set, and under UTF-8 escaped bytes must be well-formed.
+     */
+    static boolean isPctRecoded(CharSequence s, int start, int end, boolean[] encodeSet, Charset charset,
+                                boolean lowercase) {
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c != '%') {
+                if (c > 0xff || encodeSet[c] || (lowercase && c >= 'A' && c <= 'Z')) {
+                    return false;
+                }
+                i++;
+                continue;
+            }
+            int b = escapedByte(s, i, end, lowercase);
+            if (b == -1 || !encodeSet[b]) {
+                return false;
+            }
+            if (b == '%' && i + 5 <= end && WhatwgCanonicalizer.isHexDigit(s.charAt(i + 3))
+                    && WhatwgCanonicalizer.isHexDigit(s.charAt(i + 4))) {
+                return false; // "%25XX" would be decoded a second time
+            }
+            i += 3;
+            if (b >= 0x80 && charset == UTF_8) {
+                i = skipUtf8Continuation(s, i, end, b, lowercase);
+                if (i == -1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value of the escape "%XX" at i, or -1 if there isn't one
+     * with hex digits in the expected case.
+     */
+    private static int escapedByte(CharSequence s, int i, int end, boolean lowercase) {
+        if (i + 3 > end || s.charAt(i) != '%') {
+            return -1;
+        }
+        int high = hexValue(s.charAt(i + 1), lowercase);
+        int low = hexValue(s.charAt(i + 2), lowercase);
+        return high == -1 || low == -1 ? -1 : high << 4 | low;
+    }
+
+    private static int hexValue(char c, boolean lowercase) {
+        char a = lowercase ? 'a' : 'A';
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= a && c < a + 6) {
+            return c - a + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks the escaped continuation bytes following a UTF-8 lead byte form
+     * a well-formed sequence, which decodes and re-encodes to the same bytes.
+     * Returns the index after the sequence, or -1.
+     */
+    private static int skipUtf8Continuation(CharSequence s, int i, int end, int lead, boolean lowercase) {
+        int trailing;
+        int codepoint;
+        int min;
+        if (lead >= 0xc2 && lead <= 0xdf) {
+            trailing = 1;
+            codepoint = lead & 0x1f;
+            min = 0x80;
+        } else if (lead >= 0xe0 && lead <= 0xef) {
+            trailing = 2;
+            codepoint = lead & 0x0f;
+            min = 0x800;
+        } else if (lead >= 0xf0 && lead <= 0xf4) {
+            trailing = 3;
+            codepoint = lead & 0x07;
+            min = 0x10000;
+        } else {
+            return -1;
+        }
+        for (int j = 0; j < trailing; j++) {
+            int b = escapedByte(s, i, end, lowercase);
+            if (b == -1 || (b & 0xc0) != 0x80) {
+                return -1;
+            }
+            codepoint = codepoint << 6 | (b & 0x3f);
+            i += 3;
+        }
+        if (codepoint < min || codepoint > 0x10ffff || (codepoint >= 0xd800 && codepoint <= 0xdfff)) {
+            return -1;
+        }
+        return i;
+    }
+
     static String removeLeadingTrailingAndDuplicateChars(String s, char charToRemove) {
         if (s.indexOf(charToRemove) == -1) return s;
         StringBuilder sb = new StringBuilder();
@@ -93,13 +361,13 @@ public class SemanticPreciseCanonicalizer implements Canonicalizer {
         return sb.toString();
     }
 
-    private void fixHostDots(ParsedUrl url) {
+    static void fixHostDots(ParsedUrl url) {
         url.setHost(removeLeadingTrailingAndDuplicateChars(url.getHost(), '.'));
     }
 
     private static final Pattern TWO_OR_MORE_SLASHES_RE = Pattern.compile("//+");
 
-    private void collapseConsecutiveSlashes(ParsedUrl url) {
+    static void collapseConsecutiveSlashes(ParsedUrl url) {
         if (ParsedUrl.SPECIAL_SCHEMES.containsKey(url.getScheme())) {
             url.setPath(TWO_OR_MORE_SLASHES_RE.matcher(url.getPath()).replaceAll("/"));
         }
@@ -0,0 +1,264 @@
+package org.netpreserve.urlcanon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Looks up lines in a sorted, line oriented index keyed by SSURT, such as a
+ * CDX file or the output of {@link SsurtSorter} with SSURTs, by binary search
+ * instead of reading it through.
+ *
+ * <pre>
+ * SsurtIndexReader index = SsurtIndexReader.open(Paths.get("index.cdx"), Canonicalizer.WHATWG);
+ * for (Iterator&lt;ByteBuffer&gt; it = index.lookup("http://www.example.com/"); it.hasNext(); ) {
+ *     ByteBuffer line = it.next();
+ *     ...
+ * }
+ * </pre>
+ *
+ * A line's key is its bytes up to the first space, or the whole line, and
+ * lines must be sorted by the unsigned bytes of their keys (LC_ALL=C sort
+ * order). Lookup URLs are canonicalized with the index's canonicalizer,
+ * which must be the one the index was built with or lookups will miss, and
+ * their key is {@link ParsedUrl#ssurt()} encoded as UTF-8, as in
+ * {@link SsurtRange}.
+ *
+ * The file is memory mapped in segments of at most 1 GiB that each end at a
+ * line break, so files over 2 GiB work and only the pages a search touches
+ * are read. Lines are returned as buffers sliced from the mapping, without
+ * the line break or a trailing CR; they are only valid while the file is
+ * unchanged.
+ *
+ * Readers are safe to share between threads; iterators are not.
+ */
+public class SsurtIndexReader {
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private final ByteBuffer[] segments;
+    private final Canonicalizer canonicalizer;
+
+    SsurtIndexReader(FileChannel channel, Canonicalizer canonicalizer, int segmentSize) throws IOException {
+        this.canonicalizer = canonicalizer;
+        List<ByteBuffer> segments = new ArrayList<>();
+        long size = channel.size();
+        long start = 0;
+        while (start < size) {
+            int length = (int) Math.min(size - start, segmentSize);
+            ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            if (start + length < size) {
+                // end the segment after its last line break, so no line spans two segments
+                while (length > 0 && segment.get(length - 1) != '\n') {
+                    length--;
+                }
+                if (length == 0) {
+                    throw new IOException("line at offset " + start + " is longer than " + segmentSize + " bytes");
+                }
+                segment.limit(length);
+            }
+            segments.add(segment.slice());
+            start += length;
+        }
+        this.segments = segments.toArray(new ByteBuffer[0]);
+    }
+
+    /**
+     * Memory maps a sorted index. Lookup URLs are canonicalized with the
+     * canonicalizer, or used as they are if it is null.
+     */
+    public static SsurtIndexReader open(Path path, Canonicalizer canonicalizer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new SsurtIndexReader(channel, canonicalizer, SEGMENT_SIZE);
+        }
+    }
+
+    /**
+     * Returns the lines whose key is the URL's SSURT.
+     */
+    public Iterator<ByteBuffer> lookup(String url) {
+        byte[] key = key(url);
+        byte[] end = new byte[key.length + 1];
+        System.arraycopy(key, 0, end, 0, key.length);
+        return range(key, end);
+    }
+
+    /**
+     * Returns the lines whose key is in the URL's scope (see
+     * {@link SsurtRange#of}).
+     */
+    public Iterator<ByteBuffer> lookup(String url, SsurtRange.Scope scope) {
+        return range(SsurtRange.of(canonicalize(url), scope));
+    }
+
+    /**
+     * Returns the lines whose key is in the range.
+     */
+    public Iterator<ByteBuffer> range(SsurtRange range) {
+        return range(range.start(), range.end());
+    }
+
+    /**
+     * Returns the lines whose key starts with the prefix, which is used as it
+     * is, not canonicalized.
+     */
+    public Iterator<ByteBuffer> prefix(String prefix) {
+        return range(SsurtRange.prefix(keyBytes(prefix)));
+    }
+
+    /**
+     * Returns the lines with keys from start (inclusive) to end (exclusive,
+     * or unbounded if null).
+     */
+    public Iterator<ByteBuffer> range(byte[] start, byte[] end) {
+        if (segments.length == 0) {
+            return Collections.emptyIterator();
+        }
+        int segment = firstSegment(start);
+        return new LineIterator(segment, ceiling(segments[segment], start), end);
+    }
+
+    byte[] key(String url) {
+        return keyBytes(canonicalize(url).ssurt());
+    }
+
+    private ParsedUrl canonicalize(String url) {
+        ParsedUrl parsed = ParsedUrl.parseUrl(url);
+        if (canonicalizer != null) {
+            canonicalizer.canonicalize(parsed);
+        }
+        return parsed;
+    }
+
+    private static byte[] keyBytes(String s) {
+        return s.getBytes(UTF_8);
+    }
+
+    /**
+     * Returns the last segment whose first key is less than the key, where
+     * the first line with a key at least key starts unless that segment has
+     * none, in which case it is the first line of the next.
+     */
+    private int firstSegment(byte[] key) {
+        int lo = 1;
+        int hi = segments.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            ByteBuffer segment = segments[mid];
+            if (compareKey(segment, 0, lineEnd(segment, 0), key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo - 1;
+    }
+
+    /**
+     * Binary searches the segment by line for the start of the first line
+     * whose key is at least key, or the segment's limit if there is none.
+     * Each probe backs up from the midpoint to the start of its line.
+     */
+    private static int ceiling(ByteBuffer segment, byte[] key) {
+        int lo = 0;
+        int hi = segment.limit();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int line = mid;
+            while (line > lo && segment.get(line - 1) != '\n') {
+                line--;
+            }
+            int end = lineEnd(segment, line);
+            if (compareKey(segment, line, end, key) < 0) {
+                lo = Math.min(end + 1, segment.limit());
+            } else {
+                hi = line;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the position of the line break ending the line, or the limit.
+     */
+    private static int lineEnd(ByteBuffer segment, int line) {
+        int limit = segment.limit();
+        int i = line;
+        while (i < limit && segment.get(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Compares the key of the line from start to end with key, as unsigned
+     * bytes.
+     */
+    private static int compareKey(ByteBuffer segment, int start, int end, byte[] key) {
+        for (int i = 0; ; i++) {
+            int b = start + i < end ? segment.get(start + i) & 0xff : -1;
+            if (b == ' ' || (b == '\r' && start + i + 1 == end)) {
+                b = -1;
+            }
+            int k = i < key.length ? key[i] & 0xff : -1;
+            if (b != k || b == -1) {
+                return b - k;
+            }
+        }
+    }
+
+    private class LineIterator implements Iterator<ByteBuffer> {
+        private final byte[] end;
+        private int segment;
+        private int position;
+        private ByteBuffer next;
+
+        LineIterator(int segment, int position, byte[] end) {
+            this.segment = segment;
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && segment < segments.length) {
+                ByteBuffer buffer = segments[segment];
+                if (position >= buffer.limit()) {
+                    segment++;
+                    position = 0;
+                    continue;
+                }
+                int lineEnd = lineEnd(buffer, position);
+                if (end != null && compareKey(buffer, position, lineEnd, end) >= 0) {
+                    segment = segments.length;
+                    break;
+                }
+                int contentEnd = lineEnd > position && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                ByteBuffer line = buffer.duplicate();
+                line.limit(contentEnd);
+                line.position(position);
+                next = line.slice();
+                position = lineEnd + 1;
+            }
+            return next != null;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ByteBuffer line = next;
+            next = null;
+            return line;
+        }
+    }
+}
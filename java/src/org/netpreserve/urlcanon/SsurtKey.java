@@ -0,0 +1,410 @@
+package org.netpreserve.urlcanon;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Binary sort keys for URLs, for storage engines that compare keys as
+ * unsigned bytes (memcmp). Two keys compare the same way as the bytes of the
+ * URLs' {@link ParsedUrl#ssurt()}, so a store of keys sorts and can be range
+ * scanned in SSURT order without building the string for every comparison.
+ *
+ * A key is the SSURT's bytes, with 0x00 escaped as 0x00 0xFF, followed by the
+ * terminator 0x00 0x01 and a trailer recording where each component starts,
+ * from which {@link #decode} rebuilds the URL. A SSURT that is a prefix of
+ * another still sorts first, since the terminator is lower than any escaped
+ * or unescaped byte. The SSURT's bytes are the URL's raw bytes for URLs
+ * parsed from bytes (see {@link ParsedUrl#parseUrl(byte[])}) and UTF-8
+ * otherwise; the two only differ for non-ASCII chars, which canonicalized
+ * URLs don't have.
+ */
+public class SsurtKey {
+    // components in ssurt order
+    private static final int[] ORDER = {ParsedUrl.LEADING_JUNK, ParsedUrl.HOST, ParsedUrl.SLASHES, ParsedUrl.PORT,
+            ParsedUrl.COLON_BEFORE_PORT, ParsedUrl.SCHEME, ParsedUrl.AT_SIGN, ParsedUrl.USERNAME,
+            ParsedUrl.COLON_BEFORE_PASSWORD, ParsedUrl.PASSWORD, ParsedUrl.COLON_AFTER_SCHEME, ParsedUrl.PATH,
+            ParsedUrl.QUESTION_MARK, ParsedUrl.QUERY, ParsedUrl.HASH_SIGN, ParsedUrl.FRAGMENT, ParsedUrl.TRAILING_JUNK};
+
+    // trailer flags
+    private static final int REVERSED_HOST = 1;
+    private static final int LATIN_1 = 2;
+
+    /**
+     * Returns the key of the URL.
+     */
+    public static byte[] encode(ParsedUrl url) {
+        byte[] key = new byte[encodedLength(url)];
+        encode(url, ByteBuffer.wrap(key));
+        return key;
+    }
+
+    /**
+     * Returns the length of the URL's key in bytes.
+     */
+    public static int encodedLength(ParsedUrl url) {
+        ByteCounter counter = new ByteCounter();
+        write(url, counter);
+        return counter.count;
+    }
+
+    /**
+     * Writes the URL's key to the buffer at its position, advancing it.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has fewer than
+     *                                          {@link #encodedLength} bytes
+     *                                          remaining
+     */
+    public static void encode(ParsedUrl url, ByteBuffer buffer) {
+        write(url, new BufferSink(buffer));
+    }
+
+    private static void write(ParsedUrl url, Sink sink) {
+        boolean latin1 = url.hasByteSource() && isLatin1(url);
+        int[] lengths = new int[ORDER.length];
+        boolean reversed = writeSsurt(url, latin1, lengths, sink);
+        sink.put(0);
+        sink.put(1);
+        // the charset only matters, and so only goes in the key, if there are non-ascii chars
+        sink.put((reversed ? REVERSED_HOST : 0) | (latin1 && sink.nonAscii ? LATIN_1 : 0));
+        for (int length : lengths) {
+            while (length >= 0x80) {
+                sink.put(length & 0x7f | 0x80);
+                length >>>= 7;
+            }
+            sink.put(length);
+        }
+    }
+
+    /**
+     * Writes the bytes of the URL's ssurt, without building the string.
+     */
+    static void writeSsurt(ParsedUrl url, Sink sink) {
+        writeSsurt(url, url.hasByteSource() && isLatin1(url), null, sink);
+    }
+
+    /**
+     * Writes the bytes of the URL's ssurt, storing the length of each
+     * component in lengths if it isn't null. Returns whether the host was
+     * reversed.
+     */
+    static boolean writeSsurt(ParsedUrl url, boolean latin1, int[] lengths, Sink sink) {
+        boolean reversed = false;
+        for (int i = 0; i < ORDER.length; i++) {
+            int component = ORDER[i];
+            CharSequence chars = url.chars(component);
+            int start = url.start(component);
+            int end = url.end(component);
+            int before = sink.written;
+            if (component == ParsedUrl.HOST && start < end
+                    && IpAddresses.classify(chars, start, end) == IpAddresses.DOMAIN) {
+                writeReversedHost(chars, start, end, latin1, sink);
+                reversed = true;
+            } else {
+                writeChars(chars, start, end, latin1, false, sink);
+            }
+            if (lengths != null) {
+                lengths[i] = sink.written - before;
+            }
+        }
+        return reversed;
+    }
+
+    private static boolean isLatin1(ParsedUrl url) {
+        for (int component = 0; component < ParsedUrl.COMPONENTS; component++) {
+            CharSequence chars = url.chars(component);
+            for (int i = url.start(component); i < url.end(component); i++) {
+                if (chars.charAt(i) > 0xff) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the host as {@link ParsedUrl#reverseHost} formats it without
+     * creating the string.
+     */
+    static void writeReversedHost(CharSequence host, int start, int end, boolean latin1, Sink sink) {
+        int labelEnd = end;
+        for (int i = end - 1; i >= start - 1; i--) {
+            if (i == start - 1 || host.charAt(i) == '.') {
+                writeChars(host, i + 1, labelEnd, latin1, true, sink);
+                sink.put(',');
+                labelEnd = i;
+            }
+        }
+    }
+
+    static void writeChars(CharSequence chars, int start, int end, boolean latin1, boolean commasToDots,
+                           Sink sink) {
+        for (int i = start; i < end; i++) {
+            char c = chars.charAt(i);
+            if (c == ',' && commasToDots) {
+                c = '.';
+            }
+            if (!latin1 && Character.isHighSurrogate(c) && i + 1 < end
+                    && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                sink.nonAscii = true;
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                sink.putEscaped(0xf0 | codePoint >>> 18);
+                sink.putEscaped(0x80 | codePoint >>> 12 & 0x3f);
+                sink.putEscaped(0x80 | codePoint >>> 6 & 0x3f);
+                sink.putEscaped(0x80 | codePoint & 0x3f);
+            } else {
+                writeChar(c, latin1, sink);
+            }
+        }
+    }
+
+    /**
+     * Writes a char that isn't part of a surrogate pair. Unpaired surrogates
+     * become '?', as {@link String#getBytes} does.
+     */
+    private static void writeChar(char c, boolean latin1, Sink sink) {
+        if (c >= 0x80) {
+            sink.nonAscii = true;
+        }
+        if (latin1 || c < 0x80) {
+            sink.putEscaped(c);
+        } else if (c < 0x800) {
+            sink.putEscaped(0xc0 | c >>> 6);
+            sink.putEscaped(0x80 | c & 0x3f);
+        } else if (Character.isSurrogate(c)) {
+            sink.putEscaped('?');
+        } else {
+            sink.putEscaped(0xe0 | c >>> 12);
+            sink.putEscaped(0x80 | c >>> 6 & 0x3f);
+            sink.putEscaped(0x80 | c & 0x3f);
+        }
+    }
+
+    public static ParsedUrl decode(byte[] key) {
+        return decode(key, 0, key.length);
+    }
+
+    /**
+     * Rebuilds a URL from its key. Components other than a reversed host
+     * are not copied but refer to the key, as for
+     * {@link ParsedUrl#parseUrl(byte[])}, unless the key holds escaped 0x00
+     * bytes or non-ASCII UTF-8, so the key must not be modified while the
+     * URL is in use.
+     *
+     * @throws IllegalArgumentException if the bytes are not a key
+     */
+    public static ParsedUrl decode(byte[] key, int offset, int length) {
+        ParsedUrl url = new ParsedUrl();
+        decodeInto(url, key, offset, length);
+        return url;
+    }
+
+    /**
+     * Rebuilds a URL from the remaining bytes of the buffer, without changing
+     * its position. Heap buffers are decoded without copying.
+     */
+    public static ParsedUrl decode(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] key = new byte[buffer.remaining()];
+        buffer.duplicate().get(key);
+        return decode(key);
+    }
+
+    /**
+     * Like {@link #decode(byte[], int, int)} but into an existing URL,
+     * replacing all of its components.
+     */
+    public static void decodeInto(ParsedUrl url, byte[] key, int offset, int length) {
+        int limit = offset + length;
+        // find the terminator, noting whether the body needs unescaping or decoding
+        int bodyEnd = -1;
+        boolean escaped = false;
+        boolean ascii = true;
+        for (int i = offset; i < limit; i++) {
+            int b = key[i] & 0xff;
+            if (b == 0) {
+                if (i + 1 < limit && key[i + 1] == 1) {
+                    bodyEnd = i;
+                    break;
+                } else if (i + 1 < limit && key[i + 1] == (byte) 0xff) {
+                    escaped = true;
+                    i++;
+                } else {
+                    throw new IllegalArgumentException("invalid ssurt key");
+                }
+            } else if (b >= 0x80) {
+                ascii = false;
+            }
+        }
+        if (bodyEnd == -1 || bodyEnd + 2 >= limit) {
+            throw new IllegalArgumentException("invalid ssurt key");
+        }
+        int flags = key[bodyEnd + 2];
+        int[] lengths = new int[ORDER.length];
+        int pos = bodyEnd + 3;
+        int total = 0;
+        for (int i = 0; i < ORDER.length; i++) {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                if (pos >= limit || shift > 28) {
+                    throw new IllegalArgumentException("invalid ssurt key");
+                }
+                int b = key[pos++];
+                value |= (b & 0x7f) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            if (value < 0) {
+                throw new IllegalArgumentException("invalid ssurt key");
+            }
+            lengths[i] = value;
+            total += value;
+        }
+
+        byte[] body = key;
+        int bodyStart = offset;
+        if (escaped) {
+            body = new byte[bodyEnd - offset];
+            int n = 0;
+            for (int i = offset; i < bodyEnd; i++) {
+                body[n++] = key[i];
+                if (key[i] == 0) {
+                    i++;
+                }
+            }
+            bodyStart = 0;
+            bodyEnd = n;
+        }
+        if (pos != limit || total != bodyEnd - bodyStart) {
+            throw new IllegalArgumentException("invalid ssurt key");
+        }
+
+        url.reset();
+        boolean latin1 = (flags & LATIN_1) != 0;
+        CharSequence source = null;
+        if (!escaped && (ascii || latin1)) {
+            source = new ByteString(body, bodyStart, bodyEnd - bodyStart);
+            url.setSource(source);
+        }
+        int start = 0;
+        for (int i = 0; i < ORDER.length; i++) {
+            int component = ORDER[i];
+            int end = start + lengths[i];
+            CharSequence chars;
+            int charsStart;
+            int charsEnd;
+            if (source != null) {
+                chars = source;
+                charsStart = start;
+                charsEnd = end;
+            } else {
+                chars = new String(body, bodyStart + start, lengths[i], latin1 ? ISO_8859_1 : UTF_8);
+                charsStart = 0;
+                charsEnd = chars.length();
+            }
+            if (component == ParsedUrl.HOST && (flags & REVERSED_HOST) != 0) {
+                String host = unreverseHost(chars, charsStart, charsEnd);
+                url.setRange(ParsedUrl.HOST, host, 0, host.length());
+            } else {
+                url.setRange(component, chars, charsStart, charsEnd);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * The inverse of {@link ParsedUrl#reverseHost}: "c,b,x.y," => "x,y.b.c"
+     */
+    private static String unreverseHost(CharSequence s, int start, int end) {
+        if (end <= start || s.charAt(end - 1) != ',') {
+            throw new IllegalArgumentException("invalid ssurt key");
+        }
+        end--;
+        StringBuilder buf = new StringBuilder(end - start);
+        int labelEnd = end;
+        for (int i = end - 1; i >= start - 1; i--) {
+            if (i == start - 1 || s.charAt(i) == ',') {
+                for (int j = i + 1; j < labelEnd; j++) {
+                    char c = s.charAt(j);
+                    buf.append(c == '.' ? ',' : c);
+                }
+                if (i != start - 1) {
+                    buf.append('.');
+                }
+                labelEnd = i;
+            }
+        }
+        return buf.toString();
+    }
+
+    public static int compare(byte[] a, byte[] b) {
+        return compare(a, 0, a.length, b, 0, b.length);
+    }
+
+    /**
+     * Compares two keys as unsigned bytes, the order storage engines sort
+     * them in.
+     */
+    public static int compare(byte[] a, int aOffset, int aLength, byte[] b, int bOffset, int bLength) {
+        int n = Math.min(aLength, bLength);
+        for (int i = 0; i < n; i++) {
+            int x = a[aOffset + i] & 0xff;
+            int y = b[bOffset + i] & 0xff;
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    abstract static class Sink {
+        int written;
+        boolean nonAscii;
+
+        abstract void put(int b);
+
+        /**
+         * Writes a byte of the ssurt itself, escaping 0x00.
+         */
+        void putEscaped(int b) {
+            if (b == 0) {
+                put(0);
+                put(0xff);
+                written--;
+            } else {
+                put(b);
+            }
+        }
+    }
+
+    /**
+     * Counts the ssurt bytes and the whole key, without writing.
+     */
+    private static final class ByteCounter extends Sink {
+        int count;
+
+        @Override
+        void put(int b) {
+            written++;
+            count++;
+        }
+    }
+
+    private static final class BufferSink extends Sink {
+        private final ByteBuffer buffer;
+
+        BufferSink(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        void put(int b) {
+            written++;
+            buffer.put((byte) b);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package org.netpreserve.urlcanon;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A range of SSURTs from a start (inclusive) to an end (exclusive), as
+ * unsigned bytes, for turning a scope query into a seek on a sorted store
+ * instead of a filter over it.
+ *
+ * The bounds are the UTF-8 bytes of SSURTs. They work as they are for stores
+ * of SSURT strings, SSURT-keyed CDX lines and {@link SsurtKey}s, which all
+ * sort SSURTs by their bytes and start with them.
+ *
+ * The ranges for a URL are exact for canonical SSURTs, which is what the
+ * trailing comma after a reversed host and the "//" after the host are for:
+ * {@code domain("example.com")} is everything from "com,example," up to
+ * "com,example-", so it includes "com,example,www,//" but not
+ * "com,examples,//".
+ */
+public class SsurtRange {
+    private final byte[] start;
+    private final byte[] end;
+
+    private SsurtRange(byte[] start, byte[] end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Which of a URL's SSURTs a range covers.
+     */
+    public enum Scope {
+        /**
+         * The URL's registrable domain (per
+         * {@link PublicSuffixes#getDefault()}) and its subdomains.
+         */
+        REGISTRABLE_DOMAIN,
+        /**
+         * The URL's host and its subdomains.
+         */
+        DOMAIN,
+        /**
+         * The URL's host, whatever the port or scheme.
+         */
+        HOST,
+        /**
+         * The URL's host and port. A URL without a port covers the URLs
+         * without one.
+         */
+        HOST_PORT,
+        /**
+         * The URL's host, port and scheme.
+         */
+        HOST_PORT_SCHEME,
+        /**
+         * The URL's host, port, scheme and userinfo, and paths starting with
+         * the URL's path.
+         */
+        PATH_PREFIX
+    }
+
+    /**
+     * Returns the range of SSURTs starting with the prefix.
+     */
+    public static SsurtRange prefix(String prefix) {
+        return prefix(prefix.getBytes(UTF_8));
+    }
+
+    public static SsurtRange prefix(byte[] prefix) {
+        return new SsurtRange(prefix.clone(), successor(prefix));
+    }
+
+    /**
+     * Returns the range of SSURTs whose host is the domain or a subdomain of
+     * it, or for an IP address the address itself. The domain should be
+     * canonical.
+     */
+    public static SsurtRange domain(String domain) {
+        if (domain.isEmpty() || IpAddresses.classify(domain, 0, domain.length()) != IpAddresses.DOMAIN) {
+            return prefix(domain + "//");
+        }
+        return prefix(ParsedUrl.reverseHost(domain));
+    }
+
+    /**
+     * Returns the range of SSURTs within the scope of the URL, which should
+     * be canonical. For URLs without a host, such as "mailto:" URLs, the
+     * host scopes are treated as {@link Scope#HOST_PORT_SCHEME}.
+     */
+    public static SsurtRange of(ParsedUrl url, Scope scope) {
+        String host = url.getHost();
+        boolean hostless = host.isEmpty() && url.getSlashes().isEmpty();
+        StringBuilder buf = new StringBuilder();
+        buf.append(url.getLeadingJunk());
+        switch (hostless && scope.compareTo(Scope.HOST_PORT_SCHEME) < 0 ? Scope.HOST_PORT_SCHEME : scope) {
+            case REGISTRABLE_DOMAIN: {
+                int start = PublicSuffixes.getDefault().registrableDomainStart(host, 0, host.length());
+                String domain = start == -1 ? host : host.substring(start);
+                return prefix(buf.append(domainPrefix(domain, url.getSlashes())).toString());
+            }
+            case DOMAIN:
+                return prefix(buf.append(domainPrefix(host, url.getSlashes())).toString());
+            case HOST:
+                return prefix(buf.append(ParsedUrl.ssurtHost(host)).append(url.getSlashes()).toString());
+            case HOST_PORT:
+                buf.append(ParsedUrl.ssurtHost(host)).append(url.getSlashes());
+                if (url.getPort().isEmpty()) {
+                    // a port follows the slashes, a scheme (a letter) or an empty port's colon otherwise
+                    return between(buf + ":", buf.toString());
+                }
+                return prefix(buf.append(url.getPort()).append(url.getColonBeforePort()).toString());
+            case HOST_PORT_SCHEME:
+                buf.append(ParsedUrl.ssurtHost(host)).append(url.getSlashes()).append(url.getPort())
+                        .append(url.getColonBeforePort()).append(url.getScheme());
+                // the scheme is followed by the @ of userinfo or the colon after it, which sort next to each other
+                // after any scheme char, so "http" doesn't cover "https"
+                return new SsurtRange((buf + ":").getBytes(UTF_8), (buf + "A").getBytes(UTF_8));
+            case PATH_PREFIX:
+                buf.append(ParsedUrl.ssurtHost(host)).append(url.getSlashes()).append(url.getPort())
+                        .append(url.getColonBeforePort()).append(url.getScheme()).append(url.getAtSign())
+                        .append(url.getUsername()).append(url.getColonBeforePassword()).append(url.getPassword())
+                        .append(url.getColonAfterScheme()).append(url.getPath());
+                return prefix(buf.toString());
+            default:
+                throw new IllegalArgumentException("unknown scope " + scope);
+        }
+    }
+
+    private static String domainPrefix(String host, String slashes) {
+        if (host.isEmpty() || IpAddresses.classify(host, 0, host.length()) != IpAddresses.DOMAIN) {
+            return host + slashes;
+        }
+        return ParsedUrl.reverseHost(host);
+    }
+
+    /**
+     * The SSURTs starting with prefix that are at least start.
+     */
+    private static SsurtRange between(String start, String prefix) {
+        return new SsurtRange(start.getBytes(UTF_8), successor(prefix.getBytes(UTF_8)));
+    }
+
+    /**
+     * Returns the smallest byte string greater than every byte string
+     * starting with the prefix, or null if there is none.
+     */
+    static byte[] successor(byte[] prefix) {
+        int n = prefix.length;
+        while (n > 0 && prefix[n - 1] == (byte) 0xff) {
+            n--;
+        }
+        if (n == 0) {
+            return null;
+        }
+        byte[] end = Arrays.copyOf(prefix, n);
+        end[n - 1]++;
+        return end;
+    }
+
+    /**
+     * The inclusive lower bound.
+     */
+    public byte[] start() {
+        return start.clone();
+    }
+
+    /**
+     * The exclusive upper bound, or null if the range is unbounded above.
+     */
+    public byte[] end() {
+        return end == null ? null : end.clone();
+    }
+
+    /**
+     * Returns whether the SSURT or key is in the range.
+     */
+    public boolean contains(byte[] key) {
+        return contains(key, 0, key.length);
+    }
+
+    public boolean contains(byte[] key, int offset, int length) {
+        return SsurtKey.compare(key, offset, length, start, 0, start.length) >= 0
+                && (end == null || SsurtKey.compare(key, offset, length, end, 0, end.length) < 0);
+    }
+
+    public boolean contains(String ssurt) {
+        return contains(ssurt.getBytes(UTF_8));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SsurtRange && Arrays.equals(start, ((SsurtRange) o).start)
+                && Arrays.equals(end, ((SsurtRange) o).end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(start) + Arrays.hashCode(end);
+    }
+
+    /**
+     * Shows the bounds as ISO-8859-1, so every byte is one char.
+     */
+    @Override
+    public String toString() {
+        return "[" + new String(start, ISO_8859_1) + ", " + (end == null ? "" : new String(end, ISO_8859_1)) + ")";
+    }
+}
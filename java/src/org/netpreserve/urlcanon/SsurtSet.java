@@ -0,0 +1,624 @@
+package org.netpreserve.urlcanon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An immutable, compact set of SSURTs, for seen-URL checks and prefix
+ * queries over sets too large to hold as strings.
+ *
+ * The set is a minimal acyclic automaton over the keys' bytes, the
+ * output-less form of a finite state transducer: keys sharing a prefix share
+ * the states for it, and keys sharing a suffix, such as "/" or "index.html",
+ * share those states too. It is built in one pass from keys added in
+ * unsigned byte order (see {@link Builder}), and the states are packed into
+ * a byte array.
+ *
+ * Keys are SSURT bytes as {@link SsurtKey} writes them: UTF-8, or the raw
+ * bytes for URLs parsed from bytes, which only differ for non-ASCII chars.
+ * {@link #contains(ParsedUrl)} walks the automaton with the URL's SSURT bytes
+ * as they are produced, without building the string.
+ *
+ * The automaton is held in one byte array, so a set is limited to about
+ * 2 GiB of states; beyond that the builder throws IllegalStateException.
+ */
+public class SsurtSet implements Iterable<byte[]> {
+    /*
+     * Each state is written to bytes with its fields in reverse, so a state's
+     * address is the offset just past its last byte and it is read backwards
+     * from there. The fields, in reading order, are:
+     *
+     * varint header     arcs << 2 | follows << 1 | final
+     * one arc:          label byte, then the target address as a varint
+     *                   unless follows is set, in which case the target is the
+     *                   state written just before this one
+     * several arcs:     width byte, the labels in ascending order, then each
+     *                   target address as width bytes, big-endian
+     *
+     * States are written children first, so a chain of single-arc states,
+     * which most of a URL's path becomes, costs two bytes per byte of key.
+     */
+    private static final int FINAL = 1;
+    private static final int FOLLOWS = 2;
+
+    private final byte[] bytes;
+    private final int root;
+    private final long size;
+
+    private SsurtSet(byte[] bytes, int root, long size) {
+        this.bytes = bytes;
+        this.root = root;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Number of keys in the set.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Number of bytes the automaton takes.
+     */
+    public long sizeInBytes() {
+        return bytes.length;
+    }
+
+    public boolean contains(String key) {
+        return contains(key.getBytes(UTF_8));
+    }
+
+    public boolean contains(byte[] key) {
+        int state = walk(key);
+        return state != 0 && isFinal(state);
+    }
+
+    /**
+     * Returns whether the set contains the URL's {@link ParsedUrl#ssurt()}.
+     */
+    public boolean contains(ParsedUrl url) {
+        Walker walker = new Walker();
+        SsurtKey.writeSsurt(url, walker);
+        return walker.state != 0 && isFinal(walker.state);
+    }
+
+    /**
+     * Returns whether any key starts with the prefix.
+     */
+    public boolean containsPrefix(String prefix) {
+        return containsPrefix(prefix.getBytes(UTF_8));
+    }
+
+    public boolean containsPrefix(byte[] prefix) {
+        // every state of a minimal automaton leads to a final state, so reaching one is enough
+        return size > 0 && walk(prefix) != 0;
+    }
+
+    /**
+     * Iterates over all keys in order.
+     */
+    @Override
+    public Iterator<byte[]> iterator() {
+        return prefixIterator(new byte[0]);
+    }
+
+    /**
+     * Iterates in order over the keys that start with the prefix.
+     */
+    public Iterator<byte[]> prefixIterator(String prefix) {
+        return prefixIterator(prefix.getBytes(UTF_8));
+    }
+
+    public Iterator<byte[]> prefixIterator(byte[] prefix) {
+        KeyIterator it = new KeyIterator(prefix.length);
+        int state = size > 0 ? walk(prefix) : 0;
+        if (state != 0) {
+            System.arraycopy(prefix, 0, it.key, 0, prefix.length);
+            it.push(state, 0);
+        }
+        return it;
+    }
+
+    /**
+     * Iterates in order over the keys greater than or equal to the given
+     * key.
+     */
+    public Iterator<byte[]> tailIterator(byte[] fromKey) {
+        KeyIterator it = new KeyIterator(0);
+        if (size == 0) {
+            return it;
+        }
+        int state = root;
+        for (int i = 0; ; i++) {
+            if (i == fromKey.length) {
+                // the key itself, if present, and everything below it
+                it.push(state, 0);
+                return it;
+            }
+            int label = fromKey[i] & 0xff;
+            int arcs = arcs(state);
+            int arc = 0;
+            while (arc < arcs && label(state, arc) < label) {
+                arc++;
+            }
+            if (arc == arcs || label(state, arc) != label) {
+                // the keys below this state sort after fromKey from this arc on, and its own key before
+                it.pushResuming(state, arc);
+                it.advance();
+                return it;
+            }
+            it.pushResuming(state, arc + 1);
+            it.key[i] = (byte) label;
+            state = target(state, arc);
+        }
+    }
+
+    public Iterator<byte[]> tailIterator(String fromKey) {
+        return tailIterator(fromKey.getBytes(UTF_8));
+    }
+
+    private int walk(byte[] key) {
+        int state = root;
+        for (int i = 0; i < key.length && state != 0; i++) {
+            state = next(state, key[i] & 0xff);
+        }
+        return state;
+    }
+
+    private int header(int state) {
+        int value = 0;
+        int pos = state - 1;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[pos--];
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Position of the byte after the header, reading backwards.
+     */
+    private static int afterHeader(int state, int header) {
+        int length = 1;
+        while ((header >>>= 7) != 0) {
+            length++;
+        }
+        return state - 1 - length;
+    }
+
+    private boolean isFinal(int state) {
+        return (header(state) & FINAL) != 0;
+    }
+
+    private int arcs(int state) {
+        return header(state) >>> 2;
+    }
+
+    private int label(int state, int arc) {
+        int header = header(state);
+        int pos = afterHeader(state, header);
+        if (header >>> 2 == 1) {
+            return bytes[pos] & 0xff;
+        }
+        return bytes[pos - 1 - arc] & 0xff;
+    }
+
+    private int target(int state, int arc) {
+        int header = header(state);
+        int pos = afterHeader(state, header);
+        int arcs = header >>> 2;
+        if (arcs == 1) {
+            pos--;
+            if ((header & FOLLOWS) != 0) {
+                return pos + 1;
+            }
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[pos--];
+                value |= (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+        int width = bytes[pos];
+        pos -= 1 + arcs + arc * width;
+        int value = 0;
+        for (int i = 0; i < width; i++) {
+            value = value << 8 | bytes[pos - i] & 0xff;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the state the arc labelled with the byte leads to, or 0 if
+     * there is none.
+     */
+    private int next(int state, int label) {
+        int header = header(state);
+        int arcs = header >>> 2;
+        if (arcs == 0) {
+            return 0;
+        }
+        int pos = afterHeader(state, header);
+        if (arcs == 1) {
+            return (bytes[pos] & 0xff) == label ? target(state, 0) : 0;
+        }
+        int labels = pos - 1;
+        int lo = 0;
+        int hi = arcs - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int l = bytes[labels - mid] & 0xff;
+            if (l < label) {
+                lo = mid + 1;
+            } else if (l > label) {
+                hi = mid - 1;
+            } else {
+                return target(state, mid);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Feeds the bytes of a URL's ssurt through the automaton.
+     */
+    private final class Walker extends SsurtKey.Sink {
+        int state = root;
+
+        @Override
+        void put(int b) {
+            if (state != 0) {
+                state = next(state, b);
+            }
+        }
+
+        @Override
+        void putEscaped(int b) {
+            put(b);
+        }
+    }
+
+    /**
+     * Depth-first walk over the arcs in label order, yielding a key on
+     * entering each final state.
+     */
+    private final class KeyIterator implements Iterator<byte[]> {
+        private final int base;
+        private int[] states = new int[16];
+        private int[] nextArcs = new int[16];
+        private byte[] key;
+        private int depth;
+        private byte[] next;
+
+        KeyIterator(int base) {
+            this.base = base;
+            this.depth = base - 1;
+            key = new byte[Math.max(64, base * 2)];
+        }
+
+        /**
+         * Pushes a state whose own key comes next if it is final.
+         */
+        void push(int state, int nextArc) {
+            pushResuming(state, nextArc);
+            if (isFinal(state)) {
+                next = Arrays.copyOf(key, depth);
+            } else {
+                advance();
+            }
+        }
+
+        /**
+         * Pushes a state to continue from the given arc, without its own key.
+         */
+        void pushResuming(int state, int nextArc) {
+            depth++;
+            int level = depth - base;
+            if (level == states.length) {
+                states = Arrays.copyOf(states, level * 2);
+                nextArcs = Arrays.copyOf(nextArcs, level * 2);
+            }
+            if (depth >= key.length) {
+                key = Arrays.copyOf(key, key.length * 2);
+            }
+            states[level] = state;
+            nextArcs[level] = nextArc;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= base) {
+                int level = depth - base;
+                int state = states[level];
+                int arc = nextArcs[level];
+                if (arc < arcs(state)) {
+                    nextArcs[level]++;
+                    key[depth] = (byte) label(state, arc);
+                    int target = target(state, arc);
+                    pushResuming(target, 0);
+                    if (isFinal(target)) {
+                        next = Arrays.copyOf(key, depth);
+                        return;
+                    }
+                } else {
+                    depth--;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public byte[] next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            byte[] result = next;
+            advance();
+            return result;
+        }
+    }
+
+    /**
+     * Builds a set from keys added in unsigned byte order, as
+     * {@link SsurtSorter} writes them with {@link SsurtSorter.Builder#writeSsurt}.
+     * Duplicates are ignored.
+     *
+     * The states for the last key added are kept unfrozen. When the next key
+     * diverges from it, the states past the shared prefix are frozen deepest
+     * first, each replaced by an identical frozen state if there already is
+     * one, which keeps the automaton minimal (Daciuk et al., "Incremental
+     * construction of minimal acyclic finite-state automata", 2000).
+     */
+    public static class Builder {
+        private byte[] bytes = new byte[1024];
+        private int length;
+        // for reading back frozen states, over the current bytes
+        private SsurtSet view = new SsurtSet(bytes, 0, 0);
+        // hash table of frozen states by content, 0 for empty slots
+        private int[] table = new int[1024];
+        private int frozen;
+        private final ArrayList<State> frontier = new ArrayList<>();
+        private byte[] previous = new byte[64];
+        private int previousLength = -1;
+        private long size;
+        private boolean built;
+
+        private Builder() {
+            frontier.add(new State());
+        }
+
+        public Builder add(String key) {
+            return add(key.getBytes(UTF_8));
+        }
+
+        public Builder add(byte[] key) {
+            return add(key, 0, key.length);
+        }
+
+        /**
+         * @throws IllegalArgumentException if the key sorts before the
+         *                                  previous one
+         */
+        public Builder add(byte[] key, int offset, int keyLength) {
+            if (built) {
+                throw new IllegalStateException("already built");
+            }
+            int shared = 0;
+            if (previousLength != -1) {
+                int n = Math.min(keyLength, previousLength);
+                while (shared < n && previous[shared] == key[offset + shared]) {
+                    shared++;
+                }
+                if (shared < n ? (previous[shared] & 0xff) > (key[offset + shared] & 0xff)
+                        : keyLength < previousLength) {
+                    throw new IllegalArgumentException("keys out of order");
+                }
+                if (shared == keyLength && keyLength == previousLength) {
+                    return this;
+                }
+                freezeTail(shared);
+            }
+            for (int i = shared; i < keyLength; i++) {
+                if (frontier.size() == i + 1) {
+                    frontier.add(new State());
+                }
+                frontier.get(i).addArc(key[offset + i] & 0xff);
+                frontier.get(i + 1).clear();
+            }
+            frontier.get(keyLength).isFinal = true;
+
+            if (previous.length < keyLength) {
+                previous = new byte[Math.max(keyLength, previous.length * 2)];
+            }
+            System.arraycopy(key, offset, previous, 0, keyLength);
+            previousLength = keyLength;
+            size++;
+            return this;
+        }
+
+        public SsurtSet build() {
+            if (built) {
+                throw new IllegalStateException("already built");
+            }
+            built = true;
+            freezeTail(0);
+            int root = freeze(frontier.get(0));
+            table = null;
+            return new SsurtSet(Arrays.copyOf(bytes, length), root, size);
+        }
+
+        /**
+         * Freezes the states of the previous key below the given depth.
+         */
+        private void freezeTail(int depth) {
+            for (int i = Math.max(previousLength, 0); i > depth; i--) {
+                frontier.get(i - 1).setLastTarget(freeze(frontier.get(i)));
+            }
+        }
+
+        private int freeze(State state) {
+            int hash = state.hash();
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            for (int address; (address = table[slot]) != 0; slot = (slot + 1) & mask) {
+                if (equals(address, state)) {
+                    return address;
+                }
+            }
+            int address = write(state);
+            table[slot] = address;
+            if (++frozen * 2 > table.length) {
+                rehash();
+            }
+            return address;
+        }
+
+        private int write(State state) {
+            // fields in reading order, then appended reversed
+            byte[] buf = new byte[5 + 1 + state.arcs * 5];
+            int n = 0;
+            boolean follows = state.arcs == 1 && state.targets[0] == length;
+            int header = state.arcs << 2 | (follows ? FOLLOWS : 0) | (state.isFinal ? FINAL : 0);
+            n = putVarint(buf, n, header);
+            if (state.arcs == 1) {
+                buf[n++] = (byte) state.labels[0];
+                if (!follows) {
+                    n = putVarint(buf, n, state.targets[0]);
+                }
+            } else if (state.arcs > 1) {
+                int max = 0;
+                for (int i = 0; i < state.arcs; i++) {
+                    max = Math.max(max, state.targets[i]);
+                }
+                int width = (32 - Integer.numberOfLeadingZeros(max) + 7) / 8;
+                buf[n++] = (byte) width;
+                for (int i = 0; i < state.arcs; i++) {
+                    buf[n++] = (byte) state.labels[i];
+                }
+                for (int i = 0; i < state.arcs; i++) {
+                    for (int j = width - 1; j >= 0; j--) {
+                        buf[n++] = (byte) (state.targets[i] >>> (j * 8));
+                    }
+                }
+            }
+            if (length + n > bytes.length) {
+                if (length + n < 0 || bytes.length == Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("ssurt set too large");
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE - 8,
+                        Math.max((long) length + n, bytes.length * 2L)));
+                view = new SsurtSet(bytes, 0, 0);
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                bytes[length++] = buf[i];
+            }
+            return length;
+        }
+
+        private static int putVarint(byte[] buf, int n, int value) {
+            while (value >= 0x80) {
+                buf[n++] = (byte) (value & 0x7f | 0x80);
+                value >>>= 7;
+            }
+            buf[n++] = (byte) value;
+            return n;
+        }
+
+        private void rehash() {
+            int[] old = table;
+            table = new int[old.length * 2];
+            int mask = table.length - 1;
+            for (int address : old) {
+                if (address != 0) {
+                    int slot = hash(address) & mask;
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = address;
+                }
+            }
+        }
+
+        private boolean equals(int address, State state) {
+            int header = view.header(address);
+            if ((header & FINAL) != 0 != state.isFinal || header >>> 2 != state.arcs) {
+                return false;
+            }
+            for (int i = 0; i < state.arcs; i++) {
+                if (view.label(address, i) != state.labels[i] || view.target(address, i) != state.targets[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int hash(int address) {
+            int arcs = view.arcs(address);
+            int h = view.isFinal(address) ? 1 : 0;
+            for (int i = 0; i < arcs; i++) {
+                h = 31 * (31 * h + view.label(address, i)) + view.target(address, i);
+            }
+            return mix(h);
+        }
+
+        static int mix(int h) {
+            h *= 0x9e3779b9;
+            return h ^ h >>> 16;
+        }
+
+        /**
+         * A state of the last key added, whose last arc's target is the
+         * state at the next depth until that is frozen.
+         */
+        private static final class State {
+            boolean isFinal;
+            int arcs;
+            int[] labels = new int[2];
+            int[] targets = new int[2];
+
+            void clear() {
+                isFinal = false;
+                arcs = 0;
+            }
+
+            void addArc(int label) {
+                if (arcs == labels.length) {
+                    labels = Arrays.copyOf(labels, arcs * 2);
+                    targets = Arrays.copyOf(targets, arcs * 2);
+                }
+                labels[arcs] = label;
+                targets[arcs] = 0;
+                arcs++;
+            }
+
+            void setLastTarget(int target) {
+                targets[arcs - 1] = target;
+            }
+
+            int hash() {
+                int h = isFinal ? 1 : 0;
+                for (int i = 0; i < arcs; i++) {
+                    h = 31 * (31 * h + labels[i]) + targets[i];
+                }
+                return mix(h);
+            }
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package org.netpreserve.urlcanon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Sorts lists of URLs, one per line, into SSURT order, for inputs far larger
+ * than memory. Built with {@link #builder()}:
+ *
+ * <pre>
+ * SsurtSorter sorter = SsurtSorter.builder()
+ *         .canonicalizer(Canonicalizer.WHATWG)
+ *         .memoryBudget(1L &lt;&lt; 30)
+ *         .deduplicate(true)
+ *         .build();
+ * sorter.sort(Paths.get("seeds.txt"), Paths.get("seeds.sorted"));
+ * </pre>
+ *
+ * Lines are read as raw bytes (see {@link ParsedUrl#parseUrl(byte[])}) in
+ * chunks that fit the memory budget. Each chunk is parsed, optionally
+ * canonicalized, turned into {@link SsurtKey}s and sorted on a pool of
+ * threads, then written to a temporary run file. The runs are then merged,
+ * in several passes if there are many. The output is the URLs (or their
+ * SSURTs) in the unsigned byte order of their keys, which is the order of
+ * {@link ParsedUrl#ssurt()}'s bytes. Blank lines are skipped and a trailing
+ * CR is dropped. A URL the canonicalizer throws on is sorted and written as
+ * it is, uncanonicalized, rather than failing the sort.
+ *
+ * Can also be run from the command line:
+ *
+ * <pre>
+ * java org.netpreserve.urlcanon.SsurtSorter [--canonicalizer whatwg|semantic|semantic-precise|aggressive]
+ *      [--memory 512m] [--threads n] [--temp-dir dir] [--unique] [--ssurt] [input [output]]
+ * </pre>
+ */
+public class SsurtSorter {
+    private static final int MAX_MERGE_WIDTH = 128;
+    // rough per-line cost of the arrays and references beyond the bytes themselves
+    private static final int LINE_OVERHEAD = 64;
+
+    private final Canonicalizer canonicalizer;
+    private final long memoryBudget;
+    private final int threads;
+    private final Path tempDirectory;
+    private final boolean deduplicate;
+    private final boolean writeSsurt;
+
+    private SsurtSorter(Builder builder) {
+        canonicalizer = builder.canonicalizer;
+        memoryBudget = builder.memoryBudget;
+        threads = builder.threads;
+        tempDirectory = builder.tempDirectory;
+        deduplicate = builder.deduplicate;
+        writeSsurt = builder.writeSsurt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long sort(Path input, Path output) throws IOException {
+        try (InputStream in = Files.newInputStream(input);
+             OutputStream out = Files.newOutputStream(output)) {
+            return sort(in, out);
+        }
+    }
+
+    /**
+     * Sorts the lines of in to out. Neither stream is closed.
+     *
+     * @return the number of lines written
+     */
+    public long sort(InputStream in, OutputStream out) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            createRuns(in, runs);
+            while (runs.size() > MAX_MERGE_WIDTH) {
+                List<Path> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += MAX_MERGE_WIDTH) {
+                    List<Path> group = runs.subList(i, Math.min(runs.size(), i + MAX_MERGE_WIDTH));
+                    Path run = createTempFile();
+                    merged.add(run);
+                    try (RunWriter writer = new RunWriter(run)) {
+                        merge(group, writer::write);
+                    }
+                    deleteAll(group);
+                }
+                runs = merged;
+            }
+            OutputStream buffered = new BufferedOutputStream(out, 1 << 16);
+            long[] count = new long[1];
+            merge(runs, key -> {
+                writeLine(key, buffered);
+                count[0]++;
+            });
+            buffered.flush();
+            return count[0];
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    /**
+     * Reads the input a chunk at a time, sorting and spilling each chunk on
+     * the thread pool. A semaphore stops the reader getting more than the
+     * pool's size ahead, which bounds the chunks in memory.
+     */
+    private void createRuns(InputStream in, List<Path> runs) throws IOException {
+        long chunkBudget = Math.max(1, memoryBudget / (threads + 1));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ssurt-sorter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore permits = new Semaphore(threads);
+        List<Future<Path>> futures = new ArrayList<>();
+        try {
+            LineReader reader = new LineReader(in);
+            while (true) {
+                List<byte[]> lines = new ArrayList<>();
+                long size = 0;
+                byte[] line;
+                while (size < chunkBudget && (line = reader.readLine()) != null) {
+                    if (line.length > 0) {
+                        lines.add(line);
+                        size += line.length + LINE_OVERHEAD;
+                    }
+                }
+                if (lines.isEmpty()) {
+                    break;
+                }
+                permits.acquireUninterruptibly();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return sortRun(lines);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<Path> future : futures) {
+                runs.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while sorting", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
+            // collect runs written by tasks that finished before a failure so they get deleted
+            for (Future<Path> future : futures) {
+                if (future.isDone() && !future.isCancelled()) {
+                    try {
+                        Path run = future.get();
+                        if (!runs.contains(run)) {
+                            runs.add(run);
+                        }
+                    } catch (InterruptedException | ExecutionException ignored) {
+                    }
+                }
+            }
+        }
+    }
+
+    private Path sortRun(List<byte[]> lines) throws IOException {
+        byte[][] keys = new byte[lines.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            byte[] line = lines.get(i);
+            lines.set(i, null);
+            ParsedUrl url = ParsedUrl.parseUrl(line);
+            if (canonicalizer != null) {
+                try {
+                    canonicalizer.canonicalize(url);
+                } catch (RuntimeException e) {
+                    // sort the URL as it is rather than fail the whole sort over one odd line
+                    url = ParsedUrl.parseUrl(line);
+                }
+            }
+            keys[i] = SsurtKey.encode(url);
+        }
+        Arrays.sort(keys, SsurtKey::compare);
+        Path run = createTempFile();
+        try (RunWriter writer = new RunWriter(run)) {
+            for (int i = 0; i < keys.length; i++) {
+                if (!deduplicate || i == 0 || !Arrays.equals(keys[i], keys[i - 1])) {
+                    writer.write(keys[i]);
+                }
+            }
+        }
+        return run;
+    }
+
+    /**
+     * K-way merges the runs, passing each key to the consumer in order,
+     * dropping duplicates if deduplicating. Every reader opened is closed
+     * however the merge ends.
+     */
+    private void merge(List<Path> runs, KeyConsumer consumer) throws IOException {
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> SsurtKey.compare(a.key, b.key));
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run);
+                readers.add(reader);
+                if (reader.next()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+            byte[] last = null;
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                byte[] key = reader.key;
+                if (!deduplicate || last == null || !Arrays.equals(key, last)) {
+                    consumer.accept(key);
+                    last = key;
+                }
+                if (reader.next()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+        } finally {
+            closeAll(readers);
+        }
+    }
+
+    /**
+     * Closes every reader, throwing the first failure once all are closed.
+     */
+    private static void closeAll(List<RunReader> readers) throws IOException {
+        IOException failure = null;
+        for (RunReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeLine(byte[] key, OutputStream out) throws IOException {
+        ParsedUrl url = SsurtKey.decode(key);
+        String s = writeSsurt ? url.ssurt() : url.toString();
+        out.write(s.getBytes(isLatin1(s) ? ISO_8859_1 : UTF_8));
+        out.write('\n');
+    }
+
+    static boolean isLatin1(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0xff) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path createTempFile() throws IOException {
+        return tempDirectory == null ? Files.createTempFile("ssurt-sort", ".run")
+                : Files.createTempFile(tempDirectory, "ssurt-sort", ".run");
+    }
+
+    private static void deleteAll(List<Path> paths) throws IOException {
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyConsumer {
+        void accept(byte[] key) throws IOException;
+    }
+
+    /**
+     * Run files hold keys as a varint length followed by the key.
+     */
+    private static final class RunWriter implements AutoCloseable {
+        private final OutputStream out;
+
+        RunWriter(Path path) throws IOException {
+            out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16);
+        }
+
+        void write(byte[] key) throws IOException {
+            int length = key.length;
+            while (length >= 0x80) {
+                out.write(length & 0x7f | 0x80);
+                length >>>= 7;
+            }
+            out.write(length);
+            out.write(key);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static final class RunReader implements AutoCloseable {
+        private final InputStream in;
+        byte[] key;
+
+        RunReader(Path path) throws IOException {
+            in = new BufferedInputStream(Files.newInputStream(path), 1 << 16);
+        }
+
+        boolean next() throws IOException {
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in.read();
+                if (b == -1) {
+                    if (shift == 0) {
+                        return false;
+                    }
+                    throw new EOFException("truncated run file");
+                }
+                length |= (b & 0x7f) << shift;
+                if (b < 0x80) {
+                    break;
+                }
+            }
+            key = new byte[length];
+            int n = 0;
+            while (n < length) {
+                int read = in.read(key, n, length - n);
+                if (read == -1) {
+                    throw new EOFException("truncated run file");
+                }
+                n += read;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    public static class Builder {
+        private Canonicalizer canonicalizer;
+        private long memoryBudget = 256L << 20;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private Path tempDirectory;
+        private boolean deduplicate;
+        private boolean writeSsurt;
+
+        private Builder() {
+        }
+
+        /**
+         * Canonicalizes each URL before sorting. By default URLs are sorted
+         * as they are.
+         */
+        public Builder canonicalizer(Canonicalizer canonicalizer) {
+            this.canonicalizer = canonicalizer;
+            return this;
+        }
+
+        /**
+         * Approximate number of bytes of lines held in memory at once,
+         * across all threads. Defaults to 256 MiB.
+         */
+        public Builder memoryBudget(long bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("memory budget must be positive");
+            }
+            this.memoryBudget = bytes;
+            return this;
+        }
+
+        /**
+         * Number of threads sorting runs. Defaults to the number of
+         * processors.
+         */
+        public Builder threads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Directory for the run files. Defaults to the system temporary
+         * directory.
+         */
+        public Builder tempDirectory(Path tempDirectory) {
+            this.tempDirectory = tempDirectory;
+            return this;
+        }
+
+        /**
+         * Writes each distinct URL only once.
+         */
+        public Builder deduplicate(boolean deduplicate) {
+            this.deduplicate = deduplicate;
+            return this;
+        }
+
+        /**
+         * Writes each URL's SSURT rather than the URL itself.
+         */
+        public Builder writeSsurt(boolean writeSsurt) {
+            this.writeSsurt = writeSsurt;
+            return this;
+        }
+
+        public SsurtSorter build() {
+            return new SsurtSorter(this);
+        }
+    }
+
+    public static void main(String[] argv) throws IOException {
+        Builder builder = builder();
+        CommandLine args = new CommandLine(argv);
+        for (String option; (option = args.nextOption()) != null; ) {
+            switch (option) {
+                case "--canonicalizer":
+                    builder.canonicalizer(args.canonicalizer());
+                    break;
+                case "--memory":
+                    builder.memoryBudget(args.sizeValue());
+                    break;
+                case "--threads":
+                    builder.threads(args.intValue());
+                    break;
+                case "--temp-dir":
+                    builder.tempDirectory(Paths.get(args.value()));
+                    break;
+                case "--unique":
+                    builder.deduplicate(true);
+                    break;
+                case "--ssurt":
+                    builder.writeSsurt(true);
+                    break;
+                default:
+                    throw args.unknownOption();
+            }
+        }
+        List<String> files = args.files();
+        if (files.size() > 2) {
+            throw new IllegalArgumentException("usage: SsurtSorter [options] [input [output]]");
+        }
+        SsurtSorter sorter = builder.build();
+        try (InputStream in = CommandLine.openInput(files.isEmpty() ? "-" : files.get(0));
+             OutputStream out = CommandLine.openOutput(files.size() < 2 ? "-" : files.get(1))) {
+            sorter.sort(in, out);
+        }
+    }
+}
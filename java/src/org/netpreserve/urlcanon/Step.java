@@ -0,0 +1,308 @@
+package org.netpreserve.urlcanon;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The individual canonicalization steps the built-in canonicalizers are made
+ * of, for assembling custom pipelines with {@link StepCanonicalizer}.
+ *
+ * Steps that percent-encode or decode use the charset they are given.
+ */
+public enum Step {
+    REMOVE_LEADING_TRAILING_JUNK {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.removeLeadingTrailingJunk(url);
+        }
+    },
+    REMOVE_TABS_AND_NEWLINES {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.removeTabsAndNewlines(url);
+        }
+    },
+    LOWERCASE_SCHEME {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.lowercaseScheme(url);
+        }
+    },
+    ELIDE_DEFAULT_PORT {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.elideDefaultPort(url);
+        }
+    },
+    CLEAN_UP_USERINFO {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.cleanUpUserinfo(url);
+        }
+    },
+    TWO_SLASHES {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.twoSlashes(url);
+        }
+    },
+    PCT_DECODE_HOST {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.pctDecodeHost(url, charset);
+        }
+    },
+    NORMALIZE_IP_ADDRESS {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.normalizeIpAddress(url);
+        }
+    },
+    PUNYCODE_SPECIAL_HOST {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.punycodeSpecialHost(url, charset);
+        }
+    },
+    PCT_ENCODE_HOST {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.pctEncodeHost(url, charset);
+        }
+    },
+    FIX_BACKSLASHES {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.fixBackslashes(url);
+        }
+    },
+    PCT_ENCODE_PATH {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.pctEncodePath(url, charset);
+        }
+    },
+    LEADING_SLASH {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.leadingSlash(url);
+        }
+    },
+    NORMALIZE_PATH_DOTS {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.normalizePathDots(url);
+        }
+    },
+    EMPTY_PATH_TO_SLASH {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.emptyPathToSlash(url);
+        }
+    },
+    PCT_ENCODE_USERINFO {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.pctEncodeUserinfo(url, charset);
+        }
+    },
+    PCT_ENCODE_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.pctEncodeQuery(url, charset);
+        }
+    },
+    PCT_ENCODE_FRAGMENT {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            WhatwgCanonicalizer.pctEncodeFragment(url, charset);
+        }
+    },
+    DEFAULT_SCHEME_HTTP {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.defaultSchemeHttp(url);
+        }
+    },
+    PCT_DECODE_REPEATEDLY_EXCEPT_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.pctDecodeRepeatedlyExceptQuery(url, charset);
+        }
+    },
+    FIX_HOST_DOTS {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.fixHostDots(url);
+        }
+    },
+    REMOVE_USERINFO {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.removeUserinfo(url);
+        }
+    },
+    LESS_DUMB_PCT_ENCODE {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.lessDumbPctEncode(url, charset);
+        }
+    },
+    LESS_DUMB_PCT_RECODE_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.lessDumbPctRecodeQuery(url, charset);
+        }
+    },
+    COLLAPSE_CONSECUTIVE_SLASHES {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.collapseConsecutiveSlashes(url);
+        }
+    },
+    ALPHA_REORDER_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticPreciseCanonicalizer.alphaReorderQuery(url);
+        }
+    },
+    REMOVE_FRAGMENT {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            SemanticCanonicalizer.removeFrament(url);
+        }
+    },
+    HTTPS_TO_HTTP {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.httpsToHttp(url);
+        }
+    },
+    STRIP_WWW {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.stripWww(url);
+        }
+    },
+    LOWERCASE_PATH {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.lowercasePath(url);
+        }
+    },
+    LOWERCASE_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.lowercaseQuery(url);
+        }
+    },
+    STRIP_SESSION_IDS_FROM_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.stripSessionIdsFromQuery(url);
+        }
+    },
+    STRIP_SESSION_IDS_FROM_PATH {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.stripSessionIdsFromPath(url);
+        }
+    },
+    STRIP_TRAILING_SLASH_UNLESS_EMPTY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.stripTrailingSlashUnlessEmpty(url);
+        }
+    },
+    REMOVE_REDUNDANT_AMPERSANDS_FROM_QUERY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.removeRedundantAmpersandsFromQuery(url);
+        }
+    },
+    OMIT_QUESTION_MARK_IF_QUERY_EMPTY {
+        @Override
+        public void apply(ParsedUrl url, Charset charset) {
+            AggressiveCanonicalizer.omitQuestionMarkIfQueryEmpty(url);
+        }
+    };
+
+    public abstract void apply(ParsedUrl url, Charset charset);
+
+    /**
+     * The steps of {@link Canonicalizer#WHATWG}.
+     */
+    public static final List<Step> WHATWG_STEPS = Collections.unmodifiableList(Arrays.asList(
+            REMOVE_LEADING_TRAILING_JUNK,
+            REMOVE_TABS_AND_NEWLINES,
+            LOWERCASE_SCHEME,
+            ELIDE_DEFAULT_PORT,
+            CLEAN_UP_USERINFO,
+            TWO_SLASHES,
+            PCT_DECODE_HOST,
+            NORMALIZE_IP_ADDRESS,
+            PUNYCODE_SPECIAL_HOST,
+            PCT_ENCODE_HOST,
+            FIX_BACKSLASHES,
+            PCT_ENCODE_PATH,
+            ELIDE_DEFAULT_PORT,
+            LEADING_SLASH,
+            NORMALIZE_PATH_DOTS,
+            EMPTY_PATH_TO_SLASH,
+            PCT_ENCODE_USERINFO,
+            PCT_ENCODE_QUERY,
+            PCT_ENCODE_FRAGMENT));
+
+    /**
+     * The steps of {@link Canonicalizer#SEMANTIC_PRECISE}.
+     */
+    public static final List<Step> SEMANTIC_PRECISE_STEPS = Collections.unmodifiableList(Arrays.asList(
+            REMOVE_LEADING_TRAILING_JUNK,
+            DEFAULT_SCHEME_HTTP,
+            REMOVE_TABS_AND_NEWLINES,
+            LOWERCASE_SCHEME,
+            ELIDE_DEFAULT_PORT,
+            CLEAN_UP_USERINFO,
+            TWO_SLASHES,
+            PCT_DECODE_REPEATEDLY_EXCEPT_QUERY,
+            NORMALIZE_IP_ADDRESS,
+            FIX_HOST_DOTS,
+            PUNYCODE_SPECIAL_HOST,
+            REMOVE_USERINFO,
+            LESS_DUMB_PCT_ENCODE,
+            LESS_DUMB_PCT_RECODE_QUERY,
+            FIX_BACKSLASHES,
+            LEADING_SLASH,
+            NORMALIZE_PATH_DOTS,
+            COLLAPSE_CONSECUTIVE_SLASHES,
+            EMPTY_PATH_TO_SLASH,
+            ALPHA_REORDER_QUERY));
+
+    /**
+     * The steps of {@link Canonicalizer#SEMANTIC}.
+     */
+    public static final List<Step> SEMANTIC_STEPS = concat(SEMANTIC_PRECISE_STEPS, REMOVE_FRAGMENT);
+
+    /**
+     * The steps of {@link Canonicalizer#AGGRESSIVE}.
+     */
+    public static final List<Step> AGGRESSIVE_STEPS = concat(SEMANTIC_STEPS,
+            HTTPS_TO_HTTP,
+            STRIP_WWW,
+            LOWERCASE_PATH,
+            LOWERCASE_QUERY,
+            STRIP_SESSION_IDS_FROM_QUERY,
+            STRIP_SESSION_IDS_FROM_PATH,
+            STRIP_TRAILING_SLASH_UNLESS_EMPTY,
+            REMOVE_REDUNDANT_AMPERSANDS_FROM_QUERY,
+            OMIT_QUESTION_MARK_IF_QUERY_EMPTY,
+            ALPHA_REORDER_QUERY);
+
+    private static List<Step> concat(List<Step> steps, Step... more) {
+        Step[] all = steps.toArray(new Step[steps.size() + more.length]);
+        System.arraycopy(more, 0, all, steps.size(), more.length);
+        return Collections.unmodifiableList(Arrays.asList(all));
+    }
+}
@@ -0,0 +1,218 @@
+package org.netpreserve.urlcanon;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A canonicalizer made of a list of steps, like the Python port's
+ * {@code Canonicalizer(steps)}. Built with {@link #builder()}:
+ *
+ * <pre>
+ * Canonicalizer canonicalizer = StepCanonicalizer.builder()
+ *         .steps(Step.SEMANTIC_PRECISE_STEPS)
+ *         .step(Step.STRIP_WWW)
+ *         .instrumented()
+ *         .build();
+ * </pre>
+ *
+ * When instrumented the time spent in each step and the number of URLs each
+ * step changed are recorded, see {@link #stats()}. Working out whether a step
+ * changed a URL takes a copy of its components so instrumentation has a cost
+ * of its own, but it is not counted in the step times.
+ */
+public class StepCanonicalizer implements Canonicalizer {
+    private final String[] names;
+    private final StepFunction[] steps;
+    private final Charset charset;
+    private final boolean instrumented;
+    private final LongAdder urls = new LongAdder();
+    private final LongAdder[] nanos;
+    private final LongAdder[] modified;
+
+    private StepCanonicalizer(Builder builder) {
+        names = builder.names.toArray(new String[0]);
+        steps = builder.steps.toArray(new StepFunction[0]);
+        charset = builder.charset;
+        instrumented = builder.instrumented;
+        nanos = new LongAdder[steps.length];
+        modified = new LongAdder[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            nanos[i] = new LongAdder();
+            modified[i] = new LongAdder();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void canonicalize(ParsedUrl url) {
+        // URLs parsed from bytes are handled byte for byte, as the built-in canonicalizers do
+        Charset charset = url.hasByteSource() ? ISO_8859_1 : this.charset;
+        if (!instrumented) {
+            for (StepFunction step : steps) {
+                step.apply(url, charset);
+            }
+            return;
+        }
+
+        urls.increment();
+        String[] before = new String[ParsedUrl.COMPONENTS];
+        for (int i = 0; i < steps.length; i++) {
+            for (int j = 0; j < ParsedUrl.COMPONENTS; j++) {
+                before[j] = url.get(j);
+            }
+            long start = System.nanoTime();
+            steps[i].apply(url, charset);
+            nanos[i].add(System.nanoTime() - start);
+            for (int j = 0; j < ParsedUrl.COMPONENTS; j++) {
+                if (!before[j].equals(url.get(j))) {
+                    modified[i].increment();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * The names of the steps in the order they are applied.
+     */
+    public List<String> stepNames() {
+        List<String> list = new ArrayList<>(names.length);
+        Collections.addAll(list, names);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * A snapshot of the statistics recorded for each step, in order. Empty
+     * counts unless the canonicalizer was built instrumented.
+     */
+    public List<StepStats> stats() {
+        long count = urls.sum();
+        List<StepStats> list = new ArrayList<>(steps.length);
+        for (int i = 0; i < steps.length; i++) {
+            list.add(new StepStats(names[i], count, nanos[i].sum(), modified[i].sum()));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    public void resetStats() {
+        urls.reset();
+        for (int i = 0; i < steps.length; i++) {
+            nanos[i].reset();
+            modified[i].reset();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StepFunction {
+        void apply(ParsedUrl url, Charset charset);
+    }
+
+    public static class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<StepFunction> steps = new ArrayList<>();
+        private Charset charset = UTF_8;
+        private boolean instrumented;
+
+        private Builder() {
+        }
+
+        public Builder step(Step step) {
+            names.add(step.name());
+            steps.add(step::apply);
+            return this;
+        }
+
+        public Builder steps(List<Step> steps) {
+            for (Step step : steps) {
+                step(step);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a custom step. The name is used in {@link #stats()}.
+         */
+        public Builder step(String name, Consumer<ParsedUrl> step) {
+            Objects.requireNonNull(step);
+            names.add(Objects.requireNonNull(name));
+            steps.add((url, charset) -> step.accept(url));
+            return this;
+        }
+
+        /**
+         * The charset used by percent-encoding and decoding steps. Defaults
+         * to UTF-8.
+         */
+        public Builder charset(Charset charset) {
+            this.charset = Objects.requireNonNull(charset);
+            return this;
+        }
+
+        /**
+         * Records time spent and URLs modified per step.
+         */
+        public Builder instrumented() {
+            this.instrumented = true;
+            return this;
+        }
+
+        public StepCanonicalizer build() {
+            return new StepCanonicalizer(this);
+        }
+    }
+
+    public static class StepStats {
+        private final String name;
+        private final long urls;
+        private final long nanos;
+        private final long modified;
+
+        StepStats(String name, long urls, long nanos, long modified) {
+            this.name = name;
+            this.urls = urls;
+            this.nanos = nanos;
+            this.modified = modified;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Number of URLs this step was applied to.
+         */
+        public long getUrls() {
+            return urls;
+        }
+
+        /**
+         * Total time spent in this step.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Number of URLs this step changed.
+         */
+        public long getModified() {
+            return modified;
+        }
+
+        @Override
+        public String toString() {
+            return name + " urls=" + urls + " nanos=" + nanos + " modified=" + modified;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package org.netpreserve.urlcanon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Canonicalizes a stream of URLs, one per line or in one column of TSV or
+ * CDX lines, on several threads, writing the results in input order. Built
+ * with {@link #builder()}:
+ *
+ * <pre>
+ * StreamCanonicalizer canonicalizer = StreamCanonicalizer.builder()
+ *         .canonicalizer(Canonicalizer.WHATWG)
+ *         .output(StreamCanonicalizer.Output.SSURT)
+ *         .build();
+ * canonicalizer.canonicalize(System.in, System.out);
+ * </pre>
+ *
+ * The calling thread reads the input a block at a time with a
+ * {@link LineReader}, splits it into batches of lines and hands each
+ * to a pool of workers. Each batch's future goes on a bounded queue in input
+ * order, which a writer thread drains, so output stays in order and the
+ * reader blocks once it is a few batches per worker ahead. Lines are read
+ * as raw bytes (see {@link ParsedUrl#parseUrl(byte[])}) and each worker
+ * reuses one {@link ParsedUrl} per batch. Results are written as ISO-8859-1
+ * if every char fits, otherwise UTF-8, as {@link SsurtSorter} writes them.
+ *
+ * Every input line gives one output line. In column mode the column is
+ * replaced and the rest of the line kept; lines without the column, and CDX
+ * header lines, are copied as they are. A trailing CR is dropped. A line
+ * whose URL the canonicalizer throws on is also copied as it is, rather than
+ * failing the stream.
+ *
+ * Can also be run from the command line:
+ *
+ * <pre>
+ * java org.netpreserve.urlcanon.StreamCanonicalizer [--canonicalizer whatwg|semantic|semantic-precise|aggressive]
+ *      [--output url|ssurt|both] [--column n] [--delimiter tab|space|c] [--threads n] [--batch n] [input...]
+ * </pre>
+ */
+public class StreamCanonicalizer {
+    // batches queued for the writer per worker, enough to keep every worker busy
+    private static final int QUEUED_BATCHES_PER_THREAD = 4;
+    private static final Future<byte[]> END = CompletableFuture.completedFuture(null);
+
+    private final Canonicalizer canonicalizer;
+    private final Output output;
+    private final int column;
+    private final byte delimiter;
+    private final int threads;
+    private final int batchSize;
+
+    /**
+     * What is written for each URL.
+     */
+    public enum Output {
+        URL, SSURT,
+        /**
+         * The canonical URL, the delimiter, then the SSURT.
+         */
+        BOTH
+    }
+
+    private StreamCanonicalizer(Builder builder) {
+        canonicalizer = builder.canonicalizer;
+        output = builder.output;
+        column = builder.column;
+        delimiter = builder.delimiter;
+        threads = builder.threads;
+        batchSize = builder.batchSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Canonicalizes the lines of in to out. Neither stream is closed.
+     *
+     * @return the number of lines written
+     */
+    public long canonicalize(InputStream in, OutputStream out) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stream-canonicalizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        BlockingQueue<Future<byte[]>> queue = new ArrayBlockingQueue<>(threads * QUEUED_BATCHES_PER_THREAD);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                write(queue, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }, runnable -> {
+            Thread thread = new Thread(runnable, "stream-canonicalizer-writer");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        long lines = 0;
+        try {
+            LineReader reader = new LineReader(in);
+            while (true) {
+                List<byte[]> batch = readBatch(reader);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lines += batch.size();
+                put(queue, workers.submit(() -> process(batch)), writer);
+            }
+            put(queue, END, writer);
+            writer.get();
+            return lines;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while canonicalizing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            // on failure, cancel batches not yet started and stop the writer waiting for more
+            for (Runnable task : workers.shutdownNow()) {
+                ((Future<?>) task).cancel(false);
+            }
+            if (!writer.isDone()) {
+                queue.clear();
+                queue.offer(END);
+            }
+        }
+    }
+
+    /**
+     * Queues a batch for the writer, waiting for room, unless the writer has
+     * failed, in which case its failure is thrown.
+     */
+    private static void put(BlockingQueue<Future<byte[]>> queue, Future<byte[]> batch, Future<Void> writer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+            }
+        }
+    }
+
+    /**
+     * Writes the batches from the queue in order until the end marker,
+     * rethrowing the first failure of a worker.
+     */
+    private static void write(BlockingQueue<Future<byte[]>> queue, OutputStream out)
+            throws IOException, InterruptedException {
+        while (true) {
+            Future<byte[]> future = queue.take();
+            if (future == END) {
+                out.flush();
+                return;
+            }
+            try {
+                out.write(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Reads up to a batch of lines, without their line terminators.
+     */
+    private List<byte[]> readBatch(LineReader reader) throws IOException {
+        List<byte[]> lines = new ArrayList<>(batchSize);
+        byte[] line;
+        while (lines.size() < batchSize && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private byte[] process(List<byte[]> lines) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(lines.size() * 64);
+        ParsedUrl url = new ParsedUrl();
+        for (byte[] line : lines) {
+            int start = 0;
+            int end = line.length;
+            if (column > 0) {
+                start = fieldStart(line, column);
+                end = start == -1 ? -1 : fieldEnd(line, start);
+            }
+            if (start == -1 || isCdxHeader(line)) {
+                out.write(line, 0, line.length);
+                out.write('\n');
+                continue;
+            }
+            String canonical;
+            String ssurt;
+            try {
+                ParsedUrl.parseInto(url, new ByteString(line, start, end - start));
+                if (canonicalizer != null) {
+                    canonicalizer.canonicalize(url);
+                }
+                canonical = output != Output.SSURT ? url.toString() : null;
+                ssurt = output != Output.URL ? url.ssurt() : null;
+            } catch (RuntimeException e) {
+                out.write(line, 0, line.length);
+                out.write('\n');
+                // the failure may have left the parsed URL half updated
+                url = new ParsedUrl();
+                continue;
+            }
+            out.write(line, 0, start);
+            if (canonical != null) {
+                writeString(canonical, out);
+            }
+            if (output == Output.BOTH) {
+                out.write(delimiter);
+            }
+            if (ssurt != null) {
+                writeString(ssurt, out);
+            }
+            out.write(line, end, line.length - end);
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+
+    private int fieldStart(byte[] line, int column) {
+        int start = 0;
+        for (int i = 1; i < column; i++) {
+            start = fieldEnd(line, start) + 1;
+            if (start > line.length) {
+                return -1;
+            }
+        }
+        return start;
+    }
+
+    private int fieldEnd(byte[] line, int start) {
+        int i = start;
+        while (i < line.length && line[i] != delimiter) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isCdxHeader(byte[] line) {
+        return line.length >= 5 && line[0] == ' ' && line[1] == 'C' && line[2] == 'D' && line[3] == 'X'
+                && line[4] == ' ';
+    }
+
+    private static void writeString(String s, ByteArrayOutputStream out) {
+        byte[] bytes = s.getBytes(SsurtSorter.isLatin1(s) ? ISO_8859_1 : UTF_8);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    public static class Builder {
+        private Canonicalizer canonicalizer = Canonicalizer.WHATWG;
+        private Output output = Output.URL;
+        private int column;
+        private byte delimiter = '\t';
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int batchSize = 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * The canonicalizer to apply, or null to only parse and reformat.
+         * Defaults to {@link Canonicalizer#WHATWG}.
+         */
+        public Builder canonicalizer(Canonicalizer canonicalizer) {
+            this.canonicalizer = canonicalizer;
+            return this;
+        }
+
+        /**
+         * What to write for each URL. Defaults to {@link Output#URL}.
+         */
+        public Builder output(Output output) {
+            this.output = output;
+            return this;
+        }
+
+        /**
+         * Reads URLs from this column, counting from 1, rather than the whole
+         * line.
+         */
+        public Builder column(int column) {
+            if (column < 0) {
+                throw new IllegalArgumentException("column must not be negative");
+            }
+            this.column = column;
+            return this;
+        }
+
+        /**
+         * The byte separating columns, and the URL from the SSURT with
+         * {@link Output#BOTH}. Defaults to tab.
+         */
+        public Builder delimiter(byte delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * Number of worker threads. Defaults to the number of processors.
+         */
+        public Builder threads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Number of lines handed to a worker at a time. Defaults to 1024.
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batch size must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public StreamCanonicalizer build() {
+            return new StreamCanonicalizer(this);
+        }
+    }
+
+    public static void main(String[] argv) throws IOException {
+        Builder builder = builder();
+        CommandLine args = new CommandLine(argv);
+        for (String option; (option = args.nextOption()) != null; ) {
+            switch (option) {
+                case "--canonicalizer":
+                    builder.canonicalizer(args.canonicalizer());
+                    break;
+                case "--output":
+                    builder.output(Output.valueOf(args.value().toUpperCase()));
+                    break;
+                case "--column":
+                    builder.column(args.intValue());
+                    break;
+                case "--delimiter":
+                    builder.delimiter(delimiterNamed(args.value()));
+                    break;
+                case "--threads":
+                    builder.threads(args.intValue());
+                    break;
+                case "--batch":
+                    builder.batchSize(args.intValue());
+                    break;
+                default:
+                    throw args.unknownOption();
+            }
+        }
+        List<String> files = args.files();
+        builder.build().canonicalize(files.isEmpty() ? Collections.singletonList("-") : files, System.out);
+    }
+
+    /**
+     * Canonicalizes the files to out one after another, where "-" is
+     * standard input. Each file is opened only when it is reached and closed
+     * before the next, and is read on its own, so a last line without a line
+     * break does not run into the next file's first line.
+     *
+     * @return the number of lines written
+     */
+    long canonicalize(List<String> files, OutputStream out) throws IOException {
+        long lines = 0;
+        for (String file : files) {
+            if (file.equals("-")) {
+                lines += canonicalize(System.in, out);
+            } else {
+                try (InputStream in = CommandLine.openInput(file)) {
+                    lines += canonicalize(in, out);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static byte delimiterNamed(String name) {
+        switch (name) {
+            case "tab":
+                return '\t';
+            case "space":
+                return ' ';
+            default:
+                if (name.length() != 1) {
+                    throw new IllegalArgumentException("delimiter must be tab, space or a single char");
+                }
+                return (byte) name.charAt(0);
+        }
+    }
+}
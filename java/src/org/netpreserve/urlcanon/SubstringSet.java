@@ -0,0 +1,168 @@
+package org.netpreserve.urlcanon;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable set of strings, for finding which of them occur in an input
+ * (as {@link String#contains} would) in a single pass over it. Each string
+ * is identified by its index in the list the set was built from.
+ *
+ * The strings are compiled into an Aho-Corasick automaton: a trie of the
+ * strings whose nodes also have failure links to the longest proper suffix
+ * that is in the trie, so the scan never backs up, and output links to the
+ * nearest suffix that ends a string. The trie is laid out breadth first in
+ * flat arrays by {@link TrieLayout}.
+ */
+public class SubstringSet {
+    private final String[] strings;
+
+    // node n's edges are labels[edgeStart[n]] to labels[edgeStart[n + 1] - 1], sorted, leading to targets[...];
+    // the strings ending at it are values[valueStart[n]] to values[valueStart[n + 1] - 1]
+    private final int[] edgeStart;
+    private final char[] labels;
+    private final int[] targets;
+    private final int[] valueStart;
+    private final int[] values;
+    private final int[] fail;
+    private final int[] outputLink;
+    // transitions from the root for ascii chars, the hottest lookups
+    private final int[] rootAscii;
+
+    public SubstringSet(List<String> strings) {
+        this.strings = strings.toArray(new String[0]);
+        Map<String, IntList> entries = new TreeMap<>();
+        for (int id = 0; id < this.strings.length; id++) {
+            entries.computeIfAbsent(this.strings[id], k -> new IntList(1)).add(id);
+        }
+        int n = entries.size();
+        String[] keys = entries.keySet().toArray(new String[n]);
+        IntList[] keyValues = entries.values().toArray(new IntList[n]);
+
+        IntList valueStart = new IntList();
+        IntList values = new IntList();
+        TrieLayout layout = TrieLayout.ofStrings(keys, (node, lo, hi) -> {
+            valueStart.add(values.size());
+            for (int i = lo; i < hi; i++) {
+                IntList ids = keyValues[i];
+                for (int j = 0; j < ids.size(); j++) {
+                    values.add(ids.get(j));
+                }
+            }
+        });
+        valueStart.add(values.size());
+
+        this.edgeStart = layout.edgeStart;
+        this.labels = layout.charLabels();
+        this.targets = layout.targets;
+        this.valueStart = valueStart.toArray();
+        this.values = values.toArray();
+        int nodes = layout.nodeCount();
+
+        // nodes are numbered breadth first, so a node's parent and anything on the parent's failure chain
+        // are done before it
+        fail = new int[nodes];
+        outputLink = new int[nodes];
+        outputLink[0] = -1;
+        int[] incoming = new int[nodes];
+        int[] parents = new int[nodes];
+        for (int node = 0; node < nodes; node++) {
+            for (int e = this.edgeStart[node]; e < this.edgeStart[node + 1]; e++) {
+                incoming[this.targets[e]] = e;
+                parents[this.targets[e]] = node;
+            }
+        }
+        for (int node = 1; node < nodes; node++) {
+            int parent = parents[node];
+            char c = this.labels[incoming[node]];
+            int f = 0;
+            if (parent != 0) {
+                f = fail[parent];
+                int t;
+                while ((t = child(f, c)) == -1 && f != 0) {
+                    f = fail[f];
+                }
+                f = t == -1 ? 0 : t;
+            }
+            fail[node] = f;
+            outputLink[node] = f != 0 && hasValues(f) ? f : outputLink[f];
+        }
+
+        rootAscii = new int[128];
+        for (char c = 0; c < 128; c++) {
+            rootAscii[c] = Math.max(child(0, c), 0);
+        }
+    }
+
+    public int size() {
+        return strings.length;
+    }
+
+    public String get(int id) {
+        return strings[id];
+    }
+
+    public List<String> strings() {
+        return Collections.unmodifiableList(Arrays.asList(strings));
+    }
+
+    /**
+     * Returns the set of ids of the strings that occur in the input.
+     */
+    public BitSet matches(CharSequence input) {
+        BitSet result = new BitSet(strings.length);
+        // the empty string, if present, ends at the root
+        addValues(0, result);
+        int node = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            node = next(node, c);
+            for (int n = hasValues(node) ? node : outputLink[node]; n > 0; n = outputLink[n]) {
+                addValues(n, result);
+            }
+        }
+        return result;
+    }
+
+    private int next(int node, char c) {
+        while (node != 0) {
+            int t = child(node, c);
+            if (t != -1) {
+                return t;
+            }
+            node = fail[node];
+        }
+        return c < 128 ? rootAscii[c] : Math.max(child(0, c), 0);
+    }
+
+    private boolean hasValues(int node) {
+        return valueStart[node] < valueStart[node + 1];
+    }
+
+    private void addValues(int node, BitSet result) {
+        for (int j = valueStart[node]; j < valueStart[node + 1]; j++) {
+            result.set(values[j]);
+        }
+    }
+
+    private int child(int node, char c) {
+        int lo = edgeStart[node];
+        int hi = edgeStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                lo = mid + 1;
+            } else if (label > c) {
+                hi = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return -1;
+    }
+}
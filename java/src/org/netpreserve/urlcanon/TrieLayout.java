@@ -0,0 +1,114 @@
+package org.netpreserve.urlcanon;
+
+/**
+ * The edges of a trie over sorted keys, laid out breadth first in flat
+ * arrays. Shared by the tries over chars ({@link PrefixTrie},
+ * {@link SubstringSet}) and over domain labels ({@link DomainSet},
+ * {@link PublicSuffixes}), which keep their own values alongside.
+ *
+ * Keys are sequences of int symbols, sorted so that keys sharing a prefix
+ * are contiguous and a key comes before the longer keys it is a prefix of.
+ * A node is then the (depth, lo, hi) range of keys sharing its first depth
+ * symbols, and its children split that range by the next symbol. Nodes are
+ * numbered in the order they are visited, so the root is 0 and a node's
+ * parent always has a lower number.
+ *
+ * Node n's edges are labels[edgeStart[n]] to labels[edgeStart[n + 1] - 1],
+ * in ascending order for binary search, leading to targets[...].
+ */
+class TrieLayout {
+    final int[] edgeStart;
+    final int[] labels;
+    final int[] targets;
+
+    interface Keys {
+        int length(int key);
+
+        int symbol(int key, int index);
+    }
+
+    interface Terminals {
+        /**
+         * Called for every node in order with the keys lo to hi - 1 that end
+         * at it, an empty range for most nodes.
+         */
+        void visit(int node, int lo, int hi);
+    }
+
+    TrieLayout(int count, Keys keys, Terminals terminals) {
+        IntList edgeStart = new IntList();
+        IntList labels = new IntList();
+        IntList targets = new IntList();
+
+        // queue of nodes as (depth, lo, hi) ranges of keys
+        IntList queue = new IntList();
+        queue.add(0);
+        queue.add(0);
+        queue.add(count);
+        int nodes = 1;
+        for (int head = 0; head < queue.size(); head += 3) {
+            int depth = queue.get(head);
+            int lo = queue.get(head + 1);
+            int hi = queue.get(head + 2);
+
+            int terminalEnd = lo;
+            while (terminalEnd < hi && keys.length(terminalEnd) == depth) {
+                terminalEnd++;
+            }
+            terminals.visit(head / 3, lo, terminalEnd);
+
+            edgeStart.add(targets.size());
+            lo = terminalEnd;
+            while (lo < hi) {
+                int label = keys.symbol(lo, depth);
+                int end = lo + 1;
+                while (end < hi && keys.symbol(end, depth) == label) {
+                    end++;
+                }
+                labels.add(label);
+                targets.add(nodes++);
+                queue.add(depth + 1);
+                queue.add(lo);
+                queue.add(end);
+                lo = end;
+            }
+        }
+        edgeStart.add(targets.size());
+
+        this.edgeStart = edgeStart.toArray();
+        this.labels = labels.toArray();
+        this.targets = targets.toArray();
+    }
+
+    /**
+     * Lays out a trie over the chars of sorted strings.
+     */
+    static TrieLayout ofStrings(String[] keys, Terminals terminals) {
+        return new TrieLayout(keys.length, new Keys() {
+            @Override
+            public int length(int key) {
+                return keys[key].length();
+            }
+
+            @Override
+            public int symbol(int key, int index) {
+                return keys[key].charAt(index);
+            }
+        }, terminals);
+    }
+
+    int nodeCount() {
+        return edgeStart.length - 1;
+    }
+
+    /**
+     * The labels narrowed to chars, for tries over strings.
+     */
+    char[] charLabels() {
+        char[] chars = new char[labels.length];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) labels[i];
+        }
+        return chars;
+    }
+}
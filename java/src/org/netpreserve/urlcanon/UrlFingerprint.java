@@ -0,0 +1,139 @@
+package org.netpreserve.urlcanon;
+
+/**
+ * 64 and 128-bit fingerprints of URLs, for dedupe tables and crawl frontiers
+ * that key on a hash rather than the URL itself. Typically the URL is
+ * canonicalized first, so URLs that canonicalize the same get the same
+ * fingerprint.
+ *
+ * A fingerprint is the 128-bit MurmurHash3 (x64 variant, seed 0) of the
+ * UTF-8 bytes of {@link ParsedUrl#toString()}, or of
+ * {@link ParsedUrl#ssurt()} for the ssurt variants, with the 64-bit
+ * fingerprint being its first half. This is the same as Guava's
+ * {@code Hashing.murmur3_128().hashString(url.toString(), UTF_8)}, so it is
+ * stable across releases and easy to reproduce elsewhere. The components are
+ * fed to the hash one at a time, without building the string.
+ */
+public class UrlFingerprint {
+    public static long fingerprint64(ParsedUrl url) {
+        return hashUrl(url).finish64();
+    }
+
+    /**
+     * Returns the 128-bit fingerprint of the URL as two longs, the first
+     * being the {@link #fingerprint64} of the URL.
+     */
+    public static long[] fingerprint128(ParsedUrl url) {
+        return hashUrl(url).finish();
+    }
+
+    public static long ssurtFingerprint64(ParsedUrl url) {
+        return hashSsurt(url).finish64();
+    }
+
+    public static long[] ssurtFingerprint128(ParsedUrl url) {
+        return hashSsurt(url).finish();
+    }
+
+    private static Murmur3 hashUrl(ParsedUrl url) {
+        Murmur3 hash = new Murmur3();
+        for (int component = 0; component < ParsedUrl.COMPONENTS; component++) {
+            SsurtKey.writeChars(url.chars(component), url.start(component), url.end(component), false, false, hash);
+        }
+        return hash;
+    }
+
+    private static Murmur3 hashSsurt(ParsedUrl url) {
+        Murmur3 hash = new Murmur3();
+        SsurtKey.writeSsurt(url, false, null, hash);
+        return hash;
+    }
+
+    /**
+     * MurmurHash3_x64_128 over bytes fed one at a time, gathered into 16-byte
+     * blocks.
+     */
+    static final class Murmur3 extends SsurtKey.Sink {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1;
+        private long h2;
+        private long k1;
+        private long k2;
+        private long length;
+
+        @Override
+        void put(int b) {
+            int pos = (int) length & 15;
+            if (pos < 8) {
+                k1 |= (b & 0xffL) << (pos * 8);
+            } else {
+                k2 |= (b & 0xffL) << ((pos - 8) * 8);
+            }
+            length++;
+            if (pos == 15) {
+                h1 ^= mixK1(k1);
+                h1 = Long.rotateLeft(h1, 27);
+                h1 += h2;
+                h1 = h1 * 5 + 0x52dce729;
+                h2 ^= mixK2(k2);
+                h2 = Long.rotateLeft(h2, 31);
+                h2 += h1;
+                h2 = h2 * 5 + 0x38495ab5;
+                k1 = 0;
+                k2 = 0;
+            }
+        }
+
+        @Override
+        void putEscaped(int b) {
+            put(b);
+        }
+
+        long[] finish() {
+            finish64();
+            return new long[]{h1, h2};
+        }
+
+        /**
+         * Finishes the hash and returns its first 64 bits, without
+         * allocating.
+         */
+        long finish64() {
+            int remaining = (int) length & 15;
+            if (remaining > 8) {
+                h2 ^= mixK2(k2);
+            }
+            if (remaining > 0) {
+                h1 ^= mixK1(k1);
+            }
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+            return h1;
+        }
+
+        private static long mixK1(long k1) {
+            return Long.rotateLeft(k1 * C1, 31) * C2;
+        }
+
+        private static long mixK2(long k2) {
+            return Long.rotateLeft(k2 * C2, 33) * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package org.netpreserve.urlcanon;
 
 class UrlParser {
-    static ParsedUrl parseUrl(String s) {
+    static ParsedUrl parseUrl(CharSequence s) {
         ParsedUrl url = new ParsedUrl();
+        parseInto(url, s);
+        return url;
+    }
+
+    static void parseInto(ParsedUrl url, CharSequence s) {
+        url.reset();
+        url.setSource(s);
         int pos = 0;
         int len = s.length();
 
         // leading control chars and spaces
         while (pos < len && s.charAt(pos) <= 0x20) pos++;
-        url.setLeadingJunk(s.substring(0, pos));
+        url.setRange(ParsedUrl.LEADING_JUNK, s, 0, pos);
 
         // trailing control chars and spaces
         while (pos < len && s.charAt(len - 1) <= 0x20) len--;
-        url.setTrailingJunk(s.substring(len));
+        url.setRange(ParsedUrl.TRAILING_JUNK, s, len, s.length());
 
         // scheme [a-zA-Z] [^:]* :
         if (pos < len && ((s.charAt(pos) >= 'a' && s.charAt(pos) <= 'z') || (s.charAt(pos) >= 'A' && s.charAt(pos) <= 'Z'))) {
@@ -20,7 +27,7 @@ class UrlParser {
             while (pos < len && s.charAt(pos) != ':') pos++;
 
             if (pos < len && s.charAt(pos) == ':') {
-                url.setScheme(s.substring(schemeStart, pos));
+                url.setRange(ParsedUrl.SCHEME, s, schemeStart, pos);
                 url.setColonAfterScheme(":");
                 pos++;
             } else { // no colon
@@ -44,7 +51,7 @@ class UrlParser {
             url.setQuestionMark("?");
             int queryStart = pos;
             while (pos < len && s.charAt(pos) != '#') pos++;
-            url.setQuery(s.substring(queryStart, pos));
+            url.setRange(ParsedUrl.QUERY, s, queryStart, pos);
         } else {
             url.setQuestionMark("");
             url.setQuery("");
@@ -54,16 +61,14 @@ class UrlParser {
         if (pos < len && s.charAt(pos) == '#') {
             pos++;
             url.setHashSign("#");
-            url.setFragment(s.substring(pos, len));
+            url.setRange(ParsedUrl.FRAGMENT, s, pos, len);
         } else {
             url.setHashSign("");
             url.setFragment("");
         }
-
-        return url;
     }
 
-    static void parsePathish(ParsedUrl url, String s, int pos, int end) {
+    static void parsePathish(ParsedUrl url, CharSequence s, int pos, int end) {
         String cleanScheme = removeTabsAndNewlinesAndLowercase(url.getScheme());
         boolean isSpecial = ParsedUrl.SPECIAL_SCHEMES.containsKey(cleanScheme);
         boolean isFile = cleanScheme.equals("file");
@@ -93,12 +98,12 @@ class UrlParser {
                     break loop;
             }
         }
-        url.setSlashes(s.substring(slashesStart, pos));
+        url.setRange(ParsedUrl.SLASHES, s, slashesStart, pos);
 
         if (isFile) {
             if (slashCount != 2) {
                 // no host? treat entire pathish as path
-                url.setPath(s.substring(slashesStart, end));
+                url.setRange(ParsedUrl.PATH, s, slashesStart, end);
                 url.setSlashes("");
                 url.setUsername("");
                 url.setColonBeforePassword("");
@@ -113,7 +118,7 @@ class UrlParser {
             // host [^/\\]*
             int startOfHost = pos;
             while (pos < end && s.charAt(pos) != '/' && s.charAt(pos) != '\\') pos++;
-            url.setHost(s.substring(startOfHost, pos));
+            url.setRange(ParsedUrl.HOST, s, startOfHost, pos);
             url.setUsername("");
             url.setColonBeforePassword("");
             url.setPassword("");
@@ -130,7 +135,7 @@ class UrlParser {
         } else { // non special scheme
             if (!removeTabsAndNewlinesAndLowercase(url.getSlashes()).equals("//")) {
                 // no double-slash? treat as opaque
-                url.setPath(s.substring(slashesStart, end));
+                url.setRange(ParsedUrl.PATH, s, slashesStart, end);
                 url.setSlashes("");
                 url.setUsername("");
                 url.setColonBeforePassword("");
@@ -149,10 +154,10 @@ class UrlParser {
         }
 
         // path [/\\\\] .*
-        url.setPath(s.substring(pos, end));
+        url.setRange(ParsedUrl.PATH, s, pos, end);
     }
 
-    private static void parseAuthority(ParsedUrl url, String s, int pos, int end) {
+    private static void parseAuthority(ParsedUrl url, CharSequence s, int pos, int end) {
         // userinfo (.*@)?
         int userinfoStart = pos;
         int userinfoEnd = -1;
@@ -188,30 +193,30 @@ class UrlParser {
 
         // host [^:]*
         while (pos < end && s.charAt(pos) != ':') pos++;
-        url.setHost(s.substring(hostStart, pos));
+        url.setRange(ParsedUrl.HOST, s, hostStart, pos);
 
         // port :.*
         if (pos < end && s.charAt(pos) == ':') {
             pos++;
             url.setColonBeforePort(":");
-            url.setPort(s.substring(pos, end));
+            url.setRange(ParsedUrl.PORT, s, pos, end);
         } else {
             url.setColonBeforePort("");
             url.setPort("");
         }
     }
 
-    private static void parseUserinfo(ParsedUrl url, String s, int i, int end) {
+    private static void parseUserinfo(ParsedUrl url, CharSequence s, int i, int end) {
         // username
         int usernameStart = i;
         while (i < end && s.charAt(i) != ':') i++;
-        url.setUsername(s.substring(usernameStart, i));
+        url.setRange(ParsedUrl.USERNAME, s, usernameStart, i);
 
         // password
         if (i < end && s.charAt(i) == ':') {
             url.setColonBeforePassword(":");
             i++;
-            url.setPassword(s.substring(i, end));
+            url.setRange(ParsedUrl.PASSWORD, s, i, end);
         } else {
             url.setColonBeforePassword("");
             url.setPassword("");
@@ -219,6 +224,7 @@ class UrlParser {
     }
 
     private static String removeTabsAndNewlinesAndLowercase(String s) {
+        if (isClean(s)) return s;
         StringBuilder sb = new StringBuilder(s.length());
         for (int i = 0; i < s.length(); i++) {
             char c = s.charAt(i);
@@ -228,4 +234,12 @@ class UrlParser {
         }
         return sb.toString();
     }
+
+    private static boolean isClean(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r' || (c >= 'A' && c <= 'Z')) return false;
+        }
+        return true;
+    }
 }
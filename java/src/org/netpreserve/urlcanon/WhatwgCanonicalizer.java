@@ -28,6 +28,7 @@ import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
 
@@ -46,11 +47,11 @@ class WhatwgCanonicalizer implements Canonicalizer {
      * > The userinfo percent-encode set is the path percent-encode set and code
      * > points "/", ":", ";", "=", "@", "[", "\", "]", "^", and "|".
      */
-    private static final boolean[] C0_ENCODE = buildEncodeSet("[\\x00-\\x1f\\x7f-\\xff]");
-    private static final boolean[] PATH_ENCODE = buildEncodeSet("[\\x00-\\x20\\x7f-\\xff\"#<>?`{}]");
-    private static final boolean[] QUERY_ENCODE = buildEncodeSet("[\\x00-\\x20\\x22\\x23\\x3c\\x3e\\x7f-\\xff]");
-    private static final boolean[] USERINFO_ENCODE = buildEncodeSet("[\\x00-\\x20\\x7f-\\xff\"#<>?`{}/:;=@\\x5b\\x5c\\x5d\\x5e\\x7c]");
-    private static final boolean[] HOST_ENCODE = buildEncodeSet("[\\x00-\\x20\\x7f-\\xff]");
+    static final boolean[] C0_ENCODE = buildEncodeSet("[\\x00-\\x1f\\x7f-\\xff]");
+    static final boolean[] PATH_ENCODE = buildEncodeSet("[\\x00-\\x20\\x7f-\\xff\"#<>?`{}]");
+    static final boolean[] QUERY_ENCODE = buildEncodeSet("[\\x00-\\x20\\x22\\x23\\x3c\\x3e\\x7f-\\xff]");
+    static final boolean[] USERINFO_ENCODE = buildEncodeSet("[\\x00-\\x20\\x7f-\\xff\"#<>?`{}/:;=@\\x5b\\x5c\\x5d\\x5e\\x7c]");
+    static final boolean[] HOST_ENCODE = buildEncodeSet("[\\x00-\\x20\\x7f-\\xff]");
 
     private static final Idn idn = Idn.load();
 
@@ -203,11 +204,13 @@ class WhatwgCanonicalizer implements Canonicalizer {
         return sb.toString();
     }
 
-    private static boolean isHexDigit(char c) {
+    static boolean isHexDigit(char c) {
         return (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || (c >= '0' && c <= '9');
     }
 
 
+    static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     static String pctEncode(String str, boolean[] encodeSet, Charset charset) {
         StringBuilder buf = null;
         for (int i = 0; i < str.length();) {
@@ -216,14 +219,17 @@ class WhatwgCanonicalizer implements Canonicalizer {
 
             if (codepoint > 0xff || encodeSet[codepoint]) {
                 if (buf == null) {
-                    buf = new StringBuilder(str.length());
+                    buf = new StringBuilder(str.length() + 16);
                     buf.append(str, 0, i);
                 }
-                byte[] encoded = str.substring(i, i + len).getBytes(charset);
-                for (byte b : encoded) {
-                    buf.append('%');
-                    buf.append(Character.toUpperCase(Character.forDigit((b & 0xff) >> 4, 16)));
-                    buf.append(Character.toUpperCase(Character.forDigit(b & 0xf, 16)));
+                if (codepoint <= 0xff && charset == ISO_8859_1) {
+                    // raw bytes are their own encoding
+                    appendPctEncoded(buf, codepoint);
+                } else {
+                    byte[] encoded = str.substring(i, i + len).getBytes(charset);
+                    for (byte b : encoded) {
+                        appendPctEncoded(buf, b & 0xff);
+                    }
                 }
             } else {
                 if (buf != null) {
@@ -235,7 +241,13 @@ class WhatwgCanonicalizer implements Canonicalizer {
         return buf == null ? str : buf.toString();
     }
 
-    void pctEncodePath(ParsedUrl url, Charset charset) {
+    private static void appendPctEncoded(StringBuilder buf, int b) {
+        buf.append('%');
+        buf.append(HEX_DIGITS[b >> 4]);
+        buf.append(HEX_DIGITS[b & 0xf]);
+    }
+
+    static void pctEncodePath(ParsedUrl url, Charset charset) {
         boolean[] encodeSet;
         if (!url.getPath().isEmpty() && url.getPath().charAt(0) == '/'
                 || ParsedUrl.SPECIAL_SCHEMES.containsKey(url.getScheme())) {
@@ -246,11 +258,11 @@ class WhatwgCanonicalizer implements Canonicalizer {
         url.setPath(pctEncode(url.getPath(), encodeSet, charset));
     }
 
-    void pctEncodeFragment(ParsedUrl url, Charset charset) {
+    static void pctEncodeFragment(ParsedUrl url, Charset charset) {
         url.setFragment(pctEncode(url.getFragment(), C0_ENCODE, charset));
     }
 
-    void pctEncodeQuery(ParsedUrl url, Charset charset) {
+    static void pctEncodeQuery(ParsedUrl url, Charset charset) {
         url.setQuery(pctEncode(url.getQuery(), QUERY_ENCODE, charset));
     }
 
@@ -276,9 +288,12 @@ class WhatwgCanonicalizer implements Canonicalizer {
 
     static String normalizeIpAddress(String host) {
         if (host.startsWith("[") && host.endsWith("]")) {
-            short[] ipv6 = IpAddresses.parseIpv6(host.substring(1, host.length() - 1));
-            if (ipv6 == null) return host;
-            return "[" + IpAddresses.formatIpv6(ipv6) + "]";
+            long[] ipv6 = new long[2];
+            if (!IpAddresses.parseIpv6(host, 1, host.length() - 1, ipv6)) return host;
+            StringBuilder sb = new StringBuilder(host.length());
+            sb.append('[');
+            IpAddresses.formatIpv6(ipv6[0], ipv6[1], sb);
+            return sb.append(']').toString();
         }
         long ipv4 = IpAddresses.parseIpv4(host);
         if (ipv4 != -1) {
@@ -327,21 +342,27 @@ class WhatwgCanonicalizer implements Canonicalizer {
 
     public static void punycodeSpecialHost(ParsedUrl url, Charset charset) {
         if (ParsedUrl.SPECIAL_SCHEMES.containsKey(url.getScheme())) {
-            String host = url.getHost();
-            if (charset != UTF_8) {
-                // XXX: hack to match python behaviour, attempt to interpret as utf8 for punycoding
-                host = new String(host.getBytes(charset), UTF_8);
-                if (host.contains("\ufffd")) { // contains non-utf8 junk
-                    return; // leave unmodified
-                }
-            }
-            try {
-                String ascii = idn.toAscii(host);
-                url.setHost(ascii.toLowerCase());
-            } catch (IllegalArgumentException e) {
-                // leave unmodified
+            url.setHost(punycodeHost(url.getHost(), charset));
+        }
+    }
+
+    static String punycodeHost(String host, Charset charset) {
+        if (isLdhHost(host, 0, host.length())) {
+            return host; // nothing for IDNA to do, skip it
+        }
+        String unicode = host;
+        if (charset == ISO_8859_1) {
+            // host holds raw bytes, decode them as utf8 for punycoding like the python port does
+            unicode = CharSequences.decodeUtf8(host);
+            if (unicode == null) { // contains non-utf8 junk
+                return host; // leave unmodified
             }
         }
+        try {
+            return idn.toAscii(unicode).toLowerCase();
+        } catch (IllegalArgumentException e) {
+            return host; // leave unmodified
+        }
     }
 
     static void pctEncodeHost(ParsedUrl url, Charset charset) {
@@ -364,7 +385,223 @@ class WhatwgCanonicalizer implements Canonicalizer {
         canonicalize(url, UTF_8);
     }
 
+    /**
+     * Canonicalize a URL, percent-encoding characters using the given charset.
+     * URLs parsed from bytes are already encoded and are always handled byte
+     * for byte, as if the charset were ISO-8859-1.
+     */
     public void canonicalize(ParsedUrl url, Charset charset) {
+        canonicalizeIfNeeded(url, charset);
+    }
+
+    @Override
+    public boolean canonicalizeIfNeeded(ParsedUrl url) {
+        return canonicalizeIfNeeded(url, UTF_8);
+    }
+
+    boolean canonicalizeIfNeeded(ParsedUrl url, Charset charset) {
+        if (isCanonical(url)) {
+            return true;
+        }
+        FusedWhatwgCanonicalizer.canonicalize(url, charset);
+        return false;
+    }
+
+    /**
+     * A canonical URL is plain ASCII with everything outside the encode sets
+     * already percent-encoded, so the charset doesn't matter here.
+     */
+    @Override
+    public boolean isCanonical(ParsedUrl url) {
+        if (!isEmpty(url, ParsedUrl.LEADING_JUNK) || !isEmpty(url, ParsedUrl.TRAILING_JUNK)
+                || !isLowercaseScheme(url) || !isEmptyOr(url, ParsedUrl.COLON_AFTER_SCHEME, ':')) {
+            return false;
+        }
+        String scheme = url.getScheme();
+        boolean special = ParsedUrl.SPECIAL_SCHEMES.containsKey(scheme);
+
+        String slashes = url.getSlashes();
+        if (!slashes.equals(TWO_SLASHES) && (special || !slashes.isEmpty())) {
+            return false;
+        }
+
+        boolean noPassword = isEmpty(url, ParsedUrl.PASSWORD);
+        boolean noUserinfo = noPassword && isEmpty(url, ParsedUrl.USERNAME);
+        if (!containsOnly(url, ParsedUrl.USERNAME, USERINFO_ENCODE)
+                || !containsOnly(url, ParsedUrl.PASSWORD, USERINFO_ENCODE)
+                || !(noPassword ? isEmpty(url, ParsedUrl.COLON_BEFORE_PASSWORD)
+                                : isEmptyOr(url, ParsedUrl.COLON_BEFORE_PASSWORD, ':'))
+                || !(noUserinfo ? isEmpty(url, ParsedUrl.AT_SIGN) : isEmptyOr(url, ParsedUrl.AT_SIGN, '@'))) {
+            return false;
+        }
+
+        if (special ? !isPlainHost(url) : !containsOnly(url, ParsedUrl.HOST, HOST_ENCODE) || !isNormalizedIpAddress(url)) {
+            return false;
+        }
+
+        if (!isCanonicalPort(url, scheme)) {
+            return false;
+        }
+
+        CharSequence path = url.chars(ParsedUrl.PATH);
+        int pathStart = url.start(ParsedUrl.PATH);
+        int pathEnd = url.end(ParsedUrl.PATH);
+        boolean leadingSlash = pathStart < pathEnd && path.charAt(pathStart) == '/';
+        if (special && !leadingSlash) {
+            return false;
+        }
+        if (leadingSlash) {
+            if (!containsOnly(url, ParsedUrl.PATH, PATH_ENCODE) || !isResolvedPath(path, pathStart, pathEnd, special)) {
+                return false;
+            }
+        } else if (!containsOnly(url, ParsedUrl.PATH, C0_ENCODE)) {
+            return false;
+        }
+
+        return isEmptyOr(url, ParsedUrl.QUESTION_MARK, '?')
+                && containsOnly(url, ParsedUrl.QUERY, QUERY_ENCODE)
+                && isEmptyOr(url, ParsedUrl.HASH_SIGN, '#')
+                && containsOnly(url, ParsedUrl.FRAGMENT, C0_ENCODE);
+    }
+
+    static boolean isEmpty(ParsedUrl url, int component) {
+        return url.start(component) == url.end(component);
+    }
+
+    /**
+     * True if the component is empty or is just the given char.
+     */
+    static boolean isEmptyOr(ParsedUrl url, int component, char c) {
+        int start = url.start(component);
+        int end = url.end(component);
+        return start == end || (end - start == 1 && url.chars(component).charAt(start) == c);
+    }
+
+    /**
+     * True if percent-encoding the component with the given encode set would
+     * not change it.
+     */
+    static boolean containsOnly(ParsedUrl url, int component, boolean[] encodeSet) {
+        CharSequence s = url.chars(component);
+        for (int i = url.start(component), end = url.end(component); i < end; i++) {
+            char c = s.charAt(i);
+            if (c > 0xff || encodeSet[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isLowercaseScheme(ParsedUrl url) {
+        CharSequence s = url.chars(ParsedUrl.SCHEME);
+        for (int i = url.start(ParsedUrl.SCHEME), end = url.end(ParsedUrl.SCHEME); i < end; i++) {
+            char c = s.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * True if the host is empty or made of non-empty labels of lowercase
+     * letters, digits, hyphens and underscores, none of them punycode.
+     * Percent-decoding and IDNA leave such hosts alone, so only IP address
+     * normalization needs checking.
+     */
+    static boolean isPlainHost(ParsedUrl url) {
+        CharSequence s = url.chars(ParsedUrl.HOST);
+        int start = url.start(ParsedUrl.HOST);
+        int end = url.end(ParsedUrl.HOST);
+        if (start == end) {
+            return true;
+        }
+        return isLdhHost(s, start, end) && isNormalizedIpAddress(url);
+    }
+
+    /**
+     * True if the range is made of non-empty labels of lowercase letters,
+     * digits, hyphens and underscores, none of them punycode. UTS #46 maps
+     * none of those chars and both ICU4J and java.net.IDN return such hosts
+     * unchanged (or fail, which punycodeHost also treats as unchanged).
+     */
+    static boolean isLdhHost(CharSequence s, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        int labelStart = start;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? s.charAt(i) : '.';
+            if (c == '.') {
+                if (i == labelStart) {
+                    return false;
+                }
+                if (i - labelStart >= 4 && s.charAt(labelStart) == 'x' && s.charAt(labelStart + 1) == 'n'
+                        && s.charAt(labelStart + 2) == '-' && s.charAt(labelStart + 3) == '-') {
+                    return false;
+                }
+                labelStart = i + 1;
+            } else if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isNormalizedIpAddress(ParsedUrl url) {
+        String host = url.getHost();
+        return normalizeIpAddress(host).equals(host);
+    }
+
+    /**
+     * True if the port is all digits and not the default port of the scheme.
+     */
+    static boolean isCanonicalPort(ParsedUrl url, String scheme) {
+        if (!isEmptyOr(url, ParsedUrl.COLON_BEFORE_PORT, ':')) {
+            return false;
+        }
+        CharSequence s = url.chars(ParsedUrl.PORT);
+        int start = url.start(ParsedUrl.PORT);
+        int end = url.end(ParsedUrl.PORT);
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        Integer defaultPort = ParsedUrl.SPECIAL_SCHEMES.get(scheme);
+        return defaultPort == null || (int) CharSequences.parseUnsignedLongNoThrow(s, start, end, 10) != defaultPort;
+    }
+
+    /**
+     * True if no segment of the path is "." or ".." (or percent-encoded
+     * equivalents) and, for special paths, there are no backslashes.
+     */
+    static boolean isResolvedPath(CharSequence s, int start, int end, boolean special) {
+        int segmentStart = start;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? s.charAt(i) : '/';
+            if (c == '\\' && special) {
+                return false;
+            } else if (c == '/') {
+                if (FusedWhatwgCanonicalizer.countDots(s, segmentStart, i) != 0) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The reference implementation of {@link #canonicalize(ParsedUrl, Charset)}
+     * as a pipeline of separate steps, mirroring the Python port. Produces the
+     * same result as the single pass implementation but is slower.
+     */
+    void canonicalizeStepwise(ParsedUrl url, Charset charset) {
+        if (url.hasByteSource()) {
+            charset = ISO_8859_1;
+        }
         removeLeadingTrailingJunk(url);
         removeTabsAndNewlines(url);
         lowercaseScheme(url);
@@ -0,0 +1,67 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BatchCanonicalizerTest {
+    @Test
+    public void testMatchesSequential() {
+        Random random = new Random(0);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            urls.add("HTTP://" + (char) ('a' + random.nextInt(26)) + ".Example" + random.nextInt(50) + ".com/"
+                    + random.nextInt(100) + (random.nextInt(10) == 0 ? "/é/../x" : "") + (i % 7 == 0 ? "#f" : ""));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean ssurt : new boolean[]{false, true}) {
+                BatchCanonicalizer batch = BatchCanonicalizer.builder()
+                        .canonicalizer(Canonicalizer.SEMANTIC)
+                        .ssurt(ssurt)
+                        .pool(pool)
+                        .chunkSize(100)
+                        .build();
+                String[] results = new String[urls.size()];
+                BatchCanonicalizer.Stats stats = batch.canonicalize(urls, results);
+                assertEquals(urls.size(), stats.count());
+                assertEquals(0, stats.failures());
+                for (int i = 0; i < urls.size(); i++) {
+                    ParsedUrl url = ParsedUrl.parseUrl(urls.get(i));
+                    Canonicalizer.SEMANTIC.canonicalize(url);
+                    assertEquals(ssurt ? url.ssurt() : url.toString(), results[i]);
+                    assertEquals(results[i], batch.canonicalize(urls.get(i)));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailures() {
+        Canonicalizer failing = url -> {
+            if (url.getHost().startsWith("bad")) {
+                throw new IllegalStateException();
+            }
+            Canonicalizer.WHATWG.canonicalize(url);
+        };
+        BatchCanonicalizer batch = BatchCanonicalizer.builder().canonicalizer(failing).chunkSize(2).build();
+        String[] results = new String[5];
+        BatchCanonicalizer.Stats stats = batch.canonicalize(new CharSequence[]{"http://a/", "http://bad/",
+                new StringBuilder("HTTP://B/"), "http://bad2/", "http://c/"}, results);
+        assertEquals(5, stats.count());
+        assertEquals(2, stats.failures());
+        assertEquals("http://a/", results[0]);
+        assertNull(results[1]);
+        assertEquals("http://b/", results[2]);
+        assertNull(results[3]);
+        assertEquals("http://c/", results[4]);
+    }
+}
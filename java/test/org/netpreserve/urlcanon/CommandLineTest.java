@@ -0,0 +1,41 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class CommandLineTest {
+    @Test
+    public void testOptions() {
+        CommandLine args = new CommandLine(new String[]{"in", "--memory", "512m", "--threads", "4", "out"});
+        assertEquals("--memory", args.nextOption());
+        assertEquals(512L << 20, args.sizeValue());
+        assertEquals("--threads", args.nextOption());
+        assertEquals(4, args.intValue());
+        assertNull(args.nextOption());
+        assertEquals(Arrays.asList("in", "out"), args.files());
+    }
+
+    @Test
+    public void testBadValues() {
+        CommandLine args = new CommandLine(new String[]{"--memory", "", "--memory"});
+        args.nextOption();
+        try {
+            args.sizeValue();
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("--memory needs a size", e.getMessage());
+        }
+        args.nextOption();
+        try {
+            args.sizeValue();
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("--memory needs a value", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DomainSetTest {
+    @Test
+    public void testCovers() {
+        DomainSet set = new DomainSet(Arrays.asList("example.com", "foo.example.com", "1.2.3.4", "[::1]", "org"));
+        assertArrayEquals(new int[]{0}, set.matches("example.com"));
+        assertArrayEquals(new int[]{0, 1}, set.matches("bar.foo.example.com"));
+        assertArrayEquals(new int[]{}, set.matches("fooexample.com"));
+        assertArrayEquals(new int[]{4}, set.matches("example.org"));
+        assertArrayEquals(new int[]{2}, set.matches("1.2.3.4"));
+        assertArrayEquals(new int[]{}, set.matches("5.1.2.3.4"));
+        assertArrayEquals(new int[]{3}, set.matches("[::1]"));
+        assertTrue(set.covers("www.example.com"));
+        assertFalse(set.covers("example.net"));
+        assertFalse(set.covers(""));
+        assertEquals("foo.example.com", set.get(1));
+    }
+
+    @Test
+    public void testSameAsHostMatchesDomain() {
+        Random random = new Random(0);
+        String[] labels = {"com", "org", "example", "www", "foo", "1", "2", "0x7f", "", "a,b", "[::1]"};
+        List<String> domains = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            domains.add(randomHost(random, labels));
+        }
+        DomainSet set = new DomainSet(domains);
+        for (int i = 0; i < 5000; i++) {
+            String host = randomHost(random, labels);
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < domains.size(); id++) {
+                if (MatchRule.hostMatchesDomain(host, domains.get(id))) {
+                    expected.add(id);
+                }
+            }
+            int[] actual = set.matches(host);
+            Arrays.sort(actual);
+            assertArrayEquals(host, expected.stream().mapToInt(Integer::intValue).toArray(), actual);
+            assertEquals(host, !expected.isEmpty(), set.covers(host));
+        }
+    }
+
+    private static String randomHost(Random random, String[] labels) {
+        int n = 1 + random.nextInt(4);
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j < n; j++) {
+            if (j > 0) sb.append('.');
+            sb.append(labels[random.nextInt(labels.length)]);
+        }
+        return sb.toString();
+    }
+}
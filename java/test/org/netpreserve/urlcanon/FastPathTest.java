@@ -0,0 +1,99 @@
+package org.netpreserve.urlcanon;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class FastPathTest {
+
+    private static Gson gson = new Gson();
+
+    /**
+     * Inputs whose canonical forms must always take the fast path.
+     */
+    private static final List<String> PLAIN = Arrays.asList(
+            "http://example.com/",
+            "HTTP://Example.COM/a/b.html?y=2&x=1",
+            "https://www.example.org:8443/%c3%bc/café?q=café");
+
+    @Parameter(0)
+    public String name;
+
+    @Parameter(1)
+    public Canonicalizer canonicalizer;
+
+    @Parameter(2)
+    public Consumer<ParsedUrl> steps;
+
+    @Parameter(3)
+    public String input;
+
+    @Parameters(name = "{index} {0} {3}")
+    public static List<Object[]> loadData() throws IOException {
+        List<String> inputs = new ArrayList<>(PLAIN);
+        try (InputStream stream = FastPathTest.class.getResourceAsStream("/idempotence.json");
+             InputStreamReader reader = new InputStreamReader(stream, UTF_8)) {
+            inputs.addAll(Arrays.asList(gson.fromJson(reader, String[].class)));
+        }
+        Object[][] canonicalizers = {
+                {"whatwg", Canonicalizer.WHATWG,
+                        (Consumer<ParsedUrl>) url -> FusedWhatwgCanonicalizer.canonicalize(url, UTF_8)},
+                {"semantic_precise", Canonicalizer.SEMANTIC_PRECISE,
+                        (Consumer<ParsedUrl>) url -> SemanticPreciseCanonicalizer.applySteps(url, UTF_8)},
+                {"semantic", Canonicalizer.SEMANTIC, (Consumer<ParsedUrl>) SemanticCanonicalizer::applySteps},
+                {"aggressive", Canonicalizer.AGGRESSIVE, (Consumer<ParsedUrl>) AggressiveCanonicalizer::applySteps},
+        };
+        List<Object[]> data = new ArrayList<>();
+        for (Object[] c : canonicalizers) {
+            for (String input : inputs) {
+                data.add(new Object[]{c[0], c[1], c[2], input});
+            }
+        }
+        return data;
+    }
+
+    private String applySteps(String url) {
+        ParsedUrl parsed = ParsedUrl.parseUrl(url);
+        steps.accept(parsed);
+        return parsed.toString();
+    }
+
+    @Test
+    public void testNeverSkipsNeededSteps() {
+        ParsedUrl url = ParsedUrl.parseUrl(input);
+        if (canonicalizer.isCanonical(url)) {
+            assertEquals(url.toString(), applySteps(input));
+        }
+    }
+
+    @Test
+    public void testCanonicalizeIfNeeded() {
+        String canonical = applySteps(input);
+        ParsedUrl url = ParsedUrl.parseUrl(canonical);
+        boolean skipped = canonicalizer.canonicalizeIfNeeded(url);
+        assertEquals(applySteps(canonical), url.toString());
+        if (PLAIN.contains(input)) {
+            assertTrue("fast path not taken for " + canonical, skipped);
+        }
+
+        url = ParsedUrl.parseUrl(input);
+        canonicalizer.canonicalizeIfNeeded(url);
+        assertEquals(canonical, url.toString());
+    }
+}
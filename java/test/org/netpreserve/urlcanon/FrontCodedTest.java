@@ -0,0 +1,177 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FrontCodedTest {
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testSmall() throws IOException {
+        FrontCodedReader reader = read(4, "com,example,//http:/", "com,example,//http:/a", "com,example,//http:/a",
+                "com,example,//http:/b", "com,example,www,//http:/", "org,example,//https:/x?y");
+        assertEquals(6, reader.size());
+        assertEquals("com,example,//http:/a", new String(reader.get(2), UTF_8));
+        assertEquals("org,example,//https:/x?y", new String(reader.get(5), UTF_8));
+        assertEquals(0, reader.ceilingIndex("a"));
+        assertEquals(0, reader.ceilingIndex("com,example,//http:/"));
+        assertEquals(1, reader.ceilingIndex("com,example,//http:/ "));
+        assertEquals(4, reader.ceilingIndex("com,example,//http:/c"));
+        assertEquals(5, reader.ceilingIndex("com,example,www,//http:/a"));
+        assertEquals(6, reader.ceilingIndex("z"));
+        assertTrue(reader.contains("com,example,www,//http:/"));
+        assertFalse(reader.contains("com,example,www,//http:"));
+        assertFalse(reader.contains("com,example,www,//http:/a"));
+
+        Iterator<byte[]> it = reader.tailIterator("com,example,//http:/b".getBytes(UTF_8));
+        assertEquals("com,example,//http:/b", new String(it.next(), UTF_8));
+        assertEquals("com,example,www,//http:/", new String(it.next(), UTF_8));
+        assertEquals("org,example,//https:/x?y", new String(it.next(), UTF_8));
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        FrontCodedReader reader = read(16);
+        assertEquals(0, reader.size());
+        assertEquals(0, reader.ceilingIndex("x"));
+        assertFalse(reader.contains(""));
+        assertFalse(reader.iterator().hasNext());
+    }
+
+    @Test
+    public void testOutOfOrder() throws IOException {
+        FrontCodedWriter writer = new FrontCodedWriter(new ByteArrayOutputStream());
+        writer.add("com,example,//http:/b");
+        try {
+            writer.add("com,example,//http:/a");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            writer.add("com,example,//http:/");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testNotFrontCoded() {
+        try {
+            new FrontCodedReader(ByteBuffer.wrap(new byte[100]));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRandom() throws IOException {
+        Random random = new Random(0);
+        for (int round = 0; round < 50; round++) {
+            List<String> keys = new ArrayList<>();
+            int n = random.nextInt(300);
+            for (int i = 0; i < n; i++) {
+                keys.add(randomSsurt(random));
+            }
+            Collections.sort(keys);
+            int interval = 1 + random.nextInt(20);
+            FrontCodedReader reader = read(interval, keys.toArray(new String[0]));
+
+            assertEquals(keys.size(), reader.size());
+            int i = 0;
+            for (byte[] key : reader) {
+                assertEquals(keys.get(i++), new String(key, UTF_8));
+            }
+            assertEquals(keys.size(), i);
+            for (i = 0; i < keys.size(); i++) {
+                assertEquals(keys.get(i), new String(reader.get(i), UTF_8));
+                assertTrue(reader.contains(keys.get(i)));
+            }
+            for (int j = 0; j < 100; j++) {
+                String probe = randomSsurt(random);
+                int expected = Collections.binarySearch(keys, probe);
+                if (expected < 0) {
+                    expected = -expected - 1;
+                } else {
+                    while (expected > 0 && keys.get(expected - 1).equals(probe)) {
+                        expected--;
+                    }
+                }
+                assertEquals(probe, expected, reader.ceilingIndex(probe));
+                assertEquals(expected < keys.size() && keys.get(expected).equals(probe), reader.contains(probe));
+            }
+        }
+    }
+
+    @Test
+    public void testMapped() throws IOException {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            keys.add(String.format("com,example,www,//http:/page/%05d", i));
+        }
+        Path path = temp.newFile().toPath();
+        try (FrontCodedWriter writer = new FrontCodedWriter(Files.newOutputStream(path))) {
+            for (String key : keys) {
+                writer.add(key);
+            }
+        }
+        int verbatim = 0;
+        for (String key : keys) {
+            verbatim += key.length() + 1;
+        }
+        assertTrue(Files.size(path) * 3 < verbatim);
+
+        FrontCodedReader reader = FrontCodedReader.open(path);
+        assertEquals(keys.size(), reader.size());
+        assertEquals(1234, reader.ceilingIndex("com,example,www,//http:/page/01234"));
+        assertEquals(1235, reader.ceilingIndex("com,example,www,//http:/page/01234a"));
+        assertArrayEquals(keys.get(9999).getBytes(UTF_8), reader.get(9999));
+    }
+
+    private static String randomSsurt(Random random) {
+        String[] hosts = {"com,example,", "com,example,www,", "org,example,", "1.2.3.4", "net,éx,"};
+        String[] schemes = {"http", "https", "ftp"};
+        StringBuilder sb = new StringBuilder();
+        sb.append(hosts[random.nextInt(hosts.length)]).append("//").append(schemes[random.nextInt(schemes.length)])
+                .append(":/");
+        int segments = random.nextInt(4);
+        for (int i = 0; i < segments; i++) {
+            sb.append((char) ('a' + random.nextInt(3))).append('/');
+        }
+        return sb.toString();
+    }
+
+    private static FrontCodedReader read(int interval, String... keys) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FrontCodedWriter writer = new FrontCodedWriter(out, interval)) {
+            for (String key : keys) {
+                writer.add(key);
+            }
+            assertEquals(keys.length, writer.count());
+        }
+        return new FrontCodedReader(ByteBuffer.wrap(out.toByteArray()));
+    }
+}
@@ -0,0 +1,70 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(Parameterized.class)
+public class FusedWhatwgTest {
+
+    private static final String[] CORPORA = {"/urltestdata.json", "/supplemental_whatwg.json",
+            "/semantic_precise.json", "/aggressive.json", "/idempotence.json", "/parsing.json", "/surt.json"};
+
+    @Parameter
+    public String input;
+
+    /**
+     * Every string in the corpus is used as an input, expected outputs included.
+     */
+    @Parameters(name = "{index} {0}")
+    public static List<String> loadData() {
+        return JsonCorpus.strings(CORPORA);
+    }
+
+    @Test
+    public void testUtf8() {
+        ParsedUrl fused = ParsedUrl.parseUrl(input);
+        new WhatwgCanonicalizer().canonicalize(fused, UTF_8);
+        ParsedUrl stepwise = ParsedUrl.parseUrl(input);
+        new WhatwgCanonicalizer().canonicalizeStepwise(stepwise, UTF_8);
+        assertSameComponents(stepwise, fused);
+    }
+
+    @Test
+    public void testBytes() {
+        byte[] bytes = input.getBytes(UTF_8);
+        ParsedUrl fused = ParsedUrl.parseUrl(bytes);
+        new WhatwgCanonicalizer().canonicalize(fused, UTF_8);
+        ParsedUrl stepwise = ParsedUrl.parseUrl(new String(bytes, ISO_8859_1));
+        new WhatwgCanonicalizer().canonicalizeStepwise(stepwise, ISO_8859_1);
+        assertSameComponents(stepwise, fused);
+    }
+
+    private static void assertSameComponents(ParsedUrl expected, ParsedUrl actual) {
+        assertEquals("href", expected.toString(), actual.toString());
+        assertEquals("ssurt", expected.ssurt(), actual.ssurt());
+        assertEquals("scheme", expected.getScheme(), actual.getScheme());
+        assertEquals("colonAfterScheme", expected.getColonAfterScheme(), actual.getColonAfterScheme());
+        assertEquals("slashes", expected.getSlashes(), actual.getSlashes());
+        assertEquals("username", expected.getUsername(), actual.getUsername());
+        assertEquals("colonBeforePassword", expected.getColonBeforePassword(), actual.getColonBeforePassword());
+        assertEquals("password", expected.getPassword(), actual.getPassword());
+        assertEquals("atSign", expected.getAtSign(), actual.getAtSign());
+        assertEquals("host", expected.getHost(), actual.getHost());
+        assertEquals("colonBeforePort", expected.getColonBeforePort(), actual.getColonBeforePort());
+        assertEquals("port", expected.getPort(), actual.getPort());
+        assertEquals("path", expected.getPath(), actual.getPath());
+        assertEquals("questionMark", expected.getQuestionMark(), actual.getQuestionMark());
+        assertEquals("query", expected.getQuery(), actual.getQuery());
+        assertEquals("hashSign", expected.getHashSign(), actual.getHashSign());
+        assertEquals("fragment", expected.getFragment(), actual.getFragment());
+    }
+}
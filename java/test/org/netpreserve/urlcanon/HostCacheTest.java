@@ -0,0 +1,102 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HostCacheTest {
+    @Test
+    public void testHitsAndMisses() {
+        HostCache cache = new HostCache(64);
+        AtomicInteger calls = new AtomicInteger();
+        HostCache.HostFunction upper = (host, special, charset) -> {
+            calls.incrementAndGet();
+            return host.toUpperCase();
+        };
+        assertEquals("EXAMPLE.COM", cache.canonicalize("example.com", HostCache.WHATWG, true, UTF_8, upper));
+        assertEquals("EXAMPLE.COM", cache.canonicalize("example.com", HostCache.WHATWG, true, UTF_8, upper));
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+
+        // pipeline, specialness and charset are all part of the key
+        cache.canonicalize("example.com", HostCache.SEMANTIC_PRECISE, true, UTF_8, upper);
+        cache.canonicalize("example.com", HostCache.WHATWG, false, UTF_8, upper);
+        cache.canonicalize("example.com", HostCache.WHATWG, true, ISO_8859_1, upper);
+        assertEquals(4, calls.get());
+        assertEquals(4, cache.size());
+
+        // other charsets are never cached
+        cache.canonicalize("example.com", HostCache.WHATWG, true, UTF_16, upper);
+        cache.canonicalize("example.com", HostCache.WHATWG, true, UTF_16, upper);
+        assertEquals(6, calls.get());
+        assertEquals(4, cache.misses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hits());
+    }
+
+    @Test
+    public void testFrequentHostsSurviveScans() {
+        HostCache cache = new HostCache(64);
+        HostCache.HostFunction identity = (host, special, charset) -> host;
+        List<String> popular = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            popular.add("popular" + i + ".example.com");
+        }
+        for (int round = 0; round < 5; round++) {
+            for (String host : popular) {
+                cache.canonicalize(host, HostCache.WHATWG, true, UTF_8, identity);
+            }
+        }
+        for (int i = 0; i < 10000; i++) {
+            cache.canonicalize("once" + i + ".example.org", HostCache.WHATWG, true, UTF_8, identity);
+            cache.canonicalize(popular.get(i % popular.size()), HostCache.WHATWG, true, UTF_8, identity);
+        }
+        assertTrue(cache.size() <= cache.capacity());
+        long hits = cache.hits();
+        for (String host : popular) {
+            cache.canonicalize(host, HostCache.WHATWG, true, UTF_8, identity);
+        }
+        assertTrue("popular hosts evicted by one-off hosts", cache.hits() - hits >= popular.size() * 3 / 4);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        HostCache cache = new HostCache(256);
+        Thread[] threads = new Thread[8];
+        List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20000; i++) {
+                        String host = "Host" + (i * 7919 % 1000) + ".Example.COM";
+                        String canonical = cache.canonicalize(host, HostCache.SEMANTIC_PRECISE, true, UTF_8,
+                                SemanticPreciseCanonicalizer::canonicalizeHost);
+                        assertEquals(host.toLowerCase(), canonical);
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(new ArrayList<Throwable>(), failures);
+        assertEquals(8 * 20000, cache.hits() + cache.misses());
+        assertTrue(cache.size() <= cache.capacity());
+    }
+}
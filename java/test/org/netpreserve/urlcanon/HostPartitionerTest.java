@@ -0,0 +1,96 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HostPartitionerTest {
+
+    @Test
+    public void testHashed() {
+        HostPartitioner partitioner = HostPartitioner.builder().partitions(1000).build();
+        assertEquals(1000, partitioner.partitions());
+        int p = partitioner.partition(url("http://www.example.com/a"));
+        assertEquals(p, partitioner.partition(url("https://www.example.com:8443/b?c")));
+        assertEquals(p, partitioner.partition("www.example.com"));
+        assertEquals(p, partitioner.partition(ParsedUrl.parseUrl("http://www.example.com/".getBytes(UTF_8))));
+        assertNotEquals(p, partitioner.partition(url("http://example.com/a")));
+
+        // the hash is that of the key
+        for (String host : new String[]{"www.example.com", "1.2.3.4", "[::1]", "", "a,b.example"}) {
+            String key = partitioner.partitionKey(host);
+            long hash = UrlFingerprint.fingerprint64(ParsedUrl.parseUrl(key));
+            assertEquals(host, HostPartitioner.jumpConsistentHash(hash, 1000), partitioner.partition(host));
+        }
+    }
+
+    @Test
+    public void testRegistrableDomain() throws IOException {
+        PublicSuffixes suffixes = PublicSuffixes.parse(new StringReader("uk\nco.uk\ncom\nblogspot.com\n"));
+        HostPartitioner partitioner = HostPartitioner.builder().partitions(1 << 20).publicSuffixes(suffixes).build();
+        assertEquals("uk,co,example,", partitioner.partitionKey("www.example.co.uk"));
+        assertEquals("uk,co,example,", partitioner.partitionKey("example.co.uk"));
+        assertEquals("uk,co,", partitioner.partitionKey("co.uk"));
+        assertEquals("com,blogspot,foo,", partitioner.partitionKey("a.foo.blogspot.com"));
+        assertEquals("org,example,", partitioner.partitionKey("www.example.org"));
+        assertEquals("localhost,", partitioner.partitionKey("localhost"));
+        assertEquals("1.2.3.4", partitioner.partitionKey("1.2.3.4"));
+
+        int p = partitioner.partition(url("http://example.co.uk/"));
+        assertEquals(p, partitioner.partition(url("http://www.example.co.uk/")));
+        assertEquals(p, partitioner.partition(url("http://a.b.example.co.uk/")));
+        assertNotEquals(p, partitioner.partition(url("http://example2.co.uk/")));
+    }
+
+    @Test
+    public void testRanges() {
+        HostPartitioner partitioner = HostPartitioner.builder()
+                .boundaries(Arrays.asList("com,example,www,", "com,f", "org,"))
+                .build();
+        assertEquals(4, partitioner.partitions());
+        assertEquals(0, partitioner.partition(url("http://1.2.3.4/")));
+        assertEquals(0, partitioner.partition(url("http://example.com/")));
+        assertEquals(1, partitioner.partition(url("http://www.example.com/")));
+        assertEquals(1, partitioner.partition(url("http://a.www.example.com/")));
+        assertEquals(2, partitioner.partition(url("http://f.com/")));
+        assertEquals(2, partitioner.partition(url("http://www.zzz.com/")));
+        assertEquals(2, partitioner.partition(url("http://example.net/")));
+        assertEquals(3, partitioner.partition(url("http://example.org/")));
+
+        try {
+            HostPartitioner.builder().boundaries(Arrays.asList("org,", "com,")).build();
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConsistent() {
+        int[] counts = new int[10];
+        for (long key = 0; key < 100000; key++) {
+            long hash = key * 0x9e3779b97f4a7c15L;
+            int p = HostPartitioner.jumpConsistentHash(hash, 10);
+            counts[p]++;
+            int grown = HostPartitioner.jumpConsistentHash(hash, 11);
+            assertTrue(grown == p || grown == 10);
+        }
+        for (int count : counts) {
+            assertTrue(count > 9000 && count < 11000);
+        }
+    }
+
+    private static ParsedUrl url(String s) {
+        ParsedUrl url = ParsedUrl.parseUrl(s);
+        Canonicalizer.WHATWG.canonicalize(url);
+        return url;
+    }
+}
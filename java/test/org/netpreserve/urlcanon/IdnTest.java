@@ -0,0 +1,26 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class IdnTest {
+    @Test
+    public void testScratchReuse() {
+        Idn idn = new IdnIcu4j();
+        assertEquals("xn--bcher-kva.example", idn.toAscii("Bücher.example"));
+        assertEquals("a.b", idn.toAscii("a.b"));
+        assertEquals("xn--mnchen-3ya.de", idn.toAscii("münchen.de"));
+    }
+
+    @Test
+    public void testLdhHostsSkipIdna() {
+        String host = "www.example-host_1.com";
+        assertSame(host, WhatwgCanonicalizer.punycodeHost(host, UTF_8));
+        assertEquals("xn--bcher-kva.example", WhatwgCanonicalizer.punycodeHost("xn--bcher-kva.example", UTF_8));
+        assertEquals("xn--bcher-kva.example", WhatwgCanonicalizer.punycodeHost("XN--BCHER-KVA.example", UTF_8));
+        assertEquals("example.com", WhatwgCanonicalizer.punycodeHost("Example.COM", UTF_8));
+    }
+}
@@ -3,7 +3,9 @@ package org.netpreserve.urlcanon;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.netpreserve.urlcanon.IpAddresses.formatIpv6;
 import static org.netpreserve.urlcanon.IpAddresses.parseIpv6;
 
@@ -27,4 +29,33 @@ public class IpAddressesTest {
         assertNull(parseIpv6("1:2:3"));
         assertNull(parseIpv6("1::2::3"));
     }
+
+    @Test
+    public void testRanges() {
+        String s = "http://[1:0:0::2]/ http://0x7f.1/";
+        long[] ipv6 = new long[2];
+        assertTrue(IpAddresses.parseIpv6(s, 8, 16, ipv6));
+        assertEquals(0x0001000000000000L, ipv6[0]);
+        assertEquals(2, ipv6[1]);
+        assertFalse(IpAddresses.parseIpv6(s, 7, 16, ipv6));
+        StringBuilder sb = new StringBuilder("[");
+        IpAddresses.formatIpv6(ipv6[0], ipv6[1], sb);
+        assertEquals("[1::2", sb.toString());
+
+        long ipv4 = IpAddresses.parseIpv4(s, 26, 32);
+        assertEquals(0x7f000001L, ipv4);
+        sb.setLength(0);
+        IpAddresses.formatIpv4(ipv4, sb);
+        assertEquals("127.0.0.1", sb.toString());
+    }
+
+    @Test
+    public void testClassify() {
+        assertEquals(IpAddresses.DOMAIN, IpAddresses.classify("example.com", 0, 11));
+        assertEquals(IpAddresses.DOMAIN, IpAddresses.classify("1.2.3.com", 0, 9));
+        assertEquals(IpAddresses.DOMAIN, IpAddresses.classify("", 0, 0));
+        assertEquals(IpAddresses.IPV4, IpAddresses.classify("10.0.0.1", 0, 8));
+        assertEquals(IpAddresses.IPV4, IpAddresses.classify("0x0a.1", 0, 6));
+        assertEquals(IpAddresses.IPV6, IpAddresses.classify("[::1]", 0, 5));
+    }
 }
@@ -0,0 +1,58 @@
+package org.netpreserve.urlcanon;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Loads every string in the JSON test data as a URL corpus, inputs and
+ * expected outputs alike. Shared by the tests and, through the test jar, the
+ * benchmarks.
+ */
+class JsonCorpus {
+    private JsonCorpus() {
+    }
+
+    /**
+     * Returns the distinct strings in the resources, in order of first
+     * appearance: every primitive value and every object key.
+     */
+    static List<String> strings(String... resources) {
+        Set<String> strings = new LinkedHashSet<>();
+        for (String resource : resources) {
+            try (InputStream stream = JsonCorpus.class.getResourceAsStream(resource);
+                 InputStreamReader reader = new InputStreamReader(stream, UTF_8)) {
+                collectStrings(new JsonParser().parse(reader), strings);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new ArrayList<>(strings);
+    }
+
+    private static void collectStrings(JsonElement element, Set<String> strings) {
+        if (element.isJsonPrimitive()) {
+            strings.add(element.getAsString());
+        } else if (element.isJsonArray()) {
+            for (JsonElement child : element.getAsJsonArray()) {
+                collectStrings(child, strings);
+            }
+        } else if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                strings.add(entry.getKey());
+                collectStrings(entry.getValue(), strings);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.Assert.assertEquals;
+
+public class LineReaderTest {
+    @Test
+    public void testLines() throws IOException {
+        for (int bufferSize : new int[]{1, 2, 3, 7, 1 << 16}) {
+            assertEquals(Arrays.asList("a", "", "bc", "d\re", "", "last"),
+                    read("a\n\nbc\r\nd\re\n\r\nlast", bufferSize));
+            assertEquals(Arrays.asList("a"), read("a\n", bufferSize));
+            assertEquals(Arrays.asList(), read("", bufferSize));
+            assertEquals(Arrays.asList(""), read("\n", bufferSize));
+        }
+    }
+
+    @Test
+    public void testLongLines() throws IOException {
+        StringBuilder input = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            StringBuilder line = new StringBuilder();
+            for (int j = 0; j < i * 37; j++) {
+                line.append((char) ('a' + j % 26));
+            }
+            expected.add(line.toString());
+            input.append(line).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        assertEquals(expected, read(input.toString(), 16));
+    }
+
+    private static List<String> read(String input, int bufferSize) throws IOException {
+        LineReader reader = new LineReader(new ByteArrayInputStream(input.getBytes(ISO_8859_1)), bufferSize);
+        List<String> lines = new ArrayList<>();
+        for (byte[] line = reader.readLine(); line != null; line = reader.readLine()) {
+            lines.add(new String(line, ISO_8859_1));
+        }
+        return lines;
+    }
+}
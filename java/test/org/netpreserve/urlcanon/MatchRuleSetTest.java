@@ -0,0 +1,81 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MatchRuleSetTest {
+    private static final String[] URLS = {
+            "http://example.com/", "https://example.com/foo/bar", "http://www.example.com/foo?a=b",
+            "http://example.org/foo/bar/baz", "http://1.2.3.4/x", "https://[::1]:8443/", "ftp://files.example.com/pub/",
+            "http://sub.www.example.com/foo", "http://example.com:8080/foo", "http://twitter.com/twit?lang=es",
+            "http://examples.com/", "mailto:someone@example.com", "http://com/"};
+
+    @Test
+    public void testSameAsLinearScan() {
+        List<MatchRule> rules = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            rules.add(randomRule(random));
+        }
+        MatchRuleSet ruleSet = new MatchRuleSet(rules);
+        int total = 0;
+        for (String u : URLS) {
+            ParsedUrl url = ParsedUrl.parseUrl(u);
+            Canonicalizer.WHATWG.canonicalize(url);
+            for (String parent : new String[]{null, "http://example.com/parent"}) {
+                List<Integer> expected = new ArrayList<>();
+                for (int id = 0; id < rules.size(); id++) {
+                    if (rules.get(id).applies(url, parent)) {
+                        expected.add(id);
+                    }
+                }
+                int[] expectedIds = expected.stream().mapToInt(Integer::intValue).toArray();
+                assertArrayEquals(u, expectedIds, ruleSet.matches(url, parent));
+                total += expectedIds.length;
+            }
+        }
+        assertTrue(total > URLS.length * 100);
+    }
+
+    private static MatchRule randomRule(Random random) {
+        String url = URLS[random.nextInt(URLS.length)];
+        ParsedUrl parsedUrl = ParsedUrl.parseUrl(url);
+        Canonicalizer.WHATWG.canonicalize(parsedUrl);
+        MatchRule.Builder builder = MatchRule.builder();
+        String ssurt = parsedUrl.ssurt();
+        String surt = parsedUrl.surt();
+        switch (random.nextInt(6)) {
+            case 0:
+                builder.ssurt(ssurt.substring(0, random.nextInt(ssurt.length() + 1)));
+                break;
+            case 1:
+                builder.surt(surt.substring(0, random.nextInt(surt.length() + 1)));
+                break;
+            case 2:
+                builder.ssurt(ssurt).exact(true);
+                break;
+            case 3:
+                String host = parsedUrl.getHost();
+                builder.domain(host.substring(Math.min(host.length(), random.nextInt(4))));
+                break;
+            case 4:
+                builder.substring(url.substring(random.nextInt(url.length()), url.length()));
+                break;
+            default:
+                builder.regex(".*" + (char) ('a' + random.nextInt(26)) + ".*");
+        }
+        if (random.nextInt(4) == 0) {
+            builder.domain("example.com");
+        }
+        if (random.nextInt(8) == 0) {
+            builder.parentUrlRegex("http://example\\.com/.*");
+        }
+        return builder.build();
+    }
+}
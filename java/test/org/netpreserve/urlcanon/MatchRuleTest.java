@@ -0,0 +1,92 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.netpreserve.urlcanon.MatchRule.hostMatchesDomain;
+import static org.netpreserve.urlcanon.MatchRule.hostMatchesDomainExactly;
+
+public class MatchRuleTest {
+    private static ParsedUrl semantic(String url) {
+        ParsedUrl parsedUrl = ParsedUrl.parseUrl(url);
+        Canonicalizer.SEMANTIC.canonicalize(parsedUrl);
+        return parsedUrl;
+    }
+
+    @Test
+    public void testMatchRules() {
+        MatchRule rule = MatchRule.builder().surt(semantic("http://example.com/foo/bar").surt()).build();
+        assertFalse(rule.applies("hTTp://EXAmple.com.../FOo/Bar#zuh"));
+        assertTrue(rule.applies("http://example.com/foo/bar"));
+        assertFalse(rule.applies("http://example.com/foo/baz"));
+
+        rule = MatchRule.builder().surt(semantic("http://example.com/foo/bar").surt()).exact(true).build();
+        assertFalse(rule.applies("hTTp://EXAmple.com.../FOo/Bar#zuh"));
+        assertTrue(rule.applies("http://example.com/foo/bar"));
+        assertFalse(rule.applies("http://example.com/foo/baz"));
+        assertFalse(rule.applies("http://example.com/foo/bar/baz"));
+
+        rule = MatchRule.builder().ssurt(semantic("http://example.com/foo/bar").ssurt()).build();
+        assertFalse(rule.applies("hTTp://EXAmple.com.../FOo/Bar#zuh"));
+        assertTrue(rule.applies("http://example.com/foo/bar"));
+        assertFalse(rule.applies("http://example.com/foo/baz"));
+
+        rule = MatchRule.builder().urlMatch("REGEX_MATCH", "^.*/audio_file/.*\\.mp3$").build();
+        assertFalse(rule.applies("http://foo.com/some.mp3"));
+        assertTrue(rule.applies("http://foo.com/blah/audio_file/some.mp3"));
+
+        rule = MatchRule.builder().urlMatch("SURT_MATCH", "http://(com,vimeocdn,").build();
+        assertTrue(rule.applies("http://a.b.vimeocdn.com/blahblah"));
+        assertFalse(rule.applies("https://a.b.vimeocdn.com/blahblah"));
+
+        rule = MatchRule.builder().substring("facebook.com").build();
+        assertTrue(rule.applies("https://www.facebook.com/whatevz"));
+
+        rule = MatchRule.builder()
+                .regex("^https?://(www.)?youtube.com/watch?.*$")
+                .parentUrlRegex("^https?://(www.)?youtube.com/user/.*$")
+                .build();
+        assertFalse(rule.applies("https://www.youtube.com/watch?v=dUIn5OAPS5s"));
+        assertTrue(rule.applies("https://www.youtube.com/watch?v=dUIn5OAPS5s",
+                "https://www.youtube.com/user/SonoraSantaneraVEVO"));
+
+        rule = MatchRule.builder().domain("twitter.com").urlMatch("REGEX_MATCH", "^.*lang=(?!en).*$").build();
+        assertFalse(rule.applies("https://twitter.com/twit"));
+        assertFalse(rule.applies("https://twitter.com/twit?lang=en"));
+        assertTrue(rule.applies("https://twitter.com/twit?lang=es"));
+
+        rule = MatchRule.builder().domain("example.com").build();
+        assertFalse(rule.applies("https://twitter.com"));
+        assertTrue(rule.applies("https://example.com"));
+        assertTrue(rule.applies("https://abc.example.com"));
+
+        rule = MatchRule.builder().domain("example.com").exact(true).build();
+        assertFalse(rule.applies("https://twitter.com"));
+        assertTrue(rule.applies("https://example.com"));
+        assertFalse(rule.applies("https://abc.example.com"));
+    }
+
+    @Test
+    public void testHostMatchesDomain() {
+        assertTrue(hostMatchesDomain("1.2.3.4", "1.2.3.4"));
+        assertTrue(hostMatchesDomain("foo.example.com", "example.com"));
+        assertFalse(hostMatchesDomain("example.com", "foo.example.com"));
+        assertFalse(hostMatchesDomain("foo.EXAMPLE.COM", "example.com"));
+        assertFalse(hostMatchesDomain("fooexample.com", "example.com"));
+        assertFalse(hostMatchesDomain("1.2.3.4", "2.3.4"));
+        assertFalse(hostMatchesDomain("[::1]", "1]"));
+        assertFalse(hostMatchesDomain("☃.net", "xn--n3h.net"));
+        assertTrue(hostMatchesDomain("☃.net", "☃.net"));
+        assertTrue(hostMatchesDomain("😬.☃.net", "☃.net"));
+    }
+
+    @Test
+    public void testHostMatchesDomainExactly() {
+        assertTrue(hostMatchesDomainExactly("1.2.3.4", "1.2.3.4"));
+        assertFalse(hostMatchesDomainExactly("foo.example.com", "example.com"));
+        assertFalse(hostMatchesDomainExactly("example.com", "foo.example.com"));
+        assertTrue(hostMatchesDomainExactly("☃.net", "☃.net"));
+        assertFalse(hostMatchesDomainExactly("😬.☃.net", "☃.net"));
+    }
+}
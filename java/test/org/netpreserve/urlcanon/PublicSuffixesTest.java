@@ -0,0 +1,114 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PublicSuffixesTest {
+    @Test
+    public void testDefault() {
+        // cases from the list's own test_psl.txt
+        PublicSuffixes psl = PublicSuffixes.getDefault();
+        assertNull(psl.registrableDomain(""));
+        assertNull(psl.registrableDomain("com"));
+        assertEquals("example.com", psl.registrableDomain("example.com"));
+        assertEquals("example.com", psl.registrableDomain("b.example.com"));
+        assertEquals("example.com", psl.registrableDomain("a.b.example.com"));
+        assertEquals("example.example", psl.registrableDomain("example.example"));
+        assertEquals("example.example", psl.registrableDomain("b.example.example"));
+        assertEquals("test.ac", psl.registrableDomain("test.ac"));
+        assertNull(psl.registrableDomain("jp"));
+        assertEquals("test.jp", psl.registrableDomain("www.test.jp"));
+        assertNull(psl.registrableDomain("ac.jp"));
+        assertEquals("test.ac.jp", psl.registrableDomain("www.test.ac.jp"));
+        assertNull(psl.registrableDomain("kyoto.jp"));
+        assertEquals("test.kyoto.jp", psl.registrableDomain("test.kyoto.jp"));
+        assertNull(psl.registrableDomain("ide.kyoto.jp"));
+        assertEquals("b.ide.kyoto.jp", psl.registrableDomain("a.b.ide.kyoto.jp"));
+        assertNull(psl.registrableDomain("c.kobe.jp"));
+        assertEquals("b.c.kobe.jp", psl.registrableDomain("a.b.c.kobe.jp"));
+        assertEquals("city.kobe.jp", psl.registrableDomain("city.kobe.jp"));
+        assertEquals("city.kobe.jp", psl.registrableDomain("www.city.kobe.jp"));
+        assertNull(psl.registrableDomain("ck"));
+        assertNull(psl.registrableDomain("test.ck"));
+        assertEquals("b.test.ck", psl.registrableDomain("b.test.ck"));
+        assertEquals("b.test.ck", psl.registrableDomain("a.b.test.ck"));
+        assertEquals("www.ck", psl.registrableDomain("www.ck"));
+        assertEquals("www.ck", psl.registrableDomain("www.www.ck"));
+        assertNull(psl.registrableDomain("us"));
+        assertEquals("test.us", psl.registrableDomain("www.test.us"));
+        assertNull(psl.registrableDomain("ak.us"));
+        assertEquals("test.ak.us", psl.registrableDomain("www.test.ak.us"));
+        assertNull(psl.registrableDomain("k12.ak.us"));
+        assertEquals("test.k12.ak.us", psl.registrableDomain("www.test.k12.ak.us"));
+        // 食狮.com.cn, 食狮.公司.cn, 公司.cn
+        assertEquals("xn--85x722f.com.cn", psl.registrableDomain("xn--85x722f.com.cn"));
+        assertEquals("xn--85x722f.xn--55qx5d.cn", psl.registrableDomain("www.xn--85x722f.xn--55qx5d.cn"));
+        assertNull(psl.registrableDomain("xn--55qx5d.cn"));
+
+        assertEquals("co.uk", psl.publicSuffix("www.example.co.uk"));
+        assertEquals("example.co.uk.", psl.registrableDomain("www.example.co.uk."));
+        assertEquals("co.uk.", psl.publicSuffix("www.example.co.uk."));
+        assertTrue(psl.isPublicSuffix("co.uk"));
+        assertFalse(psl.isPublicSuffix("example.co.uk"));
+        assertNull(psl.publicSuffix("1.2.3.4"));
+        assertNull(psl.registrableDomain("[::1]"));
+        assertEquals("localhost", psl.publicSuffix("localhost"));
+    }
+
+    @Test
+    public void testPrivateDomains() {
+        PublicSuffixes psl = PublicSuffixes.getDefault();
+        assertEquals("foo.blogspot.com", psl.registrableDomain("www.foo.blogspot.com"));
+        PublicSuffixes icann = psl.withoutPrivateDomains();
+        assertEquals("blogspot.com", icann.registrableDomain("www.foo.blogspot.com"));
+        assertEquals("com", icann.publicSuffix("www.foo.blogspot.com"));
+    }
+
+    @Test
+    public void testRange() {
+        PublicSuffixes psl = PublicSuffixes.getDefault();
+        String s = "http://www.example.co.uk/";
+        assertEquals(11, psl.registrableDomainStart(s, 7, 24));
+        assertEquals(19, psl.publicSuffixStart(s, 7, 24));
+    }
+
+    @Test
+    public void testParse() throws IOException {
+        PublicSuffixes psl = PublicSuffixes.parse(new StringReader("// comment\n"
+                + "uk\n"
+                + "co.uk\n"
+                + "*.sch.uk\n"
+                + "!special.sch.uk\n"
+                + "bücher.example extra text ignored\n"
+                + "// ===BEGIN PRIVATE DOMAINS===\n"
+                + "hosting.co.uk\n"));
+        assertEquals("example.co.uk", psl.registrableDomain("www.example.co.uk"));
+        assertEquals("a.b.sch.uk", psl.registrableDomain("www.a.b.sch.uk"));
+        assertEquals("special.sch.uk", psl.registrableDomain("www.special.sch.uk"));
+        assertEquals("x.xn--bcher-kva.example", psl.registrableDomain("www.x.xn--bcher-kva.example"));
+        assertEquals("x.hosting.co.uk", psl.registrableDomain("www.x.hosting.co.uk"));
+        assertEquals("hosting.co.uk", psl.withoutPrivateDomains().registrableDomain("www.x.hosting.co.uk"));
+    }
+
+    @Test
+    public void testIcannAndPrivateRulesOnOneNode() throws IOException {
+        PublicSuffixes psl = PublicSuffixes.parse(new StringReader("uk\n"
+                + "co.uk\n"
+                + "example\n"
+                + "platform.example\n"
+                + "// ===BEGIN PRIVATE DOMAINS===\n"
+                + "co.uk\n"
+                + "*.platform.example\n"));
+        assertEquals("a.b.platform.example", psl.registrableDomain("www.a.b.platform.example"));
+        PublicSuffixes icann = psl.withoutPrivateDomains();
+        assertEquals("example.co.uk", icann.registrableDomain("www.example.co.uk"));
+        assertEquals("b.platform.example", icann.registrableDomain("www.a.b.platform.example"));
+    }
+}
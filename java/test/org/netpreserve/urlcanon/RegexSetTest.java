@@ -0,0 +1,121 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RegexSetTest {
+    @Test
+    public void testMatches() {
+        RegexSet set = new RegexSet(Arrays.asList(
+                "^.*lang=(?!en).*$",
+                "https?://(www\\.)?example\\.com/.*",
+                ".*\\.(jpe?g|png|gif)",
+                "^https?://[^/]+/calendar/\\d{4}/\\d{2}/?$",
+                ".*(a)\\1.*",
+                "[a-z]+://[\\w.-]+/"));
+        assertTrue(set.isCompiled(1));
+        assertTrue(set.isCompiled(2));
+        assertTrue(set.isCompiled(3));
+        assertTrue(set.isCompiled(5));
+        assertFalse(set.isCompiled(0));
+        assertFalse(set.isCompiled(4));
+
+        assertArrayEquals(new int[]{1}, set.matches("http://example.com/foo"));
+        assertArrayEquals(new int[]{0, 1}, set.matches("https://www.example.com/?lang=ess"));
+        assertArrayEquals(new int[]{2}, set.matches("http://foo.org/cat.jpeg"));
+        assertArrayEquals(new int[]{3}, set.matches("http://foo.org/calendar/2017/01/"));
+        assertArrayEquals(new int[]{5}, set.matches("ftp://ftp.gnu.org/"));
+        assertArrayEquals(new int[]{4, 5}, set.matches("http://aa.org/"));
+        assertArrayEquals(new int[]{}, set.matches("http://example.org/calendar/17/01/"));
+        assertArrayEquals(new int[]{}, set.matches(""));
+    }
+
+    @Test
+    public void testSurrogates() {
+        RegexSet set = new RegexSet(Arrays.asList("a.b", "a..b", "a[^x]b"));
+        assertArrayEquals(new int[]{0, 2}, set.matches("a😀b"));
+        assertArrayEquals(new int[]{1}, set.matches("aXYb"));
+    }
+
+    @Test
+    public void testAnchors() {
+        RegexSet set = new RegexSet(Arrays.asList("^a$", "a$\n", "a^b", "(?:a|^b)c", "a$|b"));
+        assertFalse(set.isCompiled(1));
+        assertArrayEquals(new int[]{0, 4}, set.matches("a"));
+        assertArrayEquals(new int[]{1}, set.matches("a\n"));
+        assertArrayEquals(new int[]{3}, set.matches("bc"));
+        assertArrayEquals(new int[]{3}, set.matches("ac"));
+        assertArrayEquals(new int[]{}, set.matches("ab"));
+    }
+
+    @Test
+    public void testSameAsPattern() {
+        Random random = new Random(0);
+        String alphabet = "abx./1 \n?-$";
+        for (int round = 0; round < 20; round++) {
+            List<String> regexes = new ArrayList<>();
+            while (regexes.size() < 50) {
+                String regex = randomRegex(random, 0);
+                try {
+                    Pattern.compile(regex);
+                } catch (PatternSyntaxException e) {
+                    continue;
+                }
+                regexes.add(regex);
+            }
+            RegexSet set = new RegexSet(regexes);
+            for (int i = 0; i < 200; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(7);
+                for (int j = 0; j < length; j++) {
+                    input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                IntList expected = new IntList();
+                for (int id = 0; id < regexes.size(); id++) {
+                    if (Pattern.matches(regexes.get(id), input)) {
+                        expected.add(id);
+                    }
+                }
+                assertArrayEquals(input.toString(), expected.toArray(), set.matches(input));
+            }
+        }
+    }
+
+    private static final String[] ATOMS = {"a", "b", "x", ".", "\\d", "\\w", "\\s", "\\W", "[ab]", "[^a]", "[a-c]",
+            "[-a]", "[a-]", "\\.", "/", "\\n", "[\\d.]", "^", "$", "\\?", "[$^]"};
+    private static final String[] QUANTIFIERS = {"*", "+", "?", "{2}", "{1,3}", "{0,}", "*?", "+?"};
+
+    private static String randomRegex(Random random, int depth) {
+        switch (random.nextInt(depth > 2 ? 2 : 7)) {
+            case 0:
+            case 1:
+                return ATOMS[random.nextInt(ATOMS.length)] + randomQuantifier(random);
+            case 2:
+                return randomRegex(random, depth + 1) + randomRegex(random, depth + 1);
+            case 3:
+                return "(" + randomRegex(random, depth + 1) + ")" + randomQuantifier(random);
+            case 4:
+                return "(?:" + randomRegex(random, depth + 1) + "|" + randomRegex(random, depth + 1) + ")"
+                        + randomQuantifier(random);
+            case 5:
+                return randomRegex(random, depth + 1) + "|" + randomRegex(random, depth + 1);
+            default:
+                return randomRegex(random, depth + 1) + randomRegex(random, depth + 1) + randomRegex(random, depth + 1);
+        }
+    }
+
+    private static String randomQuantifier(Random random) {
+        int i = random.nextInt(QUANTIFIERS.length * 2);
+        return i < QUANTIFIERS.length ? QUANTIFIERS[i] : "";
+    }
+}
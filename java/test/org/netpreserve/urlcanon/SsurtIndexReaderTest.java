@@ -0,0 +1,161 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class SsurtIndexReaderTest {
+    @Test
+    public void testLookup() throws IOException {
+        Path file = write("com,example,//http:/ 1\n",
+                "com,example,//http:/ 2\r\n",
+                "com,example,//http:/a 3\n",
+                "com,example,www,//http:/ 4\n",
+                "com,examples,//http:/ 5\n",
+                "org,example,//https:/ 6");
+        try {
+            SsurtIndexReader index = SsurtIndexReader.open(file, Canonicalizer.WHATWG);
+            assertEquals(Arrays.asList("com,example,//http:/ 1", "com,example,//http:/ 2"),
+                    strings(index.lookup("HTTP://EXAMPLE.COM")));
+            assertEquals(Arrays.asList("com,example,//http:/a 3"), strings(index.lookup("http://example.com/a")));
+            assertEquals(Arrays.asList("org,example,//https:/ 6"), strings(index.lookup("https://example.org/")));
+            assertFalse(index.lookup("http://example.net/").hasNext());
+            assertEquals(4, strings(index.lookup("http://example.com/", SsurtRange.Scope.DOMAIN)).size());
+            assertEquals(5, strings(index.prefix("com,")).size());
+            assertEquals(6, strings(index.range(new byte[0], null)).size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testNonAsciiLookup() throws IOException {
+        Path file = write("com,example,//http:/d 1\n",
+                "com,example,//http:/\u00e9 2\n",
+                "com,example,//http:/\u00e9a 3\n",
+                "com,example,//http:/\u20ac 4\n");
+        try {
+            SsurtIndexReader index = SsurtIndexReader.open(file, null);
+            assertEquals(Arrays.asList("com,example,//http:/\u00e9 2"),
+                    strings(index.lookup("http://example.com/\u00e9")));
+            assertEquals(Arrays.asList("com,example,//http:/\u00e9 2", "com,example,//http:/\u00e9a 3"),
+                    strings(index.lookup("http://example.com/\u00e9", SsurtRange.Scope.PATH_PREFIX)));
+            assertEquals(Arrays.asList("com,example,//http:/\u20ac 4"),
+                    strings(index.lookup("http://example.com/\u20ac")));
+            assertEquals(Arrays.asList("com,example,//http:/\u00e9a 3"),
+                    strings(index.prefix("com,example,//http:/\u00e9a")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testSegments() throws IOException {
+        String[] hosts = {"example.com", "www.example.com", "example.org", "a.example.org", "1.2.3.4", "example.net"};
+        String[] paths = {"/", "/a", "/a/b", "/b", "/c?d"};
+        Random random = new Random(0);
+        List<String> lines = new ArrayList<>();
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String url = (random.nextBoolean() ? "http" : "https") + "://" + hosts[random.nextInt(hosts.length)]
+                    + (random.nextInt(4) == 0 ? ":8080" : "") + paths[random.nextInt(paths.length)];
+            urls.add(url);
+            lines.add(ssurt(url) + " " + i + "\n");
+        }
+        lines.sort((a, b) -> SsurtKey.compare(a.getBytes(UTF_8), 0, a.indexOf(' '), b.getBytes(UTF_8), 0,
+                b.indexOf(' ')));
+        Path file = write(lines.toArray(new String[0]));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int segmentSize : new int[]{40, 100, 1000, 1 << 20}) {
+                SsurtIndexReader index = new SsurtIndexReader(channel, Canonicalizer.WHATWG, segmentSize);
+                for (String url : urls) {
+                    String ssurt = ssurt(url);
+                    assertEquals(url, filter(lines, key -> key.equals(ssurt)), strings(index.lookup(url)));
+                    for (SsurtRange.Scope scope : SsurtRange.Scope.values()) {
+                        SsurtRange range = SsurtRange.of(canonical(url), scope);
+                        assertEquals(url + " " + scope, filter(lines, range::contains),
+                                strings(index.lookup(url, scope)));
+                    }
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testLongLine() throws IOException {
+        Path file = write("com,example,//http:/ 1\n", "com,example,//http:/aaaaaaaaaaaaaaaaaaaaaaaaaaaa 2\n", "x\n");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            new SsurtIndexReader(channel, null, 30);
+            fail();
+        } catch (IOException e) {
+            // expected
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        Path file = write();
+        try {
+            assertFalse(SsurtIndexReader.open(file, null).lookup("http://example.com/").hasNext());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<String> filter(List<String> lines, Predicate<String> keyMatches) {
+        List<String> out = new ArrayList<>();
+        for (String line : lines) {
+            if (keyMatches.test(line.substring(0, line.indexOf(' ')))) {
+                out.add(line.substring(0, line.length() - 1));
+            }
+        }
+        return out;
+    }
+
+    private static List<String> strings(Iterator<ByteBuffer> it) {
+        List<String> out = new ArrayList<>();
+        while (it.hasNext()) {
+            ByteBuffer line = it.next();
+            byte[] bytes = new byte[line.remaining()];
+            line.get(bytes);
+            out.add(new String(bytes, UTF_8));
+        }
+        return out;
+    }
+
+    private static ParsedUrl canonical(String url) {
+        ParsedUrl parsed = ParsedUrl.parseUrl(url);
+        Canonicalizer.WHATWG.canonicalize(parsed);
+        return parsed;
+    }
+
+    private static String ssurt(String url) {
+        return canonical(url).ssurt();
+    }
+
+    private static Path write(String... lines) throws IOException {
+        Path file = Files.createTempFile("ssurt-index", ".cdx");
+        Files.write(file, String.join("", lines).getBytes(UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,121 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SsurtRangeTest {
+    @Test
+    public void testPrefix() {
+        SsurtRange range = SsurtRange.prefix("au,gov,nla,//8000:");
+        assertArrayEquals("au,gov,nla,//8000:".getBytes(UTF_8), range.start());
+        assertArrayEquals("au,gov,nla,//8000;".getBytes(UTF_8), range.end());
+        assertTrue(range.contains("au,gov,nla,//8000:http:/"));
+        assertFalse(range.contains("au,gov,nla,//80:http:/"));
+
+        assertNull(SsurtRange.prefix(new byte[]{(byte) 0xff, (byte) 0xff}).end());
+        assertArrayEquals(new byte[]{2}, SsurtRange.prefix(new byte[]{1, (byte) 0xff}).end());
+        assertNull(SsurtRange.prefix("").end());
+        assertTrue(SsurtRange.prefix("").contains("anything"));
+    }
+
+    @Test
+    public void testDomain() {
+        SsurtRange range = SsurtRange.domain("example.com");
+        assertEquals("[com,example,, com,example-)", range.toString());
+        assertTrue(range.contains("com,example,//http:/"));
+        assertTrue(range.contains("com,example,www,//8080:https:/a"));
+        assertFalse(range.contains("com,examples,//http:/"));
+        assertFalse(range.contains("com,example//http:/"));
+
+        SsurtRange ip = SsurtRange.domain("1.2.3.4");
+        assertTrue(ip.contains("1.2.3.4//http:/"));
+        assertFalse(ip.contains("1.2.3.45//http:/"));
+    }
+
+    @Test
+    public void testScopes() {
+        ParsedUrl url = url("http://www.example.com/a/b?c");
+        assertEquals(SsurtRange.prefix("com,example,"), SsurtRange.of(url, SsurtRange.Scope.REGISTRABLE_DOMAIN));
+        assertEquals(SsurtRange.prefix("com,example,www,"), SsurtRange.of(url, SsurtRange.Scope.DOMAIN));
+        assertEquals(SsurtRange.prefix("com,example,www,//"), SsurtRange.of(url, SsurtRange.Scope.HOST));
+        assertEquals(SsurtRange.prefix("com,example,www,//http:/a/b"),
+                SsurtRange.of(url, SsurtRange.Scope.PATH_PREFIX));
+
+        SsurtRange noPort = SsurtRange.of(url, SsurtRange.Scope.HOST_PORT);
+        assertTrue(noPort.contains("com,example,www,//http:/"));
+        assertTrue(noPort.contains("com,example,www,//https:/"));
+        assertFalse(noPort.contains("com,example,www,//8080:http:/"));
+
+        SsurtRange scheme = SsurtRange.of(url, SsurtRange.Scope.HOST_PORT_SCHEME);
+        assertTrue(scheme.contains("com,example,www,//http:/"));
+        assertTrue(scheme.contains("com,example,www,//http@user:/"));
+        assertFalse(scheme.contains("com,example,www,//https:/"));
+
+        SsurtRange port = SsurtRange.of(url("http://example.com:8080/"), SsurtRange.Scope.HOST_PORT);
+        assertTrue(port.contains("com,example,//8080:http:/"));
+        assertFalse(port.contains("com,example,//80800:http:/"));
+        assertFalse(port.contains("com,example,//http:/"));
+
+        assertEquals(SsurtRange.prefix("uk,co,example,"),
+                SsurtRange.of(url("http://a.b.example.co.uk/"), SsurtRange.Scope.REGISTRABLE_DOMAIN));
+
+        SsurtRange mailto = SsurtRange.of(url("mailto:someone@example.com"), SsurtRange.Scope.HOST);
+        assertTrue(mailto.contains("mailto:other@example.org"));
+        assertFalse(mailto.contains("com,example,//http:/"));
+    }
+
+    @Test
+    public void testRandom() {
+        String[] hosts = {"example.com", "www.example.com", "a.www.example.com", "examples.com", "example.org",
+                "1.2.3.4", "1.2.3.45", "example.com-x.net", "[::1]"};
+        String[] ports = {"", ":8080", ":80800", ":1"};
+        String[] schemes = {"http", "https", "ftp", "http+x"};
+        String[] userinfos = {"", "user@", "user:pw@"};
+        String[] paths = {"/", "/a", "/a/", "/a/b", "/ab", "/b"};
+        Random random = new Random(0);
+        List<ParsedUrl> urls = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            urls.add(url(schemes[random.nextInt(schemes.length)] + "://" + userinfos[random.nextInt(userinfos.length)]
+                    + hosts[random.nextInt(hosts.length)] + ports[random.nextInt(ports.length)]
+                    + paths[random.nextInt(paths.length)] + (random.nextBoolean() ? "?q" : "")));
+        }
+        check(urls, SsurtRange.Scope.DOMAIN, (a, b) -> b.getHost().equals(a.getHost())
+                || (!MatchRule.isIpAddress(a.getHost()) && b.getHost().endsWith("." + a.getHost())));
+        check(urls, SsurtRange.Scope.HOST, (a, b) -> b.getHost().equals(a.getHost()));
+        check(urls, SsurtRange.Scope.HOST_PORT, (a, b) -> b.getHost().equals(a.getHost())
+                && b.getPort().equals(a.getPort()));
+        check(urls, SsurtRange.Scope.HOST_PORT_SCHEME, (a, b) -> b.getHost().equals(a.getHost())
+                && b.getPort().equals(a.getPort()) && b.getScheme().equals(a.getScheme()));
+        check(urls, SsurtRange.Scope.PATH_PREFIX, (a, b) -> b.getHost().equals(a.getHost())
+                && b.getPort().equals(a.getPort()) && b.getScheme().equals(a.getScheme())
+                && b.getUsername().equals(a.getUsername()) && b.getPassword().equals(a.getPassword())
+                && b.getPath().startsWith(a.getPath()));
+    }
+
+    private static void check(List<ParsedUrl> urls, SsurtRange.Scope scope, BiPredicate<ParsedUrl, ParsedUrl> inScope) {
+        for (ParsedUrl a : urls) {
+            SsurtRange range = SsurtRange.of(a, scope);
+            for (ParsedUrl b : urls) {
+                assertEquals(scope + " " + a + " " + b, inScope.test(a, b), range.contains(b.ssurt()));
+                assertEquals(scope + " " + a + " " + b, inScope.test(a, b), range.contains(SsurtKey.encode(b)));
+            }
+        }
+    }
+
+    private static ParsedUrl url(String s) {
+        ParsedUrl url = ParsedUrl.parseUrl(s);
+        Canonicalizer.WHATWG.canonicalize(url);
+        return url;
+    }
+}
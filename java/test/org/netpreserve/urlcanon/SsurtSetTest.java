@@ -0,0 +1,189 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SsurtSetTest {
+    @Test
+    public void testSmall() {
+        SsurtSet set = SsurtSet.builder()
+                .add("com,example,//http:/")
+                .add("com,example,//http:/")
+                .add("com,example,//http:/a/index.html")
+                .add("com,example,//http:/b/index.html")
+                .add("com,example,www,//http:/")
+                .add("org,example,//https:/")
+                .build();
+        assertEquals(5, set.size());
+        assertTrue(set.contains("com,example,//http:/"));
+        assertTrue(set.contains("com,example,//http:/b/index.html"));
+        assertFalse(set.contains("com,example,//http:/b/"));
+        assertFalse(set.contains("com,example,//http:"));
+        assertFalse(set.contains("net,example,//http:/"));
+        assertTrue(set.containsPrefix("com,example,"));
+        assertTrue(set.containsPrefix("com,example,//http:/b"));
+        assertTrue(set.containsPrefix(""));
+        assertFalse(set.containsPrefix("com,examples,"));
+
+        assertEquals(list("com,example,//http:/", "com,example,//http:/a/index.html",
+                "com,example,//http:/b/index.html"), strings(set.prefixIterator("com,example,//")));
+        assertEquals(list("com,example,www,//http:/", "org,example,//https:/"),
+                strings(set.tailIterator("com,example,//http:/c")));
+        assertEquals(list("org,example,//https:/"), strings(set.tailIterator("org,example,//https:/")));
+        assertEquals(list(), strings(set.tailIterator("org,example,//https:/a")));
+        assertEquals(5, strings(set.iterator()).size());
+    }
+
+    @Test
+    public void testEmpty() {
+        SsurtSet set = SsurtSet.builder().build();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(""));
+        assertFalse(set.containsPrefix(""));
+        assertFalse(set.iterator().hasNext());
+        assertFalse(set.tailIterator("").hasNext());
+
+        SsurtSet emptyKey = SsurtSet.builder().add("").build();
+        assertTrue(emptyKey.contains(""));
+        assertEquals(list(""), strings(emptyKey.iterator()));
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        SsurtSet.Builder builder = SsurtSet.builder().add("com,example,//http:/b");
+        try {
+            builder.add("com,example,//http:/a");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testParsedUrl() {
+        List<String> urls = list("http://example.com/", "https://www.example.com/a?b", "http://1.2.3.4:8080/",
+                "http://[::1]/x", "http://example.com/%C3%A9", "ftp://user@example.org/");
+        TreeSet<String> ssurts = new TreeSet<>();
+        for (String url : urls) {
+            ParsedUrl parsed = ParsedUrl.parseUrl(url);
+            Canonicalizer.WHATWG.canonicalize(parsed);
+            ssurts.add(parsed.ssurt().toString());
+        }
+        SsurtSet.Builder builder = SsurtSet.builder();
+        for (String ssurt : ssurts) {
+            builder.add(ssurt);
+        }
+        SsurtSet set = builder.build();
+
+        for (String url : urls) {
+            ParsedUrl parsed = ParsedUrl.parseUrl(url);
+            Canonicalizer.WHATWG.canonicalize(parsed);
+            assertTrue(url, set.contains(parsed));
+            ParsedUrl bytes = ParsedUrl.parseUrl(url.getBytes(UTF_8));
+            Canonicalizer.WHATWG.canonicalize(bytes);
+            assertTrue(url, set.contains(bytes));
+        }
+        assertFalse(set.contains(ParsedUrl.parseUrl("http://example.com/a")));
+        assertFalse(set.contains(ParsedUrl.parseUrl("http://example.com")));
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(0);
+        for (int round = 0; round < 50; round++) {
+            TreeSet<String> keys = new TreeSet<>();
+            int n = random.nextInt(500);
+            for (int i = 0; i < n; i++) {
+                keys.add(randomSsurt(random));
+            }
+            SsurtSet.Builder builder = SsurtSet.builder();
+            for (String key : keys) {
+                builder.add(key);
+            }
+            SsurtSet set = builder.build();
+
+            assertEquals(keys.size(), set.size());
+            assertEquals(new ArrayList<>(keys), strings(set.iterator()));
+            for (String key : keys) {
+                assertTrue(set.contains(key));
+            }
+            for (int j = 0; j < 100; j++) {
+                String probe = randomSsurt(random);
+                assertEquals(keys.contains(probe), set.contains(probe));
+                assertEquals(new ArrayList<>(keys.tailSet(probe)), strings(set.tailIterator(probe)));
+
+                String prefix = probe.substring(0, random.nextInt(probe.length() + 1));
+                List<String> expected = new ArrayList<>();
+                for (String key : keys.tailSet(prefix)) {
+                    if (!key.startsWith(prefix)) {
+                        break;
+                    }
+                    expected.add(key);
+                }
+                assertEquals(expected, strings(set.prefixIterator(prefix)));
+                assertEquals(!expected.isEmpty(), set.containsPrefix(prefix));
+            }
+        }
+    }
+
+    @Test
+    public void testCompact() {
+        SsurtSet.Builder builder = SsurtSet.builder();
+        long chars = 0;
+        for (int host = 0; host < 100; host++) {
+            for (int page = 0; page < 100; page++) {
+                String key = String.format("com,example%02d,//http:/page/%02d/index.html", host, page);
+                builder.add(key);
+                chars += key.length();
+            }
+        }
+        SsurtSet set = builder.build();
+        assertEquals(10000, set.size());
+        assertTrue(set.sizeInBytes() * 20 < chars);
+        assertTrue(set.contains("com,example42,//http:/page/17/index.html"));
+        assertFalse(set.contains("com,example42,//http:/page/17/index.htm"));
+    }
+
+    private static String randomSsurt(Random random) {
+        String[] hosts = {"com,example,", "com,example,www,", "org,example,", "1.2.3.4", "net,éx,"};
+        String[] schemes = {"http", "https", "ftp"};
+        StringBuilder sb = new StringBuilder();
+        sb.append(hosts[random.nextInt(hosts.length)]).append("//").append(schemes[random.nextInt(schemes.length)])
+                .append(":/");
+        int segments = random.nextInt(4);
+        for (int i = 0; i < segments; i++) {
+            sb.append((char) ('a' + random.nextInt(3))).append('/');
+        }
+        if (random.nextInt(4) == 0) {
+            sb.append("index.html");
+        }
+        return sb.toString();
+    }
+
+    private static List<String> list(String... strings) {
+        List<String> list = new ArrayList<>();
+        for (String s : strings) {
+            list.add(s);
+        }
+        return list;
+    }
+
+    private static List<String> strings(Iterator<byte[]> it) {
+        List<String> list = new ArrayList<>();
+        while (it.hasNext()) {
+            list.add(new String(it.next(), UTF_8));
+        }
+        return list;
+    }
+}
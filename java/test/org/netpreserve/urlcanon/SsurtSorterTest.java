@@ -0,0 +1,92 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SsurtSorterTest {
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testSmall() throws IOException {
+        String input = "http://www.example.com/b\r\nhttp://example.com/\n\nHTTP://EXAMPLE.COM/\nhttp://1.2.3.4/\n"
+                + "http://example.org/";
+        SsurtSorter sorter = SsurtSorter.builder()
+                .canonicalizer(Canonicalizer.WHATWG)
+                .tempDirectory(temp.getRoot().toPath())
+                .deduplicate(true)
+                .build();
+        assertEquals("http://1.2.3.4/\nhttp://example.com/\nhttp://www.example.com/b\nhttp://example.org/\n",
+                sort(sorter, input));
+        assertEquals(0, temp.getRoot().list().length);
+
+        SsurtSorter ssurts = SsurtSorter.builder().tempDirectory(temp.getRoot().toPath()).writeSsurt(true).build();
+        assertEquals("1.2.3.4//http:/\ncom,example,//http:/\ncom,example,//http:/\n",
+                sort(ssurts, "http://example.com/\nhttp://1.2.3.4/\nhttp://example.com/\n"));
+    }
+
+    @Test
+    public void testManyRuns() throws IOException {
+        Random random = new Random(0);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            urls.add("http://" + (char) ('a' + random.nextInt(26)) + ".example" + random.nextInt(50) + ".com/"
+                    + random.nextInt(100) + (random.nextInt(10) == 0 ? "/é" : ""));
+        }
+        String input = String.join("\n", urls) + "\n";
+        File root = temp.getRoot();
+
+        // tiny budget, so a run per few lines and more runs than one merge pass takes
+        SsurtSorter sorter = SsurtSorter.builder().memoryBudget(4000).threads(3).tempDirectory(root.toPath()).build();
+        String[] sorted = sort(sorter, input).split("\n");
+        assertEquals(0, root.list().length);
+        assertEquals(urls.size(), sorted.length);
+
+        List<String> expected = new ArrayList<>(urls);
+        expected.sort((a, b) -> SsurtKey.compare(ssurtBytes(a), ssurtBytes(b)));
+        assertArrayEquals(expected.toArray(), sorted);
+
+        SsurtSorter unique = SsurtSorter.builder().memoryBudget(4000).deduplicate(true)
+                .tempDirectory(root.toPath()).build();
+        String[] deduplicated = sort(unique, input).split("\n");
+        assertEquals(new TreeSet<>(urls).size(), deduplicated.length);
+        assertEquals(new TreeSet<>(urls), new TreeSet<>(Arrays.asList(deduplicated)));
+    }
+
+    @Test
+    public void testCanonicalizerFailure() throws IOException {
+        SsurtSorter sorter = SsurtSorter.builder()
+                .canonicalizer(Canonicalizer.SEMANTIC)
+                .tempDirectory(temp.getRoot().toPath())
+                .build();
+        // SEMANTIC throws on "......", which is passed through as it is
+        assertEquals("......\nhttp://example.com/\n", sort(sorter, "HTTP://EXAMPLE.COM\n......\n"));
+        assertEquals(0, temp.getRoot().list().length);
+    }
+
+    private static byte[] ssurtBytes(String url) {
+        return ParsedUrl.parseUrl(url.getBytes(UTF_8)).ssurt().getBytes(ISO_8859_1);
+    }
+
+    private static String sort(SsurtSorter sorter, String input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sorter.sort(new ByteArrayInputStream(input.getBytes(UTF_8)), out);
+        return new String(out.toByteArray(), UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package org.netpreserve.urlcanon;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+public class StepCanonicalizerTest {
+
+    @Test
+    public void testBuiltInSteps() throws IOException {
+        String[] inputs;
+        try (InputStream stream = getClass().getResourceAsStream("/idempotence.json");
+             InputStreamReader reader = new InputStreamReader(stream, UTF_8)) {
+            inputs = new Gson().fromJson(reader, String[].class);
+        }
+        assertSameResults(Canonicalizer.WHATWG, Step.WHATWG_STEPS, inputs);
+        assertSameResults(Canonicalizer.SEMANTIC_PRECISE, Step.SEMANTIC_PRECISE_STEPS, inputs);
+        assertSameResults(Canonicalizer.SEMANTIC, Step.SEMANTIC_STEPS, inputs);
+        assertSameResults(Canonicalizer.AGGRESSIVE, Step.AGGRESSIVE_STEPS, inputs);
+    }
+
+    private static void assertSameResults(Canonicalizer expected, List<Step> steps, String[] inputs) {
+        Canonicalizer actual = StepCanonicalizer.builder().steps(steps).build();
+        for (String input : inputs) {
+            ParsedUrl expectedUrl = ParsedUrl.parseUrl(input);
+            expected.canonicalize(expectedUrl);
+            ParsedUrl actualUrl = ParsedUrl.parseUrl(input);
+            actual.canonicalize(actualUrl);
+            assertEquals(input, expectedUrl.toString(), actualUrl.toString());
+        }
+    }
+
+    @Test
+    public void testInstrumented() {
+        StepCanonicalizer canonicalizer = StepCanonicalizer.builder()
+                .step(Step.LOWERCASE_SCHEME)
+                .step(Step.ELIDE_DEFAULT_PORT)
+                .step(Step.NORMALIZE_PATH_DOTS)
+                .step("uppercaseFragment", url -> url.setFragment(url.getFragment().toUpperCase()))
+                .instrumented()
+                .build();
+        assertEquals("[LOWERCASE_SCHEME, ELIDE_DEFAULT_PORT, NORMALIZE_PATH_DOTS, uppercaseFragment]",
+                canonicalizer.stepNames().toString());
+
+        ParsedUrl url = ParsedUrl.parseUrl("HTTP://example.com:80/a/./b#x");
+        canonicalizer.canonicalize(url);
+        assertEquals("http://example.com/a/b#X", url.toString());
+        canonicalizer.canonicalize(ParsedUrl.parseUrl("http://example.com/a/b"));
+
+        List<StepCanonicalizer.StepStats> stats = canonicalizer.stats();
+        assertEquals(2, stats.get(0).getUrls());
+        assertEquals(1, stats.get(0).getModified());
+        assertEquals(1, stats.get(1).getModified());
+        assertEquals(1, stats.get(2).getModified());
+        assertEquals("uppercaseFragment", stats.get(3).getName());
+        assertEquals(1, stats.get(3).getModified());
+
+        canonicalizer.resetStats();
+        assertEquals(0, canonicalizer.stats().get(0).getUrls());
+    }
+}
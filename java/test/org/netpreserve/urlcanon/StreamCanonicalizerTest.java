@@ -0,0 +1,137 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class StreamCanonicalizerTest {
+    @Test
+    public void testOutputs() throws IOException {
+        String input = "HTTP://EXAMPLE.COM\r\n\nhttp://www.example.com:8080/a/../b?c#d\n";
+        assertEquals("http://example.com/\n\nhttp://www.example.com:8080/b?c#d\n",
+                run(StreamCanonicalizer.builder().build(), input));
+        assertEquals("com,example,//http:/\n\ncom,example,www,//8080:http:/b?c#d\n",
+                run(StreamCanonicalizer.builder().output(StreamCanonicalizer.Output.SSURT).build(), input));
+        assertEquals("http://example.com/\tcom,example,//http:/\n",
+                run(StreamCanonicalizer.builder().output(StreamCanonicalizer.Output.BOTH).build(),
+                        "http://example.com"));
+        assertEquals("HTTP://EXAMPLE.COM\n",
+                run(StreamCanonicalizer.builder().canonicalizer(null).build(), "HTTP://EXAMPLE.COM"));
+    }
+
+    @Test
+    public void testColumn() throws IOException {
+        String input = " CDX N b a m s k r M S V g\n"
+                + "example,com)/ 20200101000000 HTTP://Example.com/ text/html 200\n"
+                + "short\n";
+        StreamCanonicalizer canonicalizer = StreamCanonicalizer.builder()
+                .column(3)
+                .delimiter((byte) ' ')
+                .output(StreamCanonicalizer.Output.BOTH)
+                .build();
+        assertEquals(" CDX N b a m s k r M S V g\n"
+                        + "example,com)/ 20200101000000 http://example.com/ com,example,//http:/ text/html 200\n"
+                        + "short\n",
+                run(canonicalizer, input));
+        assertEquals("a\tcom,example,//http:/\n",
+                run(StreamCanonicalizer.builder().column(2).output(StreamCanonicalizer.Output.SSURT).build(),
+                        "a\thttp://example.com"));
+    }
+
+    @Test
+    public void testCanonicalizerFailure() throws IOException {
+        StreamCanonicalizer canonicalizer = StreamCanonicalizer.builder()
+                .canonicalizer(Canonicalizer.SEMANTIC)
+                .output(StreamCanonicalizer.Output.SSURT)
+                .build();
+        assertEquals("com,example,//http:/\n......\ncom,example,//http:/a\n",
+                run(canonicalizer, "http://example.com/\n......\nhttp://example.com/a\n"));
+        canonicalizer = StreamCanonicalizer.builder()
+                .canonicalizer(Canonicalizer.SEMANTIC)
+                .column(2)
+                .build();
+        assertEquals("1\t......\tx\n2\thttp://example.com/\n",
+                run(canonicalizer, "1\t......\tx\n2\tHTTP://EXAMPLE.COM\n"));
+    }
+
+    @Test
+    public void testFiles() throws IOException {
+        Path first = Files.createTempFile("stream-canonicalizer", ".txt");
+        Path second = Files.createTempFile("stream-canonicalizer", ".txt");
+        try {
+            Files.write(first, "http://a.com/x\nHTTP://B.COM".getBytes(UTF_8));
+            Files.write(second, "http://c.com/\n".getBytes(UTF_8));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(3, StreamCanonicalizer.builder().build()
+                    .canonicalize(Arrays.asList(first.toString(), second.toString()), out));
+            assertEquals("http://a.com/x\nhttp://b.com/\nhttp://c.com/\n", new String(out.toByteArray(), UTF_8));
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+        }
+    }
+
+    @Test
+    public void testOrder() throws IOException {
+        Random random = new Random(0);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            String url = "HTTP://" + (char) ('a' + random.nextInt(26)) + ".Example" + i + ".com/" + random.nextInt(100)
+                    + (random.nextInt(10) == 0 ? "/é" : "");
+            input.append(url).append('\n');
+            ParsedUrl parsed = ParsedUrl.parseUrl(url.getBytes(UTF_8));
+            Canonicalizer.WHATWG.canonicalize(parsed);
+            expected.append(parsed.ssurt()).append('\n');
+        }
+        StreamCanonicalizer canonicalizer = StreamCanonicalizer.builder()
+                .output(StreamCanonicalizer.Output.SSURT)
+                .threads(4)
+                .batchSize(7)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(5000, canonicalizer.canonicalize(new ByteArrayInputStream(input.toString().getBytes(UTF_8)), out));
+        assertEquals(expected.toString(), new String(out.toByteArray(), ISO_8859_1));
+    }
+
+    @Test
+    public void testWriteFailure() {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            lines.add("http://example.com/" + i);
+        }
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("broken");
+            }
+        };
+        try {
+            StreamCanonicalizer.builder().threads(2).batchSize(10).build()
+                    .canonicalize(new ByteArrayInputStream(String.join("\n", lines).getBytes(UTF_8)), broken);
+            fail();
+        } catch (IOException e) {
+            assertEquals("broken", e.getMessage());
+        }
+    }
+
+    private static String run(StreamCanonicalizer canonicalizer, String input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        canonicalizer.canonicalize(new ByteArrayInputStream(input.getBytes(UTF_8)), out);
+        return new String(out.toByteArray(), UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class SubstringSetTest {
+    @Test
+    public void testMatches() {
+        SubstringSet set = new SubstringSet(Arrays.asList("he", "she", "his", "hers", "she", "", "é/"));
+        assertEquals(bits(0, 1, 3, 4, 5), set.matches("ushers"));
+        assertEquals(bits(2, 5), set.matches("this"));
+        assertEquals(bits(5), set.matches(""));
+        assertEquals(bits(5, 6), set.matches("http://café/"));
+    }
+
+    @Test
+    public void testSameAsContains() {
+        Random random = new Random(0);
+        String alphabet = "ab/.é";
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            strings.add(randomString(random, alphabet, 1 + random.nextInt(5)));
+        }
+        SubstringSet set = new SubstringSet(strings);
+        for (int i = 0; i < 2000; i++) {
+            String input = randomString(random, alphabet, random.nextInt(30));
+            BitSet expected = new BitSet();
+            for (int id = 0; id < strings.size(); id++) {
+                if (input.contains(strings.get(id))) {
+                    expected.set(id);
+                }
+            }
+            assertEquals(input, expected, set.matches(input));
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j < length; j++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,62 @@
+package org.netpreserve.urlcanon;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class UrlFingerprintTest {
+    /**
+     * URL, its SSURT, then MurmurHash3_x64_128 with seed 0 of the UTF-8 bytes
+     * of each, as Guava's murmur3_128(0) gives them: one 16-byte block, a
+     * tail, multibyte and four-byte chars, and several blocks.
+     */
+    private static final Object[][] VECTORS = {
+            {"http://a.com/xyz", "com,a,//http:/xyz",
+                    0x25058124065e50d8L, 0xb0d266f1ab05d387L, 0x518bb3b39dd16ebcL, 0x1cc3c69275801dc4L},
+            {"http://b\u00fccher.example/\u00e9t\u00e9", "example,b\u00fccher,//http:/\u00e9t\u00e9",
+                    0x61f886b9d665eb63L, 0x51e7bddc6c6b1b11L, 0x8f97ec4838e9c48dL, 0xeed2979082fc458dL},
+            {"http://example.com/\ud83d\ude00", "com,example,//http:/\ud83d\ude00",
+                    0x84edb1f295cd26f7L, 0xe9a49965d4df63faL, 0xac0670e3cef1a5f4L, 0x4d92412aec8b0535L},
+            {"https://www.example.com:8443/foo?a=b#frag", "com,example,www,//8443:https:/foo?a=b#frag",
+                    0xcb5d6ac0ddae13a5L, 0xfc7255c49bf18366L, 0x7793b2d2d7ec9cf8L, 0xa47a818c9593a0f7L},
+            {"http://example.com/a/long/path/that/spans/several/blocks/of/the/hash?with=a&query=too",
+                    "com,example,//http:/a/long/path/that/spans/several/blocks/of/the/hash?with=a&query=too",
+                    0xceec24fbbd4e3175L, 0x413e59b8a33c00b4L, 0xc0ea5a105c4008feL, 0x423a10f9e0ccf26fL}};
+
+    @Test
+    public void testReferenceVectors() {
+        // the string is its own toString(), since parsing keeps every char
+        assertArrayEquals(new long[]{0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L}, UrlFingerprint.fingerprint128(
+                ParsedUrl.parseUrl("The quick brown fox jumps over the lazy dog")));
+        assertArrayEquals(new long[]{0, 0}, UrlFingerprint.fingerprint128(ParsedUrl.parseUrl("")));
+    }
+
+    @Test
+    public void testMurmur3Vectors() {
+        for (Object[] vector : VECTORS) {
+            String u = (String) vector[0];
+            long[] urlHash = {(Long) vector[2], (Long) vector[3]};
+            long[] ssurtHash = {(Long) vector[4], (Long) vector[5]};
+            ParsedUrl url = ParsedUrl.parseUrl(u);
+            assertEquals(vector[1], url.ssurt());
+            assertArrayEquals(u, urlHash, UrlFingerprint.fingerprint128(url));
+            assertEquals(u, urlHash[0], UrlFingerprint.fingerprint64(url));
+            assertArrayEquals(u, ssurtHash, UrlFingerprint.ssurtFingerprint128(url));
+            assertEquals(u, ssurtHash[0], UrlFingerprint.ssurtFingerprint64(url));
+        }
+    }
+
+    @Test
+    public void testCanonicalized() {
+        ParsedUrl a = ParsedUrl.parseUrl("HTTP://Example.COM:80/a/../b");
+        ParsedUrl b = ParsedUrl.parseUrl("http://example.com/b");
+        assertNotEquals(UrlFingerprint.fingerprint64(a), UrlFingerprint.fingerprint64(b));
+        Canonicalizer.WHATWG.canonicalize(a);
+        Canonicalizer.WHATWG.canonicalize(b);
+        assertEquals(UrlFingerprint.fingerprint64(a), UrlFingerprint.fingerprint64(b));
+        assertEquals(UrlFingerprint.ssurtFingerprint64(a), UrlFingerprint.ssurtFingerprint64(b));
+        assertNotEquals(UrlFingerprint.fingerprint64(a), UrlFingerprint.ssurtFingerprint64(a));
+    }
+}